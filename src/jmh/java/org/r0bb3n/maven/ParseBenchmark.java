@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven;
+
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.r0bb3n.maven.json.ResponseParser;
+import org.r0bb3n.maven.model.ProjectStatus;
+import org.r0bb3n.maven.model.ProjectStatusContainer;
+import org.r0bb3n.maven.model.Task;
+import org.r0bb3n.maven.model.TaskContainer;
+import org.r0bb3n.maven.util.SilentLog;
+import org.r0bb3n.maven.util.StandInSonarServer;
+
+/**
+ * Mapping of Web API responses into the model ({@link SonarConnector#parseContainer}) and the
+ * evaluation of failed conditions
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParseBenchmark {
+
+  /**
+   * number of conditions in the project status: typical quality gate and a large one
+   */
+  @Param({"10", "500"})
+  public int conditions;
+
+  @Param({"JACKSON", "BUILTIN"})
+  public ResponseParser.Type parser;
+
+  private SonarConnector connector;
+  private String taskJson;
+  private String projectStatusJson;
+  private ProjectStatus projectStatus;
+
+  @Setup
+  public void setUp() throws Exception {
+    // no request is sent, the connector is only needed for parsing
+    connector = new SonarConnector(new SilentLog(), new URL("http://localhost:9000"), "bench",
+        null, null);
+    connector.setResponseParser(ResponseParser.of(parser));
+    taskJson = StandInSonarServer.taskJson("AXtask", "AXanalysis", "SUCCESS");
+    projectStatusJson = StandInSonarServer.projectStatusJson("ERROR", conditions);
+    projectStatus = connector.parseContainer(ProjectStatusContainer.class, projectStatusJson);
+  }
+
+  @TearDown
+  public void tearDown() {
+    connector.close();
+  }
+
+  @Benchmark
+  public Task parseTask() throws Exception {
+    return connector.parseContainer(TaskContainer.class, taskJson);
+  }
+
+  @Benchmark
+  public ProjectStatus parseProjectStatus() throws Exception {
+    return connector.parseContainer(ProjectStatusContainer.class, projectStatusJson);
+  }
+
+  @Benchmark
+  public String describeFailedConditions() {
+    return QualityGateChecker.describeFailedConditions(projectStatus);
+  }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.r0bb3n.maven.model.ProjectStatus;
+import org.r0bb3n.maven.model.Task;
+import org.r0bb3n.maven.util.SilentLog;
+import org.r0bb3n.maven.util.StandInSonarServer;
+
+/**
+ * Full request, response and parse round trips against an in-process stand-in server
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RoundTripBenchmark {
+
+  @Param({"jdk", "apache"})
+  public String transport;
+
+  @Param({"10", "500"})
+  public int conditions;
+
+  private StandInSonarServer server;
+  private SonarConnector connector;
+
+  @Setup
+  public void setUp() throws Exception {
+    server = new StandInSonarServer(conditions, 4);
+    connector = new SonarConnector(new SilentLog(), server.getUrl(), "bench", null, null,
+        HttpSettings.builder().transport(transport).build());
+  }
+
+  @TearDown
+  public void tearDown() {
+    connector.close();
+    server.close();
+  }
+
+  @Benchmark
+  public Task retrieveTask() throws Exception {
+    return connector.retrieveTask("AXtask");
+  }
+
+  @Benchmark
+  public ProjectStatus retrieveProjectStatus() throws Exception {
+    return connector.retrieveProjectStatusByAnalysisId("AXanalysis");
+  }
+
+}
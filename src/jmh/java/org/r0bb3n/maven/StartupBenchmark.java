@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.r0bb3n.maven.json.ResponseParser;
+import org.r0bb3n.maven.model.ProjectStatus;
+import org.r0bb3n.maven.model.ProjectStatusContainer;
+import org.r0bb3n.maven.model.TaskContainer;
+import org.r0bb3n.maven.util.StandInSonarServer;
+
+/**
+ * Cold start of the response parsing: the first task and project status parsed in a fresh JVM,
+ * including class loading and initialization of the parser. Run with {@code -prof cl} to see the
+ * number of classes loaded ({@code class.load.norm}).
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+@State(Scope.Benchmark)
+public class StartupBenchmark {
+
+  @Param({"JACKSON", "BUILTIN"})
+  public ResponseParser.Type parser;
+
+  private String taskJson;
+  private String projectStatusJson;
+
+  @Setup
+  public void setUp() {
+    taskJson = StandInSonarServer.taskJson("AXtask", "AXanalysis", "SUCCESS");
+    projectStatusJson = StandInSonarServer.projectStatusJson("ERROR", 10);
+  }
+
+  @Benchmark
+  public ProjectStatus firstCheck() throws Exception {
+    ResponseParser responseParser = ResponseParser.of(parser);
+    responseParser.readValue(taskJson, TaskContainer.class);
+    return responseParser.readValue(projectStatusJson, ProjectStatusContainer.class)
+        .getContent();
+  }
+
+}
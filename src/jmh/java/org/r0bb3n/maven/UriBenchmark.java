@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven;
+
+import java.net.URI;
+import java.net.URL;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.r0bb3n.maven.util.SilentLog;
+
+/**
+ * Creation of request URIs ({@link SonarConnector#createUri}, {@link SonarConnector#toQueryEntry})
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UriBenchmark {
+
+  private SonarConnector connector;
+  private Map<String, String> params;
+  private Map.Entry<String, String> entry;
+
+  @Setup
+  public void setUp() throws Exception {
+    connector = new SonarConnector(new SilentLog(), new URL("https://sonar.example.com/sonar"),
+        "bench", null, null);
+    params = new LinkedHashMap<>();
+    params.put("projectKey", "io.github.r0bb3n:sonar-quality-gate-maven-plugin");
+    params.put("branch", "feature/GH-31_increase test coverage");
+    entry = Map.entry("branch", "feature/GH-31_increase test coverage");
+  }
+
+  @TearDown
+  public void tearDown() {
+    connector.close();
+  }
+
+  @Benchmark
+  public URI createUri() throws Exception {
+    return connector.createUri("api/qualitygates/project_status", params);
+  }
+
+  @Benchmark
+  public String toQueryEntry() {
+    return connector.toQueryEntry(entry);
+  }
+
+}
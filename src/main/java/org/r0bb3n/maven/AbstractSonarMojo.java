@@ -0,0 +1,424 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.r0bb3n.maven.json.ResponseParser;
+import org.r0bb3n.maven.mirror.StatusMirror;
+import org.r0bb3n.maven.transport.RecordingMode;
+
+/**
+ * Base class for all goals of this plugin that communicate with sonar. Contains the parameters for
+ * the connection and authentication.
+ */
+public abstract class AbstractSonarMojo extends AbstractMojo {
+
+  protected static final String PROP_SONAR_LOGIN = "sonar.login";
+  protected static final String PROP_SONAR_PASSWORD = "sonar.password";
+  protected static final String PROP_SONAR_HOST_URL = "sonar.host.url";
+  protected static final String ENV_SONAR_TOKEN = "SONAR_TOKEN";
+
+  /**
+   * sonar host url<br/> (aligned to sonar-maven-plugin analysis parameters, see also
+   * <a href="https://docs.sonarqube.org/latest/analysis/analysis-parameters/">SonarQube - Analysis
+   * Parameters</a>)
+   *
+   * @since 1.0.0
+   */
+  @Parameter(property = PROP_SONAR_HOST_URL, defaultValue = "http://localhost:9000")
+  private URL sonarHostUrl;
+
+  /**
+   * project key used in sonar for this project <br/>
+   * <i>only used in modes: <b>simple</b>, <b>advanced</b></i><br/>
+   * (aligned to sonar-maven-plugin analysis parameters, see also
+   * <a href="https://docs.sonarqube.org/latest/analysis/analysis-parameters/">SonarQube - Analysis
+   * Parameters</a>)
+   *
+   * @since 1.0.0
+   */
+  @Parameter(property = "sonar.projectKey",
+      defaultValue = "${project.groupId}:${project.artifactId}")
+  private String sonarProjectKey;
+
+  /**
+   * sonar login (username or token), see also
+   * <a href="https://docs.sonarqube.org/latest/extend/web-api/">SonarQube
+   * - Web API Authentication</a> <br/> (aligned to sonar-maven-plugin analysis parameters, see also
+   * <a href="https://docs.sonarqube.org/latest/analysis/analysis-parameters/">SonarQube - Analysis
+   * Parameters</a>)<br/>
+   * Since version <b>1.3.0</b> instead the environment variable {@code SONAR_TOKEN} can be used to
+   * provide a token (see these docs of
+   * <a href="https://docs.sonarcloud.io/advanced-setup/ci-based-analysis/sonarscanner-for-maven/#configuration">SonarCloud</a>
+   * and
+   * <a href="https://docs.sonarqube.org/latest/analysis/github-integration/#header-3">SonarQube</a>
+   * ).
+   *
+   * @since 1.0.0
+   */
+  @Parameter(property = PROP_SONAR_LOGIN)
+  private String sonarLogin;
+
+  /**
+   * sonar password, see also <a href="https://docs.sonarqube.org/latest/extend/web-api/">SonarQube
+   * - Web API Authentication</a> <br/> (aligned to sonar-maven-plugin analysis parameters, see also
+   * <a href="https://docs.sonarqube.org/latest/analysis/analysis-parameters/">SonarQube - Analysis
+   * Parameters</a>)
+   *
+   * @since 1.0.0
+   */
+  @Parameter(property = PROP_SONAR_PASSWORD)
+  private String sonarPassword;
+
+  /**
+   * skip the execution of this plugin
+   *
+   * @since 1.2.0
+   */
+  @Parameter(property = "sonar-quality-gate.skip", defaultValue = "false")
+  private boolean skip;
+
+  /**
+   * HTTP backend used for requests to sonar:
+   * <ul>
+   *   <li>{@code jdk}: HttpClient of the JDK (default)</li>
+   *   <li>{@code apache}: Apache HttpClient 5 (async) - requires the plugin dependency
+   *   {@code org.apache.httpcomponents.client5:httpclient5}</li>
+   * </ul>
+   * Further backends can be registered as {@code java.util.ServiceLoader} service of
+   * {@code org.r0bb3n.maven.transport.HttpTransportProvider} in a plugin dependency.
+   *
+   * @since 1.4.0
+   */
+  @Parameter(property = "sonar-quality-gate.http.transport", defaultValue = "jdk")
+  private String httpTransport;
+
+  /**
+   * Preferred HTTP protocol version for requests to sonar ({@code HTTP_2} or {@code HTTP_1_1}).
+   * With {@code HTTP_2} all requests are multiplexed over one connection, if the server supports
+   * it.
+   *
+   * @since 1.4.0
+   */
+  @Parameter(property = "sonar-quality-gate.http.version", defaultValue = "HTTP_2")
+  private HttpClient.Version httpVersion;
+
+  /**
+   * How many seconds to wait for establishing a connection to sonar ({@code 0}: no timeout)
+   *
+   * @since 1.4.0
+   */
+  @Parameter(property = "sonar-quality-gate.http.connectTimeout.s", defaultValue = "10")
+  private int httpConnectTimeoutS;
+
+  /**
+   * How many seconds to wait for the response of a single request to sonar ({@code 0}: no
+   * timeout)
+   *
+   * @since 1.4.0
+   */
+  @Parameter(property = "sonar-quality-gate.http.requestTimeout.s", defaultValue = "60")
+  private int httpRequestTimeoutS;
+
+  /**
+   * Number of threads used by the HTTP client for requests to sonar
+   *
+   * @since 1.4.0
+   */
+  @Parameter(property = "sonar-quality-gate.http.threads", defaultValue = "2")
+  private int httpThreads;
+
+  /**
+   * How many seconds an idle connection to sonar is kept open for reuse ({@code 0}: default of the
+   * HTTP client).<br/>
+   * <i>only used by transport: <b>apache</b></i>, for the default HTTP client of the JDK it is a
+   * JVM-wide setting: start Maven with {@code -Djdk.httpclient.keepalive.timeout=<seconds>}
+   *
+   * @since 1.4.0
+   */
+  @Parameter(property = "sonar-quality-gate.http.keepAlive.s", defaultValue = "0")
+  private int httpKeepAliveS;
+
+  /**
+   * Maximum number of pooled connections to sonar in total<br/>
+   * <i>only used by transport: <b>apache</b></i>
+   *
+   * @since 1.4.0
+   */
+  @Parameter(property = "sonar-quality-gate.http.maxConnections", defaultValue = "20")
+  private int httpMaxConnections;
+
+  /**
+   * Maximum number of pooled connections per route (target host or proxy)<br/>
+   * <i>only used by transport: <b>apache</b></i>
+   *
+   * @since 1.4.0
+   */
+  @Parameter(property = "sonar-quality-gate.http.maxConnectionsPerRoute", defaultValue = "5")
+  private int httpMaxConnectionsPerRoute;
+
+  /**
+   * Upper bound of the adaptive limit of Web API calls in flight. The limit starts at 16 (or this
+   * value, if lower), grows while the server answers fast and shrinks as soon as responses slow
+   * down or fail with an overload status ({@code 429}, {@code 503}, {@code 504}). Calls above the
+   * limit are queued. {@code 0}: not limited
+   *
+   * @since 1.4.0
+   */
+  @Parameter(property = "sonar-quality-gate.http.maxConcurrency", defaultValue = "64")
+  private int httpMaxConcurrency;
+
+  /**
+   * File to cache the detected sonar server version per host in. Knowing the version (and
+   * therefore the supported Web API features) before the first request allows choosing the best
+   * suited endpoints without additional requests. Not set: no cache, e.g.
+   * {@code ${user.home}/.sonar-quality-gate/server-versions.properties} to share it between builds
+   *
+   * @since 1.4.0
+   */
+  @Parameter(property = "sonar-quality-gate.versionCache.file")
+  private File versionCacheFile;
+
+  /**
+   * How many seconds a cached sonar server version is valid ({@code 0}: caching disabled)
+   *
+   * @since 1.4.0
+   */
+  @Parameter(property = "sonar-quality-gate.versionCache.ttl.s", defaultValue = "86400")
+  private int versionCacheTtlS;
+
+  /**
+   * Record all exchanges with sonar (including timings) into {@code recordingFile}
+   * (<b>RECORD</b>) or serve them from there without network access (<b>REPLAY</b>), e.g. to
+   * reproduce a slow compute engine offline. Request headers (credentials) are not recorded.
+   *
+   * @since 1.4.0
+   */
+  @Parameter(property = "sonar-quality-gate.recording.mode", defaultValue = "OFF")
+  private RecordingMode recordingMode;
+
+  /**
+   * Recording file (one JSON document per exchange)
+   *
+   * @since 1.4.0
+   */
+  @Parameter(property = "sonar-quality-gate.recording.file",
+      defaultValue = "${project.build.directory}/sonar-quality-gate-recording.ndjson")
+  private File recordingFile;
+
+  /**
+   * Factor applied to the recorded latencies on replay ({@code 0}: no delay)
+   *
+   * @since 1.4.0
+   */
+  @Parameter(property = "sonar-quality-gate.recording.latencyScale", defaultValue = "1")
+  private double recordingLatencyScale;
+
+  /**
+   * Parser for the Web API responses: <b>JACKSON</b> (data binding) or <b>BUILTIN</b> (small
+   * streaming reader for the few fields needed, loads far less classes)
+   *
+   * @since 1.4.0
+   */
+  @Parameter(property = "sonar-quality-gate.responseParser", defaultValue = "JACKSON")
+  private ResponseParser.Type responseParser;
+
+  /**
+   * Directory of the local mirror of project statuses, written by goal {@code sync}
+   *
+   * @since 1.4.0
+   */
+  @Parameter(property = "sonar-quality-gate.mirror.dir",
+      defaultValue = "${user.home}/.sonar-quality-gate/mirror")
+  private File mirrorDir;
+
+  /**
+   * Look up project statuses by project key (modes <b>simple</b> and <b>advanced</b>, goal
+   * {@code batch}) in the local mirror, if it was synced within this many seconds. The server is
+   * requested, if the mirror is older or does not contain the status ({@code 0}: mirror not
+   * used).
+   *
+   * @since 1.4.0
+   */
+  @Parameter(property = "sonar-quality-gate.mirror.maxAge.s", defaultValue = "0")
+  private int mirrorMaxAgeS;
+
+  /**
+   * Check if the execution should be skipped
+   *
+   * @return value of parameter {@code skip}
+   */
+  protected boolean isSkip() {
+    return skip;
+  }
+
+  /**
+   * Get the configured project key
+   *
+   * @return value of parameter {@code sonarProjectKey}
+   */
+  protected String getSonarProjectKey() {
+    return sonarProjectKey;
+  }
+
+  /**
+   * Get the directory of the local mirror of project statuses
+   *
+   * @return value of parameter {@code mirrorDir}
+   */
+  protected File getMirrorDir() {
+    return mirrorDir;
+  }
+
+  /**
+   * Read config parameters and determine the configuration of the {@link SonarConnector}
+   *
+   * @return connector configuration
+   * @throws MojoExecutionException in case of invalid config parameters
+   */
+  protected ConnectorSpec createConnectorSpec() throws MojoExecutionException {
+    String loginOrToken;
+    String password = null;
+    if (!Util.isBlank(sonarPassword)) {
+      // username+password auth
+      if (Util.isBlank(sonarLogin)) {
+        throw new MojoExecutionException(
+            String.format("you cannot specify '%s' without '%s'", PROP_SONAR_PASSWORD,
+                PROP_SONAR_LOGIN));
+      } else {
+        getLog().debug("sonar auth: username + password");
+        loginOrToken = sonarLogin;
+        password = sonarPassword;
+      }
+    } else {
+      // token auth
+      if (!Util.isBlank(sonarLogin)) {
+        getLog().debug("sonar auth: token (by property '" + PROP_SONAR_LOGIN + "')");
+        loginOrToken = sonarLogin;
+      } else {
+        // check environment variable SONAR_TOKEN as alternative source for the token
+        loginOrToken = System.getenv(ENV_SONAR_TOKEN);
+        if (!Util.isBlank(loginOrToken)) {
+          getLog().debug("sonar auth: token (by environment variable '" + ENV_SONAR_TOKEN + "')");
+        } else {
+          // no auth
+          getLog().debug("sonar auth: none");
+          loginOrToken = null;
+        }
+      }
+    }
+    URI sonarHostUri;
+    try {
+      sonarHostUri = sonarHostUrl.toURI();
+    } catch (URISyntaxException e) {
+      throw new MojoExecutionException("Invalid sonar host url: " + sonarHostUrl, e);
+    }
+    return new ConnectorSpec(sonarHostUri, sonarProjectKey, loginOrToken, password,
+        createHttpSettings());
+  }
+
+  /**
+   * Create a new {@link SonarConnector}
+   *
+   * @param spec connector configuration
+   * @return new connector
+   * @throws MojoExecutionException in case of invalid config parameters
+   */
+  protected SonarConnector createSonarConnector(ConnectorSpec spec)
+      throws MojoExecutionException {
+    SonarConnector ret;
+    try {
+      ret = spec.createConnector(getLog());
+    } catch (IllegalArgumentException e) {
+      throw new MojoExecutionException(e.getMessage(), e);
+    }
+    configureSonarConnector(ret);
+    return ret;
+  }
+
+  /**
+   * Apply the settings that are not part of the {@link ConnectorSpec} (version cache, response
+   * parser and status mirror), e.g. to a connector prepared by an execution with other settings
+   *
+   * @param connector connector to configure
+   */
+  protected void configureSonarConnector(SonarConnector connector) {
+    connector.setServerVersionCache(versionCacheFile != null && versionCacheTtlS > 0
+        ? new ServerVersionCache(getLog(), versionCacheFile.toPath(),
+        Duration.ofSeconds(versionCacheTtlS)) : null);
+    connector.setResponseParser(ResponseParser.of(
+        responseParser != null ? responseParser : ResponseParser.Type.JACKSON));
+    StatusMirror mirror = null;
+    if (mirrorDir != null && mirrorMaxAgeS > 0) {
+      try {
+        mirror = StatusMirror.load(mirrorDir.toPath());
+      } catch (IOException e) {
+        getLog().warn("status mirror not used: " + e.getMessage());
+      }
+    }
+    connector.setStatusMirror(mirror, mirror != null ? Duration.ofSeconds(mirrorMaxAgeS) : null);
+  }
+
+  /**
+   * Map the HTTP related config parameters to {@link HttpSettings}
+   *
+   * @return transport configuration for {@link SonarConnector}
+   */
+  protected HttpSettings createHttpSettings() {
+    HttpSettings.HttpSettingsBuilder builder = HttpSettings.builder()
+        .connectTimeout(toDuration(httpConnectTimeoutS))
+        .requestTimeout(toDuration(httpRequestTimeoutS))
+        .threads(httpThreads)
+        .keepAlive(toDuration(httpKeepAliveS))
+        .maxConnections(httpMaxConnections)
+        .maxConnectionsPerRoute(httpMaxConnectionsPerRoute)
+        .maxConcurrency(httpMaxConcurrency);
+    if (!Util.isBlank(httpTransport)) {
+      builder.transport(httpTransport);
+    }
+    if (httpVersion != null) {
+      builder.version(httpVersion);
+    }
+    if (recordingMode != null && recordingMode != RecordingMode.OFF) {
+      getLog().info("sonar exchanges: " + recordingMode + " (" + recordingFile + ")");
+      builder.recordingMode(recordingMode)
+          .recordingFile(recordingFile == null ? null : recordingFile.toPath())
+          .replayLatencyScale(recordingLatencyScale);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Convert seconds to duration
+   *
+   * @param seconds amount of seconds, {@code 0} or negative means "not set"
+   * @return duration or {@code null}
+   */
+  private static Duration toDuration(int seconds) {
+    return seconds > 0 ? Duration.ofSeconds(seconds) : null;
+  }
+
+}
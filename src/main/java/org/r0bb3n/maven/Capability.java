@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven;
+
+import lombok.Getter;
+
+/**
+ * Features of the Sonar Web API that depend on the server version
+ */
+@Getter
+public enum Capability {
+  /**
+   * {@code api/measures/component} including {@code additionalFields=metrics}
+   */
+  MEASURES_COMPONENT("5.4"),
+  /**
+   * {@code api/measures/search} - measures of several projects in one call
+   */
+  MEASURES_SEARCH("6.2"),
+  /**
+   * {@code api/measures/search_history}
+   */
+  MEASURES_SEARCH_HISTORY("6.3"),
+  /**
+   * {@code api/ce/activity?minSubmittedAt=}
+   */
+  CE_ACTIVITY_MIN_SUBMITTED_AT("5.5"),
+  /**
+   * {@code api/issues/search?inNewCodePeriod=} (replaces {@code sinceLeakPeriod})
+   */
+  ISSUES_IN_NEW_CODE_PERIOD("9.4");
+
+  private final SonarVersion minVersion;
+
+  Capability(String minVersion) {
+    this.minVersion = SonarVersion.parse(minVersion);
+  }
+
+}
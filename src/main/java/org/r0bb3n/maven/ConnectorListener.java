@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven;
+
+import java.time.Duration;
+
+/**
+ * Callback for observing the communication of a {@link SonarConnector}, e.g. to collect metrics.
+ * Implementations must be thread-safe.
+ */
+public interface ConnectorListener {
+
+  /**
+   * Listener that ignores all callbacks
+   */
+  ConnectorListener NONE = new ConnectorListener() {
+  };
+
+  /**
+   * Called after each call of the Sonar Web API
+   *
+   * @param endpoint path of the Web API resource, e.g. {@code api/ce/task}
+   * @param statusCode HTTP status code, 0 if no response was received
+   * @param responseBytes size of the response body
+   * @param latency time until the response was received
+   */
+  default void onExchange(String endpoint, int statusCode, long responseBytes, Duration latency) {
+  }
+
+  /**
+   * Called after a lookup in the {@link ServerVersionCache}
+   *
+   * @param hit true, if the version was found in the cache
+   */
+  default void onVersionCacheLookup(boolean hit) {
+  }
+
+  /**
+   * Called after a response has been mapped into the model
+   *
+   * @param targetType simple name of the target class
+   * @param inputChars length of the response
+   * @param duration time needed for parsing
+   */
+  default void onParse(String targetType, long inputChars, Duration duration) {
+  }
+
+  /**
+   * Called whenever the adaptive limit of the requests in flight changes
+   *
+   * @param limit new limit
+   */
+  default void onConcurrencyLimit(int limit) {
+  }
+
+  /**
+   * Combine this listener with another one
+   *
+   * @param other listener to be called after this one
+   * @return listener calling both
+   */
+  default ConnectorListener andThen(ConnectorListener other) {
+    ConnectorListener first = this;
+    return new ConnectorListener() {
+      @Override
+      public void onExchange(String endpoint, int statusCode, long responseBytes,
+          Duration latency) {
+        first.onExchange(endpoint, statusCode, responseBytes, latency);
+        other.onExchange(endpoint, statusCode, responseBytes, latency);
+      }
+
+      @Override
+      public void onVersionCacheLookup(boolean hit) {
+        first.onVersionCacheLookup(hit);
+        other.onVersionCacheLookup(hit);
+      }
+
+      @Override
+      public void onParse(String targetType, long inputChars, Duration duration) {
+        first.onParse(targetType, inputChars, duration);
+        other.onParse(targetType, inputChars, duration);
+      }
+
+      @Override
+      public void onConcurrencyLimit(int limit) {
+        first.onConcurrencyLimit(limit);
+        other.onConcurrencyLimit(limit);
+      }
+    };
+  }
+
+}
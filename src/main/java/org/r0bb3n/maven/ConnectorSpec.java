@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import lombok.ToString;
+import lombok.Value;
+import org.apache.maven.plugin.logging.Log;
+
+/**
+ * All parameters required to create a {@link SonarConnector}. Two equal specs lead to equally
+ * configured connectors, so that a connector can be reused (see {@link PreparedConnectors}).
+ *
+ * <p>{@link URI} is used instead of {@link java.net.URL} for the host, because
+ * {@link java.net.URL#equals(Object)} performs DNS lookups.
+ */
+@Value
+public class ConnectorSpec {
+
+  URI sonarHostUri;
+  String sonarProjectKey;
+  @ToString.Exclude
+  String loginOrToken;
+  @ToString.Exclude
+  String password;
+  HttpSettings httpSettings;
+
+  /**
+   * Create a new connector based on this spec
+   *
+   * @param log Logger to use
+   * @return new connector
+   * @throws IllegalArgumentException configured transport is not available or invalid host url
+   */
+  public SonarConnector createConnector(Log log) {
+    try {
+      return new SonarConnector(log, sonarHostUri.toURL(), sonarProjectKey, loginOrToken, password,
+          httpSettings);
+    } catch (MalformedURLException e) {
+      throw new IllegalArgumentException("Invalid sonar host url: " + sonarHostUri, e);
+    }
+  }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.r0bb3n.maven;
+
+import java.time.Duration;
+
+/**
+ * Point in time ({@link System#nanoTime()} based) a step has to be finished by
+ */
+public final class Deadline {
+
+  /**
+   * no deadline at all
+   */
+  public static final Deadline NONE = new Deadline(0, false);
+
+  private final long endNanos;
+
+  private final boolean bounded;
+
+  private Deadline(long endNanos, boolean bounded) {
+    this.endNanos = endNanos;
+    this.bounded = bounded;
+  }
+
+  /**
+   * Create a deadline
+   *
+   * @param endNanos {@link System#nanoTime()} of the deadline
+   * @return deadline
+   */
+  public static Deadline at(long endNanos) {
+    return new Deadline(endNanos, true);
+  }
+
+  /**
+   * Check if there is a deadline
+   *
+   * @return false for {@link #NONE}
+   */
+  public boolean isBounded() {
+    return bounded;
+  }
+
+  /**
+   * Get the time left
+   *
+   * @return time left, {@link Duration#ZERO} if expired, null if unbounded
+   */
+  public Duration remaining() {
+    return bounded ? Duration.ofNanos(Math.max(0, endNanos - System.nanoTime())) : null;
+  }
+
+  /**
+   * Check if the deadline has passed
+   *
+   * @return true, if no time is left
+   */
+  public boolean isExpired() {
+    return bounded && endNanos - System.nanoTime() <= 0;
+  }
+
+  /**
+   * Limit a timeout to the time left
+   *
+   * @param timeout timeout or null for none
+   * @return the shorter of timeout and time left, null if both are unbounded
+   */
+  public Duration cap(Duration timeout) {
+    if (!bounded) {
+      return timeout;
+    }
+    Duration remaining = remaining();
+    return timeout == null || timeout.compareTo(remaining) > 0 ? remaining : timeout;
+  }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.r0bb3n.maven.model.Task;
+
+/**
+ * Registry of compute engine task polls that were started in the background as soon as the
+ * sonar-maven-plugin finished (see {@link org.r0bb3n.maven.extension.EarlyPollingParticipant}).
+ * Goal {@code check} collects the result instead of polling itself.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class EarlyPolling {
+
+  private static final Map<String, CompletableFuture<Task>> POLLS = new ConcurrentHashMap<>();
+
+  private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(r -> {
+    Thread t = new Thread(r, "sonar-quality-gate-early-polling");
+    t.setDaemon(true);
+    return t;
+  });
+
+  /**
+   * Start polling the task in the background until it is no longer ongoing or the attempts are
+   * exhausted. The connector is closed afterwards. Cancelling the returned future interrupts the
+   * polling.
+   *
+   * @param ceTaskId compute engine task id
+   * @param connector connector to use (exclusively)
+   * @param attempts maximum number of requests
+   * @param pollingStrategy wait between two requests
+   * @return future of the last retrieved task, completes exceptionally on IO errors
+   */
+  public static CompletableFuture<Task> start(String ceTaskId, SonarConnector connector,
+      int attempts, PollingStrategy pollingStrategy) {
+    CompletableFuture<Task> poll = new CompletableFuture<>();
+    Future<?> worker = EXECUTOR.submit(() -> {
+      try {
+        poll.complete(pollTask(ceTaskId, connector, attempts, pollingStrategy, poll));
+      } catch (IOException e) {
+        poll.completeExceptionally(e);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        poll.completeExceptionally(e);
+      }
+    });
+    poll.whenComplete((task, e) -> {
+      if (poll.isCancelled()) {
+        // CompletableFuture.cancel does not interrupt the worker
+        worker.cancel(true);
+      }
+      connector.close();
+    });
+    CompletableFuture<Task> previous = POLLS.put(ceTaskId, poll);
+    if (previous != null) {
+      previous.cancel(true);
+    }
+    return poll;
+  }
+
+  /**
+   * Remove and return the poll of the task
+   *
+   * @param ceTaskId compute engine task id
+   * @return poll, if started
+   */
+  public static Optional<CompletableFuture<Task>> take(String ceTaskId) {
+    return Optional.ofNullable(POLLS.remove(ceTaskId));
+  }
+
+  /**
+   * Cancel and remove all polls that were not collected
+   */
+  public static void cancelAll() {
+    POLLS.values().forEach(poll -> poll.cancel(true));
+    POLLS.clear();
+  }
+
+  private static Task pollTask(String ceTaskId, SonarConnector connector, int attempts,
+      PollingStrategy pollingStrategy, Future<Task> poll)
+      throws IOException, InterruptedException {
+    int attempt = 1;
+    Task task = connector.retrieveTask(ceTaskId);
+    while (task.getStatus().isOngoing() && attempt < attempts && !poll.isCancelled()) {
+      Thread.sleep(pollingStrategy.nextDelay(attempt++).toMillis());
+      task = connector.retrieveTask(ceTaskId);
+    }
+    return task;
+  }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import lombok.Builder;
+import lombok.Value;
+import org.r0bb3n.maven.transport.HttpTransports;
+import org.r0bb3n.maven.transport.RecordingMode;
+
+/**
+ * Transport configuration used by {@link SonarConnector} for all requests.
+ *
+ * <p>A {@code null} duration means "not set", i.e. the default behaviour of the underlying HTTP
+ * client applies.
+ */
+@Value
+@Builder(toBuilder = true)
+public class HttpSettings {
+
+  /**
+   * Name of the {@link org.r0bb3n.maven.transport.HttpTransportProvider} to use
+   */
+  @Builder.Default
+  String transport = HttpTransports.DEFAULT_TRANSPORT;
+
+  /**
+   * Preferred HTTP protocol version. With {@link HttpClient.Version#HTTP_2} all requests to the
+   * same host are multiplexed over one connection (falls back to HTTP/1.1, if not supported by the
+   * server).
+   */
+  @Builder.Default
+  HttpClient.Version version = HttpClient.Version.HTTP_2;
+
+  /**
+   * Maximum time to establish a connection (TCP + TLS handshake)
+   */
+  @Builder.Default
+  Duration connectTimeout = Duration.ofSeconds(10);
+
+  /**
+   * Maximum time for a single request until the response headers are received, and for the body
+   * after the headers (resp. maximum socket inactivity, depending on the transport)
+   */
+  @Builder.Default
+  Duration requestTimeout = Duration.ofMinutes(1);
+
+  /**
+   * Number of threads of the dedicated executor used by the HTTP client
+   */
+  @Builder.Default
+  int threads = 2;
+
+  /**
+   * Idle time after which pooled connections are closed (not supported by the {@code jdk}
+   * transport, see system property {@code jdk.httpclient.keepalive.timeout})
+   */
+  Duration keepAlive;
+
+  /**
+   * Maximum number of pooled connections in total (not supported by all transports)
+   */
+  @Builder.Default
+  int maxConnections = 20;
+
+  /**
+   * Maximum number of pooled connections per route, i.e. per target host (not supported by all
+   * transports)
+   */
+  @Builder.Default
+  int maxConnectionsPerRoute = 5;
+
+  /**
+   * Upper bound of the adaptive limit of requests in flight ({@code 0}: not limited)
+   */
+  @Builder.Default
+  int maxConcurrency = 64;
+
+  /**
+   * Record or replay all exchanges
+   */
+  @Builder.Default
+  RecordingMode recordingMode = RecordingMode.OFF;
+
+  /**
+   * Recording file (NDJSON), required unless {@link #recordingMode} is {@link RecordingMode#OFF}
+   */
+  Path recordingFile;
+
+  /**
+   * Factor applied to the recorded latencies on replay ({@code 0}: no delay)
+   */
+  @Builder.Default
+  double replayLatencyScale = 1;
+
+  /**
+   * Create settings with all defaults
+   *
+   * @return default settings
+   */
+  public static HttpSettings defaults() {
+    return HttpSettings.builder().build();
+  }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.r0bb3n.maven;
+
+import java.util.List;
+import lombok.Data;
+
+/**
+ * Condition evaluated locally in addition to the quality gate of the server, configured in the
+ * POM. Like a condition of a quality gate, the policy is violated if the value of the metric
+ * compared to the threshold matches the comparator, e.g. {@code coverage LT 85}.
+ */
+@Data
+public class Policy {
+
+  /**
+   * name shown in case of a violation, defaults to the metric key
+   */
+  private String name;
+
+  /**
+   * keys of the components to check, e.g. of some projects of a team, defaults to the checked
+   * project
+   */
+  private List<String> components;
+
+  /**
+   * metric key, e.g. {@code coverage}
+   */
+  private String metric;
+
+  /**
+   * {@code LT}, {@code GT}, {@code EQ} or {@code NE}
+   */
+  private String comparator;
+
+  /**
+   * value the measure is compared to
+   */
+  private String threshold;
+
+}
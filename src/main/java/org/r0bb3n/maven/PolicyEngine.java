@@ -0,0 +1,310 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.r0bb3n.maven;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import lombok.Value;
+import org.r0bb3n.maven.model.ComponentMeasures;
+import org.r0bb3n.maven.model.Measure;
+
+/**
+ * Evaluates {@link Policy policies} on top of the quality gate of the server. The policies are
+ * compiled once; the measures of all their components and metrics are fetched in one
+ * {@code api/measures/search} call and evaluated in memory. Listed components are evaluated on
+ * their main branch, only the checked component on the branch or pull request of the build.
+ * Components not covered by that call (the checked branch or pull request, components that are
+ * not projects or older servers) are requested one by one from {@code api/measures/component},
+ * all concurrently.
+ */
+public class PolicyEngine {
+
+  /**
+   * maximum number of project keys per {@code api/measures/search} call
+   */
+  static final int MAX_PROJECT_KEYS = 100;
+
+  private final List<Rule> rules;
+
+  /**
+   * components named by the policies, without the default component
+   */
+  private final Set<String> components = new LinkedHashSet<>();
+
+  private final Set<String> metricKeys = new LinkedHashSet<>();
+
+  private PolicyEngine(List<Rule> rules) {
+    this.rules = rules;
+    for (Rule rule : rules) {
+      components.addAll(rule.getComponents());
+      metricKeys.add(rule.getMetric());
+    }
+  }
+
+  /**
+   * Validate and compile policies
+   *
+   * @param policies policies as configured
+   * @return engine evaluating all policies
+   * @throws IllegalArgumentException incomplete policy, unknown comparator or threshold not
+   *                                  numeric for {@code LT}/{@code GT}
+   */
+  public static PolicyEngine compile(List<Policy> policies) {
+    List<Rule> rules = new ArrayList<>();
+    for (int i = 0; i < policies.size(); i++) {
+      Policy policy = policies.get(i);
+      String label = Util.isBlank(policy.getName()) ? "policy " + (i + 1) : policy.getName();
+      if (Util.isBlank(policy.getMetric()) || policy.getThreshold() == null) {
+        throw new IllegalArgumentException(label + ": metric and threshold are required");
+      }
+      Operator operator;
+      try {
+        operator = Operator.valueOf(String.valueOf(policy.getComparator()));
+      } catch (IllegalArgumentException e) {
+        throw new IllegalArgumentException(String.format(
+            "%s: unknown comparator '%s', expected one of LT, GT, EQ, NE", label,
+            policy.getComparator()), e);
+      }
+      BigDecimal number = toNumber(policy.getThreshold());
+      if (number == null && operator.isOrdering()) {
+        throw new IllegalArgumentException(String.format("%s: threshold '%s' is not numeric",
+            label, policy.getThreshold()));
+      }
+      List<String> components = Optional.ofNullable(policy.getComponents()).orElse(List.of())
+          .stream().filter(c -> !Util.isBlank(c)).map(String::trim).collect(Collectors.toList());
+      rules.add(new Rule(Util.isBlank(policy.getName()) ? policy.getMetric() : policy.getName(),
+          components, policy.getMetric(), operator, policy.getThreshold(), number));
+    }
+    return new PolicyEngine(rules);
+  }
+
+  /**
+   * Check if there is nothing to evaluate
+   *
+   * @return true, if no policies are configured
+   */
+  public boolean isEmpty() {
+    return rules.isEmpty();
+  }
+
+  /**
+   * Fetch the measures and evaluate all policies
+   *
+   * @param connector connector
+   * @param component component checked, for policies without components
+   * @param branch branch or null
+   * @param pullRequest pull request or null
+   * @return future violations, one line per violated policy and component, empty if all are
+   *         fulfilled; completes exceptionally with an {@link java.io.IOException}, if measures
+   *         cannot be fetched
+   */
+  public CompletableFuture<List<String>> check(SonarConnector connector, String component,
+      String branch, String pullRequest) {
+    boolean checked = rules.stream().anyMatch(r -> r.getComponents().isEmpty());
+    boolean mainBranch = Util.isBlank(branch) && Util.isBlank(pullRequest);
+    Set<String> keys = new LinkedHashSet<>(components);
+    if (checked && mainBranch) {
+      // same branch as the listed components, part of the batch
+      keys.add(component);
+    }
+    CompletableFuture<Map<String, Map<String, String>>> listed = fetch(connector, keys);
+    CompletableFuture<Map<String, String>> own;
+    if (!checked) {
+      own = CompletableFuture.completedFuture(Map.of());
+    } else if (mainBranch) {
+      own = listed.thenApply(values -> values.getOrDefault(component, Map.of()));
+    } else {
+      own = connector.retrieveMeasuresAsync(component, branch, pullRequest, metricKeys)
+          .thenApply(PolicyEngine::toValues);
+    }
+    return listed.thenCombine(own, (values, ownValues) -> evaluate(values, ownValues, component));
+  }
+
+  /**
+   * Fetch the measures of components on their main branch, batched if possible
+   *
+   * @param keys component keys
+   * @return future values per component and metric key
+   */
+  CompletableFuture<Map<String, Map<String, String>>> fetch(SonarConnector connector,
+      Set<String> keys) {
+    Map<String, Map<String, String>> values = new HashMap<>();
+    CompletableFuture<Void> batched = CompletableFuture.completedFuture(null);
+    if (connector.getServerCapabilities().supports(Capability.MEASURES_SEARCH)) {
+      List<String> list = new ArrayList<>(keys);
+      List<CompletableFuture<Void>> chunks = new ArrayList<>();
+      for (int i = 0; i < list.size(); i += MAX_PROJECT_KEYS) {
+        chunks.add(connector.searchMeasuresAsync(
+                list.subList(i, Math.min(list.size(), i + MAX_PROJECT_KEYS)), metricKeys)
+            // e.g. keys that are no projects are rejected, the fallback covers them
+            .exceptionally(e -> List.of())
+            .thenAccept(measures -> put(values, measures)));
+      }
+      batched = CompletableFuture.allOf(chunks.toArray(new CompletableFuture[0]));
+    }
+    return batched.thenCompose(v -> {
+      List<CompletableFuture<Void>> single = new ArrayList<>();
+      for (String key : keys) {
+        if (!isFetched(values, key)) {
+          single.add(connector.retrieveMeasuresAsync(key, null, null, metricKeys)
+              .thenAccept(measures -> put(values, key, measures)));
+        }
+      }
+      return CompletableFuture.allOf(single.toArray(new CompletableFuture[0]));
+    }).thenApply(v -> values);
+  }
+
+  /**
+   * Evaluate all policies
+   *
+   * @param values values of the listed components per component and metric key
+   * @param ownValues values of the checked component per metric key
+   * @param component component checked, for policies without components
+   * @return violations, empty if all are fulfilled
+   */
+  List<String> evaluate(Map<String, Map<String, String>> values, Map<String, String> ownValues,
+      String component) {
+    List<String> ret = new ArrayList<>();
+    for (Rule rule : rules) {
+      boolean own = rule.getComponents().isEmpty();
+      Collection<String> keys = own ? List.of(component) : rule.getComponents();
+      for (String key : keys) {
+        String value = (own ? ownValues : values.getOrDefault(key, Map.of()))
+            .get(rule.getMetric());
+        if (value == null || rule.isViolatedBy(value)) {
+          ret.add(String.format("%s (%s, %s): %s (violated if %s %s)", rule.getName(), key,
+              rule.getMetric(), value == null ? "no value" : QualityGateChecker.formatValue(value),
+              rule.getOperator().getSymbol(), rule.getThreshold()));
+        }
+      }
+    }
+    return ret;
+  }
+
+  private static boolean isFetched(Map<String, Map<String, String>> values, String component) {
+    synchronized (values) {
+      return values.containsKey(component);
+    }
+  }
+
+  private static void put(Map<String, Map<String, String>> values, List<Measure> measures) {
+    synchronized (values) {
+      for (Measure measure : measures) {
+        if (measure.getComponent() != null) {
+          values.computeIfAbsent(measure.getComponent(), k -> new HashMap<>())
+              .put(measure.getMetric(), QualityGateChecker.measureValue(measure));
+        }
+      }
+    }
+  }
+
+  private static void put(Map<String, Map<String, String>> values, String component,
+      ComponentMeasures measures) {
+    Map<String, String> byMetric = toValues(measures);
+    synchronized (values) {
+      values.put(component, byMetric);
+    }
+  }
+
+  private static Map<String, String> toValues(ComponentMeasures measures) {
+    Map<String, String> ret = new HashMap<>();
+    Optional.ofNullable(measures.getComponent().getMeasures()).orElse(List.of())
+        .forEach(m -> ret.put(m.getMetric(), QualityGateChecker.measureValue(m)));
+    return ret;
+  }
+
+  private static BigDecimal toNumber(String value) {
+    try {
+      return new BigDecimal(value.trim());
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Comparison of a value with the threshold, violated if it applies
+   */
+  enum Operator {
+    LT("<"), GT(">"), EQ("="), NE("!=");
+
+    private final String symbol;
+
+    Operator(String symbol) {
+      this.symbol = symbol;
+    }
+
+    String getSymbol() {
+      return symbol;
+    }
+
+    boolean isOrdering() {
+      return this == LT || this == GT;
+    }
+  }
+
+  /**
+   * Compiled {@link Policy}
+   */
+  @Value
+  static class Rule {
+
+    String name;
+    List<String> components;
+    String metric;
+    Operator operator;
+    String threshold;
+
+    /**
+     * numeric threshold, null if not numeric
+     */
+    BigDecimal number;
+
+    boolean isViolatedBy(String value) {
+      BigDecimal actual = toNumber(value);
+      int cmp;
+      if (actual != null && number != null) {
+        cmp = actual.compareTo(number);
+      } else if (operator.isOrdering()) {
+        // not comparable: a value that is not numeric cannot fulfill the policy
+        return true;
+      } else {
+        cmp = value.equals(threshold) ? 0 : 1;
+      }
+      switch (operator) {
+        case LT:
+          return cmp < 0;
+        case GT:
+          return cmp > 0;
+        case EQ:
+          return cmp == 0;
+        default:
+          return cmp != 0;
+      }
+    }
+  }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven;
+
+import java.time.Duration;
+
+/**
+ * Determines the wait between two requests of a compute engine task that is still ongoing
+ */
+@FunctionalInterface
+public interface PollingStrategy {
+
+  /**
+   * Available strategies of goal {@code check}
+   */
+  enum Type {
+    /**
+     * always the same interval
+     */
+    FIXED,
+    /**
+     * interval grows exponentially up to a maximum
+     */
+    BACKOFF
+  }
+
+  /**
+   * Get the wait before the next request
+   *
+   * @param attempt number of requests done so far (starting at 1)
+   * @return wait duration
+   */
+  Duration nextDelay(int attempt);
+
+  /**
+   * Create the strategy of the given type, as configured for goal {@code check}
+   *
+   * @param type strategy type
+   * @param interval wait between two requests, initial wait for {@link Type#BACKOFF}
+   * @param factor growth per request ({@link Type#BACKOFF} only)
+   * @param maxInterval upper limit of the wait, at least {@code interval} ({@link Type#BACKOFF}
+   *                    only)
+   * @return strategy
+   * @throws IllegalArgumentException invalid factor
+   */
+  static PollingStrategy of(Type type, Duration interval, double factor, Duration maxInterval) {
+    if (type == Type.BACKOFF) {
+      return backoff(interval, factor,
+          maxInterval.compareTo(interval) < 0 ? interval : maxInterval);
+    }
+    return fixed(interval);
+  }
+
+  /**
+   * Always wait the same interval
+   *
+   * @param interval wait between two requests
+   * @return strategy
+   */
+  static PollingStrategy fixed(Duration interval) {
+    return attempt -> interval;
+  }
+
+  /**
+   * Exponential backoff: {@code initial * factor^(attempt - 1)}, limited to {@code max}
+   *
+   * @param initial wait after the first request
+   * @param factor growth per request (at least 1)
+   * @param max upper limit of the wait
+   * @return strategy
+   */
+  static PollingStrategy backoff(Duration initial, double factor, Duration max) {
+    if (factor < 1) {
+      throw new IllegalArgumentException("backoff factor must be at least 1: " + factor);
+    }
+    return attempt -> {
+      double nanos = initial.toNanos() * Math.pow(factor, Math.max(0, attempt - 1));
+      return nanos >= max.toNanos() ? max : Duration.ofNanos((long) nanos);
+    };
+  }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.Value;
+
+/**
+ * Registry of connectors that were created and warmed up by {@link SonarPrepareMojo} to be handed
+ * over to a later {@link SonarQualityGateMojo} execution. All goals of this plugin share the plugin
+ * class realm within one maven session, so a static registry is sufficient. As the realm may
+ * outlive the session (e.g. with mvnd), connectors not taken over are closed by
+ * {@link #closeAll()}.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class PreparedConnectors {
+
+  private static final Map<ConnectorSpec, PreparedConnector> REGISTRY = new ConcurrentHashMap<>();
+
+  /**
+   * A connector and its (ongoing) warm up
+   */
+  @Value
+  public static class PreparedConnector {
+
+    SonarConnector connector;
+
+    /**
+     * completes (never exceptionally) when the warm up is done
+     */
+    CompletableFuture<Void> warmUp;
+
+  }
+
+  /**
+   * Check if a connector is registered for the spec
+   *
+   * @param spec connector configuration
+   * @return true, if registered
+   */
+  public static boolean contains(ConnectorSpec spec) {
+    return REGISTRY.containsKey(spec);
+  }
+
+  /**
+   * Register a prepared connector, if none is registered for the spec yet
+   *
+   * @param spec connector configuration
+   * @param preparedConnector connector to register
+   * @return true, if registered - false, if another connector was already registered
+   */
+  public static boolean register(ConnectorSpec spec, PreparedConnector preparedConnector) {
+    return REGISTRY.putIfAbsent(spec, preparedConnector) == null;
+  }
+
+  /**
+   * Remove and return the prepared connector for the spec. The caller is responsible for closing
+   * the connector.
+   *
+   * @param spec connector configuration
+   * @return prepared connector, if registered
+   */
+  public static Optional<PreparedConnector> take(ConnectorSpec spec) {
+    return Optional.ofNullable(REGISTRY.remove(spec));
+  }
+
+  /**
+   * Remove and close all registered connectors, e.g. at the end of the session
+   *
+   * @return number of closed connectors
+   */
+  public static int closeAll() {
+    int ret = 0;
+    for (ConnectorSpec spec : REGISTRY.keySet()) {
+      PreparedConnector prepared = REGISTRY.remove(spec);
+      if (prepared != null) {
+        prepared.getWarmUp().cancel(false);
+        prepared.getConnector().close();
+        ret++;
+      }
+    }
+    return ret;
+  }
+
+}
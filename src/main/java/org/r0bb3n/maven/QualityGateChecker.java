@@ -0,0 +1,627 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import lombok.Builder;
+import lombok.NonNull;
+import org.apache.maven.plugin.logging.Log;
+import org.r0bb3n.maven.issues.IssueReport;
+import org.r0bb3n.maven.jfr.GateEvaluationEvent;
+import org.r0bb3n.maven.jfr.PollSleepEvent;
+import org.r0bb3n.maven.jfr.TaskPollEvent;
+import org.r0bb3n.maven.metrics.CheckMetrics;
+import org.r0bb3n.maven.model.ComponentMeasures;
+import org.r0bb3n.maven.model.Condition;
+import org.r0bb3n.maven.model.Measure;
+import org.r0bb3n.maven.model.Metric;
+import org.r0bb3n.maven.model.ProjectStatus;
+import org.r0bb3n.maven.model.Task;
+import org.r0bb3n.maven.trace.Span;
+import org.r0bb3n.maven.trace.Tracer;
+
+/**
+ * Steps of the quality gate check (compute engine task polling, project status retrieval and
+ * evaluation), shared by goal {@code check} and the command line interface. Depends on nothing of
+ * the Maven runtime but the {@link Log} interface.
+ */
+@Builder
+public class QualityGateChecker {
+
+  /**
+   * maximum wait for the measures of failed conditions after the evaluation
+   */
+  private static final Duration MEASURES_TIMEOUT = Duration.ofSeconds(5);
+
+  @NonNull
+  private final Log log;
+
+  @NonNull
+  private final SonarConnector connector;
+
+  private final String projectKey;
+
+  /**
+   * branch to check ('advanced' mode)
+   */
+  private final String branch;
+
+  /**
+   * pull request to check ('advanced' mode)
+   */
+  private final String pullRequest;
+
+  /**
+   * maximum number of task requests
+   */
+  @Builder.Default
+  private final int checkTaskAttempts = 10;
+
+  /**
+   * wait between two task requests
+   */
+  @Builder.Default
+  private final PollingStrategy pollingStrategy = PollingStrategy.fixed(Duration.ofSeconds(5));
+
+  @NonNull
+  private final CheckMetrics metrics;
+
+  @NonNull
+  private final Tracer tracer;
+
+  /**
+   * writes the issues on new code, if the quality gate failed (optional)
+   */
+  private final IssueReport issueReport;
+
+  /**
+   * policies evaluated in addition to the quality gate (optional)
+   */
+  private final PolicyEngine policyEngine;
+
+  /**
+   * time budget of the whole check, limits polling and all requests
+   */
+  @Builder.Default
+  private final TimeBudget timeBudget = TimeBudget.UNLIMITED;
+
+  /**
+   * {@link System#nanoTime()} at the start of the check, the time to verdict is measured from
+   */
+  @Builder.Default
+  private final long start = System.nanoTime();
+
+  /**
+   * task of the analysis checked in 'integrated' mode: component, branch and pull request of the
+   * measures of failed conditions
+   */
+  private final AtomicReference<Task> analyzedTask = new AtomicReference<>();
+
+  /**
+   * Use the task of an analysis retrieved elsewhere, e.g. by a poll in the background
+   *
+   * @param task successful task of the analysis to check
+   */
+  public void setAnalyzedTask(Task task) {
+    analyzedTask.set(task);
+  }
+
+  /**
+   * Check if branch or pull request were given, i.e. the 'advanced' mode applies
+   *
+   * @return true, if the project status of a branch or pull request is checked
+   */
+  public boolean isAdvancedMode() {
+    return !Util.isBlank(branch) || !Util.isBlank(pullRequest);
+  }
+
+  /**
+   * Read the compute engine task id ("ceTaskId") from the report task file of a previous
+   * analysis
+   *
+   * @param log logger
+   * @param reportTaskPath report task file, see {@link ReportTask#resolve(String)}
+   * @return id to request task details, empty if the file does not exist
+   * @throws CheckException io problems or id not found in file
+   */
+  public static Optional<String> findCeTaskId(Log log, Path reportTaskPath)
+      throws CheckException {
+    return findCeTaskId(log, reportTaskPath, Duration.ZERO);
+  }
+
+  /**
+   * Read the compute engine task id ("ceTaskId") from the report task file of an analysis, wait
+   * for the file, if it does not exist yet (scanner running in parallel)
+   *
+   * @param log logger
+   * @param reportTaskPath report task file, see {@link ReportTask#resolve(String)}
+   * @param waitTimeout maximum time to wait for the file, {@link Duration#ZERO} to not wait
+   * @return id to request task details, empty if the file does not exist and no wait is set
+   * @throws CheckException io problems, id not found in file, file not written in time or
+   *                        interruption
+   */
+  public static Optional<String> findCeTaskId(Log log, Path reportTaskPath, Duration waitTimeout)
+      throws CheckException {
+    if (waitTimeout.compareTo(Duration.ZERO) > 0 && !Files.exists(reportTaskPath)) {
+      log.info(String.format("waiting up to %d s for report file: %s", waitTimeout.toSeconds(),
+          reportTaskPath));
+      boolean written;
+      try {
+        written = ReportTask.await(reportTaskPath, waitTimeout);
+      } catch (IOException e) {
+        throw new CheckException("Error watching report file: " + reportTaskPath, e);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new CheckException("Interrupted while waiting for report file", e);
+      }
+      if (!written) {
+        throw new CheckException(String.format("Report file not written within %d s: %s",
+            waitTimeout.toSeconds(), reportTaskPath));
+      }
+    }
+    if (!Files.exists(reportTaskPath)) {
+      log.info("no report file from previously sonar-maven-plugin run found: " + reportTaskPath);
+      return Optional.empty();
+    }
+    String ceTaskId;
+    try {
+      ceTaskId = ReportTask.load(reportTaskPath).getProperty(ReportTask.KEY_CE_TASK_ID);
+    } catch (IOException e) {
+      throw new CheckException(
+          String.format("Error parsing properties in: %s", reportTaskPath), e);
+    }
+    if (Util.isBlank(ceTaskId)) {
+      throw new CheckException(
+          String.format("Property '%s' not found in '%s'", ReportTask.KEY_CE_TASK_ID,
+              reportTaskPath));
+    }
+    return Optional.of(ceTaskId);
+  }
+
+  /**
+   * Poll task details until the task is finished and read the analysis id. While the task is
+   * ongoing ({@link Task.Status#IN_PROGRESS}/{@link Task.Status#PENDING}), the thread sleeps as
+   * given by the polling strategy and tries {@code checkTaskAttempts} times in total.
+   *
+   * @param ceTaskId ce task id to gather details (including analysis id)
+   * @return analysis id, not null
+   * @throws CheckException unsuitable task status ({@link Task.Status#FAILED}/
+   *                        {@link Task.Status#CANCELED}), attempt limit reached, io problems or
+   *                        interruption
+   * @throws CheckTimeoutException time budget exhausted
+   */
+  public String retrieveAnalysisId(String ceTaskId) throws CheckException {
+    Deadline deadline = timeBudget.deadline(TimeBudget.Phase.POLLING);
+    connector.setDeadline(deadline);
+    int attemptsLeft = checkTaskAttempts;
+    Task.Status status = Task.Status.IN_PROGRESS;
+    String analysisId = null;
+
+    while (status.isOngoing() && attemptsLeft-- > 0) {
+      Task task;
+      TaskPollEvent pollEvent = new TaskPollEvent();
+      pollEvent.begin();
+      Span pollSpan = tracer.startSpan("retrieveTask");
+      metrics.recordTaskPoll();
+      try {
+        task = connector.retrieveTask(ceTaskId);
+        status = task.getStatus();
+      } catch (IOException e) {
+        throw deadline.isExpired() ? timeBudget.exhausted(TimeBudget.Phase.POLLING, e)
+            : new CheckException("error while retrieving task", e);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new CheckException("Interrupted while retrieving task", e);
+      } finally {
+        pollSpan.setAttribute("sonar.ce_task.id", ceTaskId)
+            .setAttribute("sonar.ce_task.attempt", checkTaskAttempts - attemptsLeft)
+            .setAttribute("sonar.ce_task.status", status.name()).close();
+        pollEvent.end();
+        if (pollEvent.shouldCommit()) {
+          pollEvent.ceTaskId = ceTaskId;
+          pollEvent.attempt = checkTaskAttempts - attemptsLeft;
+          pollEvent.status = status.name();
+          pollEvent.commit();
+        }
+      }
+      switch (status) {
+        case SUCCESS:
+          analysisId = task.getAnalysisId();
+          analyzedTask.set(task);
+          metrics.recordTask(task);
+          break;
+        case IN_PROGRESS:
+        case PENDING:
+          Duration delay = pollingStrategy.nextDelay(checkTaskAttempts - attemptsLeft);
+          if (deadline.isBounded() && delay.compareTo(deadline.remaining()) >= 0) {
+            // the next poll would not be finished in time
+            throw timeBudget.exhausted(TimeBudget.Phase.POLLING, null);
+          }
+          sleep(ceTaskId, delay, attemptsLeft);
+          break;
+        default:
+          throw new CheckException(
+              "Cannot determine analysis id - unsuitable task status: " + status);
+      }
+    }
+    if (analysisId == null) {
+      throw new CheckException(String.format(
+          "Could not fetch analysis id within %d requests with an interval of %d seconds (last "
+              + "status: %s). Please increase the values 'checkTaskAttempts' and/or "
+              + "'checkTaskIntervalS' to fit your projects needs.", checkTaskAttempts,
+          pollingStrategy.nextDelay(1).toSeconds(), status));
+    }
+    return analysisId;
+  }
+
+  private void sleep(String ceTaskId, Duration delay, int attemptsLeft) throws CheckException {
+    PollSleepEvent sleepEvent = new PollSleepEvent();
+    sleepEvent.begin();
+    try {
+      log.info(String.format("Analysis in progress, next retry in %ds (attempts left: %d)",
+          delay.toSeconds(), attemptsLeft));
+      Thread.sleep(delay.toMillis());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CheckException("Interrupted while waiting for retry", e);
+    } finally {
+      sleepEvent.end();
+      if (sleepEvent.shouldCommit()) {
+        sleepEvent.ceTaskId = ceTaskId;
+        sleepEvent.intervalS = delay.toSeconds();
+        sleepEvent.commit();
+      }
+    }
+  }
+
+  /**
+   * Retrieve the project status by either a recent analysis or by project, branch or pull
+   * request
+   *
+   * @param analysisId the actual analysis id to check for or {@code null} in case of 'simple' or
+   *                   'advanced' mode
+   * @return the project status
+   * @throws CheckException io problems or interruption
+   * @throws CheckTimeoutException time budget exhausted
+   */
+  public ProjectStatus retrieveProjectStatus(String analysisId) throws CheckException {
+    Deadline deadline = timeBudget.deadline(TimeBudget.Phase.STATUS);
+    connector.setDeadline(deadline);
+    try {
+      if (analysisId != null) {
+        // 'integrated' mode
+        return connector.retrieveProjectStatusByAnalysisId(analysisId);
+      } else {
+        // 'simple' / 'advanced' mode
+        return connector.retrieveProjectStatus(branch, pullRequest);
+      }
+    } catch (IOException e) {
+      throw deadline.isExpired() ? timeBudget.exhausted(TimeBudget.Phase.STATUS, e)
+          : new CheckException("error fetching project status", e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CheckException("Interrupted while fetching project status", e);
+    }
+  }
+
+  /**
+   * Retrieve and evaluate the project status, record the verdict in metrics and JFR
+   *
+   * @param analysisId see {@link #retrieveProjectStatus(String)}
+   * @return message describing the failed conditions, empty if the quality gate was passed
+   * @throws CheckException io problems or interruption
+   * @throws CheckTimeoutException time budget exhausted
+   */
+  public Optional<String> checkQualityGate(String analysisId) throws CheckException {
+    GateEvaluationEvent event = new GateEvaluationEvent();
+    event.begin();
+    ProjectStatus projectStatus = null;
+    String failedConditions = null;
+    try {
+      // measures of the policies are retrieved along with the project status
+      connector.setDeadline(timeBudget.deadline(TimeBudget.Phase.STATUS));
+      CompletableFuture<List<String>> violations = checkPolicies();
+      try (Span span = tracer.startSpan("retrieveProjectStatus")) {
+        projectStatus = retrieveProjectStatus(analysisId);
+      }
+      // details of failed conditions (none if passed) are retrieved while evaluating
+      connector.setDeadline(timeBudget.deadline(TimeBudget.Phase.DETAILS));
+      CompletableFuture<ComponentMeasures> measures = retrieveFailedMeasures(projectStatus);
+      try (Span span = tracer.startSpan("evaluate")) {
+        String policyViolations = describePolicyViolations(awaitPolicies(violations));
+        if (projectStatus.getStatus() != ProjectStatus.Status.OK) {
+          failedConditions = describeFailedConditions(projectStatus);
+          String message = String.format(
+              "Quality Gate not passed (status: %s)! Failed metric(s): %s%s%s",
+              projectStatus.getStatus(), failedConditions,
+              describeConditionDetails(projectStatus, awaitMeasures(measures)), policyViolations);
+          writeIssues();
+          return Optional.of(message);
+        }
+        log.info("project status: " + projectStatus.getStatus());
+        if (!policyViolations.isEmpty()) {
+          return Optional.of("Quality Gate passed, but policies violated!" + policyViolations);
+        }
+        return Optional.empty();
+      }
+    } finally {
+      String verdict = projectStatus == null ? null : String.valueOf(projectStatus.getStatus());
+      metrics.recordVerdict(verdict, Duration.ofNanos(System.nanoTime() - start));
+      event.end();
+      if (event.shouldCommit()) {
+        event.projectKey = projectKey;
+        event.mode = analysisId != null ? "integrated" : isAdvancedMode() ? "advanced" : "simple";
+        event.status = verdict;
+        event.failedConditions = failedConditions;
+        event.commit();
+      }
+    }
+  }
+
+  /**
+   * List the conditions that are neither {@code OK} nor {@code NONE}
+   *
+   * @param projectStatus project status
+   * @return comma separated list of {@code metricKey:status}
+   */
+  public static String describeFailedConditions(ProjectStatus projectStatus) {
+    return failedConditions(projectStatus).stream()
+        .map(c -> c.getMetricKey() + ":" + c.getStatus()).collect(Collectors.joining(", "));
+  }
+
+  /**
+   * Describe value and threshold of each failed condition, one per line, completed by name and
+   * domain of the metric and the current measure, if available
+   *
+   * @param projectStatus project status
+   * @param measures measures of the failed conditions or {@code null}
+   * @return lines starting with a line break, empty if there are no failed conditions
+   */
+  public static String describeConditionDetails(ProjectStatus projectStatus,
+      ComponentMeasures measures) {
+    Map<String, Metric> metricsByKey = new HashMap<>();
+    Map<String, Measure> measuresByKey = new HashMap<>();
+    if (measures != null) {
+      Optional.ofNullable(measures.getMetrics()).orElse(List.of())
+          .forEach(m -> metricsByKey.put(m.getKey(), m));
+      Optional.ofNullable(measures.getComponent().getMeasures()).orElse(List.of())
+          .forEach(m -> measuresByKey.put(m.getMetric(), m));
+    }
+    StringBuilder sb = new StringBuilder();
+    for (Condition condition : failedConditions(projectStatus)) {
+      Metric metric = metricsByKey.get(condition.getMetricKey());
+      sb.append(System.lineSeparator()).append("  - ");
+      if (metric != null && !Util.isBlank(metric.getName())) {
+        sb.append(metric.getName()).append(" (").append(condition.getMetricKey());
+        if (!Util.isBlank(metric.getDomain())) {
+          sb.append(", ").append(metric.getDomain());
+        }
+        sb.append(')');
+      } else {
+        sb.append(condition.getMetricKey());
+      }
+      String value = condition.getActualValue() != null ? condition.getActualValue()
+          : measureValue(measuresByKey.get(condition.getMetricKey()));
+      sb.append(": ").append(value == null ? "-" : formatValue(value));
+      if (condition.getErrorThreshold() != null) {
+        sb.append(" (").append(condition.getStatus()).append(" if ")
+            .append(toOperator(condition.getComparator())).append(' ')
+            .append(formatValue(condition.getErrorThreshold())).append(')');
+      }
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Start the retrieval of the measures of all failed conditions
+   *
+   * @param projectStatus project status
+   * @return future measures, completed with {@code null} if nothing failed
+   */
+  private CompletableFuture<ComponentMeasures> retrieveFailedMeasures(
+      ProjectStatus projectStatus) {
+    List<String> metricKeys = projectStatus.getStatus() == ProjectStatus.Status.OK
+        ? List.of() : failedConditions(projectStatus).stream().map(Condition::getMetricKey)
+        .collect(Collectors.toList());
+    Task task = analyzedTask.get();
+    String component = task != null ? task.getComponentKey() : projectKey;
+    if (metricKeys.isEmpty() || Util.isBlank(component)
+        || !connector.getServerCapabilities().supports(Capability.MEASURES_COMPONENT)) {
+      return CompletableFuture.completedFuture(null);
+    }
+    return task != null
+        ? connector.retrieveMeasuresAsync(component, task.getBranch(), task.getPullRequest(),
+        metricKeys)
+        : connector.retrieveMeasuresAsync(component, branch, pullRequest, metricKeys);
+  }
+
+  /**
+   * Start the evaluation of the policies, if configured
+   *
+   * @return future violations, completed with an empty list if there are no policies
+   */
+  private CompletableFuture<List<String>> checkPolicies() {
+    if (policyEngine == null || policyEngine.isEmpty()) {
+      return CompletableFuture.completedFuture(List.of());
+    }
+    Task task = analyzedTask.get();
+    return task != null
+        ? policyEngine.check(connector, task.getComponentKey(), task.getBranch(),
+        task.getPullRequest())
+        : policyEngine.check(connector, projectKey, branch, pullRequest);
+  }
+
+  /**
+   * Wait for the evaluation of the policies, they are part of the verdict
+   *
+   * @param violations future violations
+   * @return violations
+   * @throws CheckException measures not available or interruption
+   */
+  private List<String> awaitPolicies(CompletableFuture<List<String>> violations)
+      throws CheckException {
+    try {
+      return violations.get();
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause() instanceof CompletionException ? e.getCause().getCause()
+          : e.getCause();
+      throw timeBudget.deadline(TimeBudget.Phase.STATUS).isExpired()
+          ? timeBudget.exhausted(TimeBudget.Phase.STATUS, cause)
+          : new CheckException("error fetching measures of policies", cause);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new CheckException("Interrupted while fetching measures of policies", e);
+    }
+  }
+
+  /**
+   * List the policy violations, one per line
+   *
+   * @return lines starting with a line break, empty if there are no violations
+   */
+  private static String describePolicyViolations(List<String> violations) {
+    return violations.stream().map(v -> System.lineSeparator() + "  - policy " + v)
+        .collect(Collectors.joining());
+  }
+
+  /**
+   * Write the issues on new code, if configured. Problems are logged only, they do not change the
+   * verdict.
+   */
+  private void writeIssues() {
+    Task task = analyzedTask.get();
+    String component = task != null ? task.getComponentKey() : projectKey;
+    if (issueReport == null || Util.isBlank(component)) {
+      return;
+    }
+    try (Span span = tracer.startSpan("writeIssues")) {
+      long count = task != null
+          ? issueReport.write(component, task.getBranch(), task.getPullRequest())
+          : issueReport.write(component, branch, pullRequest);
+      span.setAttribute("sonar.issues.count", count);
+    } catch (IOException e) {
+      log.warn("issues on new code could not be written: " + e.getMessage());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn("interrupted while writing issues on new code");
+    }
+  }
+
+  /**
+   * Wait a limited time (at most until the end of the time budget) for the measures, they are
+   * optional
+   *
+   * @param measures future measures
+   * @return measures or {@code null} if not available in time
+   */
+  private ComponentMeasures awaitMeasures(CompletableFuture<ComponentMeasures> measures) {
+    try {
+      Duration timeout = timeBudget.deadline(TimeBudget.Phase.DETAILS).cap(MEASURES_TIMEOUT);
+      return measures.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (ExecutionException e) {
+      log.debug("measures of failed conditions not available: " + e.getCause());
+    } catch (TimeoutException e) {
+      measures.cancel(true);
+      log.debug("measures of failed conditions not available in time");
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    return null;
+  }
+
+  private static List<Condition> failedConditions(ProjectStatus projectStatus) {
+    return Optional.ofNullable(projectStatus.getConditions()).orElse(List.of()).stream()
+        .filter(has(ProjectStatus.Status.OK, ProjectStatus.Status.NONE).negate())
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Get the value of a measure, on new code if there is no overall value
+   */
+  static String measureValue(Measure measure) {
+    if (measure == null) {
+      return null;
+    }
+    if (measure.getValue() != null) {
+      return measure.getValue();
+    }
+    if (measure.getPeriod() != null) {
+      return measure.getPeriod().getValue();
+    }
+    return Optional.ofNullable(measure.getPeriods()).orElse(List.of()).stream()
+        .map(Measure.Period::getValue).filter(Objects::nonNull).findFirst().orElse(null);
+  }
+
+  /**
+   * Round decimal values to two fraction digits, e.g. coverage {@code 82.50562381034781}
+   */
+  static String formatValue(String value) {
+    try {
+      BigDecimal decimal = new BigDecimal(value);
+      return decimal.scale() > 2
+          ? decimal.setScale(2, RoundingMode.HALF_UP).stripTrailingZeros().toPlainString()
+          : value;
+    } catch (NumberFormatException e) {
+      return value;
+    }
+  }
+
+  private static String toOperator(String comparator) {
+    if (comparator == null) {
+      return "?";
+    }
+    switch (comparator) {
+      case "LT":
+        return "<";
+      case "GT":
+        return ">";
+      case "EQ":
+        return "=";
+      case "NE":
+        return "!=";
+      default:
+        return comparator;
+    }
+  }
+
+  /**
+   * create a predicate to check, if a {@link Condition} has one of the supplied status
+   */
+  private static Predicate<Condition> has(ProjectStatus.Status... status) {
+    return c -> Arrays.asList(status).contains(c.getStatus());
+  }
+
+}
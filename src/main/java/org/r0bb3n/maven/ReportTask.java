@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Access to the report task file {@code sonar/report-task.txt} written by the sonar-maven-plugin
+ * into the build directory
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ReportTask {
+
+  /**
+   * property key of the compute engine task id
+   */
+  public static final String KEY_CE_TASK_ID = "ceTaskId";
+
+  /**
+   * property key of the url of the sonar server the analysis was sent to
+   */
+  public static final String KEY_SERVER_URL = "serverUrl";
+
+  /**
+   * property key of the analyzed project
+   */
+  public static final String KEY_PROJECT_KEY = "projectKey";
+
+  /**
+   * maximum time between two checks of the file while waiting, in case the {@link WatchService}
+   * of the platform misses events or only polls (e.g. on macOS)
+   */
+  private static final Duration MAX_CHECK_INTERVAL = Duration.ofSeconds(1);
+
+  /**
+   * Resolve the location of the report task file
+   *
+   * @param buildDir build directory
+   * @return path to the report task file (may not exist)
+   */
+  public static Path resolve(String buildDir) {
+    return Path.of(buildDir, "sonar", "report-task.txt");
+  }
+
+  /**
+   * Load the report task file
+   *
+   * @param reportTaskPath path to the report task file
+   * @return properties of the file
+   * @throws IOException file cannot be read
+   */
+  public static Properties load(Path reportTaskPath) throws IOException {
+    try (InputStream is = Files.newInputStream(reportTaskPath)) {
+      Properties props = new Properties();
+      props.load(is);
+      return props;
+    }
+  }
+
+  /**
+   * Wait until the report task file exists and contains the compute engine task id, e.g. while
+   * the scanner runs in a parallel process. The file (and missing parent directories) is watched
+   * with a {@link WatchService}, so the wait ends as soon as the scanner wrote it.
+   *
+   * @param reportTaskPath path to the report task file
+   * @param timeout maximum time to wait
+   * @return true, if the file with task id is available, false on timeout
+   * @throws IOException file system cannot be watched
+   * @throws InterruptedException interrupted while waiting
+   */
+  public static boolean await(Path reportTaskPath, Duration timeout)
+      throws IOException, InterruptedException {
+    long deadline = System.nanoTime() + timeout.toNanos();
+    Path file = reportTaskPath.toAbsolutePath();
+    try (WatchService watchService = file.getFileSystem().newWatchService()) {
+      Path watched = null;
+      WatchKey watchKey = null;
+      while (true) {
+        // the file may be created in a directory that does not exist yet: watch the deepest
+        // existing one and move down, when the next one appears
+        Path dir = file.getParent();
+        while (!Files.isDirectory(dir)) {
+          dir = dir.getParent();
+        }
+        if (!dir.equals(watched)) {
+          if (watchKey != null) {
+            watchKey.cancel();
+          }
+          watchKey = dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+              StandardWatchEventKinds.ENTRY_MODIFY);
+          watched = dir;
+        }
+        // check after registration, so that no change gets lost
+        if (containsCeTaskId(file)) {
+          return true;
+        }
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+          return false;
+        }
+        WatchKey signalled = watchService.poll(Math.min(remaining, MAX_CHECK_INTERVAL.toNanos()),
+            TimeUnit.NANOSECONDS);
+        if (signalled != null) {
+          signalled.pollEvents();
+          signalled.reset();
+        }
+      }
+    }
+  }
+
+  private static boolean containsCeTaskId(Path file) throws IOException {
+    if (!Files.exists(file)) {
+      return false;
+    }
+    try {
+      return !Util.isBlank(load(file).getProperty(KEY_CE_TASK_ID));
+    } catch (NoSuchFileException e) {
+      // deleted in the meantime
+      return false;
+    }
+  }
+
+}
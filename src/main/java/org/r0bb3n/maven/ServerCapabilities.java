@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven;
+
+import java.util.Optional;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Capabilities of a sonar server derived from its version. If the version is unknown, all
+ * capabilities are assumed to be available (optimistic approach), so that no additional request is
+ * required to detect the version.
+ */
+@ToString
+@EqualsAndHashCode
+public class ServerCapabilities {
+
+  /**
+   * capabilities of a server with unknown version
+   */
+  public static final ServerCapabilities UNKNOWN = new ServerCapabilities(null);
+
+  private final SonarVersion version;
+
+  private ServerCapabilities(SonarVersion version) {
+    this.version = version;
+  }
+
+  /**
+   * Create capabilities for a known version
+   *
+   * @param version server version
+   * @return capabilities
+   */
+  public static ServerCapabilities of(SonarVersion version) {
+    return new ServerCapabilities(version);
+  }
+
+  /**
+   * Get server version
+   *
+   * @return version, if known
+   */
+  public Optional<SonarVersion> getVersion() {
+    return Optional.ofNullable(version);
+  }
+
+  /**
+   * Check if the server supports the capability
+   *
+   * @param capability capability to check
+   * @return true, if supported or version is unknown
+   */
+  public boolean supports(Capability capability) {
+    return version == null || version.isAtLeast(capability.getMinVersion());
+  }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Properties;
+import org.apache.maven.plugin.logging.Log;
+
+/**
+ * On-disk cache of sonar server versions per host with a time to live. The cache is a properties
+ * file with the host url as key and {@code <version>|<epoch millis>} as value. The file is
+ * replaced atomically on every update, so concurrent builds do not corrupt it (last write wins).
+ *
+ * <p>IO problems are logged and otherwise ignored - the cache is only an optimization.
+ */
+public class ServerVersionCache {
+
+  private static final String VALUE_SEPARATOR = "|";
+
+  private final Log log;
+  private final Path file;
+  private final Duration ttl;
+  private final Clock clock;
+
+  /**
+   * Create cache
+   *
+   * @param log Logger to use
+   * @param file properties file to store the versions in
+   * @param ttl how long a cached version is valid
+   */
+  public ServerVersionCache(Log log, Path file, Duration ttl) {
+    this(log, file, ttl, Clock.systemUTC());
+  }
+
+  /**
+   * Create cache
+   *
+   * @param log Logger to use
+   * @param file properties file to store the versions in
+   * @param ttl how long a cached version is valid
+   * @param clock clock to determine the age of entries
+   */
+  ServerVersionCache(Log log, Path file, Duration ttl, Clock clock) {
+    this.log = log;
+    this.file = file;
+    this.ttl = ttl;
+    this.clock = clock;
+  }
+
+  /**
+   * Get cached version, if present and not expired
+   *
+   * @param host sonar host url
+   * @return cached version
+   */
+  public synchronized Optional<SonarVersion> get(String host) {
+    String value = load().getProperty(host);
+    if (value == null) {
+      return Optional.empty();
+    }
+    int idx = value.lastIndexOf(VALUE_SEPARATOR);
+    try {
+      long timestamp = Long.parseLong(value.substring(idx + 1));
+      if (clock.millis() - timestamp > ttl.toMillis()) {
+        log.debug("cached sonar version expired for: " + host);
+        return Optional.empty();
+      }
+      return Optional.of(SonarVersion.parse(value.substring(0, idx)));
+    } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+      log.debug("ignoring invalid cache entry for '" + host + "': " + value);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Store version
+   *
+   * @param host sonar host url
+   * @param version version to cache
+   */
+  public synchronized void put(String host, SonarVersion version) {
+    Properties props = load();
+    props.setProperty(host, version + VALUE_SEPARATOR + clock.millis());
+    try {
+      Path parent = file.toAbsolutePath().getParent();
+      Files.createDirectories(parent);
+      Path tmp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+      try {
+        try (OutputStream os = Files.newOutputStream(tmp)) {
+          props.store(os, "sonar-quality-gate-maven-plugin - cached sonar server versions");
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING,
+            StandardCopyOption.ATOMIC_MOVE);
+      } finally {
+        Files.deleteIfExists(tmp);
+      }
+    } catch (IOException e) {
+      log.debug("cannot write sonar version cache: " + file, e);
+    }
+  }
+
+  private Properties load() {
+    Properties props = new Properties();
+    if (Files.exists(file)) {
+      try (InputStream is = Files.newInputStream(file)) {
+        props.load(is);
+      } catch (IOException e) {
+        log.debug("cannot read sonar version cache: " + file, e);
+      }
+    }
+    return props;
+  }
+
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.r0bb3n.maven;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Duration;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.r0bb3n.maven.batch.BatchChecker;
+import org.r0bb3n.maven.batch.BatchSummary;
+import org.r0bb3n.maven.poll.TaskPollScheduler;
+
+/**
+ * Check the quality gates of many branches and pull requests (also of different projects) in one
+ * execution, e.g. for a bot that reports the status of all open pull requests. The inputs are
+ * read line by line from {@code sonar-quality-gate.batch.input} (or stdin) and checked
+ * concurrently over one connection. One JSON line per input is streamed to
+ * {@code sonar-quality-gate.batch.output} (or stdout), as soon as its result is available.
+ *
+ * <p>Failed quality gates and failed checks are part of the output, they do not fail the build.
+ */
+@Mojo(name = "batch", requiresProject = false, threadSafe = true)
+public class SonarBatchMojo extends AbstractSonarMojo {
+
+  /**
+   * File with one input per line: JSON object ({@code {"projectKey":"p","pullRequest":"42"}}) or
+   * {@code name=value} pairs ({@code projectKey=p branch=main}). Without project key, the
+   * configured {@code sonar.projectKey} applies. Instead of project, branch and pull request, the
+   * compute engine task of an analysis can be given ({@code ceTaskId=AXx}). Blank lines and
+   * lines starting with {@code #} are ignored. Read from stdin, if not set.
+   *
+   * @since 1.4.0
+   */
+  @Parameter(property = "sonar-quality-gate.batch.input")
+  private File batchInput;
+
+  /**
+   * File to write the results to, one JSON line per input. Written to stdout, if not set (use
+   * {@code mvn -q} to keep the log out of it).
+   *
+   * @since 1.4.0
+   */
+  @Parameter(property = "sonar-quality-gate.batch.output")
+  private File batchOutput;
+
+  /**
+   * Maximum number of checks in flight
+   *
+   * @since 1.4.0
+   */
+  @Parameter(property = "sonar-quality-gate.batch.concurrency", defaultValue = "16")
+  private int batchConcurrency;
+
+  /**
+   * How many seconds to wait between two requests of a compute engine task (inputs with
+   * {@code ceTaskId}). The tasks of all inputs are polled by one scheduler thread.
+   *
+   * @since 1.4.0
+   */
+  @Parameter(property = "sonar-quality-gate.batch.checkTask.interval.s", defaultValue = "5")
+  private int batchCheckTaskIntervalS;
+
+  /**
+   * How many requests per compute engine task until its check fails
+   *
+   * @since 1.4.0
+   */
+  @Parameter(property = "sonar-quality-gate.batch.checkTask.attempts", defaultValue = "60")
+  private int batchCheckTaskAttempts;
+
+  /**
+   * check all inputs and write the results
+   *
+   * @throws MojoExecutionException configuration errors, input not readable, output not writable
+   *                                or interruption
+   */
+  @Override
+  public void execute() throws MojoExecutionException {
+    if (isSkip()) {
+      getLog().info("skipped");
+      return;
+    }
+    if (batchConcurrency < 1) {
+      throw new MojoExecutionException("invalid batch concurrency: " + batchConcurrency);
+    }
+    if (batchCheckTaskIntervalS < 1 || batchCheckTaskAttempts < 1) {
+      throw new MojoExecutionException(String.format(
+          "invalid compute engine task polling: interval %ds, attempts %d",
+          batchCheckTaskIntervalS, batchCheckTaskAttempts));
+    }
+    try (SonarConnector connector = createSonarConnector(createConnectorSpec());
+        TaskPollScheduler pollScheduler = TaskPollScheduler.builder().log(getLog())
+            .connector(connector).attempts(batchCheckTaskAttempts)
+            .pollingStrategy(PollingStrategy.fixed(Duration.ofSeconds(batchCheckTaskIntervalS)))
+            .build();
+        BufferedReader input = openInput();
+        Writer output = openOutput()) {
+      BatchSummary summary = BatchChecker.builder().log(getLog()).connector(connector)
+          .defaultProjectKey(getSonarProjectKey()).concurrency(batchConcurrency)
+          .pollScheduler(pollScheduler).build()
+          .run(input, output);
+      if (summary.getErrors() > 0) {
+        getLog().warn(summary.getErrors() + " check(s) failed, see 'error' in the output");
+      }
+      connector.getConcurrencyLimiter().ifPresent(limiter -> getLog()
+          .info("adaptive limit of Web API calls in flight: " + limiter.getLimit()));
+    } catch (IOException e) {
+      throw new MojoExecutionException("batch check failed: " + e.getMessage(), e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new MojoExecutionException("Interrupted while checking batch", e);
+    }
+  }
+
+  private BufferedReader openInput() throws IOException {
+    if (batchInput == null) {
+      // stdin stays open
+      return new BufferedReader(new InputStreamReader(new FilterInputStream(System.in) {
+        @Override
+        public void close() {
+          // keep open
+        }
+      }, StandardCharsets.UTF_8));
+    }
+    return Files.newBufferedReader(batchInput.toPath(), StandardCharsets.UTF_8);
+  }
+
+  private Writer openOutput() throws IOException {
+    if (batchOutput == null) {
+      // stdout stays open
+      return new OutputStreamWriter(System.out, StandardCharsets.UTF_8) {
+        @Override
+        public void close() throws IOException {
+          flush();
+        }
+      };
+    }
+    File parent = batchOutput.getAbsoluteFile().getParentFile();
+    Files.createDirectories(parent.toPath());
+    return Files.newBufferedWriter(batchOutput.toPath(), StandardCharsets.UTF_8);
+  }
+
+}
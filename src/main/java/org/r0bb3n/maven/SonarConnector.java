@@ -16,48 +16,120 @@
 
 package org.r0bb3n.maven;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.Closeable;
 import java.io.IOException;
 import java.net.HttpURLConnection;
+import java.net.InetAddress;
 import java.net.URI;
 import java.net.URL;
 import java.net.URLEncoder;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
+import java.net.UnknownHostException;
+import java.net.http.HttpTimeoutException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.maven.plugin.logging.Log;
+import org.r0bb3n.maven.jfr.HttpExchangeEvent;
+import org.r0bb3n.maven.jfr.JsonParseEvent;
+import org.r0bb3n.maven.json.JacksonResponseParser;
+import org.r0bb3n.maven.json.ResponseParser;
+import org.r0bb3n.maven.mirror.StatusMirror;
+import org.r0bb3n.maven.model.Activity;
+import org.r0bb3n.maven.model.ComponentMeasures;
 import org.r0bb3n.maven.model.Container;
+import org.r0bb3n.maven.model.Measure;
+import org.r0bb3n.maven.model.MeasuresContainer;
 import org.r0bb3n.maven.model.ProjectStatus;
 import org.r0bb3n.maven.model.ProjectStatusContainer;
 import org.r0bb3n.maven.model.Task;
 import org.r0bb3n.maven.model.TaskContainer;
+import org.r0bb3n.maven.transport.ConcurrencyLimiter;
+import org.r0bb3n.maven.transport.HttpTransport;
+import org.r0bb3n.maven.transport.HttpTransports;
+import org.r0bb3n.maven.transport.TransportRequest;
+import org.r0bb3n.maven.transport.TransportResponse;
 
 /**
  * Connector to consume Sonar REST API
  */
-public class SonarConnector {
+public class SonarConnector implements Closeable {
 
   private static final String SONAR_WEB_API_PATH_PROJECT_STATUS = "api/qualitygates/project_status";
   private static final String SONAR_WEB_API_PATH_CE_TASK = "api/ce/task";
+  private static final String SONAR_WEB_API_PATH_CE_ACTIVITY = "api/ce/activity";
+  private static final String SONAR_WEB_API_PATH_SERVER_VERSION = "api/server/version";
+  private static final String SONAR_WEB_API_PATH_AUTH_VALIDATE = "api/authentication/validate";
+  private static final String SONAR_WEB_API_PATH_MEASURES_COMPONENT = "api/measures/component";
+  private static final String SONAR_WEB_API_PATH_ISSUES_SEARCH = "api/issues/search";
+  private static final String SONAR_WEB_API_PATH_MEASURES_SEARCH = "api/measures/search";
+  private static final String SONAR_WEB_API_PATH_MEASURES_SEARCH_HISTORY =
+      "api/measures/search_history";
   private static final String HEADER_NAME_AUTHORIZATION = "Authorization";
   private static final String HEADER_NAME_CONTENT_TYPE = "Content-Type";
+  private static final String HEADER_NAME_SONAR_VERSION = "Sonar-Version";
+  private static final Set<Integer> OVERLOAD_STATUS_CODES = Set.of(429, 503, 504);
 
   private final Log log;
   private final URL sonarHostUrl;
   private final String sonarProjectKey;
 
-  private final HttpClient httpClient = HttpClient.newHttpClient();
-  private final HttpRequest.Builder requestBuilderTemplate;
+  private final HttpTransport transport;
+  private final Duration requestTimeout;
+  private final Map<String, String> defaultHeaders;
+
+  /**
+   * server version, once retrieved or detected
+   */
+  private volatile SonarVersion serverVersion;
+
+  /**
+   * optional on-disk cache of the server version
+   */
+  private ServerVersionCache serverVersionCache;
+
+  /**
+   * observer of the communication
+   */
+  private ConnectorListener listener = ConnectorListener.NONE;
+
+  /**
+   * maps the responses to the model
+   */
+  private ResponseParser responseParser = new JacksonResponseParser();
+
+  /**
+   * optional local mirror to look up project statuses
+   */
+  private StatusMirror statusMirror;
+
+  /**
+   * maximum age of the {@link #statusMirror} for lookups
+   */
+  private Duration statusMirrorMaxAge;
+
+  /**
+   * deadline of all requests
+   */
+  private volatile Deadline deadline = Deadline.NONE;
+
+  /**
+   * optional limit of the requests in flight
+   */
+  private volatile ConcurrencyLimiter concurrencyLimiter;
 
   /**
    * Query parameters for project status api endpoint
@@ -74,7 +146,7 @@ public class SonarConnector {
   }
 
   /**
-   * Create sonar connector
+   * Create sonar connector with default {@link HttpSettings}
    *
    * @param log Logger to use
    * @param sonarHostUrl host url of sonar
@@ -84,10 +156,192 @@ public class SonarConnector {
    */
   public SonarConnector(Log log, URL sonarHostUrl, String sonarProjectKey, String sonarLoginOrToken,
       String sonarPassword) {
+    this(log, sonarHostUrl, sonarProjectKey, sonarLoginOrToken, sonarPassword,
+        HttpSettings.defaults());
+  }
+
+  /**
+   * Create sonar connector
+   *
+   * @param log Logger to use
+   * @param sonarHostUrl host url of sonar
+   * @param sonarProjectKey project key used inside sonar
+   * @param sonarLoginOrToken optional sonar login name or token
+   * @param sonarPassword optional password for sonar login name
+   * @param httpSettings transport configuration
+   * @throws IllegalArgumentException configured transport is not available
+   */
+  public SonarConnector(Log log, URL sonarHostUrl, String sonarProjectKey, String sonarLoginOrToken,
+      String sonarPassword, HttpSettings httpSettings) {
+    this(log, sonarHostUrl, sonarProjectKey, sonarLoginOrToken, sonarPassword,
+        HttpTransports.create(httpSettings), httpSettings.getRequestTimeout());
+    int maxConcurrency = httpSettings.getMaxConcurrency();
+    if (maxConcurrency > 0) {
+      setConcurrencyLimiter(new ConcurrencyLimiter(
+          Math.min(ConcurrencyLimiter.DEFAULT_INITIAL_LIMIT, maxConcurrency), maxConcurrency,
+          limit -> listener.onConcurrencyLimit(limit)));
+    }
+  }
+
+  /**
+   * Create sonar connector using a specific transport
+   *
+   * @param log Logger to use
+   * @param sonarHostUrl host url of sonar
+   * @param sonarProjectKey project key used inside sonar
+   * @param sonarLoginOrToken optional sonar login name or token
+   * @param sonarPassword optional password for sonar login name
+   * @param transport HTTP backend for all calls, will be closed by {@link #close()}
+   * @param requestTimeout timeout per request or {@code null}
+   */
+  public SonarConnector(Log log, URL sonarHostUrl, String sonarProjectKey, String sonarLoginOrToken,
+      String sonarPassword, HttpTransport transport, Duration requestTimeout) {
     this.log = log;
     this.sonarHostUrl = sonarHostUrl;
     this.sonarProjectKey = sonarProjectKey;
-    this.requestBuilderTemplate = createRequestBuilder(sonarLoginOrToken, sonarPassword);
+    this.transport = transport;
+    this.requestTimeout = requestTimeout;
+    this.defaultHeaders = createDefaultHeaders(sonarLoginOrToken, sonarPassword);
+  }
+
+  /**
+   * Resolve the IP addresses of the sonar host, so that they are cached by the JVM for the
+   * following requests
+   *
+   * @throws UnknownHostException host cannot be resolved
+   */
+  public void resolveHost() throws UnknownHostException {
+    InetAddress[] addresses = InetAddress.getAllByName(sonarHostUrl.getHost());
+    if (log.isDebugEnabled()) {
+      log.debug(String.format("Sonar host '%s' resolved to: %s", sonarHostUrl.getHost(),
+          Arrays.toString(addresses)));
+    }
+  }
+
+  /**
+   * Use an on-disk cache for the server version, so that the capabilities are known before the
+   * first request of a build
+   *
+   * @param serverVersionCache cache to use or {@code null} to disable
+   */
+  public void setServerVersionCache(ServerVersionCache serverVersionCache) {
+    this.serverVersionCache = serverVersionCache;
+  }
+
+  /**
+   * Set the listener to be notified about the communication
+   *
+   * @param listener listener, {@code null} to remove
+   */
+  public void setListener(ConnectorListener listener) {
+    this.listener = listener == null ? ConnectorListener.NONE : listener;
+    getConcurrencyLimiter().ifPresent(l -> this.listener.onConcurrencyLimit(l.getLimit()));
+  }
+
+  /**
+   * Set the parser for the responses (default: {@link ResponseParser.Type#JACKSON})
+   *
+   * @param responseParser parser to use
+   */
+  public void setResponseParser(ResponseParser responseParser) {
+    this.responseParser = responseParser;
+  }
+
+  /**
+   * Look up project statuses by project key in a local mirror first. The server is requested, if
+   * the mirror was not synced within {@code maxAge} or does not contain the status.
+   *
+   * @param statusMirror mirror or {@code null} to disable
+   * @param maxAge maximum age of the last sync of the mirror
+   */
+  public void setStatusMirror(StatusMirror statusMirror, Duration maxAge) {
+    this.statusMirror = statusMirror;
+    this.statusMirrorMaxAge = maxAge;
+  }
+
+  /**
+   * Limit all following requests to a deadline: the timeout of each request is the shorter of
+   * the request timeout and the time left, no request is sent after the deadline
+   *
+   * @param deadline deadline, {@link Deadline#NONE} for none
+   */
+  public void setDeadline(Deadline deadline) {
+    this.deadline = deadline;
+  }
+
+  /**
+   * Limit the number of requests in flight adaptively. Requests above the limit are queued.
+   *
+   * @param concurrencyLimiter limiter or {@code null} to disable
+   */
+  public void setConcurrencyLimiter(ConcurrencyLimiter concurrencyLimiter) {
+    this.concurrencyLimiter = concurrencyLimiter;
+  }
+
+  /**
+   * Get the limiter of the requests in flight
+   *
+   * @return limiter, if enabled
+   */
+  public Optional<ConcurrencyLimiter> getConcurrencyLimiter() {
+    return Optional.ofNullable(concurrencyLimiter);
+  }
+
+  /**
+   * Retrieve the version of the sonar server (always requests the server and refreshes cached
+   * values)
+   *
+   * @return server version, e.g. {@code 8.5.0.37579}
+   * @throws IOException error while using URI or fetching response or invalid version
+   * @throws InterruptedException interrupted while request ongoing
+   */
+  public SonarVersion retrieveServerVersion() throws IOException, InterruptedException {
+    URI versionUri = createUri(SONAR_WEB_API_PATH_SERVER_VERSION, Collections.emptyMap());
+    String version = retrieveResponse(versionUri).trim();
+    try {
+      updateServerVersion(version);
+    } catch (IllegalArgumentException e) {
+      throw new IOException("Invalid sonar server version: " + version, e);
+    }
+    return serverVersion;
+  }
+
+  /**
+   * Get the capabilities of the sonar server without an additional request. The version is taken
+   * from a previous response (header {@value #HEADER_NAME_SONAR_VERSION}) or from the
+   * {@link ServerVersionCache}. If unknown, {@link ServerCapabilities#UNKNOWN} is returned.
+   *
+   * @return capabilities of the server
+   */
+  public ServerCapabilities getServerCapabilities() {
+    if (serverVersion == null && serverVersionCache != null) {
+      Optional<SonarVersion> cached = serverVersionCache.get(sonarHostUrl.toExternalForm());
+      listener.onVersionCacheLookup(cached.isPresent());
+      cached.ifPresent(v -> {
+        log.debug("sonar server version (cached): " + v);
+        serverVersion = v;
+      });
+    }
+    SonarVersion version = serverVersion;
+    return version == null ? ServerCapabilities.UNKNOWN : ServerCapabilities.of(version);
+  }
+
+  /**
+   * Check if the supplied credentials are valid. Without credentials, the anonymous access is
+   * checked.
+   *
+   * @return true, if the credentials are valid
+   * @throws IOException error while using URI, fetching response or mapping to Object
+   * @throws InterruptedException interrupted while request ongoing
+   */
+  public boolean validateAuthentication() throws IOException, InterruptedException {
+    URI validateUri = createUri(SONAR_WEB_API_PATH_AUTH_VALIDATE, Collections.emptyMap());
+    String json = retrieveResponse(validateUri);
+    try {
+      return responseParser.readBoolean(json, "valid");
+    } catch (IOException e) {
+      throw new IOException(String.format("Error parsing response: %s", json), e);
+    }
   }
 
   /**
@@ -104,6 +358,24 @@ public class SonarConnector {
     return parseContainer(TaskContainer.class, ceTaskJson);
   }
 
+  /**
+   * Retrieve task data from sonar server asynchronously using the ceTaskId
+   *
+   * @param ceTaskId ce task id to gather details (including analysis id)
+   * @return future task information, completes exceptionally with an {@link IOException} in case
+   *         of connection problems, bad status code or unexpected response
+   */
+  public CompletableFuture<Task> retrieveTaskAsync(String ceTaskId) {
+    URI ceTaskUri;
+    try {
+      ceTaskUri = createUri(SONAR_WEB_API_PATH_CE_TASK, Collections.singletonMap("id", ceTaskId));
+    } catch (IOException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+    return retrieveResponseAsync(ceTaskUri)
+        .thenApply(json -> parseAsync(TaskContainer.class, json));
+  }
+
   /**
    * Retrieve project status from sonar server by using analysisId
    *
@@ -121,6 +393,81 @@ public class SonarConnector {
     return parseContainer(ProjectStatusContainer.class, projStatJson);
   }
 
+  /**
+   * Retrieve project status from sonar server asynchronously by using analysisId
+   *
+   * @param analysisId analysis id
+   * @return future project status data, completes exceptionally with an {@link IOException} in
+   *         case of connection problems, bad status code or unexpected response
+   */
+  public CompletableFuture<ProjectStatus> retrieveProjectStatusByAnalysisIdAsync(
+      String analysisId) {
+    URI projectStatusUri;
+    try {
+      projectStatusUri = createUri(SONAR_WEB_API_PATH_PROJECT_STATUS,
+          Collections.singletonMap(ProjectStatusParam.ANALYSIS_ID.getParamName(), analysisId));
+    } catch (IOException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+    return retrieveResponseAsync(projectStatusUri)
+        .thenApply(json -> parseAsync(ProjectStatusContainer.class, json));
+  }
+
+  /**
+   * Retrieve one page of the latest successful analyses (compute engine tasks of type
+   * {@code REPORT}) of all projects, branches and pull requests asynchronously. Requires the
+   * permission 'Administer System'.
+   *
+   * @param minSubmittedAt only tasks submitted at or after this date (format as in
+   *                       {@link Task#getSubmittedAt()}) or null for all
+   * @param page page number (starting at 1)
+   * @param pageSize page size (maximum 1000)
+   * @return future page of tasks, completes exceptionally with an {@link IOException} in case of
+   *         connection problems, bad status code or unexpected response
+   */
+  public CompletableFuture<Activity> retrieveActivityAsync(String minSubmittedAt, int page,
+      int pageSize) {
+    Map<String, String> params = new LinkedHashMap<>();
+    params.put("type", "REPORT");
+    params.put("status", Task.Status.SUCCESS.name());
+    params.put("onlyCurrents", "true");
+    if (!Util.isBlank(minSubmittedAt)
+        && getServerCapabilities().supports(Capability.CE_ACTIVITY_MIN_SUBMITTED_AT)) {
+      params.put("minSubmittedAt", minSubmittedAt);
+    }
+    return retrieveActivityAsync(params, page, pageSize);
+  }
+
+  /**
+   * Retrieve one page of the queued analyses (compute engine tasks of type {@code REPORT} that
+   * are pending or in progress) of all projects, branches and pull requests asynchronously.
+   * Requires the permission 'Administer System'.
+   *
+   * @param page page number (starting at 1)
+   * @param pageSize page size (maximum 1000)
+   * @return future page of tasks, completes exceptionally with an {@link IOException} in case of
+   *         connection problems, bad status code or unexpected response
+   */
+  public CompletableFuture<Activity> retrieveQueueAsync(int page, int pageSize) {
+    Map<String, String> params = new LinkedHashMap<>();
+    params.put("type", "REPORT");
+    params.put("status", Task.Status.PENDING.name() + "," + Task.Status.IN_PROGRESS.name());
+    return retrieveActivityAsync(params, page, pageSize);
+  }
+
+  private CompletableFuture<Activity> retrieveActivityAsync(Map<String, String> params, int page,
+      int pageSize) {
+    params.put("p", String.valueOf(page));
+    params.put("ps", String.valueOf(pageSize));
+    URI activityUri;
+    try {
+      activityUri = createUri(SONAR_WEB_API_PATH_CE_ACTIVITY, params);
+    } catch (IOException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+    return retrieveResponseAsync(activityUri).thenApply(json -> parseAsync(Activity.class, json));
+  }
+
   /**
    * Retrieve project status from sonar server by using the project key and optional either
    * branch or pull request
@@ -133,18 +480,219 @@ public class SonarConnector {
    */
   public ProjectStatus retrieveProjectStatus(String branch, String pullRequest)
       throws IOException, InterruptedException {
+    Optional<ProjectStatus> mirrored = lookupMirror(sonarProjectKey, branch, pullRequest);
+    if (mirrored.isPresent()) {
+      return mirrored.get();
+    }
+    URI projectStatusUri = createProjectStatusUri(sonarProjectKey, branch, pullRequest);
+    String projStatJson = retrieveResponse(projectStatusUri);
+
+    return parseContainer(ProjectStatusContainer.class, projStatJson);
+  }
+
+  /**
+   * Retrieve project status from sonar server asynchronously by using any project key and
+   * optional either branch or pull request, e.g. to check many branches over one connector
+   *
+   * @param projectKey project key
+   * @param branch branch name or null
+   * @param pullRequest pull request or null
+   * @return future project status data, completes exceptionally with an {@link IOException} in
+   *         case of connection problems, bad status code or unexpected response
+   */
+  public CompletableFuture<ProjectStatus> retrieveProjectStatusAsync(String projectKey,
+      String branch, String pullRequest) {
+    Optional<ProjectStatus> mirrored = lookupMirror(projectKey, branch, pullRequest);
+    if (mirrored.isPresent()) {
+      return CompletableFuture.completedFuture(mirrored.get());
+    }
+    URI projectStatusUri;
+    try {
+      projectStatusUri = createProjectStatusUri(projectKey, branch, pullRequest);
+    } catch (IOException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+    return retrieveResponseAsync(projectStatusUri)
+        .thenApply(json -> parseAsync(ProjectStatusContainer.class, json));
+  }
+
+  /**
+   * Look up the project status in the {@link #statusMirror}, if set and fresh
+   */
+  private Optional<ProjectStatus> lookupMirror(String projectKey, String branch,
+      String pullRequest) {
+    if (statusMirror == null) {
+      return Optional.empty();
+    }
+    try {
+      if (!statusMirror.ensureFresh(statusMirrorMaxAge)) {
+        log.debug("status mirror outdated, last sync: " + statusMirror.getSyncedAt());
+        return Optional.empty();
+      }
+    } catch (IOException e) {
+      log.debug("status mirror not readable: " + e.getMessage());
+      return Optional.empty();
+    }
+    Optional<ProjectStatus> ret = statusMirror.lookup(projectKey, branch, pullRequest)
+        .map(StatusMirror.Entry::toProjectStatus);
+    ret.ifPresent(s -> log.debug(String.format("project status of %s from mirror: %s",
+        projectKey, s.getStatus())));
+    return ret;
+  }
+
+  private URI createProjectStatusUri(String projectKey, String branch, String pullRequest)
+      throws IOException {
+    // no check of the (possibly cached and outdated) server version: the server rejects
+    // unsupported parameters and its response header updates the version
     Map<String, String> params = new LinkedHashMap<>();
-    params.put(ProjectStatusParam.PROJECT_KEY.getParamName(), sonarProjectKey);
+    params.put(ProjectStatusParam.PROJECT_KEY.getParamName(), projectKey);
     if (!Util.isBlank(branch)) {
       params.put(ProjectStatusParam.BRANCH.getParamName(), branch);
     }
     if (!Util.isBlank(pullRequest)) {
       params.put(ProjectStatusParam.PULL_REQUEST.getParamName(), pullRequest);
     }
-    URI projectStatusUri = createUri(SONAR_WEB_API_PATH_PROJECT_STATUS, params);
-    String projStatJson = retrieveResponse(projectStatusUri);
+    return createUri(SONAR_WEB_API_PATH_PROJECT_STATUS, params);
+  }
 
-    return parseContainer(ProjectStatusContainer.class, projStatJson);
+  /**
+   * Retrieve measures and metric definitions of a component asynchronously in one call
+   *
+   * @param component component key, e.g. the project key
+   * @param branch branch name or null
+   * @param pullRequest pull request or null
+   * @param metricKeys metrics to retrieve
+   * @return future measures, completes exceptionally with an {@link IOException} in case of
+   *         connection problems, bad status code or unparsable response
+   */
+  public CompletableFuture<ComponentMeasures> retrieveMeasuresAsync(String component,
+      String branch, String pullRequest, Collection<String> metricKeys) {
+    Map<String, String> params = new LinkedHashMap<>();
+    params.put("component", component);
+    if (!Util.isBlank(branch)) {
+      params.put(ProjectStatusParam.BRANCH.getParamName(), branch);
+    }
+    if (!Util.isBlank(pullRequest)) {
+      params.put(ProjectStatusParam.PULL_REQUEST.getParamName(), pullRequest);
+    }
+    params.put("metricKeys", String.join(",", metricKeys));
+    params.put("additionalFields", "metrics");
+    URI measuresUri;
+    try {
+      measuresUri = createUri(SONAR_WEB_API_PATH_MEASURES_COMPONENT, params);
+    } catch (IOException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+    return retrieveResponseAsync(measuresUri)
+        .thenApply(json -> parseAsync(ComponentMeasures.class, json));
+  }
+
+  /**
+   * Retrieve measures of several projects (main branch) asynchronously in one call
+   *
+   * @param projectKeys project keys (maximum 100)
+   * @param metricKeys metrics to retrieve
+   * @return future measures, each with its component key, completes exceptionally with an
+   *         {@link IOException} in case of connection problems, bad status code or unparsable
+   *         response
+   */
+  public CompletableFuture<List<Measure>> searchMeasuresAsync(Collection<String> projectKeys,
+      Collection<String> metricKeys) {
+    Map<String, String> params = new LinkedHashMap<>();
+    params.put("projectKeys", String.join(",", projectKeys));
+    params.put("metricKeys", String.join(",", metricKeys));
+    URI measuresUri;
+    try {
+      measuresUri = createUri(SONAR_WEB_API_PATH_MEASURES_SEARCH, params);
+    } catch (IOException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+    return retrieveResponseAsync(measuresUri)
+        .thenApply(json -> parseAsync(MeasuresContainer.class, json));
+  }
+
+  /**
+   * Retrieve one page of the history of measures of a component asynchronously, one data point
+   * per analysis and metric. The response is returned unparsed, so that it can be processed as a
+   * stream.
+   *
+   * @param component component key, e.g. the project key
+   * @param branch branch name or null
+   * @param pullRequest pull request or null
+   * @param metricKeys metrics to retrieve
+   * @param from only analyses at or after this date (format as in {@link Task#getSubmittedAt()})
+   *             or null for all
+   * @param page page number (starting at 1)
+   * @param pageSize page size, i.e. number of analyses (maximum 1000)
+   * @return future response body, completes exceptionally with an {@link IOException} in case of
+   *         connection problems, bad status code or missing server support
+   */
+  public CompletableFuture<String> searchHistoryAsync(String component, String branch,
+      String pullRequest, Collection<String> metricKeys, String from, int page, int pageSize) {
+    if (!getServerCapabilities().supports(Capability.MEASURES_SEARCH_HISTORY)) {
+      return CompletableFuture.failedFuture(new IOException(String.format(
+          "Sonar server version %s does not support the history of measures (required: %s+)",
+          serverVersion, Capability.MEASURES_SEARCH_HISTORY.getMinVersion())));
+    }
+    Map<String, String> params = new LinkedHashMap<>();
+    params.put("component", component);
+    if (!Util.isBlank(branch)) {
+      params.put(ProjectStatusParam.BRANCH.getParamName(), branch);
+    }
+    if (!Util.isBlank(pullRequest)) {
+      params.put(ProjectStatusParam.PULL_REQUEST.getParamName(), pullRequest);
+    }
+    params.put("metrics", String.join(",", metricKeys));
+    if (!Util.isBlank(from)) {
+      params.put("from", from);
+    }
+    params.put("p", String.valueOf(page));
+    params.put("ps", String.valueOf(pageSize));
+    URI historyUri;
+    try {
+      historyUri = createUri(SONAR_WEB_API_PATH_MEASURES_SEARCH_HISTORY, params);
+    } catch (IOException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+    return retrieveResponseAsync(historyUri);
+  }
+
+  /**
+   * Search the unresolved issues on new code of a component asynchronously, one page per call.
+   * The response is returned unparsed, so that it can be processed as a stream.
+   *
+   * @param component component key, e.g. the project key
+   * @param branch branch name or null
+   * @param pullRequest pull request or null
+   * @param filter additional query parameters, e.g. {@code severities}
+   * @param page page number (starting at 1)
+   * @param pageSize page size (maximum 500)
+   * @return future response body, completes exceptionally with an {@link IOException} in case of
+   *         connection problems or bad status code
+   */
+  public CompletableFuture<String> searchNewIssuesAsync(String component, String branch,
+      String pullRequest, Map<String, String> filter, int page, int pageSize) {
+    Map<String, String> params = new LinkedHashMap<>();
+    params.put("componentKeys", component);
+    if (!Util.isBlank(branch)) {
+      params.put(ProjectStatusParam.BRANCH.getParamName(), branch);
+    }
+    if (!Util.isBlank(pullRequest)) {
+      params.put(ProjectStatusParam.PULL_REQUEST.getParamName(), pullRequest);
+    }
+    params.put("resolved", "false");
+    params.put(getServerCapabilities().supports(Capability.ISSUES_IN_NEW_CODE_PERIOD)
+        ? "inNewCodePeriod" : "sinceLeakPeriod", "true");
+    params.putAll(filter);
+    params.put("p", String.valueOf(page));
+    params.put("ps", String.valueOf(pageSize));
+    URI issuesUri;
+    try {
+      issuesUri = createUri(SONAR_WEB_API_PATH_ISSUES_SEARCH, params);
+    } catch (IOException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+    return retrieveResponseAsync(issuesUri);
   }
 
   /**
@@ -155,7 +703,7 @@ public class SonarConnector {
    * @return URI to resource
    * @throws IOException malformed URI
    */
-  private URI createUri(String apiPath, Map<String, String> queryParams) throws IOException {
+  URI createUri(String apiPath, Map<String, String> queryParams) throws IOException {
     String in = sonarHostUrl.toExternalForm();
     StringBuilder urlBuilder = new StringBuilder(in);
     if (!in.endsWith("/")) {
@@ -185,45 +733,281 @@ public class SonarConnector {
   private String retrieveResponse(URI resourceUri) throws IOException, InterruptedException {
     log.info("Sonar Web API call: " + resourceUri);
 
-    HttpRequest request = requestBuilderTemplate.copy().GET().uri(resourceUri).build();
-    HttpResponse<String> response;
+    ConcurrencyLimiter limiter = awaitPermit();
+    TransportRequest request;
     try {
-      response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+      request = createRequest(resourceUri);
     } catch (IOException e) {
+      if (limiter != null) {
+        limiter.release(null, false);
+      }
+      throw e;
+    }
+    TransportResponse response = null;
+    boolean failed = false;
+    HttpExchangeEvent event = new HttpExchangeEvent();
+    event.begin();
+    long start = System.nanoTime();
+    try {
+      response = transport.send(request);
+    } catch (IOException e) {
+      failed = true;
+      notifyExchange(event, resourceUri, null, e, start);
       throw new IOException(String.format("Error reading from Sonar: %s", resourceUri), e);
+    } finally {
+      if (response != null || failed) {
+        releasePermit(limiter, response, start);
+      } else if (limiter != null) {
+        // interrupted or unexpected error: says nothing about the server
+        limiter.release(null, false);
+      }
+    }
+    notifyExchange(event, resourceUri, response, null, start);
+    return handleResponse(resourceUri, response);
+  }
+
+  /**
+   * Wait for a permit of the {@link #concurrencyLimiter}, if enabled
+   *
+   * @return limiter the permit has to be released to or {@code null}, if not limited
+   * @throws IOException acquiring failed
+   * @throws InterruptedException interrupted while waiting
+   */
+  private ConcurrencyLimiter awaitPermit() throws IOException, InterruptedException {
+    ConcurrencyLimiter limiter = concurrencyLimiter;
+    if (limiter != null) {
+      CompletableFuture<Void> permit = limiter.acquire();
+      try {
+        permit.get();
+      } catch (InterruptedException e) {
+        limiter.abandon(permit);
+        throw e;
+      } catch (ExecutionException e) {
+        throw new IOException("Cannot acquire permit for request", e.getCause());
+      }
+    }
+    return limiter;
+  }
+
+  /**
+   * Release a permit of the {@code limiter}
+   *
+   * @param limiter limiter returned by {@link #awaitPermit()} or null
+   * @param response response or null, if the request failed
+   * @param start start of the request ({@link System#nanoTime()})
+   */
+  private static void releasePermit(ConcurrencyLimiter limiter, TransportResponse response,
+      long start) {
+    if (limiter != null) {
+      limiter.release(Duration.ofNanos(System.nanoTime() - start),
+          response == null || OVERLOAD_STATUS_CODES.contains(response.getStatusCode()));
+    }
+  }
+
+  /**
+   * Fire a GET request asynchronously and return response body as String.
+   *
+   * @param resourceUri resource to get
+   * @return future response body, completes exceptionally with an {@link IOException}
+   */
+  private CompletableFuture<String> retrieveResponseAsync(URI resourceUri) {
+    log.info("Sonar Web API call: " + resourceUri);
+
+    ConcurrencyLimiter limiter = concurrencyLimiter;
+    if (limiter == null) {
+      return sendAsync(resourceUri, null);
+    }
+    return limiter.acquire().thenCompose(v -> sendAsync(resourceUri, limiter));
+  }
+
+  /**
+   * Send a GET request asynchronously, after a permit was acquired
+   *
+   * @param resourceUri resource to get
+   * @param limiter limiter to release the permit to or null
+   * @return future response body, completes exceptionally with an {@link IOException}
+   */
+  private CompletableFuture<String> sendAsync(URI resourceUri, ConcurrencyLimiter limiter) {
+    TransportRequest request;
+    try {
+      request = createRequest(resourceUri);
+    } catch (IOException e) {
+      if (limiter != null) {
+        limiter.release(null, false);
+      }
+      return CompletableFuture.failedFuture(e);
     }
+    HttpExchangeEvent event = new HttpExchangeEvent();
+    event.begin();
+    long start = System.nanoTime();
+    CompletableFuture<TransportResponse> sent;
+    try {
+      sent = transport.sendAsync(request);
+    } catch (RuntimeException e) {
+      if (limiter != null) {
+        limiter.release(null, false);
+      }
+      return CompletableFuture.failedFuture(e);
+    }
+    return sent.handle((response, error) -> {
+      releasePermit(limiter, response, start);
+      try {
+        if (error != null) {
+          Throwable cause = error instanceof CompletionException && error.getCause() != null
+              ? error.getCause() : error;
+          IOException ioException = cause instanceof IOException ? (IOException) cause
+              : new IOException(cause);
+          notifyExchange(event, resourceUri, null, ioException, start);
+          throw new IOException(String.format("Error reading from Sonar: %s", resourceUri),
+              ioException);
+        }
+        notifyExchange(event, resourceUri, response, null, start);
+        return handleResponse(resourceUri, response);
+      } catch (IOException e) {
+        throw new CompletionException(e);
+      }
+    });
+  }
 
-    String json = response.body();
+  /**
+   * Create a request with the timeout limited by the {@link #deadline}
+   *
+   * @param resourceUri resource to get
+   * @return request
+   * @throws HttpTimeoutException deadline already passed
+   */
+  private TransportRequest createRequest(URI resourceUri) throws HttpTimeoutException {
+    Deadline current = deadline;
+    if (current.isExpired()) {
+      throw new HttpTimeoutException("deadline passed before request to " + resourceUri);
+    }
+    return TransportRequest.builder().uri(resourceUri).headers(defaultHeaders)
+        .timeout(current.cap(requestTimeout)).build();
+  }
+
+  /**
+   * Evaluate the response of a GET request
+   *
+   * @param resourceUri requested resource
+   * @param response response
+   * @return response body
+   * @throws IOException bad status code
+   */
+  private String handleResponse(URI resourceUri, TransportResponse response) throws IOException {
+    response.firstHeader(HEADER_NAME_SONAR_VERSION).ifPresent(this::detectServerVersion);
+    String json = response.getBody();
     if (log.isDebugEnabled()) {
-      log.debug(
-          String.format("Response from Sonar (HTTP Status: %d):%n%s", response.statusCode(), json));
+      log.debug(String.format("Response from Sonar (HTTP Status: %d):%n%s",
+          response.getStatusCode(), json));
     }
-    if (response.statusCode() != HttpURLConnection.HTTP_OK) {
+    if (response.getStatusCode() != HttpURLConnection.HTTP_OK) {
       throw new IOException(
-          String.format("Bad status code '%d' returned from '%s' - Body: %s", response.statusCode(),
-              resourceUri, json));
+          String.format("Bad status code '%d' returned from '%s' - Body: %s",
+              response.getStatusCode(), resourceUri, json));
     } else {
       return json;
     }
   }
 
   /**
-   * Create and configure (add authorization, if provided) request builder
+   * Notify the {@link #listener} and fill and commit the JFR event of a Web API call, if it is
+   * recorded
+   *
+   * @param event started event
+   * @param resourceUri requested resource
+   * @param response response or {@code null} on failure
+   * @param error failure or {@code null}
+   * @param start {@link System#nanoTime()} when the request was sent
+   */
+  private void notifyExchange(HttpExchangeEvent event, URI resourceUri,
+      TransportResponse response, IOException error, long start) {
+    event.end();
+    Duration latency = Duration.ofNanos(System.nanoTime() - start);
+    if (listener == ConnectorListener.NONE && !event.shouldCommit()) {
+      return;
+    }
+    String endpoint = toEndpoint(resourceUri);
+    int statusCode = response == null ? 0 : response.getStatusCode();
+    long responseBytes = response == null || response.getBody() == null ? 0
+        : response.getBody().getBytes(StandardCharsets.UTF_8).length;
+    listener.onExchange(endpoint, statusCode, responseBytes, latency);
+    if (event.shouldCommit()) {
+      event.endpoint = endpoint;
+      event.uri = resourceUri.toString();
+      event.statusCode = statusCode;
+      event.responseBytes = responseBytes;
+      event.error = error == null ? null : error.toString();
+      event.commit();
+    }
+  }
+
+  /**
+   * Get the path of the Web API resource relative to the sonar host url
+   *
+   * @param resourceUri requested resource
+   * @return path, e.g. {@code api/ce/task}
+   */
+  private String toEndpoint(URI resourceUri) {
+    String basePath = sonarHostUrl.getPath();
+    String prefix = basePath.endsWith("/") ? basePath : basePath + "/";
+    String path = resourceUri.getPath();
+    return path.startsWith(prefix) ? path.substring(prefix.length()) : path;
+  }
+
+  /**
+   * Take over the server version from a response header, invalid values are ignored
+   *
+   * @param version version string
+   */
+  private void detectServerVersion(String version) {
+    try {
+      updateServerVersion(version);
+    } catch (IllegalArgumentException e) {
+      log.debug("ignoring invalid sonar server version: " + version);
+    }
+  }
+
+  /**
+   * Set the server version and update the cache, if it changed
+   *
+   * @param version version string
+   * @throws IllegalArgumentException invalid version
+   */
+  private void updateServerVersion(String version) {
+    SonarVersion parsed = SonarVersion.parse(version);
+    if (!parsed.equals(serverVersion)) {
+      serverVersion = parsed;
+      if (serverVersionCache != null) {
+        serverVersionCache.put(sonarHostUrl.toExternalForm(), parsed);
+      }
+    }
+  }
+
+  /**
+   * Close the underlying transport
+   */
+  @Override
+  public void close() {
+    transport.close();
+  }
+
+  /**
+   * Create headers sent with every request (add authorization, if provided)
    *
    * @param sonarLogin login name or token
    * @param sonarPassword password for login name
    */
-  private HttpRequest.Builder createRequestBuilder(String sonarLogin, String sonarPassword) {
-    HttpRequest.Builder ret = HttpRequest.newBuilder();
+  private Map<String, String> createDefaultHeaders(String sonarLogin, String sonarPassword) {
+    Map<String, String> ret = new LinkedHashMap<>();
     if (!Util.isBlank(sonarLogin)) {
       if (Util.isBlank(sonarPassword)) {
-        ret.header(HEADER_NAME_AUTHORIZATION, basicAuth(sonarLogin, ""));
+        ret.put(HEADER_NAME_AUTHORIZATION, basicAuth(sonarLogin, ""));
       } else {
-        ret.header(HEADER_NAME_AUTHORIZATION, basicAuth(sonarLogin, sonarPassword));
+        ret.put(HEADER_NAME_AUTHORIZATION, basicAuth(sonarLogin, sonarPassword));
       }
     }
-    ret.timeout(Duration.ofMinutes(1)).header(HEADER_NAME_CONTENT_TYPE, "application/json");
-    return ret;
+    ret.put(HEADER_NAME_CONTENT_TYPE, "application/json");
+    return Collections.unmodifiableMap(ret);
   }
 
   /**
@@ -237,12 +1021,24 @@ public class SonarConnector {
   protected <T, C extends Container<T>> T parseContainer(Class<C> containerClass, String json)
       throws IOException {
     T content;
+    JsonParseEvent event = new JsonParseEvent();
+    event.begin();
+    long start = System.nanoTime();
     try {
-      C container = createMapper().readValue(json, containerClass);
+      C container = responseParser.readValue(json, containerClass);
       content = container.getContent();
-    } catch (JsonProcessingException e) {
+    } catch (IOException e) {
       throw new IOException(
           String.format("Error parsing response into '%s': %s", containerClass.getName(), json), e);
+    } finally {
+      event.end();
+      listener.onParse(containerClass.getSimpleName(), json.length(),
+          Duration.ofNanos(System.nanoTime() - start));
+      if (event.shouldCommit()) {
+        event.targetType = containerClass.getSimpleName();
+        event.inputChars = json.length();
+        event.commit();
+      }
     }
     if (content == null) {
       throw new IOException(String.format("Error parsing response - no content: %s", json));
@@ -250,16 +1046,27 @@ public class SonarConnector {
     return content;
   }
 
+  /**
+   * {@link #parseContainer(Class, String)} for use in completion stages
+   *
+   * @throws CompletionException wrapping the {@link IOException} of parsing
+   */
+  private <T, C extends Container<T>> T parseAsync(Class<C> containerClass, String json) {
+    try {
+      return parseContainer(containerClass, json);
+    } catch (IOException e) {
+      throw new CompletionException(e);
+    }
+  }
+
   /**
    * Create and configure {@link ObjectMapper}
    *
    * @return objectMapper
+   * @see JacksonResponseParser#createMapper()
    */
   protected static ObjectMapper createMapper() {
-    ObjectMapper mapper = new ObjectMapper();
-    // to prevent exception when encountering unknown property:
-    mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
-    return mapper;
+    return JacksonResponseParser.createMapper();
   }
 
   /**
@@ -277,7 +1084,7 @@ public class SonarConnector {
    * @param entry query parameter
    * @return URL-ready query parameter
    */
-  private String toQueryEntry(Map.Entry<String, String> entry) {
+  String toQueryEntry(Map.Entry<String, String> entry) {
     return URLEncoder.encode(entry.getKey(), StandardCharsets.UTF_8) + "=" + URLEncoder.encode(
         entry.getValue(), StandardCharsets.UTF_8);
   }
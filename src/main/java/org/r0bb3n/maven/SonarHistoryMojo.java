@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.r0bb3n.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.r0bb3n.maven.history.HistoryStore;
+import org.r0bb3n.maven.history.HistorySync;
+import org.r0bb3n.maven.history.TrendAnalysis;
+import org.r0bb3n.maven.history.TrendAnalysis.Trend;
+import org.r0bb3n.maven.model.Condition;
+import org.r0bb3n.maven.model.ProjectStatus;
+
+/**
+ * Report trends of the quality gate of a project, branch or pull request: how often it passed
+ * resp. changed its status and which metrics of its conditions are getting worse. The history of
+ * the status and these metrics is kept in {@code sonar-quality-gate.history.dir}, each execution
+ * only fetches the analyses since the previous one.
+ *
+ * <p>Trends are reported as warnings, they do not fail the build.
+ */
+@Mojo(name = "history", aggregator = true, threadSafe = true)
+public class SonarHistoryMojo extends AbstractSonarMojo {
+
+  /**
+   * name of the branch to report the history of
+   *
+   * @since 1.4.0
+   */
+  @Parameter(property = "sonar-quality-gate.branch")
+  private String branch;
+
+  /**
+   * name of the pull request to report the history of
+   *
+   * @since 1.4.0
+   */
+  @Parameter(property = "sonar-quality-gate.pullRequest")
+  private String pullRequest;
+
+  /**
+   * Directory of the local history, shared by all projects
+   *
+   * @since 1.4.0
+   */
+  @Parameter(property = "sonar-quality-gate.history.dir",
+      defaultValue = "${user.home}/.sonar-quality-gate/history")
+  private File historyDir;
+
+  /**
+   * Number of latest analyses the trends are derived from
+   *
+   * @since 1.4.0
+   */
+  @Parameter(property = "sonar-quality-gate.history.window", defaultValue = "20")
+  private int historyWindow;
+
+  /**
+   * sync the history and report the trends
+   *
+   * @throws MojoExecutionException configuration errors, sync failed or interruption
+   */
+  @Override
+  public void execute() throws MojoExecutionException {
+    if (isSkip()) {
+      getLog().info("skipped");
+      return;
+    }
+    if (historyDir == null || historyWindow < 2) {
+      throw new MojoExecutionException(
+          "'sonar-quality-gate.history.dir' and a window of at least 2 are required");
+    }
+    String projectKey = getSonarProjectKey();
+    try (SonarConnector connector = createSonarConnector(createConnectorSpec())) {
+      // the current quality gate is needed, not a status synced some time ago
+      connector.setStatusMirror(null, null);
+      // the conditions of the current quality gate define the metrics of interest
+      ProjectStatus projectStatus = connector.retrieveProjectStatus(branch, pullRequest);
+      List<Condition> conditions = projectStatus.getConditions() == null ? List.of()
+          : projectStatus.getConditions();
+      List<String> metrics = new ArrayList<>();
+      metrics.add(TrendAnalysis.ALERT_STATUS);
+      conditions.stream().map(Condition::getMetricKey).filter(m -> !metrics.contains(m))
+          .forEach(metrics::add);
+
+      HistoryStore store = HistoryStore.load(historyDir.toPath(), projectKey, branch,
+          pullRequest);
+      HistorySync.builder().log(getLog()).connector(connector).store(store).build()
+          .sync(projectKey, branch, pullRequest, metrics);
+
+      for (Trend trend : new TrendAnalysis(historyWindow).analyze(store, conditions)) {
+        String message = trend.getMetric() + ": " + trend.getDescription();
+        if (trend.isWarning()) {
+          getLog().warn(message);
+        } else {
+          getLog().info(message);
+        }
+      }
+    } catch (IOException e) {
+      throw new MojoExecutionException("history sync failed: " + e.getMessage(), e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new MojoExecutionException("Interrupted while syncing the history", e);
+    }
+  }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+/**
+ * Prepare the connection to SonarQube early in the build, so that goal {@code check} does not pay
+ * for DNS resolution, TCP and TLS setup at the end of the build. In the background (while the
+ * build continues) the host is resolved, a connection is opened by requesting the server version
+ * and optionally the credentials are validated. The warm connector is handed over to the
+ * {@code check} execution in the same maven session, if both use the same configuration.
+ *
+ * <p>Failures during warm up never fail the build, they are logged as warning. In a multi-module
+ * build only the execution root prepares a connector, as goal {@code check} is an aggregator.
+ */
+@Mojo(name = "prepare", defaultPhase = LifecyclePhase.INITIALIZE, threadSafe = true)
+public class SonarPrepareMojo extends AbstractSonarMojo {
+
+  /**
+   * validate the credentials during preparation and log a warning, if they are invalid
+   *
+   * @since 1.4.0
+   */
+  @Parameter(property = "sonar-quality-gate.prepare.validateAuth", defaultValue = "true")
+  private boolean validateAuth;
+
+  @Parameter(defaultValue = "${session}", readonly = true, required = true)
+  private MavenSession session;
+
+  /**
+   * create and register connector, start warm up in the background
+   *
+   * @throws MojoExecutionException configuration errors
+   */
+  @Override
+  public void execute() throws MojoExecutionException {
+    if (isSkip()) {
+      getLog().info("skipped");
+      return;
+    }
+    if (session != null && session.getCurrentProject() != null
+        && !session.getCurrentProject().isExecutionRoot()) {
+      getLog().debug("not the execution root, nothing to prepare");
+      return;
+    }
+    ConnectorSpec spec = createConnectorSpec();
+    if (PreparedConnectors.contains(spec)) {
+      getLog().debug("connector already prepared");
+      return;
+    }
+    SonarConnector connector = createSonarConnector(spec);
+    CompletableFuture<Void> warmUp = CompletableFuture.runAsync(() -> warmUp(connector));
+    if (!PreparedConnectors.register(spec,
+        new PreparedConnectors.PreparedConnector(connector, warmUp))) {
+      // registered concurrently by another execution
+      warmUp.cancel(false);
+      connector.close();
+    }
+  }
+
+  /**
+   * Resolve host, open connection, retrieve server version and validate credentials
+   *
+   * @param connector connector to warm up
+   */
+  protected void warmUp(SonarConnector connector) {
+    try {
+      connector.resolveHost();
+      SonarVersion serverVersion = connector.retrieveServerVersion();
+      getLog().info("Sonar server version: " + serverVersion);
+      if (validateAuth && !connector.validateAuthentication()) {
+        getLog().warn("Sonar authentication is not valid - please check '" + PROP_SONAR_LOGIN
+            + "' / environment variable '" + ENV_SONAR_TOKEN + "'");
+      }
+    } catch (IOException e) {
+      getLog().warn("Preparing connection to sonar failed: " + e.getMessage());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      getLog().warn("Interrupted while preparing connection to sonar");
+    }
+  }
+
+}
@@ -16,26 +16,29 @@
 
 package org.r0bb3n.maven;
 
+import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
-import java.net.URL;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.util.Arrays;
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
-import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeoutException;
 import lombok.SneakyThrows;
-import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugin.MojoFailureException;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
-import org.r0bb3n.maven.model.Condition;
+import org.r0bb3n.maven.issues.IssueReport;
+import org.r0bb3n.maven.metrics.CheckMetrics;
+import org.r0bb3n.maven.metrics.MetricsWriter;
 import org.r0bb3n.maven.model.ProjectStatus;
 import org.r0bb3n.maven.model.Task;
+import org.r0bb3n.maven.trace.OtlpJsonWriter;
+import org.r0bb3n.maven.trace.Span;
+import org.r0bb3n.maven.trace.Tracer;
+import org.r0bb3n.maven.trace.TracingListener;
 
 /**
  * Check project status in SonarQube and fail build, if quality gate is not passed
@@ -48,74 +51,7 @@ import org.r0bb3n.maven.model.Task;
  * </ul>
  */
 @Mojo(name = "check", aggregator = true)
-public class SonarQualityGateMojo extends AbstractMojo {
-
-  private static final String PROP_SONAR_LOGIN = "sonar.login";
-  private static final String PROP_SONAR_PASSWORD = "sonar.password";
-  private static final String PROP_SONAR_HOST_URL = "sonar.host.url";
-  private static final String ENV_SONAR_TOKEN = "SONAR_TOKEN";
-
-  private static final String REPORT_TASK_KEY_CE_TASK_ID = "ceTaskId";
-
-  /**
-   * sonar host url<br/> (aligned to sonar-maven-plugin analysis parameters, see also
-   * <a href="https://docs.sonarqube.org/latest/analysis/analysis-parameters/">SonarQube - Analysis
-   * Parameters</a>)
-   *
-   * @since 1.0.0
-   */
-  @Parameter(property = PROP_SONAR_HOST_URL, defaultValue = "http://localhost:9000")
-  private URL sonarHostUrl;
-
-  /**
-   * project key used in sonar for this project <br/>
-   * <i>only used in modes: <b>simple</b>, <b>advanced</b></i><br/>
-   * (aligned to sonar-maven-plugin analysis parameters, see also
-   * <a href="https://docs.sonarqube.org/latest/analysis/analysis-parameters/">SonarQube - Analysis
-   * Parameters</a>)
-   *
-   * @since 1.0.0
-   */
-  @Parameter(property = "sonar.projectKey",
-      defaultValue = "${project.groupId}:${project.artifactId}")
-  private String sonarProjectKey;
-
-  /**
-   * sonar login (username or token), see also
-   * <a href="https://docs.sonarqube.org/latest/extend/web-api/">SonarQube
-   * - Web API Authentication</a> <br/> (aligned to sonar-maven-plugin analysis parameters, see also
-   * <a href="https://docs.sonarqube.org/latest/analysis/analysis-parameters/">SonarQube - Analysis
-   * Parameters</a>)<br/>
-   * Since version <b>1.3.0</b> instead the environment variable {@code SONAR_TOKEN} can be used to
-   * provide a token (see these docs of
-   * <a href="https://docs.sonarcloud.io/advanced-setup/ci-based-analysis/sonarscanner-for-maven/#configuration">SonarCloud</a>
-   * and
-   * <a href="https://docs.sonarqube.org/latest/analysis/github-integration/#header-3">SonarQube</a>
-   * ).
-   *
-   * @since 1.0.0
-   */
-  @Parameter(property = PROP_SONAR_LOGIN)
-  private String sonarLogin;
-
-  /**
-   * sonar password, see also <a href="https://docs.sonarqube.org/latest/extend/web-api/">SonarQube
-   * - Web API Authentication</a> <br/> (aligned to sonar-maven-plugin analysis parameters, see also
-   * <a href="https://docs.sonarqube.org/latest/analysis/analysis-parameters/">SonarQube - Analysis
-   * Parameters</a>)
-   *
-   * @since 1.0.0
-   */
-  @Parameter(property = PROP_SONAR_PASSWORD)
-  private String sonarPassword;
-
-  /**
-   * skip the execution of this plugin
-   *
-   * @since 1.2.0
-   */
-  @Parameter(property = "sonar-quality-gate.skip", defaultValue = "false")
-  private boolean skip;
+public class SonarQualityGateMojo extends AbstractSonarMojo {
 
   /**
    * fail the execution, if the quality gate was not passed (not {@code OK})
@@ -153,6 +89,19 @@ public class SonarQualityGateMojo extends AbstractMojo {
   @Parameter(property = "sonar-quality-gate.checkTask.attempts", defaultValue = "10")
   private int checkTaskAttempts;
 
+  /**
+   * Maximum time in seconds to wait for the report task file of the sonar-maven-plugin
+   * ({@code sonar/report-task.txt} in the build directory), if it does not exist yet, e.g. when
+   * the analysis runs in a parallel process. The check starts as soon as the file is written and
+   * fails, if it is not written in time. {@code 0} (default): no wait, fall back to mode
+   * <b>simple</b><br/>
+   * <i>not used in mode: <b>advanced</b></i>
+   *
+   * @since 1.4.0
+   */
+  @Parameter(property = "sonar-quality-gate.reportTask.wait.s", defaultValue = "0")
+  private int reportTaskWaitS;
+
   /**
    * How many seconds to wait between two requests when retrieving task details<br/>
    * <i>only used in mode: <b>integrated</b></i>
@@ -162,6 +111,139 @@ public class SonarQualityGateMojo extends AbstractMojo {
   @Parameter(property = "sonar-quality-gate.checkTask.interval.s", defaultValue = "5")
   private int checkTaskIntervalS;
 
+  /**
+   * How to wait between two requests when retrieving task details: {@code FIXED} always waits
+   * {@link #checkTaskIntervalS}, {@code BACKOFF} starts with {@link #checkTaskIntervalS} and
+   * multiplies the wait by {@link #checkTaskBackoffFactor} after each request up to
+   * {@link #checkTaskMaxIntervalS}<br/>
+   * <i>only used in mode: <b>integrated</b></i>
+   *
+   * @since 1.4.0
+   */
+  @Parameter(property = "sonar-quality-gate.checkTask.strategy", defaultValue = "FIXED")
+  private PollingStrategy.Type checkTaskStrategy;
+
+  /**
+   * Growth of the wait per request with strategy {@code BACKOFF}, see {@link #checkTaskStrategy}
+   *
+   * @since 1.4.0
+   */
+  @Parameter(property = "sonar-quality-gate.checkTask.backoff.factor", defaultValue = "2")
+  private double checkTaskBackoffFactor;
+
+  /**
+   * Maximum wait in seconds with strategy {@code BACKOFF}, see {@link #checkTaskStrategy}
+   *
+   * @since 1.4.0
+   */
+  @Parameter(property = "sonar-quality-gate.checkTask.maxInterval.s", defaultValue = "30")
+  private int checkTaskMaxIntervalS;
+
+  /**
+   * File to write metrics of the execution to (e.g. into the directory of the textfile collector
+   * of node_exporter). No metrics are written, if not set.
+   *
+   * @since 1.4.0
+   */
+  @Parameter(property = "sonar-quality-gate.metrics.file")
+  private File metricsFile;
+
+  /**
+   * Format of the {@link #metricsFile}: {@code PROMETHEUS} (text format) or {@code JSON}
+   *
+   * @since 1.4.0
+   */
+  @Parameter(property = "sonar-quality-gate.metrics.format", defaultValue = "PROMETHEUS")
+  private MetricsWriter.Format metricsFormat;
+
+  /**
+   * File to write the unresolved issues on new code to, if the quality gate failed. Pages of
+   * issues are requested in parallel and streamed to the file. No issues are written, if not
+   * set.
+   *
+   * @since 1.4.0
+   */
+  @Parameter(property = "sonar-quality-gate.issues.file")
+  private File issuesFile;
+
+  /**
+   * Format of the {@link #issuesFile}: {@code JSONL} (one issue per line, as returned by the
+   * server) or {@code SARIF} (2.1.0)
+   *
+   * @since 1.4.0
+   */
+  @Parameter(property = "sonar-quality-gate.issues.format", defaultValue = "JSONL")
+  private IssueReport.Format issuesFormat;
+
+  /**
+   * Number of issues per request (maximum: 500), see {@link #issuesFile}
+   *
+   * @since 1.4.0
+   */
+  @Parameter(property = "sonar-quality-gate.issues.pageSize", defaultValue = "500")
+  private int issuesPageSize;
+
+  /**
+   * Maximum number of pages of issues requested in parallel, see {@link #issuesFile}
+   *
+   * @since 1.4.0
+   */
+  @Parameter(property = "sonar-quality-gate.issues.prefetch", defaultValue = "4")
+  private int issuesPrefetch;
+
+  /**
+   * Time budget of the whole check in seconds ({@code 0}: unlimited). It is split between waiting
+   * for the report task file, polling the compute engine task, fetching the project status and
+   * fetching details: each phase may use the time left, except for a share reserved for the
+   * later phases (25% before the status fetch, 10% before the detail fetch). The timeout of each
+   * request is limited to the time left. See {@code sonar-quality-gate.onTimeout}.
+   *
+   * @since 1.4.0
+   */
+  @Parameter(property = "sonar-quality-gate.timeout.s", defaultValue = "0")
+  private int timeoutS;
+
+  /**
+   * What to do, if the time budget is exhausted before the verdict: {@code FAIL} the build or
+   * {@code WARN} and pass. Details (e.g. issues on new code) are only skipped.
+   *
+   * @since 1.4.0
+   */
+  @Parameter(property = "sonar-quality-gate.onTimeout", defaultValue = "FAIL")
+  private TimeBudget.OnTimeout onTimeout;
+
+  /**
+   * Conditions evaluated locally in addition to the quality gate of the server, e.g. stricter
+   * rules of a team. Each policy is violated, if the value of {@code metric} compared to
+   * {@code threshold} matches {@code comparator} ({@code LT}, {@code GT}, {@code EQ},
+   * {@code NE}), or if there is no value. Without {@code components} the checked project resp.
+   * branch or pull request is evaluated. The measures of all policies are fetched in one call
+   * while the project status is retrieved. Violations fail the check like the quality gate.
+   *
+   * @since 1.4.0
+   */
+  @Parameter
+  private List<Policy> policies;
+
+  /**
+   * Write a trace of the execution (spans of the single steps and Web API calls) as OTLP/JSON to
+   * {@link #traceFile}. The trace context of the caller is taken from the environment variable
+   * {@code TRACEPARENT}, so the execution appears as child span in the trace of a CI pipeline.
+   *
+   * @since 1.4.0
+   */
+  @Parameter(property = "sonar-quality-gate.trace", defaultValue = "false")
+  private boolean trace;
+
+  /**
+   * Target file of the trace, see {@link #trace}
+   *
+   * @since 1.4.0
+   */
+  @Parameter(property = "sonar-quality-gate.trace.file",
+      defaultValue = "${project.build.directory}/sonar-quality-gate-trace.json")
+  private File traceFile;
+
   /**
    * INTERNAL - get build directory
    */
@@ -173,6 +255,31 @@ public class SonarQualityGateMojo extends AbstractMojo {
    */
   private SonarConnector sonarConnector;
 
+  /**
+   * metrics of the current execution
+   */
+  private CheckMetrics metrics;
+
+  /**
+   * spans of the current execution
+   */
+  private Tracer tracer;
+
+  /**
+   * check steps of the current execution
+   */
+  private QualityGateChecker checker;
+
+  /**
+   * time budget of the current execution
+   */
+  private TimeBudget timeBudget = TimeBudget.UNLIMITED;
+
+  /**
+   * {@link System#nanoTime()} at the start of the execution
+   */
+  private long executionStart;
+
   /**
    * request project status from sonar and evaluate quality gate result
    *
@@ -180,19 +287,115 @@ public class SonarQualityGateMojo extends AbstractMojo {
    * @throws MojoFailureException quality gate evaluates as not passed
    */
   public void execute() throws MojoExecutionException, MojoFailureException {
-    if (skip) {
+    if (isSkip()) {
       getLog().info("skipped");
       return;
     }
 
-    setupSonarConnector();
+    executionStart = System.nanoTime();
+    timeBudget = createTimeBudget();
+    metrics = new CheckMetrics(getSonarProjectKey());
+    tracer = Tracer.fromEnvironment();
+    Span root = tracer.startSpan("sonar-quality-gate:check")
+        .setAttribute("sonar.project_key", getSonarProjectKey());
+    try {
+      try (Span span = tracer.startSpan("setupSonarConnector")) {
+        setupSonarConnector();
+      }
+      sonarConnector.setListener(createConnectorListener());
+      checker = QualityGateChecker.builder().log(getLog()).connector(sonarConnector)
+          .projectKey(getSonarProjectKey()).branch(branch).pullRequest(pullRequest)
+          .checkTaskAttempts(checkTaskAttempts).pollingStrategy(createPollingStrategy())
+          .metrics(metrics).tracer(tracer).start(executionStart).timeBudget(timeBudget)
+          .issueReport(createIssueReport()).policyEngine(createPolicyEngine()).build();
+      try {
+        checkQualityGate();
+      } catch (MojoExecutionException e) {
+        if (!(e.getCause() instanceof CheckTimeoutException)
+            || onTimeout != TimeBudget.OnTimeout.WARN) {
+          throw e;
+        }
+        getLog().warn(e.getMessage() + " - no verdict, passing as configured by "
+            + "'sonar-quality-gate.onTimeout'");
+      } finally {
+        sonarConnector.close();
+      }
+    } catch (MojoExecutionException | MojoFailureException | RuntimeException e) {
+      root.recordError(e);
+      throw e;
+    } finally {
+      root.close();
+      writeMetrics();
+      writeTrace();
+    }
+  }
+
+  /**
+   * Create the listener for the connector to feed metrics and trace, if enabled
+   *
+   * @return listener
+   */
+  private ConnectorListener createConnectorListener() {
+    ConnectorListener listener = ConnectorListener.NONE;
+    if (metricsFile != null) {
+      listener = listener.andThen(metrics);
+    }
+    if (trace) {
+      listener = listener.andThen(new TracingListener(tracer));
+    }
+    return listener;
+  }
+
+  /**
+   * Write the spans of {@link #tracer} to {@link #traceFile}, if enabled. Errors are only logged.
+   */
+  private void writeTrace() {
+    if (!trace) {
+      return;
+    }
+    try {
+      OtlpJsonWriter.write(tracer.getSpans(), traceFile.toPath());
+      getLog().debug("trace " + tracer.getTraceId() + " written to " + traceFile);
+    } catch (IOException e) {
+      getLog().warn("cannot write trace to " + traceFile + ": " + e);
+    }
+  }
+
+  /**
+   * Write the {@link #metrics} to {@link #metricsFile}, if configured. Errors are only logged.
+   */
+  private void writeMetrics() {
+    if (metricsFile == null) {
+      return;
+    }
+    try {
+      MetricsWriter.write(metrics, metricsFile.toPath(), metricsFormat);
+      getLog().debug("metrics written to " + metricsFile);
+    } catch (IOException e) {
+      getLog().warn("cannot write metrics to " + metricsFile + ": " + e);
+    }
+  }
 
+  /**
+   * Determine the mode, request project status from sonar and evaluate quality gate result
+   *
+   * @throws MojoExecutionException configuration errors, io problems, ...
+   * @throws MojoFailureException quality gate evaluates as not passed
+   */
+  private void checkQualityGate() throws MojoExecutionException, MojoFailureException {
     String analysisId;
-    if (Util.isBlank(branch) && Util.isBlank(pullRequest)) {
-      Optional<String> ceTaskIdOpt = findCeTaskId(projectBuildDirectory);
+    if (!checker.isAdvancedMode()) {
+      Optional<String> ceTaskIdOpt;
+      try (Span span = tracer.startSpan("findCeTaskId")) {
+        ceTaskIdOpt = findCeTaskId(projectBuildDirectory);
+      }
       analysisId = ceTaskIdOpt
           // previous sonar run found, switching to 'integrated'
-          .map(this::retrieveAnalysisId)
+          .map(ceTaskId -> {
+            try (Span span = tracer.startSpan("retrieveAnalysisId")) {
+              return retrieveAnalysisId(ceTaskId);
+            }
+          })
           // no previous sonar run found, switching to 'simple'
           .orElse(null);
     } else {
@@ -200,60 +403,78 @@ public class SonarQualityGateMojo extends AbstractMojo {
       analysisId = null;
     }
 
-    ProjectStatus projectStatus = retrieveProjectStatus(analysisId);
-
-    if (projectStatus.getStatus() != ProjectStatus.Status.OK) {
-      String failedConditions = projectStatus.getConditions().stream()
-          .filter(has(ProjectStatus.Status.OK, ProjectStatus.Status.NONE).negate())
-          .map(c -> c.getMetricKey() + ":" + c.getStatus()).collect(Collectors.joining(", "));
-      String message = String.format("Quality Gate not passed (status: %s)! Failed metric(s): %s",
-          projectStatus.getStatus(), failedConditions);
+    Optional<String> failure;
+    try {
+      failure = checker.checkQualityGate(analysisId);
+    } catch (CheckException e) {
+      throw toMojoException(e);
+    }
+    if (failure.isPresent()) {
       if (failOnMiss) {
-        throw new MojoFailureException(message);
+        throw new MojoFailureException(failure.get());
       } else {
-        getLog().warn(message);
+        getLog().warn(failure.get());
       }
-    } else {
-      getLog().info("project status: " + projectStatus.getStatus());
     }
   }
 
   /**
-   * Read config parameters and create the {@link #sonarConnector}
+   * Create the {@link #sonarConnector} or reuse the one prepared by goal {@code prepare}
    *
    * @throws MojoExecutionException in case of invalid config parameters
    */
   protected void setupSonarConnector() throws MojoExecutionException {
-    if (!Util.isBlank(sonarPassword)) {
-      // username+password auth
-      if (Util.isBlank(sonarLogin)) {
-        throw new MojoExecutionException(
-            String.format("you cannot specify '%s' without '%s'", PROP_SONAR_PASSWORD,
-                PROP_SONAR_LOGIN));
-      } else {
-        getLog().debug("sonar auth: username + password");
-        sonarConnector =
-            new SonarConnector(getLog(), sonarHostUrl, sonarProjectKey, sonarLogin, sonarPassword);
-      }
+    ConnectorSpec spec = createConnectorSpec();
+    Optional<PreparedConnectors.PreparedConnector> prepared = PreparedConnectors.take(spec);
+    if (prepared.isPresent() && awaitWarmUp(prepared.get(), spec)) {
+      getLog().debug("using connector prepared by goal 'prepare'");
+      sonarConnector = prepared.get().getConnector();
+      // settings of this execution, prepared possibly with others
+      configureSonarConnector(sonarConnector);
     } else {
-      // token auth
-      if (!Util.isBlank(sonarLogin)) {
-        getLog().debug("sonar auth: token (by property '" + PROP_SONAR_LOGIN + "')");
-        sonarConnector =
-            new SonarConnector(getLog(), sonarHostUrl, sonarProjectKey, sonarLogin, null);
+      sonarConnector = createSonarConnector(spec);
+    }
+    // prepared with another configuration, e.g. by other modules
+    int unused = PreparedConnectors.closeAll();
+    if (unused > 0) {
+      getLog().debug("closed unused prepared connector(s): " + unused);
+    }
+  }
+
+  /**
+   * Wait for the warm up of a prepared connector, at most the connect timeout and until the end
+   * of the discovery phase of the time budget. If the warm up is not done in time, the prepared
+   * connector is closed.
+   *
+   * @param prepared prepared connector
+   * @param spec connector configuration
+   * @return true, if the warm up is done and the connector can be used
+   * @throws MojoExecutionException interrupted while waiting
+   */
+  private boolean awaitWarmUp(PreparedConnectors.PreparedConnector prepared, ConnectorSpec spec)
+      throws MojoExecutionException {
+    Duration timeout = timeBudget.deadline(TimeBudget.Phase.DISCOVERY)
+        .cap(spec.getHttpSettings().getConnectTimeout());
+    try {
+      if (timeout == null) {
+        prepared.getWarmUp().get();
       } else {
-        // check environment variable SONAR_TOKEN as alternative source for the token
-        String env = System.getenv(ENV_SONAR_TOKEN);
-        if (!Util.isBlank(env)) {
-          getLog().debug("sonar auth: token (by environment variable '" + ENV_SONAR_TOKEN + "')");
-          sonarConnector = new SonarConnector(getLog(), sonarHostUrl, sonarProjectKey, env, null);
-        }
+        prepared.getWarmUp().get(timeout.toMillis(), TimeUnit.MILLISECONDS);
       }
-    }
-    if (sonarConnector == null) {
-      // no auth
-      getLog().debug("sonar auth: none");
-      sonarConnector = new SonarConnector(getLog(), sonarHostUrl, sonarProjectKey, null, null);
+      return true;
+    } catch (ExecutionException e) {
+      // warm up never completes exceptionally, see SonarPrepareMojo
+      getLog().debug("warm up failed", e);
+      return true;
+    } catch (TimeoutException e) {
+      getLog().debug("warm up of prepared connector not done in time, creating a new one");
+      prepared.getWarmUp().cancel(false);
+      prepared.getConnector().close();
+      return false;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      prepared.getConnector().close();
+      throw new MojoExecutionException("Interrupted while waiting for connection warm up", e);
     }
   }
 
@@ -267,22 +488,11 @@ public class SonarQualityGateMojo extends AbstractMojo {
    * @throws MojoExecutionException in case of IO issues or interruption
    */
   protected ProjectStatus retrieveProjectStatus(String analysisId) throws MojoExecutionException {
-    ProjectStatus projectStatus;
     try {
-      if (analysisId != null) {
-        // 'integrated' mode
-        projectStatus = sonarConnector.retrieveProjectStatusByAnalysisId(analysisId);
-      } else {
-        // 'simple' / 'advanced' mode
-        projectStatus = sonarConnector.retrieveProjectStatus(branch, pullRequest);
-      }
-    } catch (IOException e) {
-      throw new MojoExecutionException("error fetching project status", e);
-    } catch (InterruptedException e) {
-      Thread.currentThread().interrupt();
-      throw new MojoExecutionException("Interrupted while fetching project status", e);
+      return checker.retrieveProjectStatus(analysisId);
+    } catch (CheckException e) {
+      throw toMojoException(e);
     }
-    return projectStatus;
   }
 
   /**
@@ -299,51 +509,111 @@ public class SonarQualityGateMojo extends AbstractMojo {
    */
   @SneakyThrows(MojoExecutionException.class)
   protected String retrieveAnalysisId(String ceTaskId) {
-    int attemptsLeft = checkTaskAttempts;
-    Task.Status status = Task.Status.IN_PROGRESS;
-    String analysisId = null;
+    Optional<Task> early = collectEarlyPolling(ceTaskId);
+    if (early.isPresent() && early.get().getStatus() == Task.Status.SUCCESS) {
+      getLog().debug("using analysis id polled in the background");
+      metrics.recordTask(early.get());
+      checker.setAnalyzedTask(early.get());
+      return early.get().getAnalysisId();
+    }
 
-    while (status.isOngoing() && attemptsLeft-- > 0) {
-      Task task;
-      try {
-        task = sonarConnector.retrieveTask(ceTaskId);
-        status = task.getStatus();
-      } catch (IOException e) {
-        throw new MojoExecutionException("error while retrieving task", e);
-      } catch (InterruptedException e) {
-        Thread.currentThread().interrupt();
-        throw new MojoExecutionException("Interrupted while retrieving task", e);
-      }
-      switch (status) {
-        case SUCCESS:
-          analysisId = task.getAnalysisId();
-          break;
-        case IN_PROGRESS:
-        case PENDING:
-          try {
-            getLog().info(
-                String.format("Analysis in progress, next retry in %ds (attempts left: %d)",
-                    checkTaskIntervalS, attemptsLeft));
-            Thread.sleep(TimeUnit.SECONDS.toMillis(checkTaskIntervalS));
-          } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new MojoExecutionException("Interrupted while waiting for retry", e);
-          }
-          break;
-        default:
-          throw new MojoExecutionException(
-              "Cannot determine analysis id - unsuitable task status: " + status);
-      }
+    try {
+      return checker.retrieveAnalysisId(ceTaskId);
+    } catch (CheckException e) {
+      throw toMojoException(e);
     }
-    if (analysisId == null) {
+  }
+
+  /**
+   * Create the strategy to wait between two task requests
+   *
+   * @return strategy as configured by {@link #checkTaskStrategy}
+   * @throws MojoExecutionException invalid configuration
+   */
+  protected PollingStrategy createPollingStrategy() throws MojoExecutionException {
+    try {
+      return PollingStrategy.of(checkTaskStrategy, Duration.ofSeconds(checkTaskIntervalS),
+          checkTaskBackoffFactor, Duration.ofSeconds(checkTaskMaxIntervalS));
+    } catch (IllegalArgumentException e) {
+      throw new MojoExecutionException(e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Create the writer of the issues on new code
+   *
+   * @return report as configured by {@link #issuesFile} or {@code null}, if not set
+   * @throws MojoExecutionException invalid configuration
+   */
+  protected IssueReport createIssueReport() throws MojoExecutionException {
+    if (issuesFile == null) {
+      return null;
+    }
+    if (issuesPageSize < 1 || issuesPageSize > IssueReport.DEFAULT_PAGE_SIZE
+        || issuesPrefetch < 1) {
       throw new MojoExecutionException(String.format(
-          "Could not fetch analysis id within %d requests with an interval of %d seconds (last "
-              + "status: %s). Please increase the values 'checkTaskAttempts' and/or "
-              + "'checkTaskIntervalS' to fit your projects needs.", checkTaskAttempts,
-          checkTaskIntervalS, status));
+          "invalid issues page size %d (1..%d) or prefetch %d (at least 1)", issuesPageSize,
+          IssueReport.DEFAULT_PAGE_SIZE, issuesPrefetch));
     }
+    return IssueReport.builder().log(getLog()).connector(sonarConnector)
+        .file(issuesFile.toPath()).format(issuesFormat).pageSize(issuesPageSize)
+        .prefetch(issuesPrefetch).build();
+  }
 
-    return analysisId;
+  /**
+   * Create the time budget of the execution, starting at {@link #executionStart}
+   *
+   * @return budget as configured by {@link #timeoutS}
+   */
+  protected TimeBudget createTimeBudget() {
+    return timeoutS > 0 ? TimeBudget.of(Duration.ofSeconds(timeoutS), executionStart)
+        : TimeBudget.UNLIMITED;
+  }
+
+  /**
+   * Compile the policies
+   *
+   * @return engine evaluating {@link #policies} or {@code null}, if there are none
+   * @throws MojoExecutionException invalid policy
+   */
+  protected PolicyEngine createPolicyEngine() throws MojoExecutionException {
+    if (policies == null || policies.isEmpty()) {
+      return null;
+    }
+    try {
+      return PolicyEngine.compile(policies);
+    } catch (IllegalArgumentException e) {
+      throw new MojoExecutionException("invalid policy: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Wait for the result of a poll started in the background by the build extension, see {@link
+   * EarlyPolling}
+   *
+   * @param ceTaskId ce task id
+   * @return last task retrieved by the background poll, empty if none was started or it failed
+   * @throws MojoExecutionException interrupted while waiting
+   */
+  private Optional<Task> collectEarlyPolling(String ceTaskId) throws MojoExecutionException {
+    Optional<CompletableFuture<Task>> poll = EarlyPolling.take(ceTaskId);
+    if (poll.isEmpty()) {
+      return Optional.empty();
+    }
+    Deadline deadline = timeBudget.deadline(TimeBudget.Phase.POLLING);
+    try {
+      return Optional.of(deadline.isBounded()
+          ? poll.get().get(deadline.remaining().toMillis(), TimeUnit.MILLISECONDS)
+          : poll.get().get());
+    } catch (ExecutionException e) {
+      getLog().debug("background polling failed, polling again", e.getCause());
+      return Optional.empty();
+    } catch (TimeoutException e) {
+      throw toMojoException(timeBudget.exhausted(TimeBudget.Phase.POLLING, e));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new MojoExecutionException("Interrupted while waiting for background polling", e);
+    }
   }
 
   /**
@@ -354,35 +624,20 @@ public class SonarQualityGateMojo extends AbstractMojo {
    * @throws MojoExecutionException io problems when reading sonar-maven-plugin file
    */
   protected Optional<String> findCeTaskId(String buildDir) throws MojoExecutionException {
-    Path reportTaskPath = Path.of(buildDir, "sonar", "report-task.txt");
-    if (!Files.exists(reportTaskPath)) {
-      getLog().info(
-          "no report file from previously sonar-maven-plugin run found: " + reportTaskPath);
-      return Optional.empty();
-    }
-    String ceTaskId;
-    try (InputStream is = Files.newInputStream(reportTaskPath)) {
-      Properties props = new Properties();
-      props.load(is);
-      ceTaskId = props.getProperty(REPORT_TASK_KEY_CE_TASK_ID);
-    } catch (IOException e) {
-      throw new MojoExecutionException(
-          String.format("Error parsing properties in: %s", reportTaskPath), e);
-    }
-    if (Util.isBlank(ceTaskId)) {
-      throw new MojoExecutionException(
-          String.format("Property '%s' not found in '%s'", REPORT_TASK_KEY_CE_TASK_ID,
-              reportTaskPath));
-    } else {
-      return Optional.of(ceTaskId);
+    Deadline deadline = timeBudget.deadline(TimeBudget.Phase.DISCOVERY);
+    try {
+      return QualityGateChecker.findCeTaskId(getLog(), ReportTask.resolve(buildDir),
+          deadline.cap(Duration.ofSeconds(Math.max(reportTaskWaitS, 0))));
+    } catch (CheckException e) {
+      throw toMojoException(deadline.isExpired()
+          ? timeBudget.exhausted(TimeBudget.Phase.DISCOVERY, e) : e);
     }
   }
 
-  /**
-   * create a predicate to check, if a {@link Condition} has one of the supplied status
-   */
-  private static Predicate<Condition> has(ProjectStatus.Status... status) {
-    return c -> Arrays.asList(status).contains(c.getStatus());
+  private static MojoExecutionException toMojoException(CheckException e) {
+    // an exhausted time budget is kept as cause, see 'onTimeout'
+    return new MojoExecutionException(e.getMessage(),
+        e instanceof CheckTimeoutException ? e : e.getCause());
   }
 
 }
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.r0bb3n.maven;
+
+import java.io.IOException;
+import java.time.Duration;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.r0bb3n.maven.mirror.MirrorSync;
+import org.r0bb3n.maven.mirror.StatusMirror;
+
+/**
+ * Sync the local mirror of the latest quality gate status of all projects, branches and pull
+ * requests ({@code sonar-quality-gate.mirror.dir}) from the compute engine activity of the
+ * server. The first sync loads everything, later syncs only the analyses since the previous one.
+ * With {@code sonar-quality-gate.sync.interval.s} the goal keeps syncing until it is stopped.
+ * Requires the permission 'Administer System'.
+ *
+ * <p>Other executions use the mirror for lookups, if {@code sonar-quality-gate.mirror.maxAge.s}
+ * is set.
+ */
+@Mojo(name = "sync", requiresProject = false, threadSafe = true)
+public class SonarSyncMojo extends AbstractSonarMojo {
+
+  /**
+   * Seconds between two syncs, the goal runs until it is stopped ({@code 0}: sync once)
+   *
+   * @since 1.4.0
+   */
+  @Parameter(property = "sonar-quality-gate.sync.interval.s", defaultValue = "0")
+  private int syncIntervalS;
+
+  /**
+   * Maximum number of project status requests in flight
+   *
+   * @since 1.4.0
+   */
+  @Parameter(property = "sonar-quality-gate.sync.concurrency", defaultValue = "8")
+  private int syncConcurrency;
+
+  /**
+   * sync the mirror once or repeatedly
+   *
+   * @throws MojoExecutionException configuration errors, sync failed (only if synced once) or
+   *                                interruption
+   */
+  @Override
+  public void execute() throws MojoExecutionException {
+    if (isSkip()) {
+      getLog().info("skipped");
+      return;
+    }
+    if (getMirrorDir() == null || syncConcurrency < 1) {
+      throw new MojoExecutionException(
+          "'sonar-quality-gate.mirror.dir' and a positive concurrency are required");
+    }
+    try (SonarConnector connector = createSonarConnector(createConnectorSpec())) {
+      // lookups must not be answered by the mirror being synced
+      connector.setStatusMirror(null, null);
+      StatusMirror mirror = StatusMirror.load(getMirrorDir().toPath());
+      MirrorSync sync = MirrorSync.builder().log(getLog()).connector(connector).mirror(mirror)
+          .concurrency(syncConcurrency).build();
+      if (syncIntervalS <= 0) {
+        sync.sync();
+        return;
+      }
+      Duration interval = Duration.ofSeconds(syncIntervalS);
+      while (!Thread.currentThread().isInterrupted()) {
+        try {
+          sync.sync();
+        } catch (IOException e) {
+          getLog().warn("sync failed, retry in " + interval.toSeconds() + "s: " + e.getMessage());
+        }
+        Thread.sleep(interval.toMillis());
+      }
+    } catch (IOException e) {
+      throw new MojoExecutionException("sync of status mirror failed: " + e.getMessage(), e);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      getLog().info("sync stopped");
+    }
+  }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Version of a sonar server, e.g. {@code 8.5.0.37579}. Only the numeric parts are compared, missing
+ * parts are treated as {@code 0}.
+ */
+@EqualsAndHashCode
+public class SonarVersion implements Comparable<SonarVersion> {
+
+  private final int[] parts;
+
+  private SonarVersion(int[] parts) {
+    this.parts = parts;
+  }
+
+  /**
+   * Parse version string
+   *
+   * @param version version string like {@code 8.5.0.37579} or {@code 10.2}
+   * @return parsed version
+   * @throws IllegalArgumentException no numeric version
+   */
+  public static SonarVersion parse(String version) {
+    if (Util.isBlank(version)) {
+      throw new IllegalArgumentException("Empty version");
+    }
+    String[] tokens = version.trim().split("\\.");
+    int[] parts = new int[tokens.length];
+    try {
+      for (int i = 0; i < tokens.length; i++) {
+        // ignore qualifiers like '-SNAPSHOT'
+        parts[i] = Integer.parseInt(tokens[i].replaceAll("\\D.*$", ""));
+      }
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("Invalid version: " + version, e);
+    }
+    return new SonarVersion(parts);
+  }
+
+  /**
+   * Check if this version is equal to or newer than the other one
+   *
+   * @param other version to compare with
+   * @return true, if at least the other version
+   */
+  public boolean isAtLeast(SonarVersion other) {
+    return compareTo(other) >= 0;
+  }
+
+  @Override
+  public int compareTo(SonarVersion o) {
+    int length = Math.max(parts.length, o.parts.length);
+    for (int i = 0; i < length; i++) {
+      int diff = Integer.compare(part(i), o.part(i));
+      if (diff != 0) {
+        return diff;
+      }
+    }
+    return 0;
+  }
+
+  private int part(int index) {
+    return index < parts.length ? parts[index] : 0;
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.stream(parts).mapToObj(String::valueOf).collect(Collectors.joining("."));
+  }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.r0bb3n.maven;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Time budget of a whole check, split between its phases: each phase may use the time left,
+ * except for a share of the budget reserved for the phases after it. Time not used by a phase is
+ * available to the next ones.
+ */
+public class TimeBudget {
+
+  /**
+   * no limit, all deadlines are {@link Deadline#NONE}
+   */
+  public static final TimeBudget UNLIMITED = new TimeBudget(null, 0);
+
+  /**
+   * Phases of a check in their order
+   */
+  @Getter
+  @RequiredArgsConstructor
+  public enum Phase {
+    /**
+     * waiting for the report task file
+     */
+    DISCOVERY("discovery", 0.5),
+    /**
+     * polling the compute engine task
+     */
+    POLLING("polling", 0.25),
+    /**
+     * retrieving the project status and the measures of policies
+     */
+    STATUS("status fetch", 0.1),
+    /**
+     * retrieving measures of failed conditions and issues on new code (optional details)
+     */
+    DETAILS("detail fetch", 0);
+
+    private final String label;
+
+    /**
+     * share of the budget reserved for the phases after this one
+     */
+    private final double reserved;
+  }
+
+  /**
+   * What to do, if the budget is exhausted before the verdict
+   */
+  public enum OnTimeout {
+    /**
+     * fail the build
+     */
+    FAIL,
+    /**
+     * log a warning and pass
+     */
+    WARN
+  }
+
+  @Getter
+  private final Duration total;
+
+  private final long startNanos;
+
+  private TimeBudget(Duration total, long startNanos) {
+    this.total = total;
+    this.startNanos = startNanos;
+  }
+
+  /**
+   * Create a budget
+   *
+   * @param total whole budget, must be positive
+   * @param startNanos {@link System#nanoTime()} the budget started at
+   * @return budget
+   */
+  public static TimeBudget of(Duration total, long startNanos) {
+    if (total.isNegative() || total.isZero()) {
+      throw new IllegalArgumentException("time budget must be positive: " + total);
+    }
+    return new TimeBudget(total, startNanos);
+  }
+
+  /**
+   * Get the deadline of a phase
+   *
+   * @param phase phase
+   * @return end of the budget less the share reserved for later phases
+   */
+  public Deadline deadline(Phase phase) {
+    if (total == null) {
+      return Deadline.NONE;
+    }
+    long totalNanos = total.toNanos();
+    return Deadline.at(startNanos + totalNanos - (long) (totalNanos * phase.getReserved()));
+  }
+
+  /**
+   * Create the exception for an exhausted budget
+   *
+   * @param phase phase the budget was exhausted in
+   * @param cause error caused by the timeout or null
+   * @return exception to throw
+   */
+  public CheckTimeoutException exhausted(Phase phase, Throwable cause) {
+    return new CheckTimeoutException(String.format(
+        "Time budget of %ds ('sonar-quality-gate.timeout.s') exhausted during %s",
+        total == null ? 0 : total.toSeconds(), phase.getLabel()), cause);
+  }
+
+}
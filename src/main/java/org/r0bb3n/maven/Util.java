@@ -16,6 +16,9 @@
 
 package org.r0bb3n.maven;
 
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
@@ -25,6 +28,12 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class Util {
 
+  /**
+   * format of timestamps in the Sonar Web API, e.g. {@code 2021-02-19T20:43:42+0100}
+   */
+  public static final DateTimeFormatter SONAR_DATE_TIME =
+      DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssZ");
+
   /**
    * Check if null or {@link String#isBlank()}
    *
@@ -35,4 +44,21 @@ public class Util {
     return s == null || s.isBlank();
   }
 
+  /**
+   * Parse a timestamp of the Sonar Web API
+   *
+   * @param sonarDateTime timestamp, see {@link #SONAR_DATE_TIME}
+   * @return parsed timestamp or null, if null or malformed
+   */
+  public static OffsetDateTime parseDateTime(String sonarDateTime) {
+    if (sonarDateTime == null) {
+      return null;
+    }
+    try {
+      return OffsetDateTime.parse(sonarDateTime, SONAR_DATE_TIME);
+    } catch (DateTimeParseException e) {
+      return null;
+    }
+  }
+
 }
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.r0bb3n.maven.batch;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.Builder;
+import lombok.NonNull;
+import org.apache.maven.plugin.logging.Log;
+import org.r0bb3n.maven.SonarConnector;
+import org.r0bb3n.maven.model.Condition;
+import org.r0bb3n.maven.model.ProjectStatus;
+import org.r0bb3n.maven.model.Task;
+import org.r0bb3n.maven.poll.TaskPollScheduler;
+
+/**
+ * Checks the quality gates of many projects, branches and pull requests over one connector. The
+ * inputs are read line by line (see {@link BatchInput}) and checked concurrently, with at most
+ * {@code concurrency} requests in flight. Each result is written as one JSON line as soon as it
+ * is available, i.e. not necessarily in input order, the {@code line} field refers to the input.
+ * A failing check results in an {@code error} line, it does not stop the batch.
+ *
+ * <p>Inputs with a compute engine task are tracked by the {@link TaskPollScheduler} until the
+ * task is finished, without taking one of the {@code concurrency} slots while waiting.
+ */
+@Builder
+public class BatchChecker {
+
+  public static final int DEFAULT_CONCURRENCY = 16;
+
+  private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+      .disable(StreamWriteFeature.AUTO_CLOSE_TARGET).build();
+
+  @NonNull
+  private final Log log;
+
+  @NonNull
+  private final SonarConnector connector;
+
+  /**
+   * project key of inputs without one
+   */
+  private final String defaultProjectKey;
+
+  /**
+   * maximum number of checks in flight
+   */
+  @Builder.Default
+  private final int concurrency = DEFAULT_CONCURRENCY;
+
+  /**
+   * polls the compute engine tasks of inputs with {@code ceTaskId}, such inputs fail without it
+   */
+  private final TaskPollScheduler pollScheduler;
+
+  /**
+   * Check all inputs and write the results
+   *
+   * @param input one input per line, read until its end
+   * @param output receives one JSON line per input, flushed after each line
+   * @return number of results per outcome
+   * @throws IOException input cannot be read or output cannot be written
+   * @throws InterruptedException interrupted while waiting for results
+   */
+  public BatchSummary run(BufferedReader input, Writer output)
+      throws IOException, InterruptedException {
+    ResultWriter results = new ResultWriter(output);
+    int permits = Math.max(1, concurrency);
+    Semaphore inFlight = new Semaphore(permits);
+    List<CompletableFuture<Void>> taskChecks = new ArrayList<>();
+    int lineNumber = 0;
+    try {
+      String line;
+      while ((line = input.readLine()) != null && !results.hasFailed()) {
+        lineNumber++;
+        if (!BatchInput.isInput(line)) {
+          continue;
+        }
+        BatchInput batchInput;
+        try {
+          batchInput = BatchInput.parse(line, defaultProjectKey);
+        } catch (IOException e) {
+          results.write(lineNumber, null, null, e, 0);
+          continue;
+        }
+        if (batchInput.getCeTaskId() != null) {
+          taskChecks.add(checkTask(lineNumber, batchInput, results));
+          continue;
+        }
+        // reading the input pauses, while all permits are taken
+        inFlight.acquire();
+        int number = lineNumber;
+        long start = System.nanoTime();
+        connector.retrieveProjectStatusAsync(batchInput.getProjectKey(), batchInput.getBranch(),
+            batchInput.getPullRequest()).whenComplete((status, error) -> {
+              try {
+                results.write(number, batchInput, status, error, System.nanoTime() - start);
+              } finally {
+                inFlight.release();
+              }
+            });
+      }
+    } finally {
+      // wait for the checks in flight
+      inFlight.acquire(permits);
+      try {
+        CompletableFuture.allOf(taskChecks.toArray(new CompletableFuture[0])).get();
+      } catch (ExecutionException e) {
+        throw new IOException("checking compute engine tasks failed", e.getCause());
+      }
+    }
+    results.rethrowFailure();
+    log.info("batch: " + results.summary);
+    return results.summary;
+  }
+
+  /**
+   * Wait for the compute engine task of an input and check the quality gate of its analysis
+   *
+   * @return future completed after the result was written
+   */
+  private CompletableFuture<Void> checkTask(int line, BatchInput input, ResultWriter results) {
+    if (pollScheduler == null) {
+      results.write(line, input, null, new IOException("ceTaskId not supported"), 0);
+      return CompletableFuture.completedFuture(null);
+    }
+    long start = System.nanoTime();
+    AtomicReference<BatchInput> finished = new AtomicReference<>(input);
+    return pollScheduler.track(input.getCeTaskId()).thenCompose(task -> {
+      finished.set(new BatchInput(task.getComponentKey(), task.getBranch(),
+          task.getPullRequest(), input.getCeTaskId()));
+      if (task.getStatus() != Task.Status.SUCCESS) {
+        return CompletableFuture.<ProjectStatus>failedFuture(
+            new IOException("unsuitable task status: " + task.getStatus()));
+      }
+      return connector.retrieveProjectStatusByAnalysisIdAsync(task.getAnalysisId());
+    }).handle((status, error) -> {
+      results.write(line, finished.get(), status, error, System.nanoTime() - start);
+      return null;
+    });
+  }
+
+  /**
+   * Writes the result lines one after the other, from any thread
+   */
+  private static class ResultWriter {
+
+    private final Writer output;
+    private final BatchSummary summary = new BatchSummary();
+    private IOException failure;
+
+    ResultWriter(Writer output) {
+      this.output = output;
+    }
+
+    synchronized void write(int line, BatchInput input, ProjectStatus status, Throwable error,
+        long nanos) {
+      if (failure != null) {
+        return;
+      }
+      try (JsonGenerator generator = JSON_FACTORY.createGenerator(output)) {
+        generator.writeStartObject();
+        generator.writeNumberField("line", line);
+        if (input != null) {
+          writeOptional(generator, "projectKey", input.getProjectKey());
+          writeOptional(generator, "branch", input.getBranch());
+          writeOptional(generator, "pullRequest", input.getPullRequest());
+          writeOptional(generator, "ceTaskId", input.getCeTaskId());
+        }
+        if (error == null && status != null) {
+          generator.writeStringField("status", String.valueOf(status.getStatus()));
+          writeFailedConditions(generator, status);
+          summary.recordStatus(status.getStatus() == ProjectStatus.Status.OK);
+        } else {
+          Throwable cause = error instanceof CompletionException && error.getCause() != null
+              ? error.getCause() : error;
+          generator.writeStringField("error", cause == null ? "no project status"
+              : describe(cause));
+          summary.recordError();
+        }
+        generator.writeNumberField("durationMs", nanos / 1_000_000);
+        generator.writeEndObject();
+        generator.flush();
+        output.write('\n');
+        output.flush();
+      } catch (IOException e) {
+        failure = e;
+      }
+    }
+
+    synchronized boolean hasFailed() {
+      return failure != null;
+    }
+
+    synchronized void rethrowFailure() throws IOException {
+      if (failure != null) {
+        throw failure;
+      }
+    }
+
+    private static void writeFailedConditions(JsonGenerator generator, ProjectStatus status)
+        throws IOException {
+      if (status.getStatus() == ProjectStatus.Status.OK) {
+        return;
+      }
+      generator.writeArrayFieldStart("failedConditions");
+      for (Condition condition : Optional.ofNullable(status.getConditions())
+          .orElse(List.of())) {
+        if (condition.getStatus() == ProjectStatus.Status.OK
+            || condition.getStatus() == ProjectStatus.Status.NONE) {
+          continue;
+        }
+        generator.writeStartObject();
+        generator.writeStringField("metricKey", condition.getMetricKey());
+        generator.writeStringField("status", String.valueOf(condition.getStatus()));
+        writeOptional(generator, "actualValue", condition.getActualValue());
+        writeOptional(generator, "comparator", condition.getComparator());
+        writeOptional(generator, "errorThreshold", condition.getErrorThreshold());
+        generator.writeEndObject();
+      }
+      generator.writeEndArray();
+    }
+
+    private static void writeOptional(JsonGenerator generator, String name, String value)
+        throws IOException {
+      if (value != null) {
+        generator.writeStringField(name, value);
+      }
+    }
+
+    /**
+     * Message of the exception including its root cause, e.g. the status code of the response
+     */
+    private static String describe(Throwable error) {
+      Throwable root = error;
+      while (root.getCause() != null && root.getCause() != root) {
+        root = root.getCause();
+      }
+      return root == error ? String.valueOf(error.getMessage())
+          : error.getMessage() + ": " + root;
+    }
+  }
+
+}
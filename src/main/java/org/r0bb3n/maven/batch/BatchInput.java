@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.r0bb3n.maven.batch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import lombok.Value;
+import org.r0bb3n.maven.Util;
+
+/**
+ * One project, branch or pull request to check in a batch. Parsed from one line of the input,
+ * either a JSON object ({@code {"projectKey":"p","branch":"main"}}) or whitespace separated
+ * {@code name=value} pairs ({@code projectKey=p pullRequest=42}). Missing project keys are taken
+ * from the default. Alternatively the compute engine task of an analysis can be given
+ * ({@code ceTaskId=AXx}), its result is checked as soon as the task is finished.
+ */
+@Value
+public class BatchInput {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  String projectKey;
+  String branch;
+  String pullRequest;
+  String ceTaskId;
+
+  /**
+   * Check if a line contains an input at all
+   *
+   * @param line line of the input
+   * @return false for blank lines and comments ({@code #})
+   */
+  public static boolean isInput(String line) {
+    return !Util.isBlank(line) && !line.strip().startsWith("#");
+  }
+
+  /**
+   * Parse one line of the input
+   *
+   * @param line line of the input, see {@link #isInput(String)}
+   * @param defaultProjectKey project key, if not part of the line
+   * @return parsed input
+   * @throws IOException malformed line, unknown names or no project key
+   */
+  public static BatchInput parse(String line, String defaultProjectKey) throws IOException {
+    String projectKey = null;
+    String branch = null;
+    String pullRequest = null;
+    String ceTaskId = null;
+    String content = line.strip();
+    if (content.startsWith("{")) {
+      JsonNode node = MAPPER.readTree(content);
+      projectKey = node.path("projectKey").asText(null);
+      branch = node.path("branch").asText(null);
+      pullRequest = node.path("pullRequest").asText(null);
+      ceTaskId = node.path("ceTaskId").asText(null);
+    } else {
+      for (String pair : content.split("\\s+")) {
+        int separator = pair.indexOf('=');
+        String name = separator < 0 ? "" : pair.substring(0, separator);
+        String value = pair.substring(separator + 1);
+        switch (name) {
+          case "projectKey":
+            projectKey = value;
+            break;
+          case "branch":
+            branch = value;
+            break;
+          case "pullRequest":
+            pullRequest = value;
+            break;
+          case "ceTaskId":
+            ceTaskId = value;
+            break;
+          default:
+            throw new IOException(
+                "expected projectKey=, branch=, pullRequest= or ceTaskId=, got: " + pair);
+        }
+      }
+    }
+    if (!Util.isBlank(ceTaskId)) {
+      if (!Util.isBlank(branch) || !Util.isBlank(pullRequest)) {
+        throw new IOException("either ceTaskId or branch/pullRequest expected, not both");
+      }
+      // project key is optional, taken from the task
+      return new BatchInput(Util.isBlank(projectKey) ? null : projectKey, null, null, ceTaskId);
+    }
+    if (Util.isBlank(projectKey)) {
+      projectKey = defaultProjectKey;
+    }
+    if (Util.isBlank(projectKey)) {
+      throw new IOException("no project key");
+    }
+    if (!Util.isBlank(branch) && !Util.isBlank(pullRequest)) {
+      throw new IOException("either branch or pullRequest expected, not both");
+    }
+    return new BatchInput(projectKey, branch, pullRequest, null);
+  }
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.r0bb3n.maven.batch;
+
+import lombok.Getter;
+
+/**
+ * Number of results of a batch per outcome
+ */
+@Getter
+public class BatchSummary {
+
+  /**
+   * quality gate passed (status {@code OK})
+   */
+  private int passed;
+
+  /**
+   * quality gate not passed
+   */
+  private int failed;
+
+  /**
+   * no project status, e.g. unknown branch, connection problems or malformed input
+   */
+  private int errors;
+
+  synchronized void recordStatus(boolean ok) {
+    if (ok) {
+      passed++;
+    } else {
+      failed++;
+    }
+  }
+
+  synchronized void recordError() {
+    errors++;
+  }
+
+  /**
+   * Get the number of all results
+   *
+   * @return sum of passed, failed and errors
+   */
+  public synchronized int getTotal() {
+    return passed + failed + errors;
+  }
+
+  @Override
+  public synchronized String toString() {
+    return String.format("%d checked: %d passed, %d failed, %d errors", getTotal(), passed, failed,
+        errors);
+  }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.cli;
+
+import java.io.PrintStream;
+import lombok.RequiredArgsConstructor;
+import org.apache.maven.plugin.logging.Log;
+
+/**
+ * {@link Log} of the command line interface, prints Maven-like to a stream
+ */
+@RequiredArgsConstructor
+public class CliLog implements Log {
+
+  private final PrintStream out;
+  private final boolean debug;
+
+  @Override
+  public boolean isDebugEnabled() {
+    return debug;
+  }
+
+  @Override
+  public void debug(CharSequence content) {
+    debug(content, null);
+  }
+
+  @Override
+  public void debug(CharSequence content, Throwable error) {
+    if (debug) {
+      print("DEBUG", content, error);
+    }
+  }
+
+  @Override
+  public void debug(Throwable error) {
+    debug(null, error);
+  }
+
+  @Override
+  public boolean isInfoEnabled() {
+    return true;
+  }
+
+  @Override
+  public void info(CharSequence content) {
+    print("INFO", content, null);
+  }
+
+  @Override
+  public void info(CharSequence content, Throwable error) {
+    print("INFO", content, error);
+  }
+
+  @Override
+  public void info(Throwable error) {
+    print("INFO", null, error);
+  }
+
+  @Override
+  public boolean isWarnEnabled() {
+    return true;
+  }
+
+  @Override
+  public void warn(CharSequence content) {
+    print("WARNING", content, null);
+  }
+
+  @Override
+  public void warn(CharSequence content, Throwable error) {
+    print("WARNING", content, error);
+  }
+
+  @Override
+  public void warn(Throwable error) {
+    print("WARNING", null, error);
+  }
+
+  @Override
+  public boolean isErrorEnabled() {
+    return true;
+  }
+
+  @Override
+  public void error(CharSequence content) {
+    print("ERROR", content, null);
+  }
+
+  @Override
+  public void error(CharSequence content, Throwable error) {
+    print("ERROR", content, error);
+  }
+
+  @Override
+  public void error(Throwable error) {
+    print("ERROR", null, error);
+  }
+
+  private void print(String level, CharSequence content, Throwable error) {
+    out.println("[" + level + "] " + (content != null ? content
+        : error != null ? error.toString() : ""));
+    if (error != null && (debug || content == null)) {
+      error.printStackTrace(out);
+    } else if (error != null) {
+      out.println("[" + level + "] caused by: " + error);
+    }
+  }
+
+}
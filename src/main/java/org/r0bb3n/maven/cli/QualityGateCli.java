@@ -0,0 +1,380 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.cli;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import org.r0bb3n.maven.CheckException;
+import org.r0bb3n.maven.ConnectorListener;
+import org.r0bb3n.maven.HttpSettings;
+import org.r0bb3n.maven.PollingStrategy;
+import org.r0bb3n.maven.QualityGateChecker;
+import org.r0bb3n.maven.ReportTask;
+import org.r0bb3n.maven.SonarConnector;
+import org.r0bb3n.maven.Util;
+import org.r0bb3n.maven.issues.IssueReport;
+import org.r0bb3n.maven.json.ResponseParser;
+import org.r0bb3n.maven.metrics.CheckMetrics;
+import org.r0bb3n.maven.metrics.MetricsWriter;
+import org.r0bb3n.maven.trace.OtlpJsonWriter;
+import org.r0bb3n.maven.trace.Span;
+import org.r0bb3n.maven.trace.Tracer;
+import org.r0bb3n.maven.trace.TracingListener;
+import org.r0bb3n.maven.transport.RecordingMode;
+
+/**
+ * Command line interface running the same check as goal {@code check} without Maven, e.g. for
+ * Gradle, npm or container based pipelines. Only the classes needed for the check are loaded (no
+ * plexus container, no Maven core), see the profile {@code cli} of the project for the
+ * executable jar and an optional AppCDS archive.
+ *
+ * <p>Exit codes: {@code 0} quality gate passed (or not failing on miss), {@code 1} quality gate
+ * not passed, {@code 2} error.
+ */
+public class QualityGateCli {
+
+  static final int EXIT_PASSED = 0;
+  static final int EXIT_NOT_PASSED = 1;
+  static final int EXIT_ERROR = 2;
+
+  static final String ENV_SONAR_HOST_URL = "SONAR_HOST_URL";
+  static final String ENV_SONAR_TOKEN = "SONAR_TOKEN";
+
+  /**
+   * report task file locations of sonar-maven-plugin, Gradle plugin and sonar-scanner (in this
+   * order), checked if no report task file is given
+   */
+  static final List<String> DEFAULT_REPORT_TASKS = List.of("target/sonar/report-task.txt",
+      "build/sonar/report-task.txt", ".scannerwork/report-task.txt");
+
+  private static final Set<String> FLAGS = Set.of("help", "debug", "no-fail-on-miss");
+
+  private static final Set<String> OPTIONS = Set.of("host-url", "project-key", "token", "login",
+      "password", "branch", "pull-request", "report-task", "report-task-wait", "attempts",
+      "interval", "strategy", "backoff-factor", "max-interval", "transport", "http-version",
+      "connect-timeout", "request-timeout", "response-parser", "metrics-file", "metrics-format",
+      "issues-file", "issues-format", "trace-file", "recording-mode", "recording-file",
+      "recording-latency-scale");
+
+  private static final String USAGE = String.join(System.lineSeparator(),
+      "Usage: java -jar sonar-quality-gate-cli.jar [options]",
+      "",
+      "Checks the quality gate of a SonarQube project, like goal sonar-quality-gate:check.",
+      "",
+      "  --host-url <url>             sonar server (default: $SONAR_HOST_URL, serverUrl of the",
+      "                               report task file, http://localhost:9000)",
+      "  --project-key <key>          project (default: projectKey of the report task file)",
+      "  --token <token>              authentication token (default: $SONAR_TOKEN)",
+      "  --login <login>              login, together with --password",
+      "  --password <password>        password",
+      "  --branch <name>              check a branch (mode 'advanced')",
+      "  --pull-request <id>          check a pull request (mode 'advanced')",
+      "  --report-task <file>         report task file of the analysis (default: first existing",
+      "                               of " + String.join(", ", DEFAULT_REPORT_TASKS) + ")",
+      "  --report-task-wait <s>       wait for the report task file to be written (default: 0)",
+      "  --attempts <n>               maximum task requests (default: 10)",
+      "  --interval <s>               wait between task requests (default: 5)",
+      "  --strategy FIXED|BACKOFF     polling strategy (default: FIXED)",
+      "  --backoff-factor <f>         growth of the wait with BACKOFF (default: 2)",
+      "  --max-interval <s>           maximum wait with BACKOFF (default: 30)",
+      "  --no-fail-on-miss            exit with 0, even if the quality gate was not passed",
+      "  --transport jdk|apache       HTTP transport (default: jdk)",
+      "  --http-version <v>           HTTP_2 or HTTP_1_1 (default: HTTP_2)",
+      "  --connect-timeout <s>        connect timeout (default: 10)",
+      "  --request-timeout <s>        request timeout (default: 60)",
+      "  --response-parser <p>        JACKSON or BUILTIN (default: JACKSON)",
+      "  --metrics-file <file>        write metrics of the check",
+      "  --metrics-format <f>         PROMETHEUS or JSON (default: PROMETHEUS)",
+      "  --issues-file <file>         write the issues on new code, if not passed",
+      "  --issues-format <f>          JSONL or SARIF (default: JSONL)",
+      "  --trace-file <file>          write a trace of the check as OTLP/JSON",
+      "  --recording-mode <m>         OFF, RECORD or REPLAY exchanges with sonar (default: OFF)",
+      "  --recording-file <file>      recording file",
+      "  --recording-latency-scale <f> factor for replayed latencies (default: 1)",
+      "  --debug                      debug output",
+      "  --help                       show this help",
+      "",
+      "Exit codes: 0 passed, 1 not passed, 2 error");
+
+  private final Map<String, String> env;
+  private final PrintStream out;
+  private final Map<String, String> options = new HashMap<>();
+
+  QualityGateCli(Map<String, String> env, PrintStream out) {
+    this.env = env;
+    this.out = out;
+  }
+
+  /**
+   * Run the check and exit with its exit code
+   *
+   * @param args command line arguments, see {@code --help}
+   */
+  public static void main(String[] args) {
+    System.exit(new QualityGateCli(System.getenv(), System.err).run(args));
+  }
+
+  /**
+   * Run the check
+   *
+   * @param args command line arguments
+   * @return exit code
+   */
+  int run(String[] args) {
+    try {
+      parse(args);
+    } catch (IllegalArgumentException e) {
+      out.println("[ERROR] " + e.getMessage());
+      out.println(USAGE);
+      return EXIT_ERROR;
+    }
+    if (options.containsKey("help")) {
+      out.println(USAGE);
+      return EXIT_PASSED;
+    }
+    CliLog log = new CliLog(out, options.containsKey("debug"));
+    try {
+      return check(log);
+    } catch (CheckException | IOException | IllegalArgumentException e) {
+      log.error(e.getMessage(), e.getCause());
+      return EXIT_ERROR;
+    } catch (RuntimeException e) {
+      // a bug or an unexpected response, still an error and not a failed quality gate
+      log.error("unexpected error: " + e, e);
+      return EXIT_ERROR;
+    }
+  }
+
+  private void parse(String[] args) {
+    for (int i = 0; i < args.length; i++) {
+      if (!args[i].startsWith("--")) {
+        throw new IllegalArgumentException("unexpected argument: " + args[i]);
+      }
+      String[] nameValue = args[i].substring(2).split("=", 2);
+      String name = nameValue[0];
+      if (FLAGS.contains(name)) {
+        options.put(name, "true");
+      } else if (OPTIONS.contains(name)) {
+        if (nameValue.length > 1) {
+          options.put(name, nameValue[1]);
+        } else if (i + 1 < args.length) {
+          options.put(name, args[++i]);
+        } else {
+          throw new IllegalArgumentException("missing value of option --" + name);
+        }
+      } else {
+        throw new IllegalArgumentException("unknown option: --" + name);
+      }
+    }
+  }
+
+  private int check(CliLog log) throws CheckException, IOException {
+    long start = System.nanoTime();
+    Path reportTask = findReportTask();
+    Duration reportTaskWait = Duration.ofSeconds(intOption("report-task-wait", 0));
+    if (reportTask == null && !reportTaskWait.isZero()) {
+      reportTask = Path.of(DEFAULT_REPORT_TASKS.get(0));
+    }
+    if (reportTask != null && !reportTaskWait.isZero() && Util.isBlank(options.get("branch"))
+        && Util.isBlank(options.get("pull-request"))) {
+      // wait first, server url and project key may be taken from the file
+      QualityGateChecker.findCeTaskId(log, reportTask, reportTaskWait);
+    }
+    Properties report = reportTask != null && Files.exists(reportTask)
+        ? ReportTask.load(reportTask) : new Properties();
+    String hostUrl = firstNonBlank(options.get("host-url"), env.get(ENV_SONAR_HOST_URL),
+        report.getProperty(ReportTask.KEY_SERVER_URL), "http://localhost:9000");
+    String projectKey = firstNonBlank(options.get("project-key"),
+        report.getProperty(ReportTask.KEY_PROJECT_KEY));
+    String password = options.get("password");
+    String loginOrToken = Util.isBlank(password)
+        ? firstNonBlank(options.get("token"), options.get("login"), env.get(ENV_SONAR_TOKEN))
+        : options.get("login");
+    if (!Util.isBlank(password) && Util.isBlank(loginOrToken)) {
+      throw new IllegalArgumentException("you cannot specify '--password' without '--login'");
+    }
+
+    CheckMetrics metrics = new CheckMetrics(projectKey);
+    Tracer tracer = Tracer.fromEnvironment();
+    int exitCode;
+    try (Span root = tracer.startSpan("sonar-quality-gate:cli")
+        .setAttribute("sonar.project_key", projectKey);
+        SonarConnector connector = new SonarConnector(log, toUrl(hostUrl), projectKey,
+            loginOrToken, password, createHttpSettings())) {
+      ConnectorListener listener = ConnectorListener.NONE;
+      if (options.containsKey("metrics-file")) {
+        listener = listener.andThen(metrics);
+      }
+      if (options.containsKey("trace-file")) {
+        listener = listener.andThen(new TracingListener(tracer));
+      }
+      connector.setListener(listener);
+      connector.setResponseParser(ResponseParser.of(ResponseParser.Type.valueOf(
+          options.getOrDefault("response-parser", "JACKSON").toUpperCase(Locale.ROOT))));
+      QualityGateChecker checker = QualityGateChecker.builder().log(log).connector(connector)
+          .projectKey(projectKey).branch(options.get("branch"))
+          .pullRequest(options.get("pull-request"))
+          .checkTaskAttempts(intOption("attempts", 10)).pollingStrategy(createPollingStrategy())
+          .metrics(metrics).tracer(tracer).start(start)
+          .issueReport(createIssueReport(log, connector)).build();
+      try {
+        exitCode = check(log, checker, tracer, reportTask);
+      } catch (CheckException | RuntimeException e) {
+        root.recordError(e);
+        throw e;
+      }
+    } finally {
+      writeResults(log, metrics, tracer);
+    }
+    return exitCode;
+  }
+
+  private int check(CliLog log, QualityGateChecker checker, Tracer tracer, Path reportTask)
+      throws CheckException {
+    String analysisId = null;
+    if (!checker.isAdvancedMode() && reportTask != null) {
+      Optional<String> ceTaskId;
+      try (Span span = tracer.startSpan("findCeTaskId")) {
+        ceTaskId = QualityGateChecker.findCeTaskId(log, reportTask);
+      }
+      if (ceTaskId.isPresent()) {
+        try (Span span = tracer.startSpan("retrieveAnalysisId")) {
+          analysisId = checker.retrieveAnalysisId(ceTaskId.get());
+        }
+      }
+    }
+    Optional<String> failure = checker.checkQualityGate(analysisId);
+    if (failure.isEmpty()) {
+      return EXIT_PASSED;
+    }
+    if (options.containsKey("no-fail-on-miss")) {
+      log.warn(failure.get());
+      return EXIT_PASSED;
+    }
+    log.error(failure.get());
+    return EXIT_NOT_PASSED;
+  }
+
+  private void writeResults(CliLog log, CheckMetrics metrics, Tracer tracer) {
+    if (options.containsKey("metrics-file")) {
+      try {
+        MetricsWriter.write(metrics, Path.of(options.get("metrics-file")),
+            MetricsWriter.Format.valueOf(
+                options.getOrDefault("metrics-format", "PROMETHEUS").toUpperCase(Locale.ROOT)));
+      } catch (IOException | IllegalArgumentException e) {
+        log.warn("cannot write metrics: " + e);
+      }
+    }
+    if (options.containsKey("trace-file")) {
+      try {
+        OtlpJsonWriter.write(tracer.getSpans(), Path.of(options.get("trace-file")));
+      } catch (IOException e) {
+        log.warn("cannot write trace: " + e);
+      }
+    }
+  }
+
+  private Path findReportTask() {
+    if (options.containsKey("report-task")) {
+      return Path.of(options.get("report-task"));
+    }
+    return DEFAULT_REPORT_TASKS.stream().map(Path::of).filter(Files::exists).findFirst()
+        .orElse(null);
+  }
+
+  private HttpSettings createHttpSettings() {
+    HttpSettings.HttpSettingsBuilder builder = HttpSettings.builder()
+        .connectTimeout(toDuration(intOption("connect-timeout", 10)))
+        .requestTimeout(toDuration(intOption("request-timeout", 60)));
+    if (options.containsKey("transport")) {
+      builder.transport(options.get("transport"));
+    }
+    if (options.containsKey("http-version")) {
+      builder.version(HttpClient.Version.valueOf(options.get("http-version")));
+    }
+    if (options.containsKey("recording-mode")) {
+      builder.recordingMode(
+          RecordingMode.valueOf(options.get("recording-mode").toUpperCase(Locale.ROOT)))
+          .recordingFile(options.containsKey("recording-file")
+              ? Path.of(options.get("recording-file")) : null)
+          .replayLatencyScale(
+              Double.parseDouble(options.getOrDefault("recording-latency-scale", "1")));
+    }
+    return builder.build();
+  }
+
+  private PollingStrategy createPollingStrategy() {
+    return PollingStrategy.of(PollingStrategy.Type.valueOf(
+            options.getOrDefault("strategy", "FIXED").toUpperCase(Locale.ROOT)),
+        Duration.ofSeconds(intOption("interval", 5)),
+        Double.parseDouble(options.getOrDefault("backoff-factor", "2")),
+        Duration.ofSeconds(intOption("max-interval", 30)));
+  }
+
+  private IssueReport createIssueReport(CliLog log, SonarConnector connector) {
+    if (!options.containsKey("issues-file")) {
+      return null;
+    }
+    return IssueReport.builder().log(log).connector(connector)
+        .file(Path.of(options.get("issues-file"))).format(IssueReport.Format.valueOf(
+            options.getOrDefault("issues-format", "JSONL").toUpperCase(Locale.ROOT))).build();
+  }
+
+  private int intOption(String name, int defaultValue) {
+    String value = options.get(name);
+    try {
+      return value == null ? defaultValue : Integer.parseInt(value);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException("invalid number for --" + name + ": " + value, e);
+    }
+  }
+
+  private static Duration toDuration(int seconds) {
+    return seconds > 0 ? Duration.ofSeconds(seconds) : null;
+  }
+
+  private static URL toUrl(String url) {
+    try {
+      return new URL(url);
+    } catch (MalformedURLException e) {
+      throw new IllegalArgumentException("Invalid sonar host url: " + url, e);
+    }
+  }
+
+  private static String firstNonBlank(String... values) {
+    for (String value : values) {
+      if (!Util.isBlank(value)) {
+        return value;
+      }
+    }
+    return null;
+  }
+
+}
@@ -0,0 +1,344 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.extension;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Properties;
+import org.apache.maven.execution.ExecutionEvent;
+import org.apache.maven.execution.ExecutionListener;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.project.MavenProject;
+import org.r0bb3n.maven.EarlyPolling;
+import org.r0bb3n.maven.HttpSettings;
+import org.r0bb3n.maven.PollingStrategy;
+import org.r0bb3n.maven.ReportTask;
+import org.r0bb3n.maven.SonarConnector;
+import org.r0bb3n.maven.Util;
+import org.r0bb3n.maven.json.ResponseParser;
+import org.r0bb3n.maven.transport.RecordingMode;
+
+/**
+ * Execution listener that starts {@link EarlyPolling} after a successful execution of goal
+ * {@code sonar} of the sonar-maven-plugin. All events are passed on to the original listener.
+ *
+ * <p>The connection parameters are read from the same properties the sonar-maven-plugin uses
+ * ({@code sonar.host.url}, {@code sonar.login}, {@code sonar.password}, environment variable
+ * {@code SONAR_TOKEN}). The HTTP transport is configured by the same
+ * {@code sonar-quality-gate.http.*} and {@code sonar-quality-gate.recording.*} properties as the
+ * goal {@code check} (plugin configuration in the POM is not visible here, only properties).
+ */
+public class EarlyPollingExecutionListener implements ExecutionListener {
+
+  static final String SONAR_PLUGIN_GROUP_ID = "org.sonarsource.scanner.maven";
+  static final String SONAR_PLUGIN_ARTIFACT_ID = "sonar-maven-plugin";
+  static final String SONAR_PLUGIN_GOAL = "sonar";
+
+  private static final String PROP_BUILD_DIRECTORY = "project.build.directory";
+
+  private final ExecutionListener delegate;
+  private final Log log;
+  private final MavenSession session;
+
+  /**
+   * Create listener
+   *
+   * @param delegate original listener, may be {@code null}
+   * @param log Logger to use
+   * @param session current session to read properties from
+   */
+  public EarlyPollingExecutionListener(ExecutionListener delegate, Log log,
+      MavenSession session) {
+    this.delegate = delegate;
+    this.log = log;
+    this.session = session;
+  }
+
+  @Override
+  public void mojoSucceeded(ExecutionEvent event) {
+    if (delegate != null) {
+      delegate.mojoSucceeded(event);
+    }
+    MojoExecution mojoExecution = event.getMojoExecution();
+    if (mojoExecution != null && SONAR_PLUGIN_GROUP_ID.equals(mojoExecution.getGroupId())
+        && SONAR_PLUGIN_ARTIFACT_ID.equals(mojoExecution.getArtifactId())
+        && SONAR_PLUGIN_GOAL.equals(mojoExecution.getGoal())) {
+      startPolling(event.getProject());
+    }
+  }
+
+  /**
+   * Read the report task file of the project and start polling
+   *
+   * @param project project the sonar-maven-plugin was executed for
+   */
+  void startPolling(MavenProject project) {
+    Path reportTaskPath = ReportTask.resolve(project.getBuild().getDirectory());
+    if (!Files.exists(reportTaskPath)) {
+      log.debug("sonar-quality-gate: no report task file found: " + reportTaskPath);
+      return;
+    }
+    String ceTaskId;
+    try {
+      ceTaskId = ReportTask.load(reportTaskPath).getProperty(ReportTask.KEY_CE_TASK_ID);
+    } catch (IOException e) {
+      log.warn("sonar-quality-gate: cannot read report task file: " + reportTaskPath);
+      return;
+    }
+    if (Util.isBlank(ceTaskId)) {
+      return;
+    }
+    Properties props = effectiveProperties(project);
+    SonarConnector connector;
+    int attempts;
+    PollingStrategy pollingStrategy;
+    try {
+      attempts = intProperty(props, "sonar-quality-gate.checkTask.attempts", 10);
+      pollingStrategy = createPollingStrategy(props);
+      connector = createConnector(props);
+    } catch (MalformedURLException | IllegalArgumentException e) {
+      // also invalid numbers, a typo must not break the build after a successful analysis
+      log.warn("sonar-quality-gate: early polling not possible - " + e.getMessage());
+      return;
+    }
+    log.info("sonar-quality-gate: start polling compute engine task " + ceTaskId
+        + " in the background");
+    EarlyPolling.start(ceTaskId, connector, attempts, pollingStrategy);
+  }
+
+  /**
+   * Create connector for the properties
+   *
+   * @param props effective properties
+   * @return connector
+   * @throws MalformedURLException invalid host url
+   * @throws IllegalArgumentException invalid response parser or HTTP settings
+   */
+  protected SonarConnector createConnector(Properties props) throws MalformedURLException {
+    String login = props.getProperty("sonar.login");
+    String password = props.getProperty("sonar.password");
+    if (Util.isBlank(login)) {
+      login = System.getenv("SONAR_TOKEN");
+      password = null;
+    }
+    ResponseParser.Type parser = ResponseParser.Type.valueOf(
+        props.getProperty("sonar-quality-gate.responseParser", "JACKSON"));
+    SonarConnector ret = new SonarConnector(log,
+        new URL(props.getProperty("sonar.host.url", "http://localhost:9000")), null, login,
+        password, createHttpSettings(props));
+    ret.setResponseParser(ResponseParser.of(parser));
+    return ret;
+  }
+
+  /**
+   * Map the {@code sonar-quality-gate.http.*} and {@code sonar-quality-gate.recording.*}
+   * properties to {@link HttpSettings}, with the same defaults as the mojo parameters
+   *
+   * @param props effective properties
+   * @return transport configuration
+   * @throws IllegalArgumentException invalid values
+   */
+  static HttpSettings createHttpSettings(Properties props) {
+    HttpSettings.HttpSettingsBuilder builder = HttpSettings.builder()
+        .transport(props.getProperty("sonar-quality-gate.http.transport", "jdk"))
+        .version(HttpClient.Version.valueOf(
+            props.getProperty("sonar-quality-gate.http.version", "HTTP_2")))
+        .connectTimeout(seconds(props, "sonar-quality-gate.http.connectTimeout.s", 10))
+        .requestTimeout(seconds(props, "sonar-quality-gate.http.requestTimeout.s", 60))
+        .threads(intProperty(props, "sonar-quality-gate.http.threads", 2))
+        .keepAlive(seconds(props, "sonar-quality-gate.http.keepAlive.s", 0))
+        .maxConnections(intProperty(props, "sonar-quality-gate.http.maxConnections", 20))
+        .maxConnectionsPerRoute(
+            intProperty(props, "sonar-quality-gate.http.maxConnectionsPerRoute", 5))
+        .maxConcurrency(intProperty(props, "sonar-quality-gate.http.maxConcurrency", 64));
+    RecordingMode recordingMode = RecordingMode.valueOf(
+        props.getProperty("sonar-quality-gate.recording.mode", RecordingMode.OFF.name()));
+    if (recordingMode != RecordingMode.OFF) {
+      builder.recordingMode(recordingMode)
+          .recordingFile(Path.of(props.getProperty("sonar-quality-gate.recording.file",
+              props.getProperty(PROP_BUILD_DIRECTORY, "target")
+                  + "/sonar-quality-gate-recording.ndjson")))
+          .replayLatencyScale(Double.parseDouble(
+              props.getProperty("sonar-quality-gate.recording.latencyScale", "1")));
+    }
+    return builder.build();
+  }
+
+  /**
+   * Map the {@code sonar-quality-gate.checkTask.*} properties to the {@link PollingStrategy},
+   * with the same defaults as the mojo parameters
+   *
+   * @param props effective properties
+   * @return strategy
+   * @throws IllegalArgumentException invalid values
+   */
+  static PollingStrategy createPollingStrategy(Properties props) {
+    return PollingStrategy.of(PollingStrategy.Type.valueOf(
+            props.getProperty("sonar-quality-gate.checkTask.strategy", "FIXED").trim()),
+        Duration.ofSeconds(intProperty(props, "sonar-quality-gate.checkTask.interval.s", 5)),
+        Double.parseDouble(
+            props.getProperty("sonar-quality-gate.checkTask.backoff.factor", "2").trim()),
+        Duration.ofSeconds(intProperty(props, "sonar-quality-gate.checkTask.maxInterval.s", 30)));
+  }
+
+  private static int intProperty(Properties props, String name, int defaultValue) {
+    return Integer.parseInt(props.getProperty(name, String.valueOf(defaultValue)).trim());
+  }
+
+  /**
+   * Read seconds, {@code 0} means "not set" like in the mojo
+   */
+  private static Duration seconds(Properties props, String name, int defaultValue) {
+    int seconds = intProperty(props, name, defaultValue);
+    return seconds > 0 ? Duration.ofSeconds(seconds) : null;
+  }
+
+  /**
+   * Merge properties with maven precedence: project &lt; system &lt; user properties
+   */
+  private Properties effectiveProperties(MavenProject project) {
+    Properties ret = new Properties();
+    // default of the recording file like ${project.build.directory}
+    ret.setProperty(PROP_BUILD_DIRECTORY, project.getBuild().getDirectory());
+    ret.putAll(project.getProperties());
+    ret.putAll(session.getSystemProperties());
+    ret.putAll(session.getUserProperties());
+    return ret;
+  }
+
+  // --- delegation only ---
+
+  @Override
+  public void projectDiscoveryStarted(ExecutionEvent event) {
+    if (delegate != null) {
+      delegate.projectDiscoveryStarted(event);
+    }
+  }
+
+  @Override
+  public void sessionStarted(ExecutionEvent event) {
+    if (delegate != null) {
+      delegate.sessionStarted(event);
+    }
+  }
+
+  @Override
+  public void sessionEnded(ExecutionEvent event) {
+    if (delegate != null) {
+      delegate.sessionEnded(event);
+    }
+  }
+
+  @Override
+  public void projectSkipped(ExecutionEvent event) {
+    if (delegate != null) {
+      delegate.projectSkipped(event);
+    }
+  }
+
+  @Override
+  public void projectStarted(ExecutionEvent event) {
+    if (delegate != null) {
+      delegate.projectStarted(event);
+    }
+  }
+
+  @Override
+  public void projectSucceeded(ExecutionEvent event) {
+    if (delegate != null) {
+      delegate.projectSucceeded(event);
+    }
+  }
+
+  @Override
+  public void projectFailed(ExecutionEvent event) {
+    if (delegate != null) {
+      delegate.projectFailed(event);
+    }
+  }
+
+  @Override
+  public void mojoSkipped(ExecutionEvent event) {
+    if (delegate != null) {
+      delegate.mojoSkipped(event);
+    }
+  }
+
+  @Override
+  public void mojoStarted(ExecutionEvent event) {
+    if (delegate != null) {
+      delegate.mojoStarted(event);
+    }
+  }
+
+  @Override
+  public void mojoFailed(ExecutionEvent event) {
+    if (delegate != null) {
+      delegate.mojoFailed(event);
+    }
+  }
+
+  @Override
+  public void forkStarted(ExecutionEvent event) {
+    if (delegate != null) {
+      delegate.forkStarted(event);
+    }
+  }
+
+  @Override
+  public void forkSucceeded(ExecutionEvent event) {
+    if (delegate != null) {
+      delegate.forkSucceeded(event);
+    }
+  }
+
+  @Override
+  public void forkFailed(ExecutionEvent event) {
+    if (delegate != null) {
+      delegate.forkFailed(event);
+    }
+  }
+
+  @Override
+  public void forkedProjectStarted(ExecutionEvent event) {
+    if (delegate != null) {
+      delegate.forkedProjectStarted(event);
+    }
+  }
+
+  @Override
+  public void forkedProjectSucceeded(ExecutionEvent event) {
+    if (delegate != null) {
+      delegate.forkedProjectSucceeded(event);
+    }
+  }
+
+  @Override
+  public void forkedProjectFailed(ExecutionEvent event) {
+    if (delegate != null) {
+      delegate.forkedProjectFailed(event);
+    }
+  }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.extension;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import org.apache.maven.AbstractMavenLifecycleParticipant;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.monitor.logging.DefaultLog;
+import org.codehaus.plexus.logging.Logger;
+import org.r0bb3n.maven.EarlyPolling;
+import org.r0bb3n.maven.PreparedConnectors;
+
+/**
+ * Optional build extension that starts polling the compute engine task as soon as the
+ * sonar-maven-plugin has written its report task file, so that the waiting time overlaps with the
+ * rest of the build. Activated by declaring this plugin with {@code <extensions>true</extensions>}
+ * and can be disabled by the property {@value #PROP_ENABLED}{@code =false}.
+ */
+@Named("sonar-quality-gate-early-polling")
+@Singleton
+public class EarlyPollingParticipant extends AbstractMavenLifecycleParticipant {
+
+  static final String PROP_ENABLED = "sonar-quality-gate.earlyPolling";
+
+  private final Logger logger;
+
+  /**
+   * Create participant
+   *
+   * @param logger maven logger
+   */
+  @Inject
+  public EarlyPollingParticipant(Logger logger) {
+    this.logger = logger;
+  }
+
+  @Override
+  public void afterProjectsRead(MavenSession session) {
+    String enabled = session.getUserProperties().getProperty(PROP_ENABLED,
+        session.getSystemProperties().getProperty(PROP_ENABLED, "true"));
+    if (!Boolean.parseBoolean(enabled)) {
+      logger.debug("sonar-quality-gate: early polling disabled");
+      return;
+    }
+    logger.debug("sonar-quality-gate: early polling enabled");
+    session.getRequest().setExecutionListener(
+        new EarlyPollingExecutionListener(session.getRequest().getExecutionListener(),
+            new DefaultLog(logger), session));
+  }
+
+  @Override
+  public void afterSessionEnd(MavenSession session) {
+    EarlyPolling.cancelAll();
+    PreparedConnectors.closeAll();
+  }
+
+}
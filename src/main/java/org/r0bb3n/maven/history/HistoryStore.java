@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.r0bb3n.maven.history;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.Value;
+import org.r0bb3n.maven.Util;
+
+/**
+ * Local history of the measures of one project, branch or pull request: one file per component
+ * with one tab separated line per data point ({@code date, metric, value}), only appended to.
+ * Knows the date of the latest data point per metric, so that a sync only needs to fetch newer
+ * data points.
+ */
+public class HistoryStore {
+
+  private final Path file;
+
+  private final List<DataPoint> points = new ArrayList<>();
+
+  /**
+   * latest data point per metric
+   */
+  private final Map<String, DataPoint> latest = new LinkedHashMap<>();
+
+  private HistoryStore(Path file) {
+    this.file = file;
+  }
+
+  /**
+   * Load the history of a component
+   *
+   * @param directory directory of all histories
+   * @param component component key, e.g. the project key
+   * @param branch branch or null
+   * @param pullRequest pull request or null
+   * @return loaded history, empty if there is none yet
+   * @throws IOException file cannot be read or is malformed
+   */
+  public static HistoryStore load(Path directory, String component, String branch,
+      String pullRequest) throws IOException {
+    String key = component + '|' + Objects.toString(branch, "") + '|'
+        + Objects.toString(pullRequest, "");
+    HistoryStore ret = new HistoryStore(
+        directory.resolve(URLEncoder.encode(key, StandardCharsets.UTF_8) + ".tsv"));
+    if (Files.exists(ret.file)) {
+      try (BufferedReader reader = Files.newBufferedReader(ret.file, StandardCharsets.UTF_8)) {
+        String line;
+        int number = 0;
+        while ((line = reader.readLine()) != null) {
+          number++;
+          String[] fields = line.split("\t", -1);
+          if (fields.length != 3) {
+            throw new IOException(String.format("Malformed line %d in %s", number, ret.file));
+          }
+          ret.add(new DataPoint(fields[0], fields[1], fields[2]));
+        }
+      }
+    }
+    return ret;
+  }
+
+  /**
+   * Get the date of the latest data point of a metric
+   *
+   * @param metric metric key
+   * @return date (format as returned by the server) or null, if the metric is not part of the
+   *     history
+   */
+  public String getLastDate(String metric) {
+    DataPoint point = latest.get(metric);
+    return point == null ? null : point.getDate();
+  }
+
+  /**
+   * Get all data points in the order they were added
+   *
+   * @return unmodifiable list
+   */
+  public List<DataPoint> getPoints() {
+    return Collections.unmodifiableList(points);
+  }
+
+  /**
+   * Group the data points by metric, each sorted by date
+   *
+   * @return data points per metric key
+   */
+  public Map<String, List<DataPoint>> byMetric() {
+    Map<String, List<DataPoint>> ret = new LinkedHashMap<>();
+    points.stream().sorted(Comparator.comparing(DataPoint::getDateTime,
+            Comparator.nullsFirst(Comparator.naturalOrder())))
+        .forEach(p -> ret.computeIfAbsent(p.getMetric(), k -> new ArrayList<>()).add(p));
+    return ret;
+  }
+
+  /**
+   * Append data points to the file
+   *
+   * @param newPoints data points to add
+   * @throws IOException file cannot be written
+   */
+  public void append(Collection<DataPoint> newPoints) throws IOException {
+    if (newPoints.isEmpty()) {
+      return;
+    }
+    Files.createDirectories(file.toAbsolutePath().getParent());
+    try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+        StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+      for (DataPoint point : newPoints) {
+        writer.write(String.join("\t", point.getDate(), point.getMetric(), point.getValue()));
+        writer.write('\n');
+        add(point);
+      }
+    }
+  }
+
+  private void add(DataPoint point) {
+    points.add(point);
+    OffsetDateTime date = point.getDateTime();
+    if (date != null) {
+      latest.merge(point.getMetric(), point,
+          (a, b) -> b.getDateTime().isAfter(a.getDateTime()) ? b : a);
+    }
+  }
+
+  /**
+   * Value of a metric at the date of an analysis
+   */
+  @Value
+  public static class DataPoint {
+
+    String date;
+    String metric;
+    String value;
+
+    /**
+     * Parse the date
+     *
+     * @return date or null, if malformed
+     */
+    public OffsetDateTime getDateTime() {
+      return Util.parseDateTime(date);
+    }
+  }
+
+}
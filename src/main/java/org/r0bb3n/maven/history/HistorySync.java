@@ -0,0 +1,241 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.r0bb3n.maven.history;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import lombok.Builder;
+import lombok.NonNull;
+import org.apache.maven.plugin.logging.Log;
+import org.r0bb3n.maven.SonarConnector;
+import org.r0bb3n.maven.Util;
+import org.r0bb3n.maven.history.HistoryStore.DataPoint;
+
+/**
+ * Fetches the history of measures from {@code api/measures/search_history} into a
+ * {@link HistoryStore}. Metrics already in the store are only requested from the date of their
+ * latest data point on, new metrics completely. Each page is parsed as a stream and appended to
+ * the store, while the next page is already requested.
+ */
+@Builder
+public class HistorySync {
+
+  /**
+   * maximum page size of {@code api/measures/search_history}
+   */
+  public static final int DEFAULT_PAGE_SIZE = 1000;
+
+  /**
+   * maximum number of metrics per request
+   */
+  static final int MAX_METRICS = 15;
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  @NonNull
+  private final Log log;
+
+  @NonNull
+  private final SonarConnector connector;
+
+  @NonNull
+  private final HistoryStore store;
+
+  @Builder.Default
+  private final int pageSize = DEFAULT_PAGE_SIZE;
+
+  /**
+   * Fetch the data points newer than the store
+   *
+   * @param component component key, e.g. the project key
+   * @param branch branch or null
+   * @param pullRequest pull request or null
+   * @param metricKeys metrics to fetch
+   * @return number of new data points
+   * @throws IOException history cannot be retrieved or store cannot be written
+   * @throws InterruptedException interrupted while waiting for a page
+   */
+  public int sync(String component, String branch, String pullRequest, List<String> metricKeys)
+      throws IOException, InterruptedException {
+    // metrics synced together share their watermark, new metrics have none
+    Map<String, List<String>> byFrom = new LinkedHashMap<>();
+    for (String metric : metricKeys) {
+      byFrom.computeIfAbsent(Objects.toString(store.getLastDate(metric), ""),
+          k -> new ArrayList<>()).add(metric);
+    }
+    Query query = new Query(component, branch, pullRequest);
+    int count = 0;
+    for (Map.Entry<String, List<String>> entry : byFrom.entrySet()) {
+      String from = entry.getKey().isEmpty() ? null : entry.getKey();
+      List<String> metrics = entry.getValue();
+      for (int i = 0; i < metrics.size(); i += MAX_METRICS) {
+        count += fetch(query, metrics.subList(i, Math.min(metrics.size(), i + MAX_METRICS)), from);
+      }
+    }
+    log.info(String.format("history of %s: %d new data point(s)", component, count));
+    return count;
+  }
+
+  /**
+   * Fetch all pages for some metrics
+   *
+   * @param from date of the latest data point in the store, points up to it are skipped
+   */
+  private int fetch(Query query, List<String> metrics, String from)
+      throws IOException, InterruptedException {
+    OffsetDateTime after = Util.parseDateTime(from);
+    int count = 0;
+    int page = 1;
+    CompletableFuture<String> next = query.page(connector, metrics, from, page, pageSize);
+    while (next != null) {
+      String body = await(next);
+      next = null;
+      List<DataPoint> points = new ArrayList<>();
+      try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+        expect(parser, JsonToken.START_OBJECT);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          String name = parser.getCurrentName();
+          parser.nextToken();
+          if ("paging".equals(name)) {
+            if (page * pageSize < readTotal(parser)) {
+              // request the next page while this one is processed
+              next = query.page(connector, metrics, from, ++page, pageSize);
+            }
+          } else if ("measures".equals(name) && parser.currentToken() == JsonToken.START_ARRAY) {
+            readMeasures(parser, after, points);
+          } else {
+            parser.skipChildren();
+          }
+        }
+      }
+      store.append(points);
+      count += points.size();
+    }
+    return count;
+  }
+
+  private static int readTotal(JsonParser parser) throws IOException {
+    int total = 0;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String name = parser.getCurrentName();
+      parser.nextToken();
+      if ("total".equals(name)) {
+        total = parser.getValueAsInt();
+      } else {
+        parser.skipChildren();
+      }
+    }
+    return total;
+  }
+
+  private static void readMeasures(JsonParser parser, OffsetDateTime after,
+      List<DataPoint> points) throws IOException {
+    while (parser.nextToken() == JsonToken.START_OBJECT) {
+      String metric = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String name = parser.getCurrentName();
+        parser.nextToken();
+        if ("metric".equals(name)) {
+          metric = parser.getValueAsString();
+        } else if ("history".equals(name) && parser.currentToken() == JsonToken.START_ARRAY) {
+          if (metric == null) {
+            throw new IOException("history before metric at " + parser.getCurrentLocation());
+          }
+          readHistory(parser, metric, after, points);
+        } else {
+          parser.skipChildren();
+        }
+      }
+    }
+  }
+
+  private static void readHistory(JsonParser parser, String metric, OffsetDateTime after,
+      List<DataPoint> points) throws IOException {
+    while (parser.nextToken() == JsonToken.START_OBJECT) {
+      String date = null;
+      String value = null;
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String name = parser.getCurrentName();
+        parser.nextToken();
+        if ("date".equals(name)) {
+          date = parser.getValueAsString();
+        } else if ("value".equals(name)) {
+          value = parser.getValueAsString();
+        } else {
+          parser.skipChildren();
+        }
+      }
+      OffsetDateTime dateTime = Util.parseDateTime(date);
+      // analyses without value of this metric are skipped, as well as those already stored
+      if (value != null && dateTime != null && (after == null || dateTime.isAfter(after))) {
+        points.add(new DataPoint(date, metric, value));
+      }
+    }
+  }
+
+  private static void expect(JsonParser parser, JsonToken expected) throws IOException {
+    JsonToken actual = parser.nextToken();
+    if (actual != expected) {
+      throw new IOException(String.format("Unexpected token %s at %s, expected %s", actual,
+          parser.getCurrentLocation(), expected));
+    }
+  }
+
+  private static String await(CompletableFuture<String> future)
+      throws IOException, InterruptedException {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause() instanceof CompletionException && e.getCause().getCause()
+          != null ? e.getCause().getCause() : e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      }
+      throw new IOException("error retrieving history", cause);
+    }
+  }
+
+  /**
+   * Component, branch and pull request the history is requested for
+   */
+  @lombok.Value
+  private static class Query {
+
+    String component;
+    String branch;
+    String pullRequest;
+
+    CompletableFuture<String> page(SonarConnector connector, List<String> metrics, String from,
+        int page, int pageSize) {
+      return connector.searchHistoryAsync(component, branch, pullRequest, metrics, from, page,
+          pageSize);
+    }
+  }
+
+}
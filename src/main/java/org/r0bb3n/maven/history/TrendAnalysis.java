@@ -0,0 +1,194 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.r0bb3n.maven.history;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.Value;
+import org.r0bb3n.maven.history.HistoryStore.DataPoint;
+import org.r0bb3n.maven.model.Condition;
+
+/**
+ * Derives trends from the latest analyses of a {@link HistoryStore}: a quality gate status that
+ * flips often is reported as flaky, a metric of a condition that is getting worse (based on the
+ * least squares slope over the window) with an estimate when its error threshold will be
+ * reached.
+ */
+public class TrendAnalysis {
+
+  /**
+   * default number of analyses considered
+   */
+  public static final int DEFAULT_WINDOW = 20;
+
+  /**
+   * metric key of the quality gate status
+   */
+  public static final String ALERT_STATUS = "alert_status";
+
+  /**
+   * minimum number of status changes within the window to consider the quality gate flaky
+   */
+  static final int FLAKY_CHANGES = 3;
+
+  /**
+   * minimum relative change within the window to warn about a metric getting worse
+   */
+  static final double WARN_CHANGE = 0.1;
+
+  private final int window;
+
+  /**
+   * Create an analysis
+   *
+   * @param window number of analyses considered, at least 2
+   */
+  public TrendAnalysis(int window) {
+    if (window < 2) {
+      throw new IllegalArgumentException("window must be at least 2: " + window);
+    }
+    this.window = window;
+  }
+
+  /**
+   * Analyze the status and the metrics of the conditions
+   *
+   * @param store history
+   * @param conditions conditions of the quality gate, define direction and threshold
+   * @return trend per metric, starting with the quality gate status
+   */
+  public List<Trend> analyze(HistoryStore store, List<Condition> conditions) {
+    Map<String, List<DataPoint>> byMetric = store.byMetric();
+    List<Trend> ret = new ArrayList<>();
+    List<DataPoint> status = byMetric.get(ALERT_STATUS);
+    if (status != null) {
+      ret.add(analyzeStatus(lastWindow(status)));
+    }
+    for (Condition condition : conditions) {
+      List<DataPoint> points = byMetric.get(condition.getMetricKey());
+      if (points != null) {
+        Trend trend = analyzeMetric(condition, lastWindow(points));
+        if (trend != null) {
+          ret.add(trend);
+        }
+      }
+    }
+    return ret;
+  }
+
+  private List<DataPoint> lastWindow(List<DataPoint> points) {
+    return points.subList(Math.max(0, points.size() - window), points.size());
+  }
+
+  static Trend analyzeStatus(List<DataPoint> points) {
+    int passed = 0;
+    int changes = 0;
+    String previous = null;
+    for (DataPoint point : points) {
+      if ("OK".equals(point.getValue())) {
+        passed++;
+      }
+      if (previous != null && !previous.equals(point.getValue())) {
+        changes++;
+      }
+      previous = point.getValue();
+    }
+    boolean flaky = changes >= FLAKY_CHANGES;
+    return new Trend(ALERT_STATUS, String.format(
+        "passed %d of %d analyses, status changed %d time(s)%s", passed, points.size(), changes,
+        flaky ? " - flaky quality gate" : ""), flaky);
+  }
+
+  /**
+   * Fit a line through the numeric values and compare its start and end
+   *
+   * @return trend or null, if less than two numeric values
+   */
+  static Trend analyzeMetric(Condition condition, List<DataPoint> points) {
+    List<Double> values = new ArrayList<>();
+    for (DataPoint point : points) {
+      Double value = parse(point.getValue());
+      if (value != null) {
+        values.add(value);
+      }
+    }
+    int n = values.size();
+    if (n < 2) {
+      return null;
+    }
+    double meanX = (n - 1) / 2.0;
+    double meanY = values.stream().mapToDouble(Double::doubleValue).average().orElse(0);
+    double sxy = 0;
+    double sxx = 0;
+    for (int i = 0; i < n; i++) {
+      sxy += (i - meanX) * (values.get(i) - meanY);
+      sxx += (i - meanX) * (i - meanX);
+    }
+    double slope = sxy / sxx;
+    double start = meanY - slope * meanX;
+    double end = start + slope * (n - 1);
+    Double threshold = parse(condition.getErrorThreshold());
+    // "GT": error if greater than the threshold, i.e. rising is bad; "LT" vice versa
+    int bad = "LT".equals(condition.getComparator()) ? -1 : 1;
+    double base = start != 0 ? Math.abs(start)
+        : threshold != null && threshold != 0 ? Math.abs(threshold) : 1;
+    double change = (end - start) / base;
+    boolean worse = change * bad >= WARN_CHANGE;
+
+    StringBuilder description = new StringBuilder(String.format(
+        "%s -> %s over %d analyses (%+.1f%%)", format(start), format(end), n, change * 100));
+    if (worse && threshold != null && (threshold - end) * bad > 0) {
+      description.append(String.format(", threshold %s reached in ~%d analyses",
+          format(threshold), (long) Math.ceil((threshold - end) / slope)));
+    }
+    return new Trend(condition.getMetricKey(), description.toString(), worse);
+  }
+
+  private static Double parse(String value) {
+    if (value == null) {
+      return null;
+    }
+    try {
+      return Double.valueOf(value);
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  private static String format(double value) {
+    return value == Math.rint(value) ? String.valueOf((long) value)
+        : String.format("%.2f", value);
+  }
+
+  /**
+   * Trend of one metric
+   */
+  @Value
+  public static class Trend {
+
+    String metric;
+    String description;
+
+    /**
+     * true, if flaky resp. getting worse
+     */
+    boolean warning;
+  }
+
+}
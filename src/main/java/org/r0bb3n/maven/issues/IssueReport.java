@@ -0,0 +1,457 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.r0bb3n.maven.issues;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+import org.apache.maven.plugin.logging.Log;
+import org.r0bb3n.maven.SonarConnector;
+import org.r0bb3n.maven.json.JacksonResponseParser;
+
+/**
+ * Writes the unresolved issues on new code of a component to a file, e.g. to drill down into a
+ * failed quality gate. Pages of {@code api/issues/search} are requested in parallel (at most
+ * {@code prefetch} pages in flight) and each page is streamed to the file in order, so memory is
+ * bounded by the prefetch window, regardless of the number of issues.
+ *
+ * <p>The server returns at most 10,000 results per query. Larger result sets are partitioned by
+ * severity and then by type, partitions still exceeding the limit are truncated.
+ */
+@Builder
+public class IssueReport {
+
+  /**
+   * maximum page size of {@code api/issues/search}
+   */
+  public static final int DEFAULT_PAGE_SIZE = 500;
+
+  public static final int DEFAULT_PREFETCH = 4;
+
+  /**
+   * maximum number of results of one query ({@code p * ps}) accepted by the server
+   */
+  public static final int MAX_RESULT_WINDOW = 10_000;
+
+  private static final String[] SEVERITIES = {"INFO", "MINOR", "MAJOR", "CRITICAL", "BLOCKER"};
+
+  private static final String[] TYPES = {"CODE_SMELL", "BUG", "VULNERABILITY"};
+
+  /**
+   * query parameters and values to partition large result sets by, in this order
+   */
+  private static final Map<String, String[]> PARTITION_PARAMS = new LinkedHashMap<>();
+
+  static {
+    PARTITION_PARAMS.put("severities", SEVERITIES);
+    PARTITION_PARAMS.put("types", TYPES);
+  }
+
+  /**
+   * Supported output formats
+   */
+  public enum Format {
+    /**
+     * one issue per line, as returned by the server
+     */
+    JSONL,
+    /**
+     * Static Analysis Results Interchange Format 2.1.0, e.g. for code scanning of GitHub
+     */
+    SARIF
+  }
+
+  @NonNull
+  private final Log log;
+
+  @NonNull
+  private final SonarConnector connector;
+
+  @NonNull
+  private final Path file;
+
+  @Builder.Default
+  private final Format format = Format.JSONL;
+
+  @Builder.Default
+  private final int pageSize = DEFAULT_PAGE_SIZE;
+
+  /**
+   * maximum number of pages requested in parallel
+   */
+  @Builder.Default
+  private final int prefetch = DEFAULT_PREFETCH;
+
+  @Builder.Default
+  private final int maxResults = MAX_RESULT_WINDOW;
+
+  /**
+   * Request the issues and write them to the file. The file is replaced atomically.
+   *
+   * @param component component key, e.g. the project key
+   * @param branch branch name or null
+   * @param pullRequest pull request or null
+   * @return number of issues written
+   * @throws IOException connection problems, bad status code or file cannot be written
+   * @throws InterruptedException interrupted while waiting for a page
+   */
+  public long write(String component, String branch, String pullRequest)
+      throws IOException, InterruptedException {
+    Query query = new Query(component, branch, pullRequest);
+    List<Partition> partitions = new ArrayList<>();
+    partition(query, Map.of(), 0, partitions);
+
+    Path parent = file.toAbsolutePath().getParent();
+    Files.createDirectories(parent);
+    Path tmp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+    long count = 0;
+    try {
+      try (Writer writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8);
+          JsonGenerator generator = MapperHolder.MAPPER.getFactory().createGenerator(writer)) {
+        IssueSink sink = format == Format.SARIF ? new SarifSink(generator)
+            : new JsonLinesSink(generator);
+        sink.begin();
+        for (Partition partition : partitions) {
+          count += fetch(query, partition, sink);
+        }
+        sink.end();
+      }
+      Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(tmp);
+    }
+    log.info(String.format("%d issue(s) on new code written to: %s", count, file));
+    return count;
+  }
+
+  /**
+   * Split the query until each partition fits into the result window of the server
+   */
+  private void partition(Query query, Map<String, String> filter, int depth,
+      List<Partition> partitions) throws IOException, InterruptedException {
+    int total = readTotal(await(query.page(connector, filter, 1, 1)));
+    if (total == 0) {
+      return;
+    }
+    if (total <= maxResults || depth == PARTITION_PARAMS.size()) {
+      if (total > maxResults) {
+        log.warn(String.format("%d issues match %s, only the first %d are written", total,
+            filter, maxResults));
+      }
+      partitions.add(new Partition(filter, Math.min(total, maxResults)));
+      return;
+    }
+    Map.Entry<String, String[]> param =
+        new ArrayList<>(PARTITION_PARAMS.entrySet()).get(depth);
+    for (String value : param.getValue()) {
+      Map<String, String> subFilter = new LinkedHashMap<>(filter);
+      subFilter.put(param.getKey(), value);
+      partition(query, subFilter, depth + 1, partitions);
+    }
+  }
+
+  /**
+   * Request all pages of a partition, keeping up to {@link #prefetch} requests in flight, and
+   * stream them to the sink in order
+   */
+  private long fetch(Query query, Partition partition, IssueSink sink)
+      throws IOException, InterruptedException {
+    int pages = Math.max(1, Math.min((partition.getTotal() + pageSize - 1) / pageSize,
+        maxResults / pageSize));
+    Deque<CompletableFuture<String>> inFlight = new ArrayDeque<>();
+    int nextPage = 1;
+    long count = 0;
+    try {
+      while (nextPage <= pages || !inFlight.isEmpty()) {
+        while (nextPage <= pages && inFlight.size() < Math.max(1, prefetch)) {
+          inFlight.add(query.page(connector, partition.getFilter(), nextPage++, pageSize));
+        }
+        count += writeIssues(await(inFlight.poll()), sink);
+      }
+    } finally {
+      inFlight.forEach(f -> f.cancel(true));
+    }
+    return count;
+  }
+
+  /**
+   * Stream the {@code issues} array of a page to the sink
+   *
+   * @return number of issues
+   */
+  private static long writeIssues(String page, IssueSink sink) throws IOException {
+    long count = 0;
+    try (JsonParser parser = MapperHolder.MAPPER.getFactory().createParser(page)) {
+      expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String name = parser.getCurrentName();
+        JsonToken value = parser.nextToken();
+        if ("issues".equals(name) && value == JsonToken.START_ARRAY) {
+          while (parser.nextToken() == JsonToken.START_OBJECT) {
+            sink.issue(parser);
+            count++;
+          }
+        } else {
+          parser.skipChildren();
+        }
+      }
+    }
+    return count;
+  }
+
+  private static int readTotal(String page) throws IOException {
+    JsonNode root = MapperHolder.MAPPER.readTree(page);
+    JsonNode total = root.path("paging").path("total");
+    return total.isMissingNode() ? root.path("total").asInt(0) : total.asInt(0);
+  }
+
+  private static void expect(JsonParser parser, JsonToken actual, JsonToken expected)
+      throws IOException {
+    if (actual != expected) {
+      throw new IOException(String.format("Unexpected token %s at %s, expected %s", actual,
+          parser.getCurrentLocation(), expected));
+    }
+  }
+
+  private static String await(CompletableFuture<String> future)
+      throws IOException, InterruptedException {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause() instanceof CompletionException && e.getCause().getCause()
+          != null ? e.getCause().getCause() : e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      }
+      throw new IOException("error retrieving issues", cause);
+    }
+  }
+
+  /**
+   * Component, branch and pull request the issues are searched for
+   */
+  @Value
+  private static class Query {
+
+    String component;
+    String branch;
+    String pullRequest;
+
+    CompletableFuture<String> page(SonarConnector connector, Map<String, String> filter,
+        int page, int pageSize) {
+      return connector.searchNewIssuesAsync(component, branch, pullRequest, filter, page,
+          pageSize);
+    }
+  }
+
+  /**
+   * Filter of a query and number of issues to fetch with it
+   */
+  @Value
+  private static class Partition {
+
+    Map<String, String> filter;
+    int total;
+  }
+
+  /**
+   * Output format specific writing of the issues
+   */
+  private interface IssueSink {
+
+    void begin() throws IOException;
+
+    /**
+     * Write one issue
+     *
+     * @param parser positioned at the start of the issue object, to be consumed up to its end
+     */
+    void issue(JsonParser parser) throws IOException;
+
+    void end() throws IOException;
+  }
+
+  /**
+   * Copies each issue as is, one per line
+   */
+  private static class JsonLinesSink implements IssueSink {
+
+    private final JsonGenerator generator;
+    private boolean empty = true;
+
+    JsonLinesSink(JsonGenerator generator) {
+      this.generator = generator;
+      generator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+    }
+
+    @Override
+    public void begin() {
+      // nothing to do
+    }
+
+    @Override
+    public void issue(JsonParser parser) throws IOException {
+      generator.copyCurrentStructure(parser);
+      empty = false;
+    }
+
+    @Override
+    public void end() throws IOException {
+      if (!empty) {
+        generator.writeRaw('\n');
+      }
+    }
+  }
+
+  /**
+   * Maps each issue to a SARIF result
+   */
+  private static class SarifSink implements IssueSink {
+
+    private final JsonGenerator generator;
+
+    SarifSink(JsonGenerator generator) {
+      this.generator = generator;
+    }
+
+    @Override
+    public void begin() throws IOException {
+      generator.writeStartObject();
+      generator.writeStringField("$schema", "https://json.schemastore.org/sarif-2.1.0.json");
+      generator.writeStringField("version", "2.1.0");
+      generator.writeArrayFieldStart("runs");
+      generator.writeStartObject();
+      generator.writeObjectFieldStart("tool");
+      generator.writeObjectFieldStart("driver");
+      generator.writeStringField("name", "SonarQube");
+      generator.writeStringField("informationUri",
+          "https://www.sonarsource.com/products/sonarqube/");
+      generator.writeEndObject();
+      generator.writeEndObject();
+      generator.writeArrayFieldStart("results");
+    }
+
+    @Override
+    public void issue(JsonParser parser) throws IOException {
+      JsonNode issue = MapperHolder.MAPPER.readTree(parser);
+      generator.writeStartObject();
+      generator.writeStringField("ruleId", issue.path("rule").asText());
+      generator.writeStringField("level", toLevel(issue.path("severity").asText()));
+      generator.writeObjectFieldStart("message");
+      generator.writeStringField("text", issue.path("message").asText());
+      generator.writeEndObject();
+      generator.writeArrayFieldStart("locations");
+      generator.writeStartObject();
+      generator.writeObjectFieldStart("physicalLocation");
+      generator.writeObjectFieldStart("artifactLocation");
+      generator.writeStringField("uri", toPath(issue.path("component").asText()));
+      generator.writeEndObject();
+      writeRegion(issue);
+      generator.writeEndObject();
+      generator.writeEndObject();
+      generator.writeEndArray();
+      generator.writeObjectFieldStart("properties");
+      for (String name : new String[]{"key", "severity", "type"}) {
+        if (issue.hasNonNull(name)) {
+          generator.writeStringField(name, issue.get(name).asText());
+        }
+      }
+      generator.writeEndObject();
+      generator.writeEndObject();
+    }
+
+    private void writeRegion(JsonNode issue) throws IOException {
+      JsonNode textRange = issue.path("textRange");
+      if (textRange.has("startLine")) {
+        generator.writeObjectFieldStart("region");
+        generator.writeNumberField("startLine", textRange.get("startLine").asInt());
+        generator.writeNumberField("startColumn", textRange.path("startOffset").asInt() + 1);
+        generator.writeNumberField("endLine",
+            textRange.path("endLine").asInt(textRange.get("startLine").asInt()));
+        if (textRange.has("endOffset")) {
+          generator.writeNumberField("endColumn", textRange.get("endOffset").asInt() + 1);
+        }
+        generator.writeEndObject();
+      } else if (issue.has("line")) {
+        generator.writeObjectFieldStart("region");
+        generator.writeNumberField("startLine", issue.get("line").asInt());
+        generator.writeEndObject();
+      }
+    }
+
+    @Override
+    public void end() throws IOException {
+      generator.writeEndArray();
+      generator.writeEndObject();
+      generator.writeEndArray();
+      generator.writeEndObject();
+    }
+
+    /**
+     * Strip the project key, e.g. {@code my-project:src/main/java/Foo.java}
+     */
+    private static String toPath(String component) {
+      int separator = component.indexOf(':');
+      return separator < 0 ? component : component.substring(separator + 1);
+    }
+
+    private static String toLevel(String severity) {
+      switch (severity) {
+        case "BLOCKER":
+        case "CRITICAL":
+          return "error";
+        case "MAJOR":
+          return "warning";
+        default:
+          return "note";
+      }
+    }
+  }
+
+  /**
+   * Lazy holder of the mapper used for streaming and for the trees of single issues
+   */
+  private static class MapperHolder {
+
+    static final ObjectMapper MAPPER = JacksonResponseParser.createMapper();
+
+  }
+
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for the evaluation of the quality gate, i.e. retrieval of the project status and the
+ * verdict
+ */
+@Name("org.r0bb3n.sonar.GateEvaluation")
+@Label("Sonar Quality Gate Evaluation")
+@Category("Sonar Quality Gate")
+@Description("Retrieval and evaluation of the project status")
+public class GateEvaluationEvent extends Event {
+
+  @Label("Project Key")
+  public String projectKey;
+
+  @Label("Mode")
+  @Description("integrated, simple or advanced")
+  public String mode;
+
+  @Label("Status")
+  @Description("Quality gate status, empty if the evaluation failed")
+  public String status;
+
+  @Label("Failed Conditions")
+  public String failedConditions;
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for one call of the Sonar Web API, the duration is the latency of the request
+ */
+@Name("org.r0bb3n.sonar.HttpExchange")
+@Label("Sonar Web API Call")
+@Category({"Sonar Quality Gate", "HTTP"})
+@Description("Request to the Sonar Web API until the response body has been received")
+public class HttpExchangeEvent extends Event {
+
+  @Label("Endpoint")
+  @Description("Path of the Web API resource, e.g. api/ce/task")
+  public String endpoint;
+
+  @Label("URI")
+  public String uri;
+
+  @Label("Status Code")
+  @Description("HTTP status code, 0 if no response was received")
+  public int statusCode;
+
+  @Label("Response Size")
+  @DataAmount
+  public long responseBytes;
+
+  @Label("Error")
+  @Description("Error message, if the request failed")
+  public String error;
+
+}
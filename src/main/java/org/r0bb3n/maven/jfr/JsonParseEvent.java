@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for mapping a Sonar Web API response into the model
+ */
+@Name("org.r0bb3n.sonar.JsonParse")
+@Label("Sonar Response Parsing")
+@Category({"Sonar Quality Gate", "JSON"})
+@Description("Deserialization of a Sonar Web API response")
+public class JsonParseEvent extends Event {
+
+  @Label("Target Type")
+  public String targetType;
+
+  @Label("Input Size")
+  @DataAmount
+  public long inputChars;
+
+}
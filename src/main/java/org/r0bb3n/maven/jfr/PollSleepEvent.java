@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event for the wait between two poll cycles of the compute engine task
+ */
+@Name("org.r0bb3n.sonar.PollSleep")
+@Label("Sonar Task Poll Wait")
+@Category("Sonar Quality Gate")
+@Description("Wait until the compute engine task is requested again")
+public class PollSleepEvent extends Event {
+
+  @Label("Task Id")
+  public String ceTaskId;
+
+  @Label("Interval")
+  @Timespan(Timespan.SECONDS)
+  public long intervalS;
+
+}
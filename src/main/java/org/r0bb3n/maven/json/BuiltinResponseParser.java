@@ -0,0 +1,442 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.json;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.r0bb3n.maven.model.Activity;
+import org.r0bb3n.maven.model.Component;
+import org.r0bb3n.maven.model.ComponentMeasures;
+import org.r0bb3n.maven.model.Condition;
+import org.r0bb3n.maven.model.Measure;
+import org.r0bb3n.maven.model.MeasuresContainer;
+import org.r0bb3n.maven.model.Metric;
+import org.r0bb3n.maven.model.Paging;
+import org.r0bb3n.maven.model.ProjectStatus;
+import org.r0bb3n.maven.model.ProjectStatusContainer;
+import org.r0bb3n.maven.model.Task;
+import org.r0bb3n.maven.model.TaskContainer;
+
+/**
+ * {@link ResponseParser} based on {@link JsonReader}, without any dependency. Supports
+ * {@link TaskContainer}, {@link ProjectStatusContainer}, {@link ComponentMeasures},
+ * {@link MeasuresContainer} and {@link Activity}, unknown properties are skipped.
+ */
+public class BuiltinResponseParser implements ResponseParser {
+
+  @Override
+  public <T> T readValue(String json, Class<T> type) throws IOException {
+    JsonReader reader = new JsonReader(json);
+    Object ret;
+    if (type == TaskContainer.class) {
+      ret = readTaskContainer(reader);
+    } else if (type == ProjectStatusContainer.class) {
+      ret = readProjectStatusContainer(reader);
+    } else if (type == ComponentMeasures.class) {
+      ret = readComponentMeasures(reader);
+    } else if (type == MeasuresContainer.class) {
+      ret = readMeasuresContainer(reader);
+    } else if (type == Activity.class) {
+      ret = readActivity(reader);
+    } else {
+      throw new IllegalArgumentException(
+          "Type not supported by built-in parser: " + type.getName());
+    }
+    reader.peek(); // only whitespace may follow
+    return type.cast(ret);
+  }
+
+  @Override
+  public boolean readBoolean(String json, String name) throws IOException {
+    JsonReader reader = new JsonReader(json);
+    boolean ret = false;
+    reader.beginObject();
+    while (reader.hasNext()) {
+      if (name.equals(reader.nextName()) && reader.peek() == JsonReader.Token.BOOLEAN) {
+        ret = reader.nextBoolean();
+      } else {
+        reader.skipValue();
+      }
+    }
+    reader.endObject();
+    return ret;
+  }
+
+  private TaskContainer readTaskContainer(JsonReader reader) throws IOException {
+    TaskContainer ret = new TaskContainer();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      if ("task".equals(reader.nextName())) {
+        ret.setTask(skipNull(reader) ? null : readTask(reader));
+      } else {
+        reader.skipValue();
+      }
+    }
+    reader.endObject();
+    return ret;
+  }
+
+  private Activity readActivity(JsonReader reader) throws IOException {
+    Activity ret = new Activity();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      switch (reader.nextName()) {
+        case "tasks":
+          if (!skipNull(reader)) {
+            List<Task> tasks = new ArrayList<>();
+            reader.beginArray();
+            while (reader.hasNext()) {
+              tasks.add(readTask(reader));
+            }
+            reader.endArray();
+            ret.setTasks(tasks);
+          }
+          break;
+        case "paging":
+          ret.setPaging(skipNull(reader) ? null : readPaging(reader));
+          break;
+        default:
+          reader.skipValue();
+      }
+    }
+    reader.endObject();
+    return ret;
+  }
+
+  private Paging readPaging(JsonReader reader) throws IOException {
+    Paging ret = new Paging();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      switch (reader.nextName()) {
+        case "pageIndex":
+          ret.setPageIndex(Optional.ofNullable(readInteger(reader)).orElse(0));
+          break;
+        case "pageSize":
+          ret.setPageSize(Optional.ofNullable(readInteger(reader)).orElse(0));
+          break;
+        case "total":
+          ret.setTotal(Optional.ofNullable(readInteger(reader)).orElse(0));
+          break;
+        default:
+          reader.skipValue();
+      }
+    }
+    reader.endObject();
+    return ret;
+  }
+
+  private Task readTask(JsonReader reader) throws IOException {
+    Task ret = new Task();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      switch (reader.nextName()) {
+        case "analysisId":
+          ret.setAnalysisId(reader.nextStringOrNull());
+          break;
+        case "componentKey":
+          ret.setComponentKey(reader.nextStringOrNull());
+          break;
+        case "branch":
+          ret.setBranch(reader.nextStringOrNull());
+          break;
+        case "pullRequest":
+          ret.setPullRequest(reader.nextStringOrNull());
+          break;
+        case "status":
+          ret.setStatus(readEnum(reader, Task.Status.class));
+          break;
+        case "submittedAt":
+          ret.setSubmittedAt(reader.nextStringOrNull());
+          break;
+        case "startedAt":
+          ret.setStartedAt(reader.nextStringOrNull());
+          break;
+        case "executedAt":
+          ret.setExecutedAt(reader.nextStringOrNull());
+          break;
+        case "executionTimeMs":
+          ret.setExecutionTimeMs(skipNull(reader) ? null : reader.nextLong());
+          break;
+        default:
+          reader.skipValue();
+      }
+    }
+    reader.endObject();
+    return ret;
+  }
+
+  private ProjectStatusContainer readProjectStatusContainer(JsonReader reader) throws IOException {
+    ProjectStatusContainer ret = new ProjectStatusContainer();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      if ("projectStatus".equals(reader.nextName())) {
+        ret.setProjectStatus(skipNull(reader) ? null : readProjectStatus(reader));
+      } else {
+        reader.skipValue();
+      }
+    }
+    reader.endObject();
+    return ret;
+  }
+
+  private ProjectStatus readProjectStatus(JsonReader reader) throws IOException {
+    ProjectStatus ret = new ProjectStatus();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      switch (reader.nextName()) {
+        case "status":
+          ret.setStatus(readEnum(reader, ProjectStatus.Status.class));
+          break;
+        case "ignoredConditions":
+          ret.setIgnoredConditions(!skipNull(reader) && reader.nextBoolean());
+          break;
+        case "conditions":
+          ret.setConditions(skipNull(reader) ? null : readConditions(reader));
+          break;
+        default:
+          reader.skipValue();
+      }
+    }
+    reader.endObject();
+    return ret;
+  }
+
+  private List<Condition> readConditions(JsonReader reader) throws IOException {
+    List<Condition> ret = new ArrayList<>();
+    reader.beginArray();
+    while (reader.hasNext()) {
+      Condition condition = new Condition();
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "status":
+            condition.setStatus(readEnum(reader, ProjectStatus.Status.class));
+            break;
+          case "metricKey":
+            condition.setMetricKey(reader.nextStringOrNull());
+            break;
+          case "comparator":
+            condition.setComparator(reader.nextStringOrNull());
+            break;
+          case "periodIndex":
+            condition.setPeriodIndex(readInteger(reader));
+            break;
+          case "errorThreshold":
+            condition.setErrorThreshold(reader.nextStringOrNull());
+            break;
+          case "actualValue":
+            condition.setActualValue(reader.nextStringOrNull());
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      ret.add(condition);
+    }
+    reader.endArray();
+    return ret;
+  }
+
+  private ComponentMeasures readComponentMeasures(JsonReader reader) throws IOException {
+    ComponentMeasures ret = new ComponentMeasures();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      switch (reader.nextName()) {
+        case "component":
+          ret.setComponent(skipNull(reader) ? null : readComponent(reader));
+          break;
+        case "metrics":
+          ret.setMetrics(skipNull(reader) ? null : readMetrics(reader));
+          break;
+        default:
+          reader.skipValue();
+      }
+    }
+    reader.endObject();
+    return ret;
+  }
+
+  private MeasuresContainer readMeasuresContainer(JsonReader reader) throws IOException {
+    MeasuresContainer ret = new MeasuresContainer();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      if ("measures".equals(reader.nextName())) {
+        ret.setMeasures(skipNull(reader) ? null : readMeasures(reader));
+      } else {
+        reader.skipValue();
+      }
+    }
+    reader.endObject();
+    return ret;
+  }
+
+  private Component readComponent(JsonReader reader) throws IOException {
+    Component ret = new Component();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      switch (reader.nextName()) {
+        case "key":
+          ret.setKey(reader.nextStringOrNull());
+          break;
+        case "name":
+          ret.setName(reader.nextStringOrNull());
+          break;
+        case "measures":
+          ret.setMeasures(skipNull(reader) ? null : readMeasures(reader));
+          break;
+        default:
+          reader.skipValue();
+      }
+    }
+    reader.endObject();
+    return ret;
+  }
+
+  private List<Measure> readMeasures(JsonReader reader) throws IOException {
+    List<Measure> ret = new ArrayList<>();
+    reader.beginArray();
+    while (reader.hasNext()) {
+      Measure measure = new Measure();
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "metric":
+            measure.setMetric(reader.nextStringOrNull());
+            break;
+          case "component":
+            measure.setComponent(reader.nextStringOrNull());
+            break;
+          case "value":
+            measure.setValue(reader.nextStringOrNull());
+            break;
+          case "period":
+            measure.setPeriod(skipNull(reader) ? null : readPeriod(reader));
+            break;
+          case "periods":
+            if (!skipNull(reader)) {
+              List<Measure.Period> periods = new ArrayList<>();
+              reader.beginArray();
+              while (reader.hasNext()) {
+                periods.add(readPeriod(reader));
+              }
+              reader.endArray();
+              measure.setPeriods(periods);
+            }
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      ret.add(measure);
+    }
+    reader.endArray();
+    return ret;
+  }
+
+  private Measure.Period readPeriod(JsonReader reader) throws IOException {
+    Measure.Period ret = new Measure.Period();
+    reader.beginObject();
+    while (reader.hasNext()) {
+      switch (reader.nextName()) {
+        case "index":
+          ret.setIndex(readInteger(reader));
+          break;
+        case "value":
+          ret.setValue(reader.nextStringOrNull());
+          break;
+        default:
+          reader.skipValue();
+      }
+    }
+    reader.endObject();
+    return ret;
+  }
+
+  private List<Metric> readMetrics(JsonReader reader) throws IOException {
+    List<Metric> ret = new ArrayList<>();
+    reader.beginArray();
+    while (reader.hasNext()) {
+      Metric metric = new Metric();
+      reader.beginObject();
+      while (reader.hasNext()) {
+        switch (reader.nextName()) {
+          case "key":
+            metric.setKey(reader.nextStringOrNull());
+            break;
+          case "name":
+            metric.setName(reader.nextStringOrNull());
+            break;
+          case "domain":
+            metric.setDomain(reader.nextStringOrNull());
+            break;
+          case "type":
+            metric.setType(reader.nextStringOrNull());
+            break;
+          default:
+            reader.skipValue();
+        }
+      }
+      reader.endObject();
+      ret.add(metric);
+    }
+    reader.endArray();
+    return ret;
+  }
+
+  private static Integer readInteger(JsonReader reader) throws IOException {
+    if (skipNull(reader)) {
+      return null;
+    }
+    long value = reader.nextLong();
+    if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+      throw new IOException("Integer out of range: " + value);
+    }
+    return (int) value;
+  }
+
+  /**
+   * Consume the next value, if it is {@code null}
+   *
+   * @return true, if a {@code null} value was consumed
+   */
+  private static boolean skipNull(JsonReader reader) throws IOException {
+    if (reader.peek() == JsonReader.Token.NULL) {
+      reader.nextNull();
+      return true;
+    }
+    return false;
+  }
+
+  private static <E extends Enum<E>> E readEnum(JsonReader reader, Class<E> enumType)
+      throws IOException {
+    String value = reader.nextStringOrNull();
+    if (value == null) {
+      return null;
+    }
+    try {
+      return Enum.valueOf(enumType, value);
+    } catch (IllegalArgumentException e) {
+      throw new IOException(
+          String.format("Unknown value '%s' for %s", value, enumType.getName()), e);
+    }
+  }
+
+}
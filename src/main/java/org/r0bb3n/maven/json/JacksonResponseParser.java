@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.json;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+
+/**
+ * {@link ResponseParser} based on Jackson data binding. The {@link ObjectMapper} is created on
+ * first use, so that Jackson is not loaded as long as no response is parsed.
+ */
+public class JacksonResponseParser implements ResponseParser {
+
+  @Override
+  public <T> T readValue(String json, Class<T> type) throws IOException {
+    return MapperHolder.MAPPER.readValue(json, type);
+  }
+
+  @Override
+  public boolean readBoolean(String json, String name) throws IOException {
+    return MapperHolder.MAPPER.readTree(json).path(name).asBoolean(false);
+  }
+
+  /**
+   * Create and configure {@link ObjectMapper}
+   *
+   * @return objectMapper
+   */
+  public static ObjectMapper createMapper() {
+    ObjectMapper mapper = new ObjectMapper();
+    // to prevent exception when encountering unknown property:
+    mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    return mapper;
+  }
+
+  /**
+   * Lazy holder of the shared, preconfigured mapper
+   */
+  private static class MapperHolder {
+
+    static final ObjectMapper MAPPER = createMapper();
+
+  }
+
+}
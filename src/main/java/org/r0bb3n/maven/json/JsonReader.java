@@ -0,0 +1,492 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.json;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Minimal pull reader for JSON documents held in a {@link String}. Tokens are read one by one,
+ * values that are not of interest can be skipped without creating objects for them. Not
+ * thread-safe.
+ */
+public class JsonReader {
+
+  /**
+   * Token types, see {@link #peek()}
+   */
+  public enum Token {
+    BEGIN_OBJECT,
+    END_OBJECT,
+    BEGIN_ARRAY,
+    END_ARRAY,
+    NAME,
+    STRING,
+    NUMBER,
+    BOOLEAN,
+    NULL,
+    END_DOCUMENT
+  }
+
+  private static final int EMPTY_DOCUMENT = 0;
+  private static final int NONEMPTY_DOCUMENT = 1;
+  private static final int EMPTY_OBJECT = 2;
+  private static final int NONEMPTY_OBJECT = 3;
+  private static final int DANGLING_NAME = 4;
+  private static final int EMPTY_ARRAY = 5;
+  private static final int NONEMPTY_ARRAY = 6;
+
+  private final String json;
+  private int pos;
+  private int[] scopes = new int[8];
+  private int depth = 1;
+  private Token peeked;
+
+  /**
+   * Create reader
+   *
+   * @param json complete JSON document
+   */
+  public JsonReader(String json) {
+    this.json = json;
+    scopes[0] = EMPTY_DOCUMENT;
+  }
+
+  /**
+   * Get the type of the next token without consuming it
+   *
+   * @return next token
+   * @throws IOException malformed JSON
+   */
+  public Token peek() throws IOException {
+    if (peeked != null) {
+      return peeked;
+    }
+    int scope = scopes[depth - 1];
+    char c;
+    switch (scope) {
+      case EMPTY_DOCUMENT:
+        scopes[depth - 1] = NONEMPTY_DOCUMENT;
+        return peekValue();
+      case NONEMPTY_DOCUMENT:
+        if (skipWhitespace()) {
+          throw syntaxError("end of document expected");
+        }
+        peeked = Token.END_DOCUMENT;
+        return peeked;
+      case EMPTY_OBJECT:
+      case NONEMPTY_OBJECT:
+        c = nextNonWhitespace();
+        if (c == '}') {
+          peeked = Token.END_OBJECT;
+          return peeked;
+        }
+        if (scope == NONEMPTY_OBJECT) {
+          if (c != ',') {
+            throw syntaxError("',' or '}' expected");
+          }
+          pos++;
+          c = nextNonWhitespace();
+        }
+        if (c != '"') {
+          throw syntaxError("name expected");
+        }
+        scopes[depth - 1] = DANGLING_NAME;
+        peeked = Token.NAME;
+        return peeked;
+      case DANGLING_NAME:
+        if (nextNonWhitespace() != ':') {
+          throw syntaxError("':' expected");
+        }
+        pos++;
+        scopes[depth - 1] = NONEMPTY_OBJECT;
+        return peekValue();
+      case EMPTY_ARRAY:
+      case NONEMPTY_ARRAY:
+        c = nextNonWhitespace();
+        if (c == ']') {
+          peeked = Token.END_ARRAY;
+          return peeked;
+        }
+        if (scope == NONEMPTY_ARRAY) {
+          if (c != ',') {
+            throw syntaxError("',' or ']' expected");
+          }
+          pos++;
+        }
+        scopes[depth - 1] = NONEMPTY_ARRAY;
+        return peekValue();
+      default:
+        throw new IllegalStateException("unknown scope: " + scope);
+    }
+  }
+
+  /**
+   * Check if the current object or array has another element
+   *
+   * @return true, if a name or value follows
+   * @throws IOException malformed JSON
+   */
+  public boolean hasNext() throws IOException {
+    Token token = peek();
+    return token != Token.END_OBJECT && token != Token.END_ARRAY && token != Token.END_DOCUMENT;
+  }
+
+  /**
+   * Consume the begin of an object
+   *
+   * @throws IOException malformed JSON or different token
+   */
+  public void beginObject() throws IOException {
+    expect(Token.BEGIN_OBJECT);
+    pos++;
+    push(EMPTY_OBJECT);
+  }
+
+  /**
+   * Consume the end of the current object
+   *
+   * @throws IOException malformed JSON or different token
+   */
+  public void endObject() throws IOException {
+    expect(Token.END_OBJECT);
+    pos++;
+    depth--;
+  }
+
+  /**
+   * Consume the begin of an array
+   *
+   * @throws IOException malformed JSON or different token
+   */
+  public void beginArray() throws IOException {
+    expect(Token.BEGIN_ARRAY);
+    pos++;
+    push(EMPTY_ARRAY);
+  }
+
+  /**
+   * Consume the end of the current array
+   *
+   * @throws IOException malformed JSON or different token
+   */
+  public void endArray() throws IOException {
+    expect(Token.END_ARRAY);
+    pos++;
+    depth--;
+  }
+
+  /**
+   * Consume the name of the next property
+   *
+   * @return property name
+   * @throws IOException malformed JSON or different token
+   */
+  public String nextName() throws IOException {
+    expect(Token.NAME);
+    return readString();
+  }
+
+  /**
+   * Consume a string value, numbers are returned as they are written
+   *
+   * @return string value
+   * @throws IOException malformed JSON or different token
+   */
+  public String nextString() throws IOException {
+    Token token = peek();
+    if (token == Token.NUMBER) {
+      peeked = null;
+      return readNumber();
+    }
+    expect(Token.STRING);
+    return readString();
+  }
+
+  /**
+   * Consume a string value or {@code null}
+   *
+   * @return string value or {@code null}
+   * @throws IOException malformed JSON or different token
+   */
+  public String nextStringOrNull() throws IOException {
+    if (peek() == Token.NULL) {
+      nextNull();
+      return null;
+    }
+    return nextString();
+  }
+
+  /**
+   * Consume an integral number
+   *
+   * @return number
+   * @throws IOException malformed JSON, different token or no integral number
+   */
+  public long nextLong() throws IOException {
+    expect(Token.NUMBER);
+    int start = pos;
+    String number = readNumber();
+    try {
+      return Long.parseLong(number);
+    } catch (NumberFormatException e) {
+      pos = start;
+      throw syntaxError("integral number expected");
+    }
+  }
+
+  /**
+   * Consume a boolean value
+   *
+   * @return boolean value
+   * @throws IOException malformed JSON or different token
+   */
+  public boolean nextBoolean() throws IOException {
+    expect(Token.BOOLEAN);
+    if (json.startsWith("true", pos)) {
+      pos += 4;
+      return true;
+    }
+    pos += 5;
+    return false;
+  }
+
+  /**
+   * Consume a {@code null} value
+   *
+   * @throws IOException malformed JSON or different token
+   */
+  public void nextNull() throws IOException {
+    expect(Token.NULL);
+    pos += 4;
+  }
+
+  /**
+   * Skip the next value including all nested values, e.g. of an unknown property
+   *
+   * @throws IOException malformed JSON
+   */
+  public void skipValue() throws IOException {
+    switch (peek()) {
+      case BEGIN_OBJECT:
+        beginObject();
+        while (hasNext()) {
+          nextName();
+          skipValue();
+        }
+        endObject();
+        break;
+      case BEGIN_ARRAY:
+        beginArray();
+        while (hasNext()) {
+          skipValue();
+        }
+        endArray();
+        break;
+      case STRING:
+      case NUMBER:
+        nextString();
+        break;
+      case BOOLEAN:
+        nextBoolean();
+        break;
+      case NULL:
+        nextNull();
+        break;
+      default:
+        throw syntaxError("value expected");
+    }
+  }
+
+  private Token peekValue() throws IOException {
+    char c = nextNonWhitespace();
+    switch (c) {
+      case '{':
+        peeked = Token.BEGIN_OBJECT;
+        break;
+      case '[':
+        peeked = Token.BEGIN_ARRAY;
+        break;
+      case '"':
+        peeked = Token.STRING;
+        break;
+      case 't':
+        peeked = literal("true", Token.BOOLEAN);
+        break;
+      case 'f':
+        peeked = literal("false", Token.BOOLEAN);
+        break;
+      case 'n':
+        peeked = literal("null", Token.NULL);
+        break;
+      default:
+        if (c == '-' || (c >= '0' && c <= '9')) {
+          peeked = Token.NUMBER;
+        } else {
+          throw syntaxError("value expected");
+        }
+    }
+    return peeked;
+  }
+
+  private Token literal(String literal, Token token) throws IOException {
+    if (!json.startsWith(literal, pos)) {
+      throw syntaxError("'" + literal + "' expected");
+    }
+    return token;
+  }
+
+  private void expect(Token token) throws IOException {
+    Token actual = peek();
+    if (actual != token) {
+      throw syntaxError(token + " expected but was " + actual);
+    }
+    peeked = null;
+  }
+
+  private void push(int scope) {
+    if (depth == scopes.length) {
+      scopes = Arrays.copyOf(scopes, depth * 2);
+    }
+    scopes[depth++] = scope;
+  }
+
+  /**
+   * Check for escape sequences, only within the range, to keep parsing linear
+   */
+  private boolean containsBackslash(int start, int end) {
+    for (int i = start; i < end; i++) {
+      if (json.charAt(i) == '\\') {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Read the string starting at the current position (opening quote)
+   */
+  private String readString() throws IOException {
+    int start = ++pos;
+    int end = json.indexOf('"', start);
+    if (end < 0) {
+      throw syntaxError("unterminated string");
+    }
+    if (!containsBackslash(start, end)) {
+      pos = end + 1;
+      return json.substring(start, end);
+    }
+    StringBuilder sb = new StringBuilder(end - start + 16);
+    while (pos < json.length()) {
+      char c = json.charAt(pos++);
+      if (c == '"') {
+        return sb.toString();
+      }
+      if (c != '\\') {
+        sb.append(c);
+        continue;
+      }
+      if (pos >= json.length()) {
+        break;
+      }
+      char escaped = json.charAt(pos++);
+      switch (escaped) {
+        case 'b':
+          sb.append('\b');
+          break;
+        case 'f':
+          sb.append('\f');
+          break;
+        case 'n':
+          sb.append('\n');
+          break;
+        case 'r':
+          sb.append('\r');
+          break;
+        case 't':
+          sb.append('\t');
+          break;
+        case 'u':
+          if (pos + 4 > json.length()) {
+            throw syntaxError("invalid unicode escape");
+          }
+          try {
+            sb.append((char) Integer.parseInt(json.substring(pos, pos + 4), 16));
+          } catch (NumberFormatException e) {
+            throw syntaxError("invalid unicode escape");
+          }
+          pos += 4;
+          break;
+        case '"':
+        case '\\':
+        case '/':
+          sb.append(escaped);
+          break;
+        default:
+          throw syntaxError("invalid escape sequence");
+      }
+    }
+    throw syntaxError("unterminated string");
+  }
+
+  /**
+   * Read the number starting at the current position
+   */
+  private String readNumber() throws IOException {
+    int start = pos;
+    while (pos < json.length()) {
+      char c = json.charAt(pos);
+      if ((c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E') {
+        pos++;
+      } else {
+        break;
+      }
+    }
+    if (pos == start || json.charAt(pos - 1) == '-') {
+      throw syntaxError("invalid number");
+    }
+    return json.substring(start, pos);
+  }
+
+  /**
+   * Skip whitespace
+   *
+   * @return true, if there are more characters
+   */
+  private boolean skipWhitespace() {
+    while (pos < json.length()) {
+      char c = json.charAt(pos);
+      if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+        return true;
+      }
+      pos++;
+    }
+    return false;
+  }
+
+  private char nextNonWhitespace() throws IOException {
+    if (!skipWhitespace()) {
+      throw syntaxError("unexpected end of document");
+    }
+    return json.charAt(pos);
+  }
+
+  private IOException syntaxError(String message) {
+    return new IOException(String.format("Malformed JSON at position %d: %s", pos, message));
+  }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.json;
+
+import java.io.IOException;
+
+/**
+ * Maps the JSON responses of the Sonar Web API to the model. Implementations have to be
+ * thread-safe.
+ */
+public interface ResponseParser {
+
+  /**
+   * Available parsers
+   */
+  enum Type {
+    /**
+     * data binding with Jackson, supports the full model
+     */
+    JACKSON,
+    /**
+     * built-in streaming reader without dependencies: only the containers of goal {@code check},
+     * but less classes to load
+     */
+    BUILTIN
+  }
+
+  /**
+   * Map a JSON document to the given type
+   *
+   * @param json JSON document
+   * @param type target type
+   * @param <T> target type
+   * @return mapped object
+   * @throws IOException malformed JSON or values not matching the type
+   * @throws IllegalArgumentException type not supported by this parser
+   */
+  <T> T readValue(String json, Class<T> type) throws IOException;
+
+  /**
+   * Read a boolean property of the root object
+   *
+   * @param json JSON document
+   * @param name property name
+   * @return value of the property, {@code false} if missing
+   * @throws IOException malformed JSON
+   */
+  boolean readBoolean(String json, String name) throws IOException;
+
+  /**
+   * Create the parser of the given type
+   *
+   * @param type parser type
+   * @return parser
+   */
+  static ResponseParser of(Type type) {
+    return type == Type.BUILTIN ? new BuiltinResponseParser() : new JacksonResponseParser();
+  }
+
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.metrics;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+import org.r0bb3n.maven.ConnectorListener;
+import org.r0bb3n.maven.Util;
+import org.r0bb3n.maven.model.Task;
+
+/**
+ * Metrics of one execution of goal {@code check}, collected via {@link ConnectorListener} and by
+ * the mojo itself
+ */
+public class CheckMetrics implements ConnectorListener {
+
+  @Getter
+  private final String projectKey;
+
+  private final Map<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+  private final AtomicLong taskPolls = new AtomicLong();
+  private final AtomicLong versionCacheHits = new AtomicLong();
+  private final AtomicLong versionCacheMisses = new AtomicLong();
+
+  @Getter
+  private volatile Duration ceQueueTime;
+  @Getter
+  private volatile Duration ceProcessingTime;
+  @Getter
+  private volatile String verdict;
+  @Getter
+  private volatile Duration timeToVerdict;
+  @Getter
+  private volatile int concurrencyLimit;
+
+  /**
+   * Create empty metrics
+   *
+   * @param projectKey sonar project key (used as label)
+   */
+  public CheckMetrics(String projectKey) {
+    this.projectKey = projectKey;
+  }
+
+  @Override
+  public void onExchange(String endpoint, int statusCode, long responseBytes, Duration latency) {
+    EndpointStats stats = endpoints.computeIfAbsent(endpoint, e -> new EndpointStats());
+    stats.latency.observe(latency.toNanos() / 1e9);
+    stats.requests.incrementAndGet();
+    if (statusCode != 200) {
+      stats.errors.incrementAndGet();
+    }
+    stats.responseBytes.addAndGet(responseBytes);
+  }
+
+  @Override
+  public void onVersionCacheLookup(boolean hit) {
+    (hit ? versionCacheHits : versionCacheMisses).incrementAndGet();
+  }
+
+  @Override
+  public void onConcurrencyLimit(int limit) {
+    concurrencyLimit = limit;
+  }
+
+  /**
+   * Count one request of the compute engine task
+   */
+  public void recordTaskPoll() {
+    taskPolls.incrementAndGet();
+  }
+
+  /**
+   * Record queue and processing time of a finished compute engine task
+   *
+   * @param task task details
+   */
+  public void recordTask(Task task) {
+    OffsetDateTime submittedAt = Util.parseDateTime(task.getSubmittedAt());
+    OffsetDateTime startedAt = Util.parseDateTime(task.getStartedAt());
+    if (submittedAt != null && startedAt != null) {
+      ceQueueTime = Duration.between(submittedAt, startedAt);
+    }
+    if (task.getExecutionTimeMs() != null) {
+      ceProcessingTime = Duration.ofMillis(task.getExecutionTimeMs());
+    }
+  }
+
+  /**
+   * Record the result of the quality gate check
+   *
+   * @param verdict quality gate status or {@code null}, if no status could be determined
+   * @param timeToVerdict time since the start of the execution
+   */
+  public void recordVerdict(String verdict, Duration timeToVerdict) {
+    this.verdict = verdict;
+    this.timeToVerdict = timeToVerdict;
+  }
+
+  /**
+   * Get the number of requests of the compute engine task
+   *
+   * @return count
+   */
+  public long getTaskPolls() {
+    return taskPolls.get();
+  }
+
+  /**
+   * Get the number of version lookups that were served by the cache
+   *
+   * @return count
+   */
+  public long getVersionCacheHits() {
+    return versionCacheHits.get();
+  }
+
+  /**
+   * Get the number of version lookups that were not served by the cache
+   *
+   * @return count
+   */
+  public long getVersionCacheMisses() {
+    return versionCacheMisses.get();
+  }
+
+  /**
+   * Get the statistics per Web API endpoint
+   *
+   * @return statistics sorted by endpoint
+   */
+  public Map<String, EndpointStats> getEndpoints() {
+    return new TreeMap<>(endpoints);
+  }
+
+  /**
+   * Statistics of one Web API endpoint
+   */
+  public static class EndpointStats {
+
+    @Getter
+    private final Histogram latency = new Histogram();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong responseBytes = new AtomicLong();
+
+    /**
+     * Get the number of requests
+     *
+     * @return count
+     */
+    public long getRequests() {
+      return requests.get();
+    }
+
+    /**
+     * Get the number of requests without status code 200
+     *
+     * @return count
+     */
+    public long getErrors() {
+      return errors.get();
+    }
+
+    /**
+     * Get the size of all response bodies
+     *
+     * @return bytes
+     */
+    public long getResponseBytes() {
+      return responseBytes.get();
+    }
+
+  }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.metrics;
+
+import java.util.Arrays;
+
+/**
+ * Cumulative histogram with fixed upper bounds (in seconds), as used by Prometheus
+ */
+public class Histogram {
+
+  /**
+   * default bounds for HTTP latencies and waiting times
+   */
+  static final double[] DEFAULT_BOUNDS =
+      {0.01, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30, 60, 120, 300, 600};
+
+  private final double[] bounds;
+  private final long[] counts;
+  private long count;
+  private double sum;
+
+  /**
+   * Create histogram with {@link #DEFAULT_BOUNDS}
+   */
+  public Histogram() {
+    this(DEFAULT_BOUNDS);
+  }
+
+  /**
+   * Create histogram
+   *
+   * @param bounds upper bounds of the buckets (ascending), the bucket {@code +Inf} is implicit
+   */
+  public Histogram(double... bounds) {
+    this.bounds = bounds.clone();
+    this.counts = new long[bounds.length];
+  }
+
+  /**
+   * Record a value
+   *
+   * @param value value in seconds
+   */
+  public synchronized void observe(double value) {
+    for (int i = 0; i < bounds.length; i++) {
+      if (value <= bounds[i]) {
+        counts[i]++;
+      }
+    }
+    count++;
+    sum += value;
+  }
+
+  /**
+   * Get the upper bounds of the buckets
+   *
+   * @return bounds without {@code +Inf}
+   */
+  public double[] getBounds() {
+    return bounds.clone();
+  }
+
+  /**
+   * Get the cumulative counts per bucket
+   *
+   * @return counts of values less than or equal to the bound with the same index
+   */
+  public synchronized long[] getBucketCounts() {
+    return Arrays.copyOf(counts, counts.length);
+  }
+
+  /**
+   * Get the number of recorded values (equal to bucket {@code +Inf})
+   *
+   * @return count
+   */
+  public synchronized long getCount() {
+    return count;
+  }
+
+  /**
+   * Get the sum of all recorded values
+   *
+   * @return sum in seconds
+   */
+  public synchronized double getSum() {
+    return sum;
+  }
+
+}
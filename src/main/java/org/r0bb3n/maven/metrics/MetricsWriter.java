@@ -0,0 +1,225 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Writes {@link CheckMetrics} as Prometheus text format (e.g. for the textfile collector of
+ * node_exporter) or as JSON. The file is replaced atomically, so a collector never reads a
+ * partially written file.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class MetricsWriter {
+
+  private static final String PREFIX = "sonar_quality_gate_";
+
+  /**
+   * possible values of the verdict, {@code UNKNOWN} if the check failed before a verdict
+   */
+  private static final String[] VERDICTS = {"OK", "WARN", "ERROR", "NONE", "UNKNOWN"};
+
+  /**
+   * Supported output formats
+   */
+  public enum Format {
+    PROMETHEUS, JSON
+  }
+
+  /**
+   * Write the metrics to a file
+   *
+   * @param metrics metrics to write
+   * @param file target file (parent directories are created)
+   * @param format output format
+   * @throws IOException file cannot be written
+   */
+  public static void write(CheckMetrics metrics, Path file, Format format) throws IOException {
+    Path parent = file.toAbsolutePath().getParent();
+    Files.createDirectories(parent);
+    Path tmp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+    try {
+      try (Writer writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+        if (format == Format.JSON) {
+          writeJson(metrics, writer);
+        } else {
+          writePrometheus(metrics, writer);
+        }
+      }
+      Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(tmp);
+    }
+  }
+
+  /**
+   * Write the metrics in Prometheus text format
+   *
+   * @param metrics metrics to write
+   * @param writer target
+   * @throws IOException write error
+   */
+  static void writePrometheus(CheckMetrics metrics, Writer writer) throws IOException {
+    String project = "project=\"" + escape(metrics.getProjectKey()) + "\"";
+    StringBuilder sb = new StringBuilder();
+
+    header(sb, "status", "gauge", "Quality gate status of the project (1 for the current status)");
+    for (String verdict : VERDICTS) {
+      boolean current = verdict.equals(
+          metrics.getVerdict() == null ? "UNKNOWN" : metrics.getVerdict());
+      sample(sb, "status", project + ",status=\"" + verdict + "\"", current ? 1 : 0);
+    }
+    gauge(sb, "time_to_verdict_seconds", "Time from start of goal check until the verdict",
+        project, metrics.getTimeToVerdict());
+    gauge(sb, "ce_queue_seconds", "Time the compute engine task waited in the queue", project,
+        metrics.getCeQueueTime());
+    gauge(sb, "ce_processing_seconds", "Time the compute engine task was processed", project,
+        metrics.getCeProcessingTime());
+
+    header(sb, "task_polls_total", "counter", "Number of compute engine task requests");
+    sample(sb, "task_polls_total", project, metrics.getTaskPolls());
+    header(sb, "version_cache_lookups_total", "counter", "Lookups in the server version cache");
+    sample(sb, "version_cache_lookups_total", project + ",result=\"hit\"",
+        metrics.getVersionCacheHits());
+    sample(sb, "version_cache_lookups_total", project + ",result=\"miss\"",
+        metrics.getVersionCacheMisses());
+    if (metrics.getConcurrencyLimit() > 0) {
+      header(sb, "http_concurrency_limit", "gauge", "Adaptive limit of Web API calls in flight");
+      sample(sb, "http_concurrency_limit", project, metrics.getConcurrencyLimit());
+    }
+
+    Map<String, CheckMetrics.EndpointStats> endpoints = metrics.getEndpoints();
+    header(sb, "http_request_duration_seconds", "histogram", "Latency of Web API calls");
+    endpoints.forEach((endpoint, stats) -> {
+      String labels = project + ",endpoint=\"" + escape(endpoint) + "\"";
+      Histogram latency = stats.getLatency();
+      double[] bounds = latency.getBounds();
+      long[] counts = latency.getBucketCounts();
+      for (int i = 0; i < bounds.length; i++) {
+        sample(sb, "http_request_duration_seconds_bucket",
+            labels + ",le=\"" + format(bounds[i]) + "\"", counts[i]);
+      }
+      sample(sb, "http_request_duration_seconds_bucket", labels + ",le=\"+Inf\"",
+          latency.getCount());
+      sample(sb, "http_request_duration_seconds_sum", labels, latency.getSum());
+      sample(sb, "http_request_duration_seconds_count", labels, latency.getCount());
+    });
+    header(sb, "http_errors_total", "counter", "Web API calls without status code 200");
+    endpoints.forEach((endpoint, stats) -> sample(sb, "http_errors_total",
+        project + ",endpoint=\"" + escape(endpoint) + "\"", stats.getErrors()));
+    header(sb, "http_response_bytes_total", "counter", "Size of Web API response bodies");
+    endpoints.forEach((endpoint, stats) -> sample(sb, "http_response_bytes_total",
+        project + ",endpoint=\"" + escape(endpoint) + "\"", stats.getResponseBytes()));
+
+    writer.write(sb.toString());
+  }
+
+  /**
+   * Write the metrics as JSON
+   *
+   * @param metrics metrics to write
+   * @param writer target
+   * @throws IOException write error
+   */
+  static void writeJson(CheckMetrics metrics, Writer writer) throws IOException {
+    Map<String, Object> root = new LinkedHashMap<>();
+    root.put("project", metrics.getProjectKey());
+    root.put("status", metrics.getVerdict() == null ? "UNKNOWN" : metrics.getVerdict());
+    root.put("timeToVerdictSeconds", seconds(metrics.getTimeToVerdict()));
+    root.put("ceQueueSeconds", seconds(metrics.getCeQueueTime()));
+    root.put("ceProcessingSeconds", seconds(metrics.getCeProcessingTime()));
+    root.put("taskPolls", metrics.getTaskPolls());
+    Map<String, Object> cache = new LinkedHashMap<>();
+    cache.put("hits", metrics.getVersionCacheHits());
+    cache.put("misses", metrics.getVersionCacheMisses());
+    root.put("versionCache", cache);
+    if (metrics.getConcurrencyLimit() > 0) {
+      root.put("httpConcurrencyLimit", metrics.getConcurrencyLimit());
+    }
+    Map<String, Object> endpoints = new LinkedHashMap<>();
+    metrics.getEndpoints().forEach((endpoint, stats) -> {
+      Map<String, Object> entry = new LinkedHashMap<>();
+      entry.put("requests", stats.getRequests());
+      entry.put("errors", stats.getErrors());
+      entry.put("responseBytes", stats.getResponseBytes());
+      Histogram latency = stats.getLatency();
+      entry.put("latencySumSeconds", latency.getSum());
+      List<Map<String, Object>> buckets = new ArrayList<>();
+      double[] bounds = latency.getBounds();
+      long[] counts = latency.getBucketCounts();
+      for (int i = 0; i < bounds.length; i++) {
+        Map<String, Object> bucket = new LinkedHashMap<>();
+        bucket.put("le", bounds[i]);
+        bucket.put("count", counts[i]);
+        buckets.add(bucket);
+      }
+      entry.put("latencyBuckets", buckets);
+      endpoints.put(endpoint, entry);
+    });
+    root.put("endpoints", endpoints);
+    new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(writer, root);
+  }
+
+  private static void header(StringBuilder sb, String name, String type, String help) {
+    sb.append("# HELP ").append(PREFIX).append(name).append(' ').append(help).append('\n');
+    sb.append("# TYPE ").append(PREFIX).append(name).append(' ').append(type).append('\n');
+  }
+
+  private static void gauge(StringBuilder sb, String name, String help, String labels,
+      Duration value) {
+    if (value != null) {
+      header(sb, name, "gauge", help);
+      sample(sb, name, labels, seconds(value));
+    }
+  }
+
+  private static void sample(StringBuilder sb, String name, String labels, double value) {
+    sb.append(PREFIX).append(name).append('{').append(labels).append("} ").append(format(value))
+        .append('\n');
+  }
+
+  private static Double seconds(Duration duration) {
+    return duration == null ? null : duration.toNanos() / 1e9;
+  }
+
+  private static String format(double value) {
+    return value == Math.rint(value) && !Double.isInfinite(value)
+        ? Long.toString((long) value) : String.format(Locale.ROOT, "%s", value);
+  }
+
+  private static String escape(String labelValue) {
+    return String.valueOf(labelValue).replace("\\", "\\\\").replace("\"", "\\\"")
+        .replace("\n", "\\n");
+  }
+
+}
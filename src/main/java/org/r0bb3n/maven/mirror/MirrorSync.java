@@ -0,0 +1,189 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.r0bb3n.maven.mirror;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import lombok.Builder;
+import lombok.NonNull;
+import org.apache.maven.plugin.logging.Log;
+import org.r0bb3n.maven.SonarConnector;
+import org.r0bb3n.maven.Util;
+import org.r0bb3n.maven.model.Activity;
+import org.r0bb3n.maven.model.Task;
+
+/**
+ * Updates a {@link StatusMirror} from the compute engine activity of the server. The first sync
+ * loads the latest analysis of every project, branch and pull request, later syncs only request
+ * the analyses submitted since the latest one seen ({@code minSubmittedAt}), but not after the
+ * oldest one still queued, as analyses may finish in another order than submitted. The project
+ * status of each new analysis is retrieved concurrently.
+ */
+@Builder
+public class MirrorSync {
+
+  /**
+   * maximum page size of {@code api/ce/activity}
+   */
+  public static final int DEFAULT_PAGE_SIZE = 1000;
+
+  public static final int DEFAULT_CONCURRENCY = 8;
+
+  private static final Comparator<Task> BY_SUBMISSION = Comparator.comparing(
+      (Task t) -> Util.parseDateTime(t.getSubmittedAt()),
+      Comparator.nullsFirst(Comparator.naturalOrder()));
+
+  @NonNull
+  private final Log log;
+
+  @NonNull
+  private final SonarConnector connector;
+
+  @NonNull
+  private final StatusMirror mirror;
+
+  @Builder.Default
+  private final int pageSize = DEFAULT_PAGE_SIZE;
+
+  /**
+   * maximum number of project status requests in flight
+   */
+  @Builder.Default
+  private final int concurrency = DEFAULT_CONCURRENCY;
+
+  /**
+   * Request the analyses since the last sync and store their project status in the mirror. If
+   * a project status cannot be retrieved, the watermark is kept, so that the next sync retries.
+   * Analyses returned again by the next sync are not requested again, if their project status is
+   * already mirrored.
+   *
+   * @return number of updated statuses
+   * @throws IOException activity cannot be retrieved or mirror cannot be written
+   * @throws InterruptedException interrupted while waiting for responses
+   */
+  public int sync() throws IOException, InterruptedException {
+    String since = mirror.getWatermark();
+    // the queue is requested first: an analysis submitted afterwards cannot be overtaken by one
+    // that is already finished, when the finished analyses are requested
+    Optional<Task> oldestQueued = retrieveAll(page -> connector.retrieveQueueAsync(page, pageSize))
+        .stream().filter(t -> t.getSubmittedAt() != null).min(BY_SUBMISSION);
+    Map<String, Task> latest = new LinkedHashMap<>();
+    for (Task task : retrieveAll(page -> connector.retrieveActivityAsync(since, page, pageSize))) {
+      if (task.getAnalysisId() != null && task.getComponentKey() != null) {
+        latest.merge(key(task), task, (a, b) -> BY_SUBMISSION.compare(a, b) >= 0 ? a : b);
+      }
+    }
+
+    List<Task> changed = new ArrayList<>();
+    for (Task task : latest.values()) {
+      Optional<StatusMirror.Entry> known = mirror.lookup(task.getComponentKey(),
+          task.getBranch(), task.getPullRequest());
+      if (known.isEmpty() || !Objects.equals(known.get().getAnalysisId(), task.getAnalysisId())) {
+        changed.add(task);
+      }
+    }
+    Queue<StatusMirror.Entry> updates = new ConcurrentLinkedQueue<>();
+    AtomicInteger errors = new AtomicInteger();
+    int permits = Math.max(1, concurrency);
+    Semaphore inFlight = new Semaphore(permits);
+    try {
+      for (Task task : changed) {
+        inFlight.acquire();
+        connector.retrieveProjectStatusByAnalysisIdAsync(task.getAnalysisId())
+            .whenComplete((status, error) -> {
+              if (error == null) {
+                updates.add(StatusMirror.Entry.of(task.getComponentKey(), task.getBranch(),
+                    task.getPullRequest(), task.getAnalysisId(), task.getSubmittedAt(), status));
+              } else {
+                errors.incrementAndGet();
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                    ? error.getCause() : error;
+                log.warn(String.format("project status of analysis %s (%s) not available: %s",
+                    task.getAnalysisId(), key(task), cause.getMessage()));
+              }
+              inFlight.release();
+            });
+      }
+    } finally {
+      inFlight.acquire(permits);
+    }
+
+    Optional<Task> newest = latest.values().stream().max(BY_SUBMISSION);
+    String watermark = errors.get() > 0 ? since : oldestQueued
+        .filter(q -> newest.isEmpty() || BY_SUBMISSION.compare(q, newest.get()) < 0)
+        .or(() -> newest).map(Task::getSubmittedAt).orElse(since);
+    mirror.append(updates, watermark, Instant.now());
+    log.info(String.format("mirror synced: %d analyses, %d updated, %d errors, %d statuses",
+        latest.size(), updates.size(), errors.get(), mirror.size()));
+    return updates.size();
+  }
+
+  /**
+   * Request all pages of an activity
+   *
+   * @param pageRequest request of a page by its number (starting at 1)
+   * @return tasks of all pages
+   */
+  private List<Task> retrieveAll(IntFunction<CompletableFuture<Activity>> pageRequest)
+      throws IOException, InterruptedException {
+    List<Task> ret = new ArrayList<>();
+    int page = 0;
+    Activity activity;
+    do {
+      activity = await(pageRequest.apply(++page));
+      ret.addAll(activity.getTasks());
+    } while (activity.getPaging() != null && !activity.getTasks().isEmpty()
+        && page * pageSize < activity.getPaging().getTotal());
+    return ret;
+  }
+
+  private static String key(Task task) {
+    return task.getComponentKey() + ' ' + Optional.ofNullable(task.getBranch()).orElse("")
+        + ' ' + Optional.ofNullable(task.getPullRequest()).orElse("");
+  }
+
+  private static <T> T await(CompletableFuture<T> future)
+      throws IOException, InterruptedException {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause() instanceof CompletionException && e.getCause().getCause()
+          != null ? e.getCause().getCause() : e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      }
+      throw new IOException(cause);
+    }
+  }
+
+}
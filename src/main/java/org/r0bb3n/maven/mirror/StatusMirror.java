@@ -0,0 +1,463 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.r0bb3n.maven.mirror;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.Value;
+import org.r0bb3n.maven.Util;
+import org.r0bb3n.maven.model.Condition;
+import org.r0bb3n.maven.model.ProjectStatus;
+
+/**
+ * Local mirror of the latest quality gate status (with all conditions) per project, branch and
+ * pull request, kept in memory for lookups and persisted in a directory:
+ * <ul>
+ *   <li>{@value #INDEX_FILE}: snapshot of all latest statuses and the generation of the log</li>
+ *   <li>{@value #LOG_FILE} (generation 0), {@code status.<generation>.log}: append-only log, one
+ *   line per status update and per sync, replayed on top of the index</li>
+ * </ul>
+ * The log is compacted into the index from time to time: the index of the next generation is
+ * written to a temporary file and moved atomically, then the log of the previous generation is
+ * deleted. Readers that got the index of a replaced generation read again. Lines are tab
+ * separated; an incomplete last line (concurrent append) is ignored. There must be only one writer
+ * per directory, readers may load the mirror at any time.
+ */
+public class StatusMirror {
+
+  public static final String LOG_FILE = "status.log";
+
+  public static final String INDEX_FILE = "status.index";
+
+  private static final String TYPE_ENTRY = "S";
+
+  private static final String TYPE_SYNC = "M";
+
+  private static final String TYPE_GENERATION = "G";
+
+  private static final Duration RELOAD_INTERVAL = Duration.ofSeconds(1);
+
+  private final Path directory;
+
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+  /**
+   * submission date of the latest task seen, the next sync starts from
+   */
+  private volatile String watermark;
+
+  /**
+   * time of the last successful sync
+   */
+  private volatile Instant syncedAt;
+
+  /**
+   * generation of the index and of the log appended to
+   */
+  private long generation;
+
+  /**
+   * number of lines in the log, to decide about compaction
+   */
+  private int logLines;
+
+  /**
+   * {@link System#nanoTime()} of the last load
+   */
+  private volatile long loadedAt;
+
+  private StatusMirror(Path directory) {
+    this.directory = directory;
+  }
+
+  /**
+   * Load the mirror from a directory
+   *
+   * @param directory directory of the mirror, empty mirror if it does not exist
+   * @return loaded mirror
+   * @throws IOException mirror files cannot be read
+   */
+  public static StatusMirror load(Path directory) throws IOException {
+    StatusMirror ret = new StatusMirror(directory);
+    ret.reload();
+    return ret;
+  }
+
+  /**
+   * Read index and log again, e.g. to see the updates of a sync in another process
+   *
+   * @throws IOException mirror files cannot be read
+   */
+  public synchronized void reload() throws IOException {
+    Map<String, Entry> loaded;
+    String[] sync;
+    long indexGeneration;
+    do {
+      loaded = new ConcurrentHashMap<>();
+      sync = new String[3];
+      read(directory.resolve(INDEX_FILE), loaded, sync);
+      indexGeneration = sync[2] == null ? 0 : Long.parseLong(sync[2]);
+      logLines = read(logFile(indexGeneration), loaded, sync);
+      // compacted meanwhile: the log read may be of the next generation or deleted already
+    } while (indexGeneration != readGeneration());
+    generation = indexGeneration;
+    entries.clear();
+    entries.putAll(loaded);
+    watermark = sync[0];
+    syncedAt = sync[1] == null ? null : Instant.ofEpochMilli(Long.parseLong(sync[1]));
+    loadedAt = System.nanoTime();
+  }
+
+  /**
+   * Check if the mirror is fresh, reload it otherwise (at most once per second), as it may have
+   * been synced by another process meanwhile
+   *
+   * @param maxAge maximum age of the last sync
+   * @return true, if synced within {@code maxAge} (after reload)
+   * @throws IOException mirror files cannot be read
+   */
+  public boolean ensureFresh(Duration maxAge) throws IOException {
+    if (isFresh(maxAge)) {
+      return true;
+    }
+    if (System.nanoTime() - loadedAt > RELOAD_INTERVAL.toNanos()) {
+      reload();
+    }
+    return isFresh(maxAge);
+  }
+
+  /**
+   * Look up the latest status
+   *
+   * @param projectKey project key
+   * @param branch branch or null
+   * @param pullRequest pull request or null
+   * @return status, if mirrored
+   */
+  public Optional<Entry> lookup(String projectKey, String branch, String pullRequest) {
+    return Optional.ofNullable(entries.get(key(projectKey, branch, pullRequest)));
+  }
+
+  /**
+   * Check if the last sync is not older than the given age
+   *
+   * @param maxAge maximum age
+   * @return true, if synced within {@code maxAge}
+   */
+  public boolean isFresh(Duration maxAge) {
+    Instant last = syncedAt;
+    return last != null && !last.plus(maxAge).isBefore(Instant.now());
+  }
+
+  /**
+   * Get the submission date of the latest task seen
+   *
+   * @return watermark or null, if never synced
+   */
+  public String getWatermark() {
+    return watermark;
+  }
+
+  /**
+   * Get the time of the last sync
+   *
+   * @return time or null, if never synced
+   */
+  public Instant getSyncedAt() {
+    return syncedAt;
+  }
+
+  /**
+   * Get the number of mirrored statuses
+   *
+   * @return number of projects, branches and pull requests
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * Append the result of a sync to the log and apply it, compact the log if it outgrew the
+   * index
+   *
+   * @param updates new statuses
+   * @param newWatermark submission date to request the tasks of the next sync from
+   * @param time time of the sync
+   * @throws IOException log cannot be written
+   */
+  public synchronized void append(Collection<Entry> updates, String newWatermark, Instant time)
+      throws IOException {
+    Files.createDirectories(directory);
+    try (Writer writer = Files.newBufferedWriter(logFile(generation), StandardCharsets.UTF_8,
+        StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+      for (Entry entry : updates) {
+        writer.write(entry.toLine());
+        entries.put(entry.key(), entry);
+      }
+      writer.write(syncLine(newWatermark, time));
+    }
+    watermark = newWatermark;
+    syncedAt = time;
+    logLines += updates.size() + 1;
+    if (logLines > Math.max(1000, entries.size())) {
+      compact();
+    }
+  }
+
+  /**
+   * Write all statuses into the index of the next generation and delete the log of the current
+   * one
+   *
+   * @throws IOException files cannot be written
+   */
+  public synchronized void compact() throws IOException {
+    Files.createDirectories(directory);
+    Path index = directory.resolve(INDEX_FILE);
+    Path tmp = Files.createTempFile(directory, INDEX_FILE, ".tmp");
+    long next = generation + 1;
+    try {
+      try (Writer writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+        writer.write(TYPE_GENERATION + "\t" + next + "\n");
+        for (Entry entry : entries.values()) {
+          writer.write(entry.toLine());
+        }
+        if (syncedAt != null) {
+          writer.write(syncLine(watermark, syncedAt));
+        }
+      }
+      Files.move(tmp, index, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(tmp);
+    }
+    // a crash here only leaves an unused log behind
+    Files.deleteIfExists(logFile(generation));
+    generation = next;
+    logLines = 0;
+  }
+
+  /**
+   * Get the log of a generation
+   */
+  Path logFile(long logGeneration) {
+    return directory.resolve(logGeneration == 0 ? LOG_FILE : "status." + logGeneration + ".log");
+  }
+
+  /**
+   * Read the generation of the current index (first line)
+   */
+  private long readGeneration() throws IOException {
+    try (BufferedReader reader = Files.newBufferedReader(directory.resolve(INDEX_FILE),
+        StandardCharsets.UTF_8)) {
+      String line = reader.readLine();
+      return line != null && line.startsWith(TYPE_GENERATION + "\t")
+          ? Long.parseLong(line.substring(2)) : 0;
+    } catch (NoSuchFileException e) {
+      return 0;
+    }
+  }
+
+  /**
+   * Read index or log
+   *
+   * @return number of complete lines
+   */
+  private static int read(Path file, Map<String, Entry> target, String[] sync)
+      throws IOException {
+    String content;
+    try {
+      content = Files.readString(file, StandardCharsets.UTF_8);
+    } catch (NoSuchFileException e) {
+      return 0;
+    }
+    int lines = 0;
+    for (String line : content.substring(0, content.lastIndexOf('\n') + 1).split("\n")) {
+      if (line.isEmpty()) {
+        continue;
+      }
+      lines++;
+      String[] fields = line.split("\t", -1);
+      if (TYPE_ENTRY.equals(fields[0]) && fields.length >= 8) {
+        Entry entry = Entry.fromFields(fields);
+        target.put(entry.key(), entry);
+      } else if (TYPE_SYNC.equals(fields[0]) && fields.length >= 3) {
+        sync[0] = emptyToNull(fields[1]);
+        sync[1] = fields[2];
+      } else if (TYPE_GENERATION.equals(fields[0]) && fields.length >= 2) {
+        sync[2] = fields[1];
+      } else {
+        throw new IOException(String.format("Malformed line %d in %s", lines, file));
+      }
+    }
+    return lines;
+  }
+
+  private static String syncLine(String watermark, Instant time) {
+    return String.join("\t", TYPE_SYNC, nullToEmpty(watermark),
+        String.valueOf(time.toEpochMilli())) + "\n";
+  }
+
+  private static String key(String projectKey, String branch, String pullRequest) {
+    return projectKey + '\t' + nullToEmpty(branch) + '\t' + nullToEmpty(pullRequest);
+  }
+
+  private static String nullToEmpty(String s) {
+    return s == null ? "" : s;
+  }
+
+  private static String emptyToNull(String s) {
+    return s.isEmpty() ? null : s;
+  }
+
+  /**
+   * Latest quality gate status of a project, branch or pull request
+   */
+  @Value
+  public static class Entry {
+
+    String projectKey;
+    String branch;
+    String pullRequest;
+    ProjectStatus.Status status;
+    String analysisId;
+
+    /**
+     * submission date of the analysis
+     */
+    String submittedAt;
+
+    /**
+     * all conditions of the quality gate
+     */
+    List<Condition> conditions;
+
+    boolean ignoredConditions;
+
+    /**
+     * Create an entry from a project status
+     *
+     * @param projectKey project key
+     * @param branch branch or null
+     * @param pullRequest pull request or null
+     * @param analysisId analysis of the status
+     * @param submittedAt submission date of the analysis
+     * @param projectStatus project status
+     * @return new entry
+     */
+    public static Entry of(String projectKey, String branch, String pullRequest,
+        String analysisId, String submittedAt, ProjectStatus projectStatus) {
+      return new Entry(projectKey, Util.isBlank(branch) ? null : branch,
+          Util.isBlank(pullRequest) ? null : pullRequest, projectStatus.getStatus(), analysisId,
+          submittedAt, Optional.ofNullable(projectStatus.getConditions()).orElse(List.of()),
+          projectStatus.isIgnoredConditions());
+    }
+
+    /**
+     * Create the project status as returned by the server
+     *
+     * @return project status
+     */
+    public ProjectStatus toProjectStatus() {
+      ProjectStatus ret = new ProjectStatus();
+      ret.setStatus(status);
+      ret.setIgnoredConditions(ignoredConditions);
+      ret.setConditions(new ArrayList<>(conditions));
+      return ret;
+    }
+
+    String key() {
+      return StatusMirror.key(projectKey, branch, pullRequest);
+    }
+
+    String toLine() {
+      return String.join("\t", TYPE_ENTRY, projectKey, nullToEmpty(branch),
+          nullToEmpty(pullRequest), String.valueOf(status), nullToEmpty(analysisId),
+          nullToEmpty(submittedAt),
+          conditions.stream().map(Entry::format).collect(Collectors.joining(",")),
+          String.valueOf(ignoredConditions)) + "\n";
+    }
+
+    static Entry fromFields(String[] fields) {
+      List<Condition> conditions = new ArrayList<>();
+      if (!fields[7].isEmpty()) {
+        for (String condition : fields[7].split(",")) {
+          conditions.add(parse(condition));
+        }
+      }
+      return new Entry(fields[1], emptyToNull(fields[2]), emptyToNull(fields[3]),
+          "null".equals(fields[4]) ? null : ProjectStatus.Status.valueOf(fields[4]),
+          emptyToNull(fields[5]), emptyToNull(fields[6]), conditions,
+          fields.length > 8 && Boolean.parseBoolean(fields[8]));
+    }
+
+    /**
+     * Format a condition as {@code metricKey:status:comparator:errorThreshold:actualValue:
+     * periodIndex}, each part URL encoded
+     */
+    private static String format(Condition condition) {
+      return Stream.of(condition.getMetricKey(), condition.getStatus(),
+              condition.getComparator(), condition.getErrorThreshold(),
+              condition.getActualValue(), condition.getPeriodIndex())
+          .map(v -> v == null ? "" : URLEncoder.encode(String.valueOf(v), StandardCharsets.UTF_8))
+          .collect(Collectors.joining(":"));
+    }
+
+    /**
+     * Parse a condition, also {@code metricKey:status} of older mirrors
+     */
+    private static Condition parse(String formatted) {
+      String[] parts = formatted.split(":", -1);
+      Condition ret = new Condition();
+      ret.setMetricKey(decode(parts[0]));
+      String status = decode(parts[1]);
+      ret.setStatus(status == null ? null : ProjectStatus.Status.valueOf(status));
+      if (parts.length >= 6) {
+        ret.setComparator(decode(parts[2]));
+        ret.setErrorThreshold(decode(parts[3]));
+        ret.setActualValue(decode(parts[4]));
+        String periodIndex = decode(parts[5]);
+        ret.setPeriodIndex(periodIndex == null ? null : Integer.valueOf(periodIndex));
+      }
+      return ret;
+    }
+
+    private static String decode(String part) {
+      return part.isEmpty() ? null : URLDecoder.decode(part, StandardCharsets.UTF_8);
+    }
+  }
+
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.util.List;
+import lombok.Data;
+
+/**
+ * Response of {@code api/measures/component}: the measures of a {@link Component} and the
+ * {@link Metric} definitions. The content is the response itself, as both parts are needed.
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ComponentMeasures implements Container<ComponentMeasures> {
+
+  private Component component;
+  private List<Metric> metrics;
+
+  @Override
+  public ComponentMeasures getContent() {
+    return component == null ? null : this;
+  }
+
+}
@@ -30,5 +30,9 @@ public class Condition {
 
   private ProjectStatus.Status status;
   private String metricKey;
+  private String comparator;
+  private Integer periodIndex;
+  private String errorThreshold;
+  private String actualValue;
 
 }
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.util.List;
+import lombok.Data;
+
+/**
+ * API Model, see
+ * <a href="https://github.com/SonarSource/sonarqube/blob/7.9.1/sonar-ws/src/main/protobuf/ws-measures.proto">
+ * SonarQube source ws-measures.proto</a>
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class Measure {
+
+  private String metric;
+  /**
+   * key of the component (only {@code api/measures/search})
+   */
+  private String component;
+  private String value;
+  /**
+   * value on new code (SonarQube 8.1+)
+   */
+  private Period period;
+  /**
+   * values on new code (before SonarQube 8.1)
+   */
+  private List<Period> periods;
+
+  /**
+   * Value of a measure on new code
+   */
+  @Data
+  @JsonIgnoreProperties(ignoreUnknown = true)
+  public static class Period {
+
+    private Integer index;
+    private String value;
+
+  }
+
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.r0bb3n.maven.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import java.util.List;
+import lombok.Data;
+
+/**
+ * Response of {@code api/measures/search}: the {@link Measure}s of several projects, each with
+ * its component key
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class MeasuresContainer implements Container<List<Measure>> {
+
+  private List<Measure> measures;
+
+  @Override
+  public List<Measure> getContent() {
+    return measures;
+  }
+
+}
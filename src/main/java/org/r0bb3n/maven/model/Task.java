@@ -31,7 +31,14 @@ import lombok.RequiredArgsConstructor;
 public class Task {
 
   String analysisId;
+  String componentKey;
+  String branch;
+  String pullRequest;
   Status status;
+  String submittedAt;
+  String startedAt;
+  String executedAt;
+  Long executionTimeMs;
 
   /**
    * All available states for a task
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.poll;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.apache.maven.plugin.logging.Log;
+import org.r0bb3n.maven.PollingStrategy;
+import org.r0bb3n.maven.SonarConnector;
+import org.r0bb3n.maven.model.Task;
+
+/**
+ * Polls any number of compute engine tasks until they are finished, without a thread per task.
+ * The next poll of each task is scheduled on a {@link TimerWheel}, which is advanced by one
+ * thread per tick. All polls due in a tick are sent together as asynchronous requests of the
+ * connector (i.e. limited by its {@link org.r0bb3n.maven.transport.ConcurrencyLimiter}), the
+ * responses schedule the next poll or complete the future of the task. Memory and CPU grow with
+ * the number of polls per tick, not with the number of tracked tasks.
+ */
+public class TaskPollScheduler implements Closeable {
+
+  public static final Duration DEFAULT_TICK = Duration.ofMillis(100);
+
+  public static final int DEFAULT_WHEEL_SIZE = 512;
+
+  public static final int DEFAULT_ATTEMPTS = 60;
+
+  private final Log log;
+  private final SonarConnector connector;
+  private final PollingStrategy pollingStrategy;
+  private final int attempts;
+  private final Duration tick;
+
+  /**
+   * guards all following fields
+   */
+  private final Object lock = new Object();
+  private final TimerWheel<TrackedTask> wheel;
+  private final Map<String, TrackedTask> tracked = new HashMap<>();
+  private Thread ticker;
+  private boolean closed;
+
+  /**
+   * Create a scheduler, its thread is started with the first tracked task
+   *
+   * @param log logger to use
+   * @param connector connector to poll with
+   * @param pollingStrategy wait between two polls of a task (default: 5 seconds)
+   * @param attempts maximum number of polls per task (default: {@link #DEFAULT_ATTEMPTS})
+   * @param tick resolution of the schedule (default: {@link #DEFAULT_TICK})
+   * @param wheelSize number of ticks per turn of the wheel (default: {@link #DEFAULT_WHEEL_SIZE})
+   */
+  @Builder
+  private TaskPollScheduler(@NonNull Log log, @NonNull SonarConnector connector,
+      PollingStrategy pollingStrategy, int attempts, Duration tick, int wheelSize) {
+    this.log = log;
+    this.connector = connector;
+    this.pollingStrategy = pollingStrategy == null
+        ? PollingStrategy.fixed(Duration.ofSeconds(5)) : pollingStrategy;
+    this.attempts = attempts > 0 ? attempts : DEFAULT_ATTEMPTS;
+    this.tick = tick == null ? DEFAULT_TICK : tick;
+    this.wheel = new TimerWheel<>(this.tick, wheelSize > 0 ? wheelSize : DEFAULT_WHEEL_SIZE,
+        System.nanoTime());
+  }
+
+  /**
+   * Poll a task until it is finished. The first poll is sent on the next tick. Tracking a task
+   * that is already tracked returns the same future.
+   *
+   * @param ceTaskId ce task id
+   * @return future task with a final status ({@link Task.Status#isOngoing()} is false),
+   *         completes exceptionally with an {@link IOException} in case of request errors, if the
+   *         task is still ongoing after all attempts or if the scheduler is closed before.
+   *         Cancelling it stops the polling.
+   */
+  public CompletableFuture<Task> track(String ceTaskId) {
+    synchronized (lock) {
+      if (closed) {
+        return CompletableFuture.failedFuture(new IOException("task poll scheduler is closed"));
+      }
+      TrackedTask existing = tracked.get(ceTaskId);
+      if (existing != null) {
+        return existing.result;
+      }
+      TrackedTask task = new TrackedTask(ceTaskId);
+      tracked.put(ceTaskId, task);
+      wheel.schedule(task, System.nanoTime());
+      if (ticker == null) {
+        ticker = new Thread(this::runTicker, "sonar-quality-gate-task-poll");
+        ticker.setDaemon(true);
+        ticker.start();
+      }
+      task.result.whenComplete((t, e) -> {
+        synchronized (lock) {
+          tracked.remove(ceTaskId, task);
+        }
+      });
+      return task.result;
+    }
+  }
+
+  /**
+   * Get the number of tracked tasks
+   *
+   * @return tasks not finished yet
+   */
+  public int getTrackedCount() {
+    synchronized (lock) {
+      return tracked.size();
+    }
+  }
+
+  /**
+   * Stop polling, all tracked tasks complete exceptionally
+   */
+  @Override
+  public void close() {
+    List<TrackedTask> remaining;
+    synchronized (lock) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      if (ticker != null) {
+        ticker.interrupt();
+      }
+      remaining = new ArrayList<>(tracked.values());
+    }
+    IOException closedException = new IOException("task poll scheduler closed");
+    remaining.forEach(task -> task.result.completeExceptionally(closedException));
+  }
+
+  private void runTicker() {
+    try {
+      while (true) {
+        TimeUnit.NANOSECONDS.sleep(tick.toNanos());
+        List<TrackedTask> due;
+        synchronized (lock) {
+          if (closed) {
+            return;
+          }
+          due = wheel.advance(System.nanoTime());
+        }
+        if (!due.isEmpty()) {
+          poll(due);
+        }
+      }
+    } catch (InterruptedException e) {
+      // closed
+    }
+  }
+
+  private void poll(List<TrackedTask> due) {
+    if (log.isDebugEnabled()) {
+      log.debug(String.format("polling %d of %d compute engine task(s)", due.size(),
+          getTrackedCount()));
+    }
+    for (TrackedTask task : due) {
+      // cancelled by the caller
+      if (!task.result.isDone()) {
+        task.attempt++;
+        connector.retrieveTaskAsync(task.ceTaskId)
+            .whenComplete((result, error) -> onPolled(task, result, error));
+      }
+    }
+  }
+
+  private void onPolled(TrackedTask task, Task result, Throwable error) {
+    if (error != null) {
+      Throwable cause = error instanceof CompletionException && error.getCause() != null
+          ? error.getCause() : error;
+      task.result.completeExceptionally(cause);
+    } else if (result.getStatus() == null || !result.getStatus().isOngoing()) {
+      task.result.complete(result);
+    } else if (task.attempt >= attempts) {
+      task.result.completeExceptionally(new IOException(String.format(
+          "task %s still %s after %d requests", task.ceTaskId, result.getStatus(),
+          task.attempt)));
+    } else {
+      Duration delay = pollingStrategy.nextDelay(task.attempt);
+      synchronized (lock) {
+        if (!closed) {
+          wheel.schedule(task, System.nanoTime() + delay.toNanos());
+        }
+      }
+    }
+  }
+
+  /**
+   * State of one tracked task
+   */
+  @RequiredArgsConstructor
+  private static class TrackedTask {
+
+    private final String ceTaskId;
+    private final CompletableFuture<Task> result = new CompletableFuture<>();
+
+    /**
+     * polls sent so far, only changed before a poll is sent
+     */
+    private int attempt;
+  }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.poll;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import lombok.Value;
+
+/**
+ * Hashed timer wheel: a ring of buckets, one per tick, each holding the items due in a tick that
+ * maps to it. Scheduling is {@code O(1)}, advancing costs one bucket per elapsed tick (at most
+ * one full turn), independent of the number of items. Items more than one turn ahead stay in
+ * their bucket until their tick is reached. Not thread-safe.
+ *
+ * @param <T> type of the scheduled items
+ */
+public class TimerWheel<T> {
+
+  private final long tickNanos;
+  private final long originNanos;
+  private final Deque<Entry<T>>[] buckets;
+  private final int mask;
+
+  /**
+   * last tick that has been advanced to
+   */
+  private long currentTick;
+
+  private int size;
+
+  /**
+   * Create an empty wheel
+   *
+   * @param tick resolution, due items are returned at most one tick late
+   * @param wheelSize number of buckets, rounded up to a power of two (at least 2)
+   * @param originNanos point in time ({@link System#nanoTime()}) of tick 0
+   */
+  @SuppressWarnings("unchecked")
+  public TimerWheel(Duration tick, int wheelSize, long originNanos) {
+    if (tick.isNegative() || tick.isZero() || wheelSize < 1) {
+      throw new IllegalArgumentException(String.format(
+          "invalid timer wheel: tick %s, size %d", tick, wheelSize));
+    }
+    this.tickNanos = tick.toNanos();
+    this.originNanos = originNanos;
+    int length = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+    this.buckets = new Deque[length];
+    for (int i = 0; i < length; i++) {
+      buckets[i] = new ArrayDeque<>();
+    }
+    this.mask = length - 1;
+  }
+
+  /**
+   * Schedule an item
+   *
+   * @param item item to schedule
+   * @param deadlineNanos point in time ({@link System#nanoTime()}) the item is due at, items in
+   *                      the past are due on the next tick
+   */
+  public void schedule(T item, long deadlineNanos) {
+    long ticks = deadlineNanos - originNanos;
+    long tick = Math.max(currentTick + 1, Math.floorDiv(ticks + tickNanos - 1, tickNanos));
+    buckets[(int) (tick & mask)].add(new Entry<>(item, tick));
+    size++;
+  }
+
+  /**
+   * Advance the wheel and remove all items that are due
+   *
+   * @param nowNanos current time ({@link System#nanoTime()})
+   * @return due items, ordered by bucket
+   */
+  public List<T> advance(long nowNanos) {
+    long targetTick = Math.floorDiv(nowNanos - originNanos, tickNanos);
+    List<T> due = new ArrayList<>();
+    // one full turn visits every bucket, no need for more
+    long lastTick = Math.min(targetTick, currentTick + buckets.length);
+    for (long tick = currentTick + 1; tick <= lastTick; tick++) {
+      Iterator<Entry<T>> entries = buckets[(int) (tick & mask)].iterator();
+      while (entries.hasNext()) {
+        Entry<T> entry = entries.next();
+        if (entry.getTick() <= targetTick) {
+          due.add(entry.getItem());
+          entries.remove();
+          size--;
+        }
+      }
+    }
+    currentTick = Math.max(currentTick, targetTick);
+    return due;
+  }
+
+  /**
+   * Get the number of scheduled items
+   *
+   * @return items not yet returned by {@link #advance(long)}
+   */
+  public int size() {
+    return size;
+  }
+
+  @Value
+  private static class Entry<T> {
+
+    T item;
+    long tick;
+  }
+
+}
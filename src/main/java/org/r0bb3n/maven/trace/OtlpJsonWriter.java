@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.trace;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Writes spans in the JSON encoding of the OpenTelemetry protocol (OTLP/JSON,
+ * {@code ExportTraceServiceRequest}), as accepted by the OpenTelemetry collector (e.g. via the
+ * {@code otlpjsonfile} receiver)
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class OtlpJsonWriter {
+
+  static final String SERVICE_NAME = "sonar-quality-gate-maven-plugin";
+  static final String SCOPE_NAME = "org.r0bb3n.maven";
+
+  private static final int STATUS_CODE_OK = 1;
+  private static final int STATUS_CODE_ERROR = 2;
+
+  /**
+   * Write the spans to a file (parent directories are created)
+   *
+   * @param spans spans to write
+   * @param file target file
+   * @throws IOException file cannot be written
+   */
+  public static void write(List<Span> spans, Path file) throws IOException {
+    Files.createDirectories(file.toAbsolutePath().getParent());
+    ObjectMapper mapper = new ObjectMapper();
+    mapper.writeValue(file.toFile(), toJson(mapper, spans));
+  }
+
+  /**
+   * Create the OTLP/JSON document
+   *
+   * @param mapper mapper to create nodes with
+   * @param spans spans to include
+   * @return root node
+   */
+  static ObjectNode toJson(ObjectMapper mapper, List<Span> spans) {
+    ObjectNode root = mapper.createObjectNode();
+    ObjectNode resourceSpans = root.putArray("resourceSpans").addObject();
+    ArrayNode resourceAttributes =
+        resourceSpans.putObject("resource").putArray("attributes");
+    addAttribute(resourceAttributes, "service.name", SERVICE_NAME);
+    ObjectNode scopeSpans = resourceSpans.putArray("scopeSpans").addObject();
+    scopeSpans.putObject("scope").put("name", SCOPE_NAME);
+    ArrayNode spanArray = scopeSpans.putArray("spans");
+    for (Span span : spans) {
+      ObjectNode node = spanArray.addObject();
+      node.put("traceId", span.getTraceId());
+      node.put("spanId", span.getSpanId());
+      if (span.getParentSpanId() != null) {
+        node.put("parentSpanId", span.getParentSpanId());
+      }
+      node.put("name", span.getName());
+      node.put("kind", span.getKind().getCode());
+      // 64 bit integers are encoded as strings in OTLP/JSON
+      node.put("startTimeUnixNano", Long.toString(span.getStartEpochNanos()));
+      node.put("endTimeUnixNano", Long.toString(span.getEndEpochNanos()));
+      ArrayNode attributes = node.putArray("attributes");
+      synchronized (span.getAttributes()) {
+        for (Map.Entry<String, Object> e : span.getAttributes().entrySet()) {
+          addAttribute(attributes, e.getKey(), e.getValue());
+        }
+      }
+      ObjectNode status = node.putObject("status");
+      if (span.getErrorMessage() != null) {
+        status.put("code", STATUS_CODE_ERROR);
+        status.put("message", span.getErrorMessage());
+      } else {
+        status.put("code", STATUS_CODE_OK);
+      }
+    }
+    return root;
+  }
+
+  private static void addAttribute(ArrayNode attributes, String key, Object value) {
+    ObjectNode attribute = attributes.addObject();
+    attribute.put("key", key);
+    ObjectNode anyValue = attribute.putObject("value");
+    if (value instanceof Boolean) {
+      anyValue.put("boolValue", (Boolean) value);
+    } else if (value instanceof Double || value instanceof Float) {
+      anyValue.put("doubleValue", ((Number) value).doubleValue());
+    } else if (value instanceof Number) {
+      anyValue.put("intValue", Long.toString(((Number) value).longValue()));
+    } else {
+      anyValue.put("stringValue", String.valueOf(value));
+    }
+  }
+
+}
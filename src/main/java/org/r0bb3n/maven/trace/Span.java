@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.trace;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * A timed operation within a trace, modelled after the OpenTelemetry span. Closing the span ends
+ * it, so it can be used with try-with-resources.
+ */
+@Getter
+public class Span implements AutoCloseable {
+
+  /**
+   * Kind of a span (values as in OTLP)
+   */
+  @RequiredArgsConstructor
+  @Getter
+  public enum Kind {
+    INTERNAL(1), CLIENT(3);
+
+    final int code;
+  }
+
+  @Getter(AccessLevel.NONE)
+  private final Tracer tracer;
+  private final String name;
+  private final Kind kind;
+  private final String traceId;
+  private final String spanId;
+  private final String parentSpanId;
+  private final long startEpochNanos;
+  private final Map<String, Object> attributes = Collections.synchronizedMap(new LinkedHashMap<>());
+  private volatile long endEpochNanos;
+  private volatile String errorMessage;
+
+  Span(Tracer tracer, String name, Kind kind, String traceId, String spanId, String parentSpanId,
+      long startEpochNanos) {
+    this.tracer = tracer;
+    this.name = name;
+    this.kind = kind;
+    this.traceId = traceId;
+    this.spanId = spanId;
+    this.parentSpanId = parentSpanId;
+    this.startEpochNanos = startEpochNanos;
+  }
+
+  /**
+   * Add an attribute
+   *
+   * @param key attribute name, e.g. {@code http.status_code}
+   * @param value String, Boolean or Number
+   * @return this span
+   */
+  public Span setAttribute(String key, Object value) {
+    if (value != null) {
+      attributes.put(key, value);
+    }
+    return this;
+  }
+
+  /**
+   * Mark the span as failed
+   *
+   * @param error cause
+   * @return this span
+   */
+  public Span recordError(Throwable error) {
+    return setError(String.valueOf(error.getMessage()));
+  }
+
+  /**
+   * Mark the span as failed
+   *
+   * @param message description of the error
+   * @return this span
+   */
+  public Span setError(String message) {
+    this.errorMessage = message;
+    return this;
+  }
+
+  /**
+   * Check if the span is ended
+   *
+   * @return true, if ended
+   */
+  public boolean isEnded() {
+    return endEpochNanos != 0;
+  }
+
+  /**
+   * End the span (only the first call has an effect)
+   */
+  @Override
+  public void close() {
+    if (!isEnded()) {
+      endEpochNanos = tracer.nowEpochNanos();
+      tracer.ended(this);
+    }
+  }
+
+  /**
+   * End the span at a specific time (used for spans recorded after the fact)
+   *
+   * @param endEpochNanos end time in nanoseconds since the epoch
+   */
+  void end(long endEpochNanos) {
+    this.endEpochNanos = endEpochNanos;
+  }
+
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.trace;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Minimal tracer that collects {@link Span}s of one execution in memory. The trace id and the
+ * parent of the root span are taken from a W3C trace context ({@code traceparent}), so the spans
+ * fit into the trace of the calling CI pipeline. The current span is tracked per thread: a new
+ * span is a child of the innermost span of the current thread that is not yet closed.
+ */
+public class Tracer {
+
+  /**
+   * environment variable holding the W3C trace context of the caller
+   */
+  public static final String ENV_TRACEPARENT = "TRACEPARENT";
+
+  private static final Pattern TRACEPARENT =
+      Pattern.compile("^[0-9a-f]{2}-([0-9a-f]{32})-([0-9a-f]{16})-[0-9a-f]{2}$");
+  private static final String INVALID_TRACE_ID = "00000000000000000000000000000000";
+  private static final String INVALID_SPAN_ID = "0000000000000000";
+
+  private final Clock clock;
+  private final String traceId;
+  private final String remoteParentSpanId;
+  private final ThreadLocal<Deque<Span>> active = ThreadLocal.withInitial(ArrayDeque::new);
+  private final List<Span> spans = Collections.synchronizedList(new ArrayList<>());
+
+  /**
+   * Create tracer
+   *
+   * @param traceparent W3C trace context of the caller, a new trace is started if {@code null} or
+   *                    invalid
+   */
+  public Tracer(String traceparent) {
+    this(traceparent, Clock.systemUTC());
+  }
+
+  Tracer(String traceparent, Clock clock) {
+    this.clock = clock;
+    Matcher m = TRACEPARENT.matcher(traceparent == null ? "" : traceparent.trim());
+    if (m.matches() && !INVALID_TRACE_ID.equals(m.group(1))
+        && !INVALID_SPAN_ID.equals(m.group(2))) {
+      traceId = m.group(1);
+      remoteParentSpanId = m.group(2);
+    } else {
+      traceId = randomHex(16);
+      remoteParentSpanId = null;
+    }
+  }
+
+  /**
+   * Create tracer with the trace context of environment variable {@value #ENV_TRACEPARENT}
+   *
+   * @return new tracer
+   */
+  public static Tracer fromEnvironment() {
+    return new Tracer(System.getenv(ENV_TRACEPARENT));
+  }
+
+  /**
+   * Start a span as child of the current span and make it the current span of this thread until
+   * it is closed
+   *
+   * @param name span name
+   * @return started span
+   */
+  public Span startSpan(String name) {
+    Deque<Span> stack = active.get();
+    Span span = new Span(this, name, Span.Kind.INTERNAL, traceId, randomHex(8), currentSpanId(),
+        nowEpochNanos());
+    stack.push(span);
+    return span;
+  }
+
+  /**
+   * Record an already finished operation as child of the current span
+   *
+   * @param name span name
+   * @param kind span kind
+   * @param duration duration of the operation, which ended now
+   * @return recorded span, to add attributes
+   */
+  public Span recordSpan(String name, Span.Kind kind, Duration duration) {
+    long end = nowEpochNanos();
+    Span span = new Span(this, name, kind, traceId, randomHex(8), currentSpanId(),
+        end - duration.toNanos());
+    span.end(end);
+    spans.add(span);
+    return span;
+  }
+
+  /**
+   * Get the trace id
+   *
+   * @return 32 hex digits
+   */
+  public String getTraceId() {
+    return traceId;
+  }
+
+  /**
+   * Get all ended spans
+   *
+   * @return copy of the spans in order of their end
+   */
+  public List<Span> getSpans() {
+    synchronized (spans) {
+      return new ArrayList<>(spans);
+    }
+  }
+
+  long nowEpochNanos() {
+    Instant now = clock.instant();
+    return now.getEpochSecond() * 1_000_000_000L + now.getNano();
+  }
+
+  void ended(Span span) {
+    active.get().remove(span);
+    spans.add(span);
+  }
+
+  private String currentSpanId() {
+    Span parent = active.get().peek();
+    return parent != null ? parent.getSpanId() : remoteParentSpanId;
+  }
+
+  private static String randomHex(int bytes) {
+    StringBuilder sb = new StringBuilder(bytes * 2);
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    for (int i = 0; i < bytes; i++) {
+      sb.append(String.format("%02x", random.nextInt(256)));
+    }
+    return sb.toString();
+  }
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.trace;
+
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.r0bb3n.maven.ConnectorListener;
+
+/**
+ * Records Web API calls and response parsing of a
+ * {@link org.r0bb3n.maven.SonarConnector} as spans
+ */
+@RequiredArgsConstructor
+public class TracingListener implements ConnectorListener {
+
+  private final Tracer tracer;
+
+  @Override
+  public void onExchange(String endpoint, int statusCode, long responseBytes, Duration latency) {
+    Span span = tracer.recordSpan("GET " + endpoint, Span.Kind.CLIENT, latency)
+        .setAttribute("http.method", "GET")
+        .setAttribute("http.route", endpoint)
+        .setAttribute("http.status_code", statusCode)
+        .setAttribute("http.response_content_length", responseBytes);
+    if (statusCode != 200) {
+      span.setError("HTTP status " + statusCode);
+    }
+  }
+
+  @Override
+  public void onParse(String targetType, long inputChars, Duration duration) {
+    tracer.recordSpan("parse " + targetType, Span.Kind.INTERNAL, duration)
+        .setAttribute("sonar.response.length", inputChars);
+  }
+
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.transport;
+
+import java.io.IOException;
+import java.net.ProxySelector;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.config.TlsConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.routing.SystemDefaultRoutePlanner;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.reactor.IOReactorConfig;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.r0bb3n.maven.HttpSettings;
+
+/**
+ * Alternative asynchronous transport based on Apache HttpClient 5. In contrast to
+ * {@link JdkHttpTransport} the connection pool is limited in total and per route, idle
+ * connections are evicted according to the keep-alive setting and connections through a proxy are
+ * pooled as well.
+ *
+ * <p>The request timeout is applied as response (socket inactivity) timeout.
+ */
+public class ApacheHttpTransport implements HttpTransport {
+
+  private final CloseableHttpAsyncClient httpClient;
+
+  /**
+   * Create and start transport
+   *
+   * @param httpSettings transport configuration
+   */
+  public ApacheHttpTransport(HttpSettings httpSettings) {
+    ConnectionConfig.Builder connectionConfig = ConnectionConfig.custom();
+    if (httpSettings.getConnectTimeout() != null) {
+      connectionConfig.setConnectTimeout(Timeout.of(httpSettings.getConnectTimeout()));
+    }
+    PoolingAsyncClientConnectionManager connectionManager =
+        PoolingAsyncClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(httpSettings.getMaxConnections())
+            .setMaxConnPerRoute(httpSettings.getMaxConnectionsPerRoute())
+            .setDefaultConnectionConfig(connectionConfig.build())
+            .setDefaultTlsConfig(TlsConfig.custom()
+                .setVersionPolicy(httpSettings.getVersion() == HttpClient.Version.HTTP_2
+                    ? HttpVersionPolicy.NEGOTIATE : HttpVersionPolicy.FORCE_HTTP_1)
+                .build())
+            .build();
+    HttpAsyncClientBuilder builder = HttpAsyncClients.custom()
+        .setConnectionManager(connectionManager)
+        .setIOReactorConfig(
+            IOReactorConfig.custom().setIoThreadCount(Math.max(1, httpSettings.getThreads()))
+                .build())
+        .setRoutePlanner(new SystemDefaultRoutePlanner(ProxySelector.getDefault()))
+        .useSystemProperties();
+    if (httpSettings.getKeepAlive() != null) {
+      TimeValue keepAlive = TimeValue.of(httpSettings.getKeepAlive());
+      builder.setKeepAliveStrategy((response, context) -> keepAlive)
+          .evictIdleConnections(keepAlive);
+    }
+    httpClient = builder.build();
+    httpClient.start();
+  }
+
+  @Override
+  public TransportResponse send(TransportRequest request)
+      throws IOException, InterruptedException {
+    CompletableFuture<TransportResponse> future = sendAsync(request);
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw new IOException(e.getCause());
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      throw e;
+    }
+  }
+
+  @Override
+  public CompletableFuture<TransportResponse> sendAsync(TransportRequest request) {
+    SimpleRequestBuilder requestBuilder = SimpleRequestBuilder.get(request.getUri());
+    request.getHeaders().forEach(requestBuilder::addHeader);
+    if (request.getTimeout() != null) {
+      requestBuilder.setRequestConfig(
+          RequestConfig.custom().setResponseTimeout(Timeout.of(request.getTimeout())).build());
+    }
+    SimpleHttpRequest httpRequest = requestBuilder.build();
+
+    CompletableFuture<TransportResponse> ret = new CompletableFuture<>();
+    httpClient.execute(httpRequest, new FutureCallback<>() {
+      @Override
+      public void completed(SimpleHttpResponse result) {
+        ret.complete(toResponse(result));
+      }
+
+      @Override
+      public void failed(Exception ex) {
+        ret.completeExceptionally(
+            ex instanceof IOException ? ex : new IOException(ex.getMessage(), ex));
+      }
+
+      @Override
+      public void cancelled() {
+        ret.completeExceptionally(new CancellationException("request cancelled"));
+      }
+    });
+    return ret;
+  }
+
+  @Override
+  public void close() {
+    httpClient.close(CloseMode.GRACEFUL);
+  }
+
+  /**
+   * Map {@link SimpleHttpResponse} to response
+   */
+  private static TransportResponse toResponse(SimpleHttpResponse response) {
+    Map<String, List<String>> headers = new TreeMap<>();
+    for (Header header : response.getHeaders()) {
+      headers.computeIfAbsent(header.getName().toLowerCase(), k -> new ArrayList<>())
+          .add(header.getValue());
+    }
+    byte[] body = response.getBodyBytes();
+    return new TransportResponse(response.getCode(), headers,
+        body == null ? "" : new String(body, StandardCharsets.UTF_8));
+  }
+
+}
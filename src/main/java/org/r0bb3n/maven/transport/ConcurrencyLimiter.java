@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.transport;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.IntConsumer;
+
+/**
+ * Adaptive limit of the requests in flight (AIMD): the limit grows by one per round of requests
+ * that are answered without error and without latency far above the usual one, and shrinks by
+ * 10% per request that failed (I/O error, {@code 429}, {@code 503}, {@code 504}) or took more
+ * than twice the usual latency. The usual latency is the lowest one observed, slowly drifting
+ * towards higher ones. Requests above the limit wait in a queue without blocking a thread.
+ */
+public class ConcurrencyLimiter {
+
+  /**
+   * limit to start with, if the maximum is not lower
+   */
+  public static final int DEFAULT_INITIAL_LIMIT = 16;
+
+  /**
+   * factor applied to the limit on overload
+   */
+  static final double BACKOFF_RATIO = 0.9;
+
+  /**
+   * latency relative to the usual one, above which the server is considered overloaded
+   */
+  static final double LATENCY_TOLERANCE = 2;
+
+  /**
+   * weight of a sample above the usual latency
+   */
+  static final double BASELINE_DRIFT = 0.01;
+
+  private final int maxLimit;
+
+  private final IntConsumer onLimitChange;
+
+  private final Deque<CompletableFuture<Void>> waiting = new ArrayDeque<>();
+
+  private double limit;
+
+  private int inFlight;
+
+  /**
+   * usual latency in nanoseconds, negative while unknown
+   */
+  private double baseline = -1;
+
+  /**
+   * Create a limiter
+   *
+   * @param initialLimit limit to start with
+   * @param maxLimit upper bound of the limit
+   * @param onLimitChange called with the new limit, whenever its integer value changes (outside
+   *                      of any lock)
+   */
+  public ConcurrencyLimiter(int initialLimit, int maxLimit, IntConsumer onLimitChange) {
+    if (initialLimit < 1 || maxLimit < initialLimit) {
+      throw new IllegalArgumentException(String.format(
+          "invalid concurrency limits: initial %d, maximum %d", initialLimit, maxLimit));
+    }
+    this.limit = initialLimit;
+    this.maxLimit = maxLimit;
+    this.onLimitChange = onLimitChange;
+  }
+
+  /**
+   * Get the current limit
+   *
+   * @return maximum number of requests in flight
+   */
+  public synchronized int getLimit() {
+    return (int) limit;
+  }
+
+  /**
+   * Get the number of requests in flight
+   *
+   * @return requests that acquired a permit and did not release it yet
+   */
+  public synchronized int getInFlight() {
+    return inFlight;
+  }
+
+  /**
+   * Acquire a permit for one request. Each completed permit must be released exactly once.
+   *
+   * @return future completed as soon as the request may be sent
+   */
+  public synchronized CompletableFuture<Void> acquire() {
+    if (inFlight < getLimit()) {
+      inFlight++;
+      return CompletableFuture.completedFuture(null);
+    }
+    CompletableFuture<Void> permit = new CompletableFuture<>();
+    waiting.add(permit);
+    return permit;
+  }
+
+  /**
+   * Give up a permit that was not used for a request, e.g. after an interruption while waiting
+   * for it
+   *
+   * @param permit future returned by {@link #acquire()}
+   */
+  public void abandon(CompletableFuture<Void> permit) {
+    synchronized (this) {
+      if (waiting.remove(permit)) {
+        return;
+      }
+    }
+    release(null, false);
+  }
+
+  /**
+   * Release a permit and adapt the limit
+   *
+   * @param latency latency of the request or null, if not sent
+   * @param overload true, if the request failed in a way that indicates an overloaded server
+   */
+  public void release(Duration latency, boolean overload) {
+    List<CompletableFuture<Void>> granted = new ArrayList<>();
+    int before;
+    int after;
+    synchronized (this) {
+      before = getLimit();
+      inFlight--;
+      if (latency != null) {
+        adapt(latency.toNanos(), overload);
+      }
+      after = getLimit();
+      while (!waiting.isEmpty() && inFlight < after) {
+        inFlight++;
+        granted.add(waiting.poll());
+      }
+    }
+    if (before != after) {
+      onLimitChange.accept(after);
+    }
+    granted.forEach(permit -> permit.complete(null));
+  }
+
+  private void adapt(long nanos, boolean overload) {
+    if (!overload) {
+      if (baseline < 0 || nanos < baseline) {
+        baseline = nanos;
+      } else {
+        baseline += (nanos - baseline) * BASELINE_DRIFT;
+      }
+    }
+    if (overload || nanos > baseline * LATENCY_TOLERANCE) {
+      limit = Math.max(1, limit * BACKOFF_RATIO);
+    } else if (inFlight + 1 >= limit / 2) {
+      // grow only while the limit is actually used
+      limit = Math.min(maxLimit, limit + 1 / limit);
+    }
+  }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.transport;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * SPI for the HTTP backend used by {@link org.r0bb3n.maven.SonarConnector} for all calls to the
+ * Sonar Web API. Instances are created by {@link HttpTransportProvider} implementations and have to
+ * be thread-safe.
+ */
+public interface HttpTransport extends Closeable {
+
+  /**
+   * Execute the request and wait for the response
+   *
+   * @param request request to execute
+   * @return response, regardless of the status code
+   * @throws IOException connection problems or timeout
+   * @throws InterruptedException interrupted while waiting for the response
+   */
+  TransportResponse send(TransportRequest request) throws IOException, InterruptedException;
+
+  /**
+   * Execute the request asynchronously
+   *
+   * @param request request to execute
+   * @return future response, completes exceptionally in case of connection problems or timeout
+   */
+  CompletableFuture<TransportResponse> sendAsync(TransportRequest request);
+
+  /**
+   * Release all resources (connections, threads) of this transport
+   */
+  @Override
+  void close();
+
+}
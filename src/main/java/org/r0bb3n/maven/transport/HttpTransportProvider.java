@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.transport;
+
+import org.r0bb3n.maven.HttpSettings;
+
+/**
+ * Service provider for a {@link HttpTransport}, discovered by {@link java.util.ServiceLoader}.
+ * Implementations are registered in
+ * {@code META-INF/services/org.r0bb3n.maven.transport.HttpTransportProvider} and must not load
+ * classes of optional dependencies before {@link #create(HttpSettings)} is called.
+ */
+public interface HttpTransportProvider {
+
+  /**
+   * Name to select this transport by ({@link HttpSettings#getTransport()})
+   *
+   * @return unique name
+   */
+  String getName();
+
+  /**
+   * Check if all required (optional) dependencies are on the classpath
+   *
+   * @return true, if {@link #create(HttpSettings)} can be called
+   */
+  boolean isAvailable();
+
+  /**
+   * Create a new transport
+   *
+   * @param httpSettings transport configuration
+   * @return new transport instance
+   */
+  HttpTransport create(HttpSettings httpSettings);
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.transport;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ServiceLoader;
+import java.util.stream.Collectors;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.r0bb3n.maven.HttpSettings;
+import org.r0bb3n.maven.Util;
+
+/**
+ * Factory for {@link HttpTransport} instances based on the registered
+ * {@link HttpTransportProvider}s
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class HttpTransports {
+
+  /**
+   * Name of the default transport based on {@link java.net.http.HttpClient}
+   */
+  public static final String DEFAULT_TRANSPORT = JdkHttpTransportProvider.NAME;
+
+  /**
+   * Create transport selected by {@link HttpSettings#getTransport()}, decorated according to
+   * {@link HttpSettings#getRecordingMode()}
+   *
+   * @param httpSettings transport configuration
+   * @return new transport instance
+   * @throws IllegalArgumentException unknown transport, required dependencies are missing or
+   *                                  recording file is not accessible
+   */
+  public static HttpTransport create(HttpSettings httpSettings) {
+    RecordingMode mode = httpSettings.getRecordingMode() == null ? RecordingMode.OFF
+        : httpSettings.getRecordingMode();
+    if (mode == RecordingMode.OFF) {
+      return createBackend(httpSettings);
+    }
+    Path file = httpSettings.getRecordingFile();
+    if (file == null) {
+      throw new IllegalArgumentException("Recording mode " + mode + " requires a recording file");
+    }
+    try {
+      if (mode == RecordingMode.REPLAY) {
+        return new ReplayHttpTransport(file, httpSettings.getReplayLatencyScale());
+      }
+      HttpTransport backend = createBackend(httpSettings);
+      try {
+        return new RecordingHttpTransport(backend, file);
+      } catch (IOException e) {
+        backend.close();
+        throw e;
+      }
+    } catch (IOException e) {
+      throw new IllegalArgumentException(
+          String.format("Cannot access recording file '%s': %s", file, e.getMessage()), e);
+    }
+  }
+
+  private static HttpTransport createBackend(HttpSettings httpSettings) {
+    String name = Util.isBlank(httpSettings.getTransport()) ? DEFAULT_TRANSPORT
+        : httpSettings.getTransport();
+    ServiceLoader<HttpTransportProvider> loader = ServiceLoader.load(HttpTransportProvider.class,
+        HttpTransportProvider.class.getClassLoader());
+    for (HttpTransportProvider provider : loader) {
+      if (provider.getName().equals(name)) {
+        if (!provider.isAvailable()) {
+          throw new IllegalArgumentException(String.format(
+              "HTTP transport '%s' is not available - required dependencies are missing, please "
+                  + "add them as plugin dependencies", name));
+        }
+        return provider.create(httpSettings);
+      }
+    }
+    throw new IllegalArgumentException(
+        String.format("Unknown HTTP transport '%s' (available: %s)", name,
+            loader.stream().map(p -> p.get().getName()).collect(Collectors.joining(", "))));
+  }
+
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.transport;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.r0bb3n.maven.HttpSettings;
+
+/**
+ * Default transport based on {@link HttpClient} of the JDK
+ */
+public class JdkHttpTransport implements HttpTransport {
+
+  private final ExecutorService executor;
+  private final HttpClient httpClient;
+
+  /**
+   * Create transport
+   *
+   * @param httpSettings transport configuration
+   */
+  public JdkHttpTransport(HttpSettings httpSettings) {
+    this.executor = createExecutor(httpSettings.getThreads());
+    this.httpClient = createHttpClient(httpSettings, executor);
+  }
+
+  @Override
+  public TransportResponse send(TransportRequest request)
+      throws IOException, InterruptedException {
+    CompletableFuture<TransportResponse> future = sendAsync(request);
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof IOException) {
+        throw (IOException) e.getCause();
+      }
+      throw new IOException(e.getCause());
+    } catch (InterruptedException e) {
+      future.cancel(true);
+      throw e;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   *
+   * <p>{@link HttpClient} applies the request timeout only until the response headers are
+   * received. To not wait forever on a half-open connection, the body has to be received within
+   * the request timeout after the headers as well.
+   */
+  @Override
+  public CompletableFuture<TransportResponse> sendAsync(TransportRequest request) {
+    Duration timeout = request.getTimeout();
+    if (timeout == null) {
+      return httpClient.sendAsync(toHttpRequest(request), HttpResponse.BodyHandlers.ofString())
+          .thenApply(JdkHttpTransport::toResponse);
+    }
+    CompletableFuture<TransportResponse> ret = new CompletableFuture<>();
+    CompletableFuture<HttpResponse<String>> exchange =
+        httpClient.sendAsync(toHttpRequest(request), responseInfo -> {
+          // headers received: start the timeout for the body
+          CompletableFuture.delayedExecutor(timeout.toMillis(), TimeUnit.MILLISECONDS)
+              .execute(() -> ret.completeExceptionally(new HttpTimeoutException(
+                  "response body not received within " + timeout.toMillis() + " ms")));
+          return HttpResponse.BodyHandlers.ofString().apply(responseInfo);
+        });
+    exchange.whenComplete((response, t) -> {
+      if (t == null) {
+        ret.complete(toResponse(response));
+      } else {
+        ret.completeExceptionally(
+            t instanceof CompletionException && t.getCause() != null ? t.getCause() : t);
+      }
+    });
+    // abort the exchange, if the body timed out or the caller gave up
+    ret.whenComplete((response, t) -> exchange.cancel(true));
+    return ret;
+  }
+
+  /**
+   * Shutdown the dedicated executor of the HTTP client. Ongoing requests are not interrupted.
+   */
+  @Override
+  public void close() {
+    executor.shutdown();
+  }
+
+  /**
+   * Map request to {@link HttpRequest}
+   */
+  private static HttpRequest toHttpRequest(TransportRequest request) {
+    HttpRequest.Builder builder = HttpRequest.newBuilder(request.getUri()).GET();
+    request.getHeaders().forEach(builder::header);
+    if (request.getTimeout() != null) {
+      builder.timeout(request.getTimeout());
+    }
+    return builder.build();
+  }
+
+  /**
+   * Map {@link HttpResponse} to response
+   */
+  private static TransportResponse toResponse(HttpResponse<String> response) {
+    Map<String, List<String>> headers = response.headers().map().entrySet().stream()
+        .collect(Collectors.toMap(e -> e.getKey().toLowerCase(), Map.Entry::getValue,
+            (a, b) -> a, TreeMap::new));
+    return new TransportResponse(response.statusCode(), headers, response.body());
+  }
+
+  /**
+   * Create a bounded executor with daemon threads, so that a transport that is not closed does
+   * not prevent the JVM from exiting.
+   *
+   * @param threads maximum number of threads
+   * @return executor for the HTTP client
+   */
+  private static ExecutorService createExecutor(int threads) {
+    AtomicInteger threadCount = new AtomicInteger();
+    ThreadFactory threadFactory = r -> {
+      Thread t = new Thread(r, "sonar-quality-gate-http-" + threadCount.incrementAndGet());
+      t.setDaemon(true);
+      return t;
+    };
+    int poolSize = Math.max(1, threads);
+    ThreadPoolExecutor ret = new ThreadPoolExecutor(poolSize, poolSize, 30, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(), threadFactory);
+    ret.allowCoreThreadTimeOut(true);
+    return ret;
+  }
+
+  /**
+   * Create and configure HTTP client based on the supplied settings.
+   *
+   * <p>The keep-alive timeout can only be configured JVM-wide for {@link HttpClient} by the
+   * system property {@code jdk.httpclient.keepalive.timeout}, {@link HttpSettings#getKeepAlive()}
+   * is therefore ignored. Connection pool limits are not supported by {@link HttpClient}.
+   *
+   * @param httpSettings transport configuration
+   * @param executor executor to use for asynchronous tasks
+   * @return HTTP client
+   */
+  private static HttpClient createHttpClient(HttpSettings httpSettings, ExecutorService executor) {
+    HttpClient.Builder builder =
+        HttpClient.newBuilder().version(httpSettings.getVersion()).executor(executor);
+    if (httpSettings.getConnectTimeout() != null) {
+      builder.connectTimeout(httpSettings.getConnectTimeout());
+    }
+    return builder.build();
+  }
+
+}
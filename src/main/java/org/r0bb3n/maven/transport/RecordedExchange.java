@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.transport;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import lombok.Data;
+
+/**
+ * One request/response exchange of a recording, stored as one JSON line (NDJSON)
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class RecordedExchange {
+
+  /**
+   * path and query of the request, e.g. {@code /api/ce/task?id=AXe74ZzR1IiFGsn-Op8X}
+   */
+  String request;
+
+  /**
+   * time between start of the recording and the request in ms
+   */
+  long offsetMs;
+
+  /**
+   * time between request and response (or error) in ms
+   */
+  long latencyMs;
+
+  Integer statusCode;
+
+  /**
+   * response headers, keys are lower case
+   */
+  Map<String, List<String>> headers;
+
+  String body;
+
+  /**
+   * message of the exception, if no response was received
+   */
+  String error;
+
+  /**
+   * Create the key a request is recorded and looked up by. Scheme and host are not part of it,
+   * so that a recording can be replayed with a different server URL.
+   *
+   * @param uri request uri
+   * @return path and query
+   */
+  public static String requestKey(URI uri) {
+    return uri.getRawQuery() == null ? uri.getRawPath()
+        : uri.getRawPath() + "?" + uri.getRawQuery();
+  }
+
+}
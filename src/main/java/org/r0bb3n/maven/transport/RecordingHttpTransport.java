@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.transport;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decorator that writes every exchange of the wrapped transport with its timing to a recording
+ * file (NDJSON, one {@link RecordedExchange} per line), to be served later by
+ * {@link ReplayHttpTransport}. Request headers are not recorded (credentials), neither is the
+ * response header {@code set-cookie}.
+ *
+ * <p>Recording is best effort: a failing write does not fail the request, further exchanges are
+ * not recorded anymore.
+ */
+public class RecordingHttpTransport implements HttpTransport {
+
+  private static final String HEADER_SET_COOKIE = "set-cookie";
+
+  private final ObjectMapper mapper = new ObjectMapper();
+  private final HttpTransport delegate;
+  private final long startNanos = System.nanoTime();
+  private BufferedWriter writer;
+
+  /**
+   * Create transport, an existing recording file is replaced
+   *
+   * @param delegate transport executing the requests, will be closed by {@link #close()}
+   * @param file recording file
+   * @throws IOException file cannot be created
+   */
+  public RecordingHttpTransport(HttpTransport delegate, Path file) throws IOException {
+    this.delegate = delegate;
+    Path parent = file.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    this.writer = Files.newBufferedWriter(file);
+  }
+
+  @Override
+  public TransportResponse send(TransportRequest request)
+      throws IOException, InterruptedException {
+    long start = System.nanoTime();
+    TransportResponse response;
+    try {
+      response = delegate.send(request);
+    } catch (IOException e) {
+      record(request, start, null, e);
+      throw e;
+    }
+    record(request, start, response, null);
+    return response;
+  }
+
+  @Override
+  public CompletableFuture<TransportResponse> sendAsync(TransportRequest request) {
+    long start = System.nanoTime();
+    return delegate.sendAsync(request).whenComplete((response, t) -> record(request, start,
+        response, t instanceof CompletionException && t.getCause() != null ? t.getCause() : t));
+  }
+
+  @Override
+  public void close() {
+    delegate.close();
+    synchronized (this) {
+      if (writer != null) {
+        try {
+          writer.close();
+        } catch (IOException e) {
+          // nothing left to do
+        }
+        writer = null;
+      }
+    }
+  }
+
+  private void record(TransportRequest request, long start, TransportResponse response,
+      Throwable error) {
+    long now = System.nanoTime();
+    RecordedExchange exchange = new RecordedExchange();
+    exchange.setRequest(RecordedExchange.requestKey(request.getUri()));
+    exchange.setOffsetMs(TimeUnit.NANOSECONDS.toMillis(start - startNanos));
+    exchange.setLatencyMs(TimeUnit.NANOSECONDS.toMillis(now - start));
+    if (response != null) {
+      exchange.setStatusCode(response.getStatusCode());
+      Map<String, List<String>> headers = new TreeMap<>(response.getHeaders());
+      headers.remove(HEADER_SET_COOKIE);
+      exchange.setHeaders(headers);
+      exchange.setBody(response.getBody());
+    } else if (error != null) {
+      exchange.setError(error.getClass().getSimpleName() + ": " + error.getMessage());
+    }
+    write(exchange);
+  }
+
+  private synchronized void write(RecordedExchange exchange) {
+    if (writer == null) {
+      return;
+    }
+    try {
+      writer.write(mapper.writeValueAsString(exchange));
+      writer.newLine();
+      writer.flush();
+    } catch (IOException e) {
+      try {
+        writer.close();
+      } catch (IOException suppressed) {
+        e.addSuppressed(suppressed);
+      }
+      writer = null;
+    }
+  }
+
+}
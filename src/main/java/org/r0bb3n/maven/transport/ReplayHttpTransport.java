@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.transport;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.net.http.HttpTimeoutException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transport serving all requests from a recording of {@link RecordingHttpTransport}, without
+ * network access. Requests are matched by path and query; multiple exchanges of the same request
+ * (e.g. polling of a compute engine task) are served in recorded order, the last one is repeated
+ * afterwards. The recorded latency is reproduced, multiplied by a scale ({@code 0}: no delay), and
+ * a request timeout shorter than the scaled latency leads to a {@link HttpTimeoutException}.
+ */
+public class ReplayHttpTransport implements HttpTransport {
+
+  private final Map<String, Deque<RecordedExchange>> exchanges = new HashMap<>();
+  private final double latencyScale;
+
+  /**
+   * Create transport
+   *
+   * @param file recording file
+   * @param latencyScale factor applied to the recorded latencies
+   * @throws IOException recording cannot be read
+   */
+  public ReplayHttpTransport(Path file, double latencyScale) throws IOException {
+    this.latencyScale = Math.max(0, latencyScale);
+    ObjectMapper mapper = new ObjectMapper();
+    try (BufferedReader reader = Files.newBufferedReader(file)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (!line.isBlank()) {
+          RecordedExchange exchange = mapper.readValue(line, RecordedExchange.class);
+          exchanges.computeIfAbsent(exchange.getRequest(), k -> new ArrayDeque<>()).add(exchange);
+        }
+      }
+    }
+  }
+
+  @Override
+  public TransportResponse send(TransportRequest request)
+      throws IOException, InterruptedException {
+    RecordedExchange exchange = next(request);
+    Duration delay = delay(request, exchange);
+    if (!delay.isZero()) {
+      Thread.sleep(delay.toMillis());
+    }
+    return toResponse(request, exchange);
+  }
+
+  @Override
+  public CompletableFuture<TransportResponse> sendAsync(TransportRequest request) {
+    CompletableFuture<TransportResponse> ret = new CompletableFuture<>();
+    RecordedExchange exchange;
+    try {
+      exchange = next(request);
+    } catch (IOException e) {
+      ret.completeExceptionally(e);
+      return ret;
+    }
+    CompletableFuture.delayedExecutor(delay(request, exchange).toMillis(), TimeUnit.MILLISECONDS)
+        .execute(() -> {
+          try {
+            ret.complete(toResponse(request, exchange));
+          } catch (IOException e) {
+            ret.completeExceptionally(e);
+          }
+        });
+    return ret;
+  }
+
+  @Override
+  public void close() {
+    // nothing to release
+  }
+
+  private synchronized RecordedExchange next(TransportRequest request) throws IOException {
+    String key = RecordedExchange.requestKey(request.getUri());
+    Deque<RecordedExchange> recorded = exchanges.get(key);
+    if (recorded == null) {
+      throw new IOException("no recorded exchange for request: GET " + key);
+    }
+    return recorded.size() > 1 ? recorded.poll() : recorded.peek();
+  }
+
+  private Duration delay(TransportRequest request, RecordedExchange exchange) {
+    Duration delay = Duration.ofMillis((long) (exchange.getLatencyMs() * latencyScale));
+    return request.getTimeout() != null && delay.compareTo(request.getTimeout()) > 0
+        ? request.getTimeout() : delay;
+  }
+
+  private TransportResponse toResponse(TransportRequest request, RecordedExchange exchange)
+      throws IOException {
+    if (request.getTimeout() != null && exchange.getLatencyMs() * latencyScale
+        > request.getTimeout().toMillis()) {
+      throw new HttpTimeoutException("request timed out (replayed)");
+    }
+    if (exchange.getStatusCode() == null) {
+      throw new IOException("replayed error: " + exchange.getError());
+    }
+    return new TransportResponse(exchange.getStatusCode(),
+        exchange.getHeaders() == null ? Collections.emptyMap() : exchange.getHeaders(),
+        exchange.getBody() == null ? "" : exchange.getBody());
+  }
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.transport;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+
+/**
+ * GET request to be executed by a {@link HttpTransport}
+ */
+@Value
+@Builder(toBuilder = true)
+public class TransportRequest {
+
+  URI uri;
+
+  @Singular
+  Map<String, String> headers;
+
+  /**
+   * maximum time to wait for the response or {@code null} for no timeout
+   */
+  Duration timeout;
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.transport;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.Value;
+
+/**
+ * Response received by a {@link HttpTransport}
+ */
+@Value
+public class TransportResponse {
+
+  int statusCode;
+
+  /**
+   * response headers, keys are lower case
+   */
+  Map<String, List<String>> headers;
+
+  String body;
+
+  /**
+   * Get the first value of a header
+   *
+   * @param name header name (case-insensitive)
+   * @return header value, if present
+   */
+  public Optional<String> firstHeader(String name) {
+    List<String> values = headers.get(name.toLowerCase());
+    return values == null || values.isEmpty() ? Optional.empty() : Optional.of(values.get(0));
+  }
+
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.r0bb3n.maven;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.matching;
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.r0bb3n.maven.util.SilentLog;
+
+/**
+ * test cases for {@link PolicyEngine}
+ */
+public class PolicyEngineTest {
+
+  private static final String SEARCH_PATH = "/api/measures/search";
+  private static final String COMPONENT_PATH = "/api/measures/component";
+
+  @Rule
+  public WireMockRule wireMockRule = new WireMockRule(0);
+
+  private SonarConnector connector;
+
+  @Before
+  public void setUp() throws Exception {
+    connector = new SonarConnector(new SilentLog(), new URL(wireMockRule.baseUrl()), "p1", null,
+        null, HttpSettings.defaults());
+  }
+
+  @After
+  public void tearDown() {
+    connector.close();
+  }
+
+  /**
+   * All projects in one call, components missing in its response one by one
+   */
+  @Test
+  public void batchedFetch() throws Exception {
+    stubFor(get(urlPathEqualTo(SEARCH_PATH))
+        .withQueryParam("projectKeys", equalTo("team-a,team-b,p1"))
+        .withQueryParam("metricKeys", equalTo("coverage,bugs"))
+        .willReturn(okJson("{\"measures\":["
+            + "{\"metric\":\"coverage\",\"component\":\"team-a\",\"value\":\"90.0\"},"
+            + "{\"metric\":\"coverage\",\"component\":\"team-b\",\"value\":\"84.9\"},"
+            + "{\"metric\":\"bugs\",\"component\":\"team-a\",\"value\":\"0\"}]}")));
+    stubFor(get(urlPathEqualTo(COMPONENT_PATH)).withQueryParam("component", equalTo("p1"))
+        .willReturn(okJson("{\"component\":{\"key\":\"p1\",\"measures\":["
+            + "{\"metric\":\"bugs\",\"value\":\"2\"}]}}")));
+    PolicyEngine engine = PolicyEngine.compile(List.of(
+        policy("coverage", List.of("team-a", "team-b"), "LT", "85"),
+        policy("bugs", null, "GT", "0")));
+
+    List<String> violations = engine.check(connector, "p1", null, null).get();
+
+    assertEquals(List.of("coverage (team-b, coverage): 84.9 (violated if < 85)",
+        "bugs (p1, bugs): 2 (violated if > 0)"), violations);
+    verify(1, getRequestedFor(urlPathEqualTo(SEARCH_PATH)));
+    verify(1, getRequestedFor(urlPathEqualTo(COMPONENT_PATH)));
+  }
+
+  /**
+   * The checked component on its branch, listed components on their main branch in one call
+   */
+  @Test
+  public void branch() throws Exception {
+    stubFor(get(urlPathEqualTo(COMPONENT_PATH)).withQueryParam("branch", equalTo("dev"))
+        .withQueryParam("component", equalTo("p1"))
+        .willReturn(okJson("{\"component\":{\"key\":\"p1\",\"measures\":["
+            + "{\"metric\":\"new_coverage\",\"period\":{\"index\":1,\"value\":\"75.25\"}}]}}")));
+    stubFor(get(urlPathEqualTo(SEARCH_PATH)).withQueryParam("projectKeys", equalTo("p1,p2"))
+        .willReturn(okJson("{\"measures\":["
+            + "{\"metric\":\"new_coverage\",\"component\":\"p1\",\"period\":{\"value\":\"90.0\"}},"
+            + "{\"metric\":\"new_coverage\",\"component\":\"p2\",\"period\":{\"value\":\"70.0\"}}"
+            + "]}")));
+    PolicyEngine engine = PolicyEngine.compile(List.of(policy("new_coverage", null, "LT", "80"),
+        policy("new_coverage", List.of("p1", "p2"), "LT", "80")));
+
+    List<String> violations = engine.check(connector, "p1", "dev", null).get();
+
+    assertEquals(List.of("new_coverage (p1, new_coverage): 75.25 (violated if < 80)",
+        "new_coverage (p2, new_coverage): 70.0 (violated if < 80)"), violations);
+    verify(1, getRequestedFor(urlPathEqualTo(SEARCH_PATH)));
+    verify(0, getRequestedFor(urlPathEqualTo(SEARCH_PATH)).withQueryParam("branch",
+        matching(".*")));
+    verify(1, getRequestedFor(urlPathEqualTo(COMPONENT_PATH)));
+  }
+
+  /**
+   * Components rejected by the batched call are requested one by one
+   */
+  @Test
+  public void batchRejected() throws Exception {
+    stubFor(get(urlPathEqualTo(SEARCH_PATH)).willReturn(aResponse().withStatus(400)));
+    stubFor(get(urlPathEqualTo(COMPONENT_PATH))
+        .willReturn(okJson("{\"component\":{\"key\":\"p1:lib\",\"measures\":["
+            + "{\"metric\":\"alert_status\",\"value\":\"OK\"}]}}")));
+    PolicyEngine engine = PolicyEngine.compile(
+        List.of(policy("alert_status", List.of("p1:lib"), "NE", "OK")));
+
+    assertEquals(List.of(), engine.check(connector, "p1", null, null).get());
+  }
+
+  @Test
+  public void evaluate() {
+    PolicyEngine engine = PolicyEngine.compile(List.of(policy("rating", null, "EQ", "1"),
+        policy("status", null, "EQ", "ERROR"), policy("coverage", null, "GT", "50")));
+
+    List<String> violations = engine.evaluate(Map.of(),
+        Map.of("rating", "1.0", "status", "OK", "coverage", "n/a"), "p1");
+
+    assertEquals(List.of("rating (p1, rating): 1.0 (violated if = 1)",
+        "coverage (p1, coverage): n/a (violated if > 50)"), violations);
+  }
+
+  @Test
+  public void compileInvalid() {
+    IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+        () -> PolicyEngine.compile(List.of(policy("coverage", null, "LE", "80"))));
+    assertThat(e.getMessage(), containsString("unknown comparator 'LE'"));
+    e = assertThrows(IllegalArgumentException.class,
+        () -> PolicyEngine.compile(List.of(policy("coverage", null, "LT", "high"))));
+    assertThat(e.getMessage(), containsString("threshold 'high' is not numeric"));
+    e = assertThrows(IllegalArgumentException.class,
+        () -> PolicyEngine.compile(List.of(policy(null, null, "LT", "1"))));
+    assertEquals("policy 1: metric and threshold are required", e.getMessage());
+  }
+
+  private static Policy policy(String metric, List<String> components, String comparator,
+      String threshold) {
+    Policy ret = new Policy();
+    ret.setMetric(metric);
+    ret.setComponents(components);
+    ret.setComparator(comparator);
+    ret.setThreshold(threshold);
+    return ret;
+  }
+
+}
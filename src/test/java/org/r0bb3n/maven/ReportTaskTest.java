@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test cases for {@link ReportTask}
+ */
+public class ReportTaskTest {
+
+  @Rule
+  public TemporaryFolder tmp = new TemporaryFolder();
+
+  @Test
+  public void awaitFileInNewDirectories() throws Exception {
+    Path reportTask = ReportTask.resolve(tmp.getRoot().toPath().resolve("target").toString());
+    CompletableFuture<Void> scanner = CompletableFuture.runAsync(() -> {
+      try {
+        Thread.sleep(200);
+        Files.createDirectories(reportTask.getParent());
+        // written in two steps, the task id comes last
+        Files.writeString(reportTask, "projectKey=my-project\n");
+        Thread.sleep(200);
+        Files.writeString(reportTask, "projectKey=my-project\nceTaskId=AXtask\n");
+      } catch (Exception e) {
+        throw new IllegalStateException(e);
+      }
+    });
+
+    long start = System.nanoTime();
+    assertTrue(ReportTask.await(reportTask, Duration.ofSeconds(30)));
+    assertThat(Duration.ofNanos(System.nanoTime() - start), lessThan(Duration.ofSeconds(10)));
+    scanner.join();
+  }
+
+  @Test
+  public void awaitExistingFile() throws Exception {
+    Path reportTask = tmp.newFile("report-task.txt").toPath();
+    Files.writeString(reportTask, "ceTaskId=AXtask\n");
+
+    assertTrue(ReportTask.await(reportTask, Duration.ZERO));
+  }
+
+  @Test
+  public void awaitTimeout() throws Exception {
+    Path reportTask = tmp.getRoot().toPath().resolve("report-task.txt");
+    Files.writeString(reportTask, "projectKey=my-project\n");
+
+    assertFalse(ReportTask.await(reportTask, Duration.ofMillis(200)));
+  }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.stream.Stream;
+import lombok.extern.log4j.Log4j2;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.r0bb3n.maven.util.LogFacade;
+
+/**
+ * Test cases for {@link ServerVersionCache}
+ */
+@Log4j2
+public class ServerVersionCacheTest {
+
+  private static final String HOST = "https://sonarcloud.io";
+
+  @Rule
+  public TemporaryFolder temporaryFolderRule = new TemporaryFolder();
+
+  @Test
+  public void putAndGet() throws Exception {
+    Path file = temporaryFolderRule.getRoot().toPath().resolve("sub/versions.properties");
+    Instant now = Instant.parse("2026-01-01T00:00:00Z");
+    ServerVersionCache writer = new ServerVersionCache(new LogFacade(log), file,
+        Duration.ofHours(1), Clock.fixed(now, ZoneOffset.UTC));
+    assertEquals(Optional.empty(), writer.get(HOST));
+
+    writer.put(HOST, SonarVersion.parse("8.5.0.37579"));
+    assertTrue("cache file not written", Files.exists(file));
+    try (Stream<Path> files = Files.list(file.getParent())) {
+      assertEquals("temporary file left", 1, files.count());
+    }
+
+    ServerVersionCache reader = new ServerVersionCache(new LogFacade(log), file,
+        Duration.ofHours(1), Clock.fixed(now.plus(Duration.ofMinutes(59)), ZoneOffset.UTC));
+    assertEquals(Optional.of(SonarVersion.parse("8.5.0.37579")), reader.get(HOST));
+    assertEquals(Optional.empty(), reader.get("http://localhost:9000"));
+  }
+
+  @Test
+  public void expired() throws Exception {
+    Path file = temporaryFolderRule.newFile().toPath();
+    Instant now = Instant.parse("2026-01-01T00:00:00Z");
+    new ServerVersionCache(new LogFacade(log), file, Duration.ofHours(1),
+        Clock.fixed(now, ZoneOffset.UTC)).put(HOST, SonarVersion.parse("9.9"));
+
+    ServerVersionCache reader = new ServerVersionCache(new LogFacade(log), file,
+        Duration.ofHours(1), Clock.fixed(now.plus(Duration.ofMinutes(61)), ZoneOffset.UTC));
+    assertEquals(Optional.empty(), reader.get(HOST));
+  }
+
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.r0bb3n.maven;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.io.File;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.r0bb3n.maven.util.MojoConfigurator;
+import org.r0bb3n.maven.util.SilentLog;
+import org.r0bb3n.maven.util.StandInSonarServer;
+
+/**
+ * test cases for {@link SonarBatchMojo}
+ */
+public class SonarBatchMojoTest {
+
+  private static final String PROJECT_STATUS_PATH = "/api/qualitygates/project_status";
+
+  @Rule
+  public WireMockRule wireMockRule = new WireMockRule(0);
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private SonarBatchMojo underTest;
+  private File input;
+  private File output;
+
+  @Before
+  public void setUp() throws Exception {
+    input = temporaryFolder.newFile("input.txt");
+    output = new File(temporaryFolder.getRoot(), "out/results.ndjson");
+    underTest = new SonarBatchMojo();
+    underTest.setLog(new SilentLog());
+    MojoConfigurator.configure(underTest).applyDefaults()
+        .setSonarHostUrl(wireMockRule.baseUrl()).setSonarProjectKey("default-project")
+        .setBatchInput(input).setBatchOutput(output);
+  }
+
+  /**
+   * One result line per input, failures are reported without failing the execution
+   */
+  @Test
+  public void mixedResults() throws Exception {
+    stubFor(get(urlPathEqualTo(PROJECT_STATUS_PATH))
+        .withQueryParam("projectKey", equalTo("default-project"))
+        .withQueryParam("branch", equalTo("main"))
+        .willReturn(aResponse().withBody(StandInSonarServer.projectStatusJson("OK", 2))));
+    stubFor(get(urlPathEqualTo(PROJECT_STATUS_PATH))
+        .withQueryParam("projectKey", equalTo("other"))
+        .withQueryParam("pullRequest", equalTo("42"))
+        .willReturn(aResponse().withBody(StandInSonarServer.projectStatusJson("ERROR", 4))));
+    stubFor(get(urlPathEqualTo(PROJECT_STATUS_PATH))
+        .withQueryParam("branch", equalTo("gone"))
+        .willReturn(aResponse().withStatus(404)
+            .withBody("{\"errors\":[{\"msg\":\"Branch not found\"}]}")));
+    Files.writeString(input.toPath(), String.join("\n",
+        "# open branches and pull requests",
+        "branch=main",
+        "{\"projectKey\":\"other\",\"pullRequest\":\"42\"}",
+        "",
+        "projectKey=other branch=gone",
+        "branch=main pullRequest=1"));
+
+    underTest.execute();
+
+    Map<Integer, JsonNode> results = readResults();
+    assertEquals(4, results.size());
+    assertEquals("OK", results.get(2).get("status").asText());
+    assertEquals("default-project", results.get(2).get("projectKey").asText());
+    assertFalse(results.get(2).has("failedConditions"));
+    JsonNode failed = results.get(3);
+    assertEquals("ERROR", failed.get("status").asText());
+    assertEquals("42", failed.get("pullRequest").asText());
+    assertEquals(2, failed.get("failedConditions").size());
+    assertEquals("metric_0", failed.get("failedConditions").get(0).get("metricKey").asText());
+    assertEquals("1", failed.get("failedConditions").get(0).get("actualValue").asText());
+    assertThat(results.get(5).get("error").asText(), containsString("404"));
+    assertThat(results.get(6).get("error").asText(), containsString("not both"));
+  }
+
+  /**
+   * Checks run concurrently, up to the configured limit
+   */
+  @Test
+  public void concurrentChecks() throws Exception {
+    stubFor(get(urlPathEqualTo(PROJECT_STATUS_PATH)).willReturn(aResponse().withFixedDelay(300)
+        .withBody(StandInSonarServer.projectStatusJson("OK", 1))));
+    Files.writeString(input.toPath(), IntStream.range(0, 16).mapToObj(i -> "pullRequest=" + i)
+        .collect(Collectors.joining("\n")));
+    MojoConfigurator.configure(underTest).setBatchConcurrency(8);
+
+    long start = System.nanoTime();
+    underTest.execute();
+    Duration duration = Duration.ofNanos(System.nanoTime() - start);
+
+    Map<Integer, JsonNode> results = readResults();
+    assertEquals(16, results.size());
+    results.values().forEach(r -> assertEquals("OK", r.get("status").asText()));
+    // sequential: 16 * 300 ms
+    assertThat(duration, lessThan(Duration.ofMillis(16 * 300)));
+  }
+
+  /**
+   * Inputs with compute engine task are checked after the task is finished
+   */
+  @Test
+  public void ceTasks() throws Exception {
+    stubFor(get(urlPathEqualTo("/api/ce/task")).withQueryParam("id", equalTo("t1"))
+        .willReturn(aResponse().withBody(StandInSonarServer.taskJson("t1", "a1", "SUCCESS"))));
+    stubFor(get(urlPathEqualTo("/api/ce/task")).withQueryParam("id", equalTo("t2"))
+        .willReturn(aResponse().withBody(StandInSonarServer.taskJson("t2", null, "FAILED"))));
+    stubFor(get(urlPathEqualTo(PROJECT_STATUS_PATH)).withQueryParam("analysisId", equalTo("a1"))
+        .willReturn(aResponse().withBody(StandInSonarServer.projectStatusJson("OK", 1))));
+    Files.writeString(input.toPath(), String.join("\n",
+        "ceTaskId=t1",
+        "{\"ceTaskId\":\"t2\"}",
+        "ceTaskId=t3 branch=main"));
+
+    underTest.execute();
+
+    Map<Integer, JsonNode> results = readResults();
+    assertEquals(3, results.size());
+    assertEquals("OK", results.get(1).get("status").asText());
+    assertEquals("t1", results.get(1).get("ceTaskId").asText());
+    assertEquals("io.github.r0bb3n:sonar-quality-gate-maven-plugin",
+        results.get(1).get("projectKey").asText());
+    assertThat(results.get(2).get("error").asText(), containsString("FAILED"));
+    assertThat(results.get(3).get("error").asText(), containsString("not both"));
+  }
+
+  private Map<Integer, JsonNode> readResults() throws Exception {
+    ObjectMapper mapper = new ObjectMapper();
+    Map<Integer, JsonNode> results = new HashMap<>();
+    List<String> lines = Files.readAllLines(output.toPath());
+    for (String line : lines) {
+      JsonNode node = mapper.readTree(line);
+      results.put(node.get("line").asInt(), node);
+    }
+    assertEquals("one result per line", lines.size(), results.size());
+    return results;
+  }
+
+}
@@ -17,26 +17,50 @@
 package org.r0bb3n.maven;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
 
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
 import com.github.tomakehurst.wiremock.junit.WireMockClassRule;
 import java.net.URL;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.ClassRule;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.mockito.Mockito;
 import org.r0bb3n.maven.model.ProjectStatus;
 import org.r0bb3n.maven.model.Task;
+import org.r0bb3n.maven.transport.ConcurrencyLimiter;
+import org.r0bb3n.maven.transport.HttpTransport;
 import org.r0bb3n.maven.util.LogFacade;
 
 /**
- * Test cases for sonar server communication
+ * Test cases for sonar server communication (with all available HTTP transports)
  */
 @Log4j2
+@RequiredArgsConstructor
+@RunWith(Parameterized.class)
 public class SonarConnectorTest {
 
+  /**
+   * create test data
+   */
+  @Parameterized.Parameters(name = "transport: {0}")
+  public static Iterable<Object[]> generateTestData() {
+    return Arrays.asList(new Object[]{"jdk"}, new Object[]{"apache"});
+  }
+
   // use one wiremock instance for entire test class
   @ClassRule
   public static WireMockClassRule wireMockClassRule = new WireMockClassRule(
@@ -46,6 +70,11 @@ public class SonarConnectorTest {
   @Rule
   public WireMockClassRule wireMockRule = wireMockClassRule;
 
+  @Rule
+  public TemporaryFolder temporaryFolderRule = new TemporaryFolder();
+
+  private final String transport;
+
   private SonarConnector underTest;
 
   /**
@@ -55,7 +84,15 @@ public class SonarConnectorTest {
   public void setUp() throws Exception {
     underTest =
         new SonarConnector(new LogFacade(log), new URL("http://localhost:" + wireMockRule.port()),
-            null, null, null);
+            null, null, null, HttpSettings.builder().transport(transport).build());
+  }
+
+  /**
+   * release resources
+   */
+  @After
+  public void tearDown() {
+    underTest.close();
   }
 
   /**
@@ -70,6 +107,67 @@ public class SonarConnectorTest {
     log.trace(task);
   }
 
+  /**
+   * Test detection of the server version by response header
+   */
+  @Test
+  public void detectServerVersion() throws Exception {
+    assertEquals("version known before first request", ServerCapabilities.UNKNOWN,
+        underTest.getServerCapabilities());
+    underTest.retrieveTask("AXe74ZzR1IiFGsn-Op8X");
+    ServerCapabilities capabilities = underTest.getServerCapabilities();
+    assertEquals("version not detected", Optional.of(SonarVersion.parse("8.5.0.37579")),
+        capabilities.getVersion());
+    assertTrue("history not supported",
+        capabilities.supports(Capability.MEASURES_SEARCH_HISTORY));
+    assertFalse("new code issues supported",
+        capabilities.supports(Capability.ISSUES_IN_NEW_CODE_PERIOD));
+  }
+
+  /**
+   * An outdated cached server version must not prevent a branch request
+   */
+  @Test
+  public void retrieveProjectStatusByBranchWithOutdatedCache() throws Exception {
+    URL host = new URL("http://localhost:" + wireMockRule.port());
+    ServerVersionCache cache = new ServerVersionCache(new LogFacade(log),
+        temporaryFolderRule.getRoot().toPath().resolve("versions.properties"), Duration.ofHours(1));
+    cache.put(host.toExternalForm(), SonarVersion.parse("6.0"));
+    try (SonarConnector connector = new SonarConnector(new LogFacade(log), host, "my:project",
+        null, null, HttpSettings.builder().transport(transport).build())) {
+      connector.setServerVersionCache(cache);
+      assertFalse("history supported by cached version",
+          connector.getServerCapabilities().supports(Capability.MEASURES_SEARCH_HISTORY));
+
+      ProjectStatus projectStatus = connector.retrieveProjectStatus("feature", null);
+      assertEquals("Status mismatch", ProjectStatus.Status.ERROR, projectStatus.getStatus());
+      assertTrue("version not updated",
+          connector.getServerCapabilities().supports(Capability.MEASURES_SEARCH_HISTORY));
+    }
+    assertEquals("cache not updated", Optional.of(SonarVersion.parse("8.5.0.37579")),
+        cache.get(host.toExternalForm()));
+  }
+
+  /**
+   * A permit of the concurrency limiter is released, whatever the outcome of the request
+   */
+  @Test
+  public void releasePermitOnAnyError() throws Exception {
+    HttpTransport transport = Mockito.mock(HttpTransport.class);
+    Mockito.when(transport.send(Mockito.any()))
+        .thenThrow(new InterruptedException(), new IllegalStateException("closed"));
+    try (SonarConnector connector = new SonarConnector(new LogFacade(log),
+        new URL("http://localhost:" + wireMockRule.port()), null, null, null, transport, null)) {
+      ConcurrencyLimiter limiter = new ConcurrencyLimiter(4, 4, limit -> { });
+      connector.setConcurrencyLimiter(limiter);
+
+      assertThrows(InterruptedException.class, () -> connector.retrieveTask("AXtask"));
+      assertThrows(IllegalStateException.class, () -> connector.retrieveTask("AXtask"));
+      assertEquals("permits leaked", 0, limiter.getInFlight());
+      assertEquals("limit reduced", 4, limiter.getLimit());
+    }
+  }
+
   /**
    * Test requesting and parsing of project status response based on an analysis
    */
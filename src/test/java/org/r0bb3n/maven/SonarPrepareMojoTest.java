@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.github.tomakehurst.wiremock.junit.WireMockClassRule;
+import java.util.concurrent.CompletableFuture;
+import lombok.extern.log4j.Log4j2;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.project.MavenProject;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.r0bb3n.maven.json.BuiltinResponseParser;
+import org.r0bb3n.maven.json.ResponseParser;
+import org.r0bb3n.maven.util.LogFacade;
+import org.r0bb3n.maven.util.MojoConfigurator;
+
+/**
+ * test cases for {@link SonarPrepareMojo}
+ */
+@Log4j2
+public class SonarPrepareMojoTest {
+
+  // use one wiremock instance for entire test class
+  @ClassRule
+  public static WireMockClassRule wireMockClassRule = new WireMockClassRule(
+      WireMockConfiguration.options().dynamicPort().usingFilesUnderDirectory(
+          "src/test/resources/wiremock/" + SonarPrepareMojoTest.class.getSimpleName()));
+
+  @Rule
+  public WireMockClassRule wireMockRule = wireMockClassRule;
+
+  private SonarPrepareMojo underTestSpy;
+  private Log logSpy;
+
+  /**
+   * setup testable mojo
+   */
+  @Before
+  public void setUp() throws Exception {
+    SonarPrepareMojo underTest = new SonarPrepareMojo();
+    MojoConfigurator.configure(underTest).applyDefaults()
+        .setSonarHostUrl(wireMockClassRule.baseUrl())
+        .setSonarProjectKey("io.github.r0bb3n:sonar-quality-gate-maven-plugin")
+        .setSonarLogin("invalid-token");
+    underTestSpy = Mockito.spy(underTest);
+    logSpy = Mockito.spy(new LogFacade(log));
+    Mockito.when(underTestSpy.getLog()).thenReturn(logSpy);
+  }
+
+  private SonarQualityGateMojo createCheck() throws Exception {
+    SonarQualityGateMojo ret = new SonarQualityGateMojo();
+    MojoConfigurator.configure(ret).applyDefaults()
+        .setSonarHostUrl(wireMockClassRule.baseUrl())
+        .setSonarProjectKey("io.github.r0bb3n:sonar-quality-gate-maven-plugin")
+        .setSonarLogin("invalid-token");
+    return ret;
+  }
+
+  @Test
+  public void prepareAndHandOver() throws Exception {
+    underTestSpy.execute();
+    ConnectorSpec spec = underTestSpy.createConnectorSpec();
+    assertTrue("connector not registered", PreparedConnectors.contains(spec));
+
+    SonarQualityGateMojo check = new SonarQualityGateMojo();
+    MojoConfigurator.configure(check).applyDefaults()
+        .setSonarHostUrl(wireMockClassRule.baseUrl())
+        .setSonarProjectKey("io.github.r0bb3n:sonar-quality-gate-maven-plugin")
+        .setSonarLogin("invalid-token");
+    check.setupSonarConnector();
+    assertFalse("connector not taken over", PreparedConnectors.contains(spec));
+
+    Mockito.verify(logSpy).info("Sonar server version: 8.5.0.37579");
+    Mockito.verify(logSpy).warn(Mockito.startsWith("Sonar authentication is not valid"));
+    wireMockRule.verify(1, WireMock.getRequestedFor(WireMock.urlEqualTo("/api/server/version")));
+  }
+
+  @Test
+  public void prepareWithoutAuthValidation() throws Exception {
+    MojoConfigurator.configure(underTestSpy).setValidateAuth(false);
+    SonarConnector connector = underTestSpy.createSonarConnector(
+        underTestSpy.createConnectorSpec());
+    underTestSpy.warmUp(connector);
+    connector.close();
+
+    Mockito.verify(logSpy).info("Sonar server version: 8.5.0.37579");
+    Mockito.verify(logSpy, Mockito.never()).warn(Mockito.anyString());
+  }
+
+  @Test
+  public void prepareOnlyInExecutionRoot() throws Exception {
+    MavenProject module = new MavenProject();
+    module.setExecutionRoot(false);
+    MavenSession session = Mockito.mock(MavenSession.class);
+    Mockito.when(session.getCurrentProject()).thenReturn(module);
+    MojoConfigurator.configure(underTestSpy).setSession(session);
+
+    underTestSpy.execute();
+
+    assertFalse("connector registered",
+        PreparedConnectors.contains(underTestSpy.createConnectorSpec()));
+  }
+
+  @Test
+  public void closeUnusedConnectors() throws Exception {
+    underTestSpy.execute();
+    ConnectorSpec spec = underTestSpy.createConnectorSpec();
+    assertTrue("connector not registered", PreparedConnectors.contains(spec));
+
+    assertEquals(1, PreparedConnectors.closeAll());
+    assertFalse("connector still registered", PreparedConnectors.contains(spec));
+  }
+
+  @Test
+  public void reuseWithSettingsOfCheck() throws Exception {
+    SonarQualityGateMojo check = createCheck();
+    MojoConfigurator.configure(check).setResponseParser(ResponseParser.Type.BUILTIN);
+    ConnectorSpec spec = check.createConnectorSpec();
+    SonarConnector connector = Mockito.spy(spec.createConnector(new LogFacade(log)));
+    PreparedConnectors.register(spec, new PreparedConnectors.PreparedConnector(connector,
+        CompletableFuture.completedFuture(null)));
+
+    check.setupSonarConnector();
+
+    Mockito.verify(connector).setResponseParser(Mockito.any(BuiltinResponseParser.class));
+    Mockito.verify(connector, Mockito.never()).close();
+    connector.close();
+  }
+
+  @Test
+  public void warmUpNotDoneInTime() throws Exception {
+    SonarQualityGateMojo check = createCheck();
+    MojoConfigurator.configure(check).setHttpConnectTimeoutS(1);
+    ConnectorSpec spec = check.createConnectorSpec();
+    SonarConnector connector = Mockito.spy(spec.createConnector(new LogFacade(log)));
+    PreparedConnectors.register(spec,
+        new PreparedConnectors.PreparedConnector(connector, new CompletableFuture<>()));
+
+    check.setupSonarConnector();
+
+    Mockito.verify(connector).close();
+    Mockito.verify(connector, Mockito.never()).setResponseParser(Mockito.any());
+    assertFalse("connector still registered", PreparedConnectors.contains(spec));
+  }
+
+  @Test
+  public void prepareWithSkipEnabled() throws Exception {
+    MojoConfigurator.configure(underTestSpy).setSkip(true);
+
+    underTestSpy.execute();
+
+    assertFalse("connector registered",
+        PreparedConnectors.contains(underTestSpy.createConnectorSpec()));
+    Mockito.verify(logSpy).info("skipped");
+  }
+
+}
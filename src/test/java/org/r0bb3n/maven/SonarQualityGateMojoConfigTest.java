@@ -18,14 +18,17 @@ package org.r0bb3n.maven;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
+import java.net.http.HttpClient;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.Optional;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.hamcrest.MatcherAssert;
@@ -65,6 +68,43 @@ public class SonarQualityGateMojoConfigTest {
         Matchers.matchesRegex("you cannot specify '.*' without '.*'")));
   }
 
+  @Test
+  public void testCreateHttpSettingsDefaults() throws Exception {
+    config.applyDefaults();
+    HttpSettings httpSettings = underTest.createHttpSettings();
+    assertEquals("version", HttpClient.Version.HTTP_2, httpSettings.getVersion());
+    assertEquals("connect timeout", Duration.ofSeconds(10), httpSettings.getConnectTimeout());
+    assertEquals("request timeout", Duration.ofMinutes(1), httpSettings.getRequestTimeout());
+    assertEquals("threads", 2, httpSettings.getThreads());
+    assertNull("keep alive", httpSettings.getKeepAlive());
+    assertEquals("transport", "jdk", httpSettings.getTransport());
+    assertEquals("max connections", 20, httpSettings.getMaxConnections());
+    assertEquals("max connections per route", 5, httpSettings.getMaxConnectionsPerRoute());
+    assertEquals("max concurrency", 64, httpSettings.getMaxConcurrency());
+  }
+
+  @Test
+  public void testCreateHttpSettingsCustom() throws Exception {
+    config.applyDefaults().setHttpVersion(HttpClient.Version.HTTP_1_1).setHttpConnectTimeoutS(0)
+        .setHttpRequestTimeoutS(5).setHttpThreads(8).setHttpKeepAliveS(30);
+    HttpSettings httpSettings = underTest.createHttpSettings();
+    assertEquals("version", HttpClient.Version.HTTP_1_1, httpSettings.getVersion());
+    assertNull("connect timeout", httpSettings.getConnectTimeout());
+    assertEquals("request timeout", Duration.ofSeconds(5), httpSettings.getRequestTimeout());
+    assertEquals("threads", 8, httpSettings.getThreads());
+    assertEquals("keep alive", Duration.ofSeconds(30), httpSettings.getKeepAlive());
+  }
+
+  @Test
+  public void testUnknownHttpTransport() throws Exception {
+    config.applyDefaults().setHttpTransport("unknown");
+
+    MojoExecutionException exc =
+        Assert.assertThrows(MojoExecutionException.class, underTest::execute);
+    MatcherAssert.assertThat(exc, ExceptionMatchers.hasMessageThat(
+        Matchers.startsWith("Unknown HTTP transport 'unknown' (available: jdk, apache)")));
+  }
+
   @Test
   public void testFindCeTaskIdOk() throws Exception {
     String ceTaskIdExpected = "some_task_id";
@@ -92,6 +132,23 @@ public class SonarQualityGateMojoConfigTest {
         ExceptionMatchers.hasMessageThat(Matchers.matchesRegex("Property .* not found in .*")));
   }
 
+  @Test
+  public void testCreatePollingStrategy() throws Exception {
+    config.applyDefaults().setCheckTaskIntervalS(2);
+    assertEquals(Duration.ofSeconds(2), underTest.createPollingStrategy().nextDelay(5));
+
+    config.setCheckTaskStrategy(PollingStrategy.Type.BACKOFF).setCheckTaskBackoffFactor(3)
+        .setCheckTaskMaxIntervalS(10);
+    PollingStrategy strategy = underTest.createPollingStrategy();
+    assertEquals(Duration.ofSeconds(2), strategy.nextDelay(1));
+    assertEquals(Duration.ofSeconds(6), strategy.nextDelay(2));
+    assertEquals(Duration.ofSeconds(10), strategy.nextDelay(3));
+    assertEquals(Duration.ofSeconds(10), strategy.nextDelay(30));
+
+    config.setCheckTaskBackoffFactor(0.5);
+    Assert.assertThrows(MojoExecutionException.class, underTest::createPollingStrategy);
+  }
+
   @Test
   public void testFindCeTaskIdNoFile() throws Exception {
     Optional<String> ceTaskIdActual =
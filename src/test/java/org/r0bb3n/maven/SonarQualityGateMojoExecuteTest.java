@@ -16,8 +16,17 @@
 
 package org.r0bb3n.maven;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.client.WireMock;
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
 import com.github.tomakehurst.wiremock.junit.WireMockClassRule;
+import java.io.File;
+import java.net.URL;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import lombok.extern.log4j.Log4j2;
 import org.apache.maven.plugin.MojoExecutionException;
@@ -30,11 +39,13 @@ import org.junit.Before;
 import org.junit.ClassRule;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.Mockito;
 import org.mockito.hamcrest.MockitoHamcrest;
 import org.r0bb3n.maven.util.ExceptionMatchers;
 import org.r0bb3n.maven.util.LogFacade;
 import org.r0bb3n.maven.util.MojoConfigurator;
+import org.r0bb3n.maven.util.StandInSonarServer;
 
 /**
  * test cases for {@link SonarQualityGateMojo}
@@ -51,6 +62,9 @@ public class SonarQualityGateMojoExecuteTest {
   @Rule
   public WireMockClassRule wireMockRule = wireMockClassRule;
 
+  @Rule
+  public TemporaryFolder tmp = new TemporaryFolder();
+
   private SonarQualityGateMojo underTestSpy;
   private Log logSpy;
 
@@ -95,6 +109,40 @@ public class SonarQualityGateMojoExecuteTest {
         ExceptionMatchers.hasMessageThat(Matchers.startsWith("Could not fetch analysis id")));
   }
 
+  @Test
+  public void mojoExecuteWithTimeBudgetExhausted() throws Exception {
+    stubTaskInProgress("mojoExecuteWithTimeBudgetExhausted_taskId");
+    MojoConfigurator.configure(underTestSpy).setTimeoutS(2);
+
+    MojoExecutionException exc =
+        Assert.assertThrows(MojoExecutionException.class, underTestSpy::execute);
+    MatcherAssert.assertThat(exc, ExceptionMatchers.hasMessageThat(Matchers.startsWith(
+        "Time budget of 2s ('sonar-quality-gate.timeout.s') exhausted during polling")));
+    // one retry, the next one would exceed the 1.5 s of the polling phase
+    Mockito.verify(logSpy).info(Mockito.startsWith("Analysis in progress, next retry in"));
+  }
+
+  @Test
+  public void mojoExecuteWithTimeBudgetExhaustedWarn() throws Exception {
+    stubTaskInProgress("mojoExecuteWithTimeBudgetExhaustedWarn_taskId");
+    MojoConfigurator.configure(underTestSpy).setTimeoutS(1)
+        .setOnTimeout(TimeBudget.OnTimeout.WARN);
+
+    underTestSpy.execute();
+
+    Mockito.verify(logSpy).warn(MockitoHamcrest.argThat(Matchers.allOf(
+        Matchers.startsWith("Time budget of 1s"),
+        Matchers.endsWith("passing as configured by 'sonar-quality-gate.onTimeout'"))));
+  }
+
+  private void stubTaskInProgress(String ceTaskId) throws Exception {
+    WireMock.stubFor(WireMock.get(WireMock.urlPathEqualTo("/api/ce/task"))
+        .withQueryParam("id", WireMock.equalTo(ceTaskId))
+        .willReturn(WireMock.okJson(StandInSonarServer.taskJson(ceTaskId, null, "IN_PROGRESS"))));
+    Mockito.doAnswer(invocation -> Optional.of(ceTaskId))
+        .when(underTestSpy).findCeTaskId(Mockito.any());
+  }
+
   @Test
   public void mojoExecuteWithOneTaskCallAndOneAnalysisCallError() throws Exception {
     Mockito.doAnswer(
@@ -105,17 +153,150 @@ public class SonarQualityGateMojoExecuteTest {
         Assert.assertThrows(MojoFailureException.class, underTestSpy::execute);
     MatcherAssert.assertThat(exc,
         ExceptionMatchers.hasMessageThat(Matchers.startsWith("Quality Gate not passed")));
+    // details of the failed condition, measures retrieved for the analyzed component
+    MatcherAssert.assertThat(exc, ExceptionMatchers.hasMessageThat(Matchers.containsString(
+        "Coverage on New Code (new_coverage, Coverage): 0.0 (ERROR if < 80)")));
+  }
+
+  @Test
+  public void mojoExecuteWithEarlyPolling() throws Exception {
+    String ceTaskId = "mojoExecuteWithOneTaskCallAndOneAnalysisCallError_taskId";
+    Mockito.doAnswer(invocation -> Optional.of(ceTaskId))
+        .when(underTestSpy).findCeTaskId(Mockito.any());
+    SonarConnector connector = new SonarConnector(logSpy,
+        new URL(wireMockClassRule.baseUrl()), null, null, null);
+    EarlyPolling.start(ceTaskId, connector, 1, PollingStrategy.fixed(Duration.ofSeconds(1)))
+        .join();
+
+    Assert.assertThrows(MojoFailureException.class, underTestSpy::execute);
+
+    // task was only requested by the background poll
+    wireMockRule.verify(1, WireMock.getRequestedFor(
+        WireMock.urlEqualTo("/api/ce/task?id=" + ceTaskId)));
+    Assert.assertTrue("poll not collected", EarlyPolling.take(ceTaskId).isEmpty());
+  }
+
+  @Test
+  public void mojoExecuteWithReportTaskWait() throws Exception {
+    File buildDir = tmp.newFolder("target");
+    MojoConfigurator.configure(underTestSpy).setProjectBuildDirectory(buildDir.getPath())
+        .setReportTaskWaitS(30);
+    // scanner running in parallel writes the file later
+    Thread scanner = new Thread(() -> {
+      try {
+        Thread.sleep(300);
+        Files.createDirectories(buildDir.toPath().resolve("sonar"));
+        Files.writeString(ReportTask.resolve(buildDir.getPath()),
+            "ceTaskId=mojoExecuteWithOneTaskCallAndOneAnalysisCallError_taskId\n");
+      } catch (Exception e) {
+        log.error("cannot write report task", e);
+      }
+    });
+    scanner.start();
+
+    MojoFailureException exc =
+        Assert.assertThrows(MojoFailureException.class, underTestSpy::execute);
+    scanner.join();
+    MatcherAssert.assertThat(exc,
+        ExceptionMatchers.hasMessageThat(Matchers.startsWith("Quality Gate not passed")));
+    wireMockRule.verify(1, WireMock.getRequestedFor(WireMock.urlEqualTo(
+        "/api/ce/task?id=mojoExecuteWithOneTaskCallAndOneAnalysisCallError_taskId")));
+  }
+
+  @Test
+  public void mojoExecuteWithReportTaskWaitTimeout() throws Exception {
+    MojoConfigurator.configure(underTestSpy).setProjectBuildDirectory(tmp.getRoot().getPath())
+        .setReportTaskWaitS(1);
+
+    MojoExecutionException exc =
+        Assert.assertThrows(MojoExecutionException.class, underTestSpy::execute);
+    MatcherAssert.assertThat(exc,
+        ExceptionMatchers.hasMessageThat(Matchers.startsWith("Report file not written within")));
+  }
+
+  @Test
+  public void mojoExecuteWithMetrics() throws Exception {
+    File metricsFile = tmp.getRoot().toPath().resolve("sonar.prom").toFile();
+    MojoConfigurator.configure(underTestSpy).setMetricsFile(metricsFile);
+    Mockito.doAnswer(
+            invocation -> Optional.of("mojoExecuteWithOneTaskCallAndOneAnalysisCallError_taskId"))
+        .when(underTestSpy).findCeTaskId(Mockito.any());
+
+    Assert.assertThrows(MojoFailureException.class, underTestSpy::execute);
+
+    String metrics = Files.readString(metricsFile.toPath());
+    MatcherAssert.assertThat(metrics, Matchers.containsString(
+        "sonar_quality_gate_status{project=\"io.github.r0bb3n:sonar-quality-gate-maven-plugin\","
+            + "status=\"ERROR\"} 1"));
+    MatcherAssert.assertThat(metrics, Matchers.containsString(
+        "sonar_quality_gate_task_polls_total{project=\"io.github.r0bb3n:sonar-quality-gate-maven-"
+            + "plugin\"} 1"));
+    MatcherAssert.assertThat(metrics, Matchers.containsString(
+        "endpoint=\"api/ce/task\",le=\"+Inf\"} 1"));
+    MatcherAssert.assertThat(metrics, Matchers.containsString(
+        "sonar_quality_gate_ce_processing_seconds"));
+  }
+
+  @Test
+  public void mojoExecuteWithTrace() throws Exception {
+    File traceFile = tmp.getRoot().toPath().resolve("trace.json").toFile();
+    MojoConfigurator.configure(underTestSpy).setTrace(true).setTraceFile(traceFile);
+    Mockito.doAnswer(
+            invocation -> Optional.of("mojoExecuteWithOneTaskCallAndOneAnalysisCallError_taskId"))
+        .when(underTestSpy).findCeTaskId(Mockito.any());
+
+    Assert.assertThrows(MojoFailureException.class, underTestSpy::execute);
+
+    JsonNode spans = new ObjectMapper().readTree(traceFile)
+        .at("/resourceSpans/0/scopeSpans/0/spans");
+    List<String> names = new ArrayList<>();
+    spans.forEach(span -> names.add(span.path("name").asText()));
+    MatcherAssert.assertThat(names, Matchers.containsInAnyOrder("sonar-quality-gate:check",
+        "setupSonarConnector", "findCeTaskId", "retrieveAnalysisId", "retrieveTask",
+        "GET api/ce/task", "parse TaskContainer", "retrieveProjectStatus",
+        "GET api/qualitygates/project_status", "parse ProjectStatusContainer", "evaluate",
+        "GET api/measures/component", "parse ComponentMeasures"));
+    // root span is last and failed
+    JsonNode root = spans.get(spans.size() - 1);
+    Assert.assertEquals("sonar-quality-gate:check", root.path("name").asText());
+    Assert.assertEquals(2, root.at("/status/code").asInt());
   }
 
   @Test
   public void mojoExecuteWithProjectKeyOk() throws Exception {
     Mockito.doAnswer(invocation -> Optional.empty()).when(underTestSpy).findCeTaskId(Mockito.any());
+    wireMockRule.resetRequests();
 
     underTestSpy.execute();
 
     Mockito.verify(underTestSpy, Mockito.never()).retrieveAnalysisId(Mockito.any());
     // assert is difficult - let's check, if a final positive log gets written
     Mockito.verify(logSpy).info("project status: OK");
+    // no details of a passed quality gate
+    wireMockRule.verify(0,
+        WireMock.getRequestedFor(WireMock.urlPathMatching("/api/(measures|metrics)/.*")));
+  }
+
+  @Test
+  public void mojoExecuteWithProjectKeyOkAndPolicyViolated() throws Exception {
+    Policy policy = new Policy();
+    policy.setName("team coverage");
+    policy.setMetric("coverage");
+    policy.setComparator("LT");
+    policy.setThreshold("85");
+    MojoConfigurator.configure(underTestSpy).setPolicies(List.of(policy));
+    WireMock.stubFor(WireMock.get(WireMock.urlPathEqualTo("/api/measures/search"))
+        .willReturn(WireMock.okJson("{\"measures\":[{\"metric\":\"coverage\",\"component\":"
+            + "\"io.github.r0bb3n:sonar-quality-gate-maven-plugin\",\"value\":\"80.5\"}]}")));
+    Mockito.doAnswer(invocation -> Optional.empty()).when(underTestSpy).findCeTaskId(Mockito.any());
+
+    MojoFailureException exc =
+        Assert.assertThrows(MojoFailureException.class, underTestSpy::execute);
+    MatcherAssert.assertThat(exc, ExceptionMatchers.hasMessageThat(Matchers.allOf(
+        Matchers.startsWith("Quality Gate passed, but policies violated!"),
+        Matchers.containsString("team coverage (io.github.r0bb3n:sonar-quality-gate-maven-plugin,"
+            + " coverage): 80.5 (violated if < 85)"))));
+    Mockito.verify(logSpy).info("project status: OK");
   }
 
   @Test
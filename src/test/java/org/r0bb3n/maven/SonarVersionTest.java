@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link SonarVersion} and {@link ServerCapabilities}
+ */
+public class SonarVersionTest {
+
+  @Test
+  public void parseAndCompare() {
+    SonarVersion version = SonarVersion.parse("8.5.0.37579");
+    assertEquals("8.5.0.37579", version.toString());
+    assertTrue(version.isAtLeast(SonarVersion.parse("7.7")));
+    assertTrue(version.isAtLeast(SonarVersion.parse("8.5")));
+    assertFalse(version.isAtLeast(SonarVersion.parse("10.0")));
+    assertEquals(0, SonarVersion.parse("9.4").compareTo(SonarVersion.parse("9.4.0.0")));
+    assertEquals(SonarVersion.parse("10.2-SNAPSHOT"), SonarVersion.parse("10.2"));
+  }
+
+  @Test
+  public void parseInvalid() {
+    Assert.assertThrows(IllegalArgumentException.class, () -> SonarVersion.parse("latest"));
+    Assert.assertThrows(IllegalArgumentException.class, () -> SonarVersion.parse(" "));
+  }
+
+  @Test
+  public void capabilities() {
+    ServerCapabilities old = ServerCapabilities.of(SonarVersion.parse("6.7.7"));
+    assertTrue(old.supports(Capability.MEASURES_SEARCH));
+    assertFalse(old.supports(Capability.ISSUES_IN_NEW_CODE_PERIOD));
+    // unknown version: optimistic
+    assertTrue(ServerCapabilities.UNKNOWN.supports(Capability.ISSUES_IN_NEW_CODE_PERIOD));
+  }
+
+}
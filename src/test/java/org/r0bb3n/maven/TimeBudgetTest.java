@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.r0bb3n.maven;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import org.junit.Test;
+import org.r0bb3n.maven.TimeBudget.Phase;
+
+/**
+ * test cases for {@link TimeBudget} and {@link Deadline}
+ */
+public class TimeBudgetTest {
+
+  @Test
+  public void split() {
+    TimeBudget budget = TimeBudget.of(Duration.ofSeconds(100), System.nanoTime());
+    assertAbout(Duration.ofSeconds(50), budget.deadline(Phase.DISCOVERY).remaining());
+    assertAbout(Duration.ofSeconds(75), budget.deadline(Phase.POLLING).remaining());
+    assertAbout(Duration.ofSeconds(90), budget.deadline(Phase.STATUS).remaining());
+    assertAbout(Duration.ofSeconds(100), budget.deadline(Phase.DETAILS).remaining());
+  }
+
+  @Test
+  public void expired() {
+    TimeBudget budget = TimeBudget.of(Duration.ofSeconds(10),
+        System.nanoTime() - Duration.ofMillis(9500).toNanos());
+    assertTrue(budget.deadline(Phase.POLLING).isExpired());
+    assertFalse(budget.deadline(Phase.DETAILS).isExpired());
+    assertEquals(Duration.ZERO, budget.deadline(Phase.STATUS).remaining());
+  }
+
+  @Test
+  public void cap() {
+    Deadline deadline = Deadline.at(System.nanoTime() + Duration.ofSeconds(30).toNanos());
+    assertEquals(Duration.ofSeconds(10), deadline.cap(Duration.ofSeconds(10)));
+    assertAbout(Duration.ofSeconds(30), deadline.cap(Duration.ofMinutes(1)));
+    assertAbout(Duration.ofSeconds(30), deadline.cap(null));
+  }
+
+  @Test
+  public void unlimited() {
+    assertSame(Deadline.NONE, TimeBudget.UNLIMITED.deadline(Phase.POLLING));
+    assertFalse(Deadline.NONE.isExpired());
+    assertNull(Deadline.NONE.remaining());
+    assertNull(Deadline.NONE.cap(null));
+    assertEquals(Duration.ofMinutes(1), Deadline.NONE.cap(Duration.ofMinutes(1)));
+  }
+
+  private static void assertAbout(Duration expected, Duration actual) {
+    // some time passed since the creation
+    assertThat(actual, lessThanOrEqualTo(expected));
+    assertThat(actual, greaterThan(expected.minusSeconds(1)));
+  }
+
+}
@@ -16,9 +16,13 @@
 
 package org.r0bb3n.maven;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import org.junit.Test;
 
 /**
@@ -38,4 +42,15 @@ public class UtilTest {
     assertFalse("wrong return on: \"data\"", Util.isBlank("data"));
   }
 
+  /**
+   * check {@link Util#parseDateTime(String)}
+   */
+  @Test
+  public void testParseDateTime() {
+    assertEquals(OffsetDateTime.of(2021, 2, 19, 20, 43, 42, 0, ZoneOffset.ofHours(1)),
+        Util.parseDateTime("2021-02-19T20:43:42+0100"));
+    assertNull("wrong return on: null", Util.parseDateTime(null));
+    assertNull("wrong return on: ISO offset", Util.parseDateTime("2021-02-19T20:43:42+01:00"));
+  }
+
 }
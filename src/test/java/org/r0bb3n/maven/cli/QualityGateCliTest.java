@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.cli;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.r0bb3n.maven.ReportTask;
+import org.r0bb3n.maven.util.StandInSonarServer;
+
+/**
+ * Test cases for {@link QualityGateCli}
+ */
+public class QualityGateCliTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private StandInSonarServer server;
+  private ByteArrayOutputStream output;
+
+  @Before
+  public void setUp() throws Exception {
+    // project status of the stand-in is always ERROR
+    server = new StandInSonarServer(3, 2);
+    output = new ByteArrayOutputStream();
+  }
+
+  @After
+  public void tearDown() {
+    server.close();
+  }
+
+  @Test
+  public void integratedModeWithServerFromReportTask() throws Exception {
+    Path reportTask = writeReportTask();
+
+    int exitCode = run("--report-task", reportTask.toString(), "--interval=0");
+
+    assertEquals(QualityGateCli.EXIT_NOT_PASSED, exitCode);
+    assertThat(output(), containsString("api/ce/task?id=AXtask"));
+    assertThat(output(), containsString("Quality Gate not passed (status: ERROR)"));
+    assertEquals(1, server.getTaskRequests());
+  }
+
+  @Test
+  public void builtinResponseParser() throws Exception {
+    int exitCode = run("--report-task", writeReportTask().toString(), "--interval=0",
+        "--response-parser", "builtin");
+
+    assertEquals(QualityGateCli.EXIT_NOT_PASSED, exitCode);
+    assertThat(output(), containsString("Quality Gate not passed (status: ERROR)"));
+  }
+
+  @Test
+  public void noFailOnMiss() throws Exception {
+    int exitCode = run("--report-task", writeReportTask().toString(), "--no-fail-on-miss");
+
+    assertEquals(QualityGateCli.EXIT_PASSED, exitCode);
+    assertThat(output(), containsString("[WARNING] Quality Gate not passed"));
+  }
+
+  @Test
+  public void simpleModeWithMetrics() throws Exception {
+    Path metrics = temporaryFolder.getRoot().toPath().resolve("metrics.json");
+
+    int exitCode = run("--host-url", server.getUrl().toString(), "--project-key", "my-project",
+        "--report-task", temporaryFolder.getRoot().toPath().resolve("missing.txt").toString(),
+        "--metrics-file", metrics.toString(), "--metrics-format", "json");
+
+    assertEquals(QualityGateCli.EXIT_NOT_PASSED, exitCode);
+    assertThat(output(), containsString("projectKey=my-project"));
+    assertEquals(0, server.getTaskRequests());
+    assertThat(Files.readString(metrics), containsString("\"ERROR\""));
+  }
+
+  @Test
+  public void unknownOption() {
+    assertEquals(QualityGateCli.EXIT_ERROR, run("--fail-fast"));
+    assertThat(output(), containsString("unknown option: --fail-fast"));
+    assertThat(output(), containsString("Usage:"));
+  }
+
+  @Test
+  public void serverNotReachable() throws Exception {
+    int exitCode = run("--host-url", "http://127.0.0.1:1", "--project-key", "my-project",
+        "--report-task", temporaryFolder.getRoot().toPath().resolve("missing.txt").toString());
+
+    assertEquals(QualityGateCli.EXIT_ERROR, exitCode);
+    assertThat(output(), containsString("[ERROR] error fetching project status"));
+  }
+
+  @Test
+  public void reportTaskNotWritten() {
+    int exitCode = run("--report-task",
+        temporaryFolder.getRoot().toPath().resolve("missing.txt").toString(),
+        "--report-task-wait", "1");
+
+    assertEquals(QualityGateCli.EXIT_ERROR, exitCode);
+    assertThat(output(), containsString("Report file not written within 1 s"));
+  }
+
+  @Test
+  public void unexpectedError() throws Exception {
+    Map<String, String> env = new HashMap<>() {
+      @Override
+      public String get(Object key) {
+        throw new IllegalStateException("environment not readable");
+      }
+    };
+
+    int exitCode = new QualityGateCli(env, new PrintStream(output, true, StandardCharsets.UTF_8))
+        .run(new String[] {"--report-task", writeReportTask().toString()});
+
+    assertEquals(QualityGateCli.EXIT_ERROR, exitCode);
+    assertThat(output(), containsString("[ERROR] unexpected error: "
+        + "java.lang.IllegalStateException: environment not readable"));
+  }
+
+  private Path writeReportTask() throws Exception {
+    Path reportTask = ReportTask.resolve(temporaryFolder.getRoot().toString());
+    Files.createDirectories(reportTask.getParent());
+    Files.writeString(reportTask, String.join("\n",
+        ReportTask.KEY_PROJECT_KEY + "=my-project",
+        ReportTask.KEY_SERVER_URL + "=" + server.getUrl(),
+        ReportTask.KEY_CE_TASK_ID + "=AXtask"));
+    return reportTask;
+  }
+
+  private int run(String... args) {
+    return new QualityGateCli(Map.of(),
+        new PrintStream(output, true, StandardCharsets.UTF_8)).run(args);
+  }
+
+  private String output() {
+    return output.toString(StandardCharsets.UTF_8);
+  }
+
+}
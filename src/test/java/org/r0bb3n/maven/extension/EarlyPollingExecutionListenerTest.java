@@ -0,0 +1,214 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.extension;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import lombok.extern.log4j.Log4j2;
+import org.apache.maven.execution.ExecutionEvent;
+import org.apache.maven.execution.ExecutionListener;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.model.Build;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.project.MavenProject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+import org.r0bb3n.maven.EarlyPolling;
+import org.r0bb3n.maven.HttpSettings;
+import org.r0bb3n.maven.PollingStrategy;
+import org.r0bb3n.maven.SonarConnector;
+import org.r0bb3n.maven.model.Task;
+import org.r0bb3n.maven.transport.RecordingMode;
+import org.r0bb3n.maven.util.LogFacade;
+
+/**
+ * test cases for {@link EarlyPollingExecutionListener}
+ */
+@Log4j2
+public class EarlyPollingExecutionListenerTest {
+
+  @Rule
+  public TemporaryFolder tmp = new TemporaryFolder();
+
+  private ExecutionListener delegate;
+  private SonarConnector connector;
+  private ExecutionEvent event;
+  private Properties userProperties;
+  private EarlyPollingExecutionListener underTest;
+
+  @Before
+  public void setUp() throws Exception {
+    Path buildDir = tmp.getRoot().toPath();
+    Files.createDirectories(buildDir.resolve("sonar"));
+    Files.writeString(buildDir.resolve("sonar/report-task.txt"), "ceTaskId=AXtask\n");
+
+    Build build = new Build();
+    build.setDirectory(buildDir.toString());
+    MavenProject project = new MavenProject();
+    project.setBuild(build);
+    MavenSession session = Mockito.mock(MavenSession.class);
+    userProperties = new Properties();
+    Mockito.when(session.getUserProperties()).thenReturn(userProperties);
+    Mockito.when(session.getSystemProperties()).thenReturn(new Properties());
+    event = Mockito.mock(ExecutionEvent.class);
+    Mockito.when(event.getProject()).thenReturn(project);
+
+    Task task = new Task();
+    task.setStatus(Task.Status.SUCCESS);
+    task.setAnalysisId("AXanalysis");
+    connector = Mockito.mock(SonarConnector.class);
+    Mockito.when(connector.retrieveTask("AXtask")).thenReturn(task);
+
+    delegate = Mockito.mock(ExecutionListener.class);
+    underTest = new EarlyPollingExecutionListener(delegate, new LogFacade(log), session) {
+      @Override
+      protected SonarConnector createConnector(Properties props) {
+        return connector;
+      }
+    };
+  }
+
+  @After
+  public void tearDown() {
+    EarlyPolling.cancelAll();
+  }
+
+  @Test
+  public void startPollingAfterSonarGoal() throws Exception {
+    MojoExecution mojoExecution =
+        mojoExecution("org.sonarsource.scanner.maven", "sonar-maven-plugin", "sonar");
+    Mockito.when(event.getMojoExecution()).thenReturn(mojoExecution);
+
+    underTest.mojoSucceeded(event);
+
+    Mockito.verify(delegate).mojoSucceeded(event);
+    Optional<CompletableFuture<Task>> poll = EarlyPolling.take("AXtask");
+    assertTrue("polling not started", poll.isPresent());
+    assertEquals("AXanalysis", poll.get().get().getAnalysisId());
+    Mockito.verify(connector).close();
+  }
+
+  @Test
+  public void ignoreOtherGoals() {
+    MojoExecution mojoExecution =
+        mojoExecution("org.apache.maven.plugins", "maven-compiler-plugin", "compile");
+    Mockito.when(event.getMojoExecution()).thenReturn(mojoExecution);
+
+    underTest.mojoSucceeded(event);
+
+    Mockito.verify(delegate).mojoSucceeded(event);
+    assertTrue("polling started", EarlyPolling.take("AXtask").isEmpty());
+  }
+
+  @Test
+  public void invalidNumberSkipsPolling() {
+    MojoExecution mojoExecution =
+        mojoExecution("org.sonarsource.scanner.maven", "sonar-maven-plugin", "sonar");
+    Mockito.when(event.getMojoExecution()).thenReturn(mojoExecution);
+    userProperties.setProperty("sonar-quality-gate.checkTask.interval.s", "5s");
+
+    underTest.mojoSucceeded(event);
+
+    Mockito.verify(delegate).mojoSucceeded(event);
+    assertTrue("polling started", EarlyPolling.take("AXtask").isEmpty());
+  }
+
+  @Test
+  public void httpSettingsFromProperties() {
+    Properties props = new Properties();
+    props.setProperty("project.build.directory", "/build");
+    props.setProperty("sonar-quality-gate.http.transport", "apache");
+    props.setProperty("sonar-quality-gate.http.version", "HTTP_1_1");
+    props.setProperty("sonar-quality-gate.http.requestTimeout.s", "5");
+    props.setProperty("sonar-quality-gate.http.connectTimeout.s", "0");
+    props.setProperty("sonar-quality-gate.http.maxConcurrency", "8");
+    props.setProperty("sonar-quality-gate.recording.mode", "RECORD");
+
+    HttpSettings httpSettings = EarlyPollingExecutionListener.createHttpSettings(props);
+
+    assertEquals("apache", httpSettings.getTransport());
+    assertEquals(HttpClient.Version.HTTP_1_1, httpSettings.getVersion());
+    assertEquals(Duration.ofSeconds(5), httpSettings.getRequestTimeout());
+    assertNull(httpSettings.getConnectTimeout());
+    assertEquals(8, httpSettings.getMaxConcurrency());
+    assertEquals(2, httpSettings.getThreads());
+    assertEquals(RecordingMode.RECORD, httpSettings.getRecordingMode());
+    assertEquals(Path.of("/build/sonar-quality-gate-recording.ndjson"),
+        httpSettings.getRecordingFile());
+  }
+
+  @Test
+  public void pollingStrategyFromProperties() {
+    Properties props = new Properties();
+    props.setProperty("sonar-quality-gate.checkTask.strategy", "BACKOFF");
+    props.setProperty("sonar-quality-gate.checkTask.interval.s", "2");
+    props.setProperty("sonar-quality-gate.checkTask.maxInterval.s", "10");
+
+    PollingStrategy strategy = EarlyPollingExecutionListener.createPollingStrategy(props);
+
+    assertEquals(Duration.ofSeconds(2), strategy.nextDelay(1));
+    assertEquals(Duration.ofSeconds(8), strategy.nextDelay(3));
+    assertEquals(Duration.ofSeconds(10), strategy.nextDelay(4));
+  }
+
+  @Test
+  public void cancelStopsPolling() throws Exception {
+    Task ongoing = new Task();
+    ongoing.setStatus(Task.Status.IN_PROGRESS);
+    Mockito.when(connector.retrieveTask("AXtask")).thenReturn(ongoing);
+    CompletableFuture<Task> poll = EarlyPolling.start("AXtask", connector, 100,
+        PollingStrategy.fixed(Duration.ofMillis(20)));
+    Mockito.verify(connector, Mockito.timeout(5000).atLeast(2)).retrieveTask("AXtask");
+
+    EarlyPolling.cancelAll();
+
+    assertTrue("poll not cancelled", poll.isCancelled());
+    Mockito.verify(connector, Mockito.timeout(5000)).close();
+    // the worker stopped polling
+    Thread.sleep(100);
+    Mockito.clearInvocations(connector);
+    Thread.sleep(200);
+    Mockito.verify(connector, Mockito.never()).retrieveTask("AXtask");
+  }
+
+  @Test
+  public void withoutDelegate() {
+    new EarlyPollingExecutionListener(null, new LogFacade(log), null).projectStarted(event);
+  }
+
+  private static MojoExecution mojoExecution(String groupId, String artifactId, String goal) {
+    MojoExecution mojoExecution = Mockito.mock(MojoExecution.class);
+    Mockito.when(mojoExecution.getGroupId()).thenReturn(groupId);
+    Mockito.when(mojoExecution.getArtifactId()).thenReturn(artifactId);
+    Mockito.when(mojoExecution.getGoal()).thenReturn(goal);
+    return mojoExecution;
+  }
+
+}
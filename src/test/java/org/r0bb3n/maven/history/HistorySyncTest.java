@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.r0bb3n.maven.history;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.absent;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import com.github.tomakehurst.wiremock.client.MappingBuilder;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.r0bb3n.maven.HttpSettings;
+import org.r0bb3n.maven.SonarConnector;
+import org.r0bb3n.maven.util.SilentLog;
+
+/**
+ * Test cases for {@link HistorySync} and {@link HistoryStore}
+ */
+public class HistorySyncTest {
+
+  private static final String HISTORY_PATH = "/api/measures/search_history";
+
+  @Rule
+  public WireMockRule wireMockRule = new WireMockRule(0);
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private SonarConnector connector;
+  private Path directory;
+
+  @Before
+  public void setUp() throws Exception {
+    connector = new SonarConnector(new SilentLog(), new URL(wireMockRule.baseUrl()), "p1", null,
+        null, HttpSettings.defaults());
+    directory = temporaryFolder.getRoot().toPath().resolve("history");
+  }
+
+  @After
+  public void tearDown() {
+    connector.close();
+  }
+
+  /**
+   * Full load over several pages, then only the analyses since the latest data point
+   */
+  @Test
+  public void fullAndIncrementalSync() throws Exception {
+    stubFor(history("alert_status", null, 1).willReturn(page(1, 2, 3,
+        measure("alert_status", point("2021-02-19T10:00:00+0100", "OK"),
+            point("2021-02-19T11:00:00+0100", null)))));
+    stubFor(history("alert_status", null, 2).willReturn(page(2, 2, 3,
+        measure("alert_status", point("2021-02-19T12:00:00+0100", "ERROR")))));
+
+    HistoryStore store = HistoryStore.load(directory, "p1", "main", null);
+    assertEquals(2, sync(store, "main", "alert_status"));
+    assertEquals("2021-02-19T12:00:00+0100", store.getLastDate("alert_status"));
+
+    // "from" is inclusive, the latest data point is returned again
+    stubFor(history("alert_status", "2021-02-19T12:00:00+0100", 1).willReturn(page(1, 2, 2,
+        measure("alert_status", point("2021-02-19T12:00:00+0100", "ERROR"),
+            point("2021-02-19T13:00:00+0100", "OK")))));
+    store = HistoryStore.load(directory, "p1", "main", null);
+    assertEquals(1, sync(store, "main", "alert_status"));
+
+    List<String> values = store.byMetric().get("alert_status").stream()
+        .map(HistoryStore.DataPoint::getValue).collect(Collectors.toList());
+    assertEquals(List.of("OK", "ERROR", "OK"), values);
+    verify(1, getRequestedFor(urlPathEqualTo(HISTORY_PATH))
+        .withQueryParam("from", equalTo("2021-02-19T12:00:00+0100"))
+        .withQueryParam("branch", equalTo("main")));
+  }
+
+  /**
+   * A metric added to the quality gate is loaded completely, known metrics incrementally
+   */
+  @Test
+  public void newMetric() throws Exception {
+    stubFor(history("alert_status", null, 1).willReturn(page(1, 10, 1,
+        measure("alert_status", point("2021-02-19T10:00:00+0100", "OK")))));
+    HistoryStore store = HistoryStore.load(directory, "p1", null, null);
+    sync(store, null, "alert_status");
+
+    stubFor(history("alert_status", "2021-02-19T10:00:00+0100", 1).willReturn(page(1, 10, 1,
+        measure("alert_status", point("2021-02-19T10:00:00+0100", "OK")))));
+    stubFor(history("coverage", null, 1).willReturn(page(1, 10, 2,
+        measure("coverage", point("2021-02-19T09:00:00+0100", "81.5"),
+            point("2021-02-19T10:00:00+0100", "80.0")))));
+    assertEquals(2, sync(store, null, "alert_status", "coverage"));
+
+    assertEquals("2021-02-19T10:00:00+0100", store.getLastDate("coverage"));
+    assertNull(store.getLastDate("bugs"));
+    assertEquals(3, HistoryStore.load(directory, "p1", null, null).getPoints().size());
+  }
+
+  private int sync(HistoryStore store, String branch, String... metrics) throws Exception {
+    return HistorySync.builder().log(new SilentLog()).connector(connector).store(store)
+        .pageSize(2).build().sync("p1", branch, null, List.of(metrics));
+  }
+
+  private static MappingBuilder history(String metrics, String from, int page) {
+    return get(urlPathEqualTo(HISTORY_PATH)).withQueryParam("component", equalTo("p1"))
+        .withQueryParam("metrics", equalTo(metrics))
+        .withQueryParam("from", from == null ? absent() : equalTo(from))
+        .withQueryParam("p", equalTo(String.valueOf(page)));
+  }
+
+  private static ResponseDefinitionBuilder page(int page, int pageSize, int total,
+      String... measures) {
+    return aResponse().withBody(String.format(
+        "{\"paging\":{\"pageIndex\":%d,\"pageSize\":%d,\"total\":%d},\"measures\":[%s]}", page,
+        pageSize, total, String.join(",", measures)));
+  }
+
+  private static String measure(String metric, String... points) {
+    return String.format("{\"metric\":\"%s\",\"history\":[%s]}", metric,
+        String.join(",", points));
+  }
+
+  private static String point(String date, String value) {
+    return value == null ? String.format("{\"date\":\"%s\"}", date)
+        : String.format("{\"date\":\"%s\",\"value\":\"%s\"}", date, value);
+  }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.r0bb3n.maven.history;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import org.r0bb3n.maven.history.HistoryStore.DataPoint;
+import org.r0bb3n.maven.history.TrendAnalysis.Trend;
+import org.r0bb3n.maven.model.Condition;
+
+/**
+ * Test cases for {@link TrendAnalysis}
+ */
+public class TrendAnalysisTest {
+
+  @Test
+  public void flakyStatus() {
+    Trend trend = TrendAnalysis.analyzeStatus(
+        points("alert_status", "OK", "ERROR", "OK", "OK", "ERROR", "OK"));
+    assertTrue(trend.isWarning());
+    assertEquals("passed 4 of 6 analyses, status changed 4 time(s) - flaky quality gate",
+        trend.getDescription());
+  }
+
+  @Test
+  public void stableStatus() {
+    Trend trend = TrendAnalysis.analyzeStatus(points("alert_status", "OK", "OK", "ERROR"));
+    assertFalse(trend.isWarning());
+    assertEquals("passed 2 of 3 analyses, status changed 1 time(s)", trend.getDescription());
+  }
+
+  /**
+   * Rising value of a "greater than" condition, threshold reached after four more analyses
+   */
+  @Test
+  public void risingDebt() {
+    Trend trend = TrendAnalysis.analyzeMetric(condition("sqale_index", "GT", "200"),
+        points("sqale_index", "100", "110", "120", "130", "140", "150", "160"));
+    assertTrue(trend.isWarning());
+    assertEquals("100 -> 160 over 7 analyses (+60.0%), threshold 200 reached in ~4 analyses",
+        trend.getDescription());
+  }
+
+  /**
+   * Falling value of a "less than" condition is getting worse, rising is not
+   */
+  @Test
+  public void coverage() {
+    Condition condition = condition("coverage", "LT", "70");
+    assertTrue(TrendAnalysis.analyzeMetric(condition,
+        points("coverage", "90", "85", "80")).isWarning());
+    Trend trend = TrendAnalysis.analyzeMetric(condition, points("coverage", "70", "80", "90"));
+    assertFalse(trend.isWarning());
+    assertThat(trend.getDescription(), containsString("(+28.6%)"));
+  }
+
+  @Test
+  public void notEnoughValues() {
+    assertNull(TrendAnalysis.analyzeMetric(condition("rating", "GT", "1"),
+        points("rating", "1", "x")));
+  }
+
+  private static List<DataPoint> points(String metric, String... values) {
+    List<DataPoint> ret = new ArrayList<>();
+    for (int i = 0; i < values.length; i++) {
+      ret.add(new DataPoint(String.format("2021-02-%02dT10:00:00+0100", i + 1), metric,
+          values[i]));
+    }
+    return ret;
+  }
+
+  private static Condition condition(String metric, String comparator, String threshold) {
+    Condition ret = new Condition();
+    ret.setMetricKey(metric);
+    ret.setComparator(comparator);
+    ret.setErrorThreshold(threshold);
+    return ret;
+  }
+
+}
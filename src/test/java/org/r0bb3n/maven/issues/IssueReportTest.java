@@ -0,0 +1,204 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.r0bb3n.maven.issues;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.absent;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.client.MappingBuilder;
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.r0bb3n.maven.HttpSettings;
+import org.r0bb3n.maven.SonarConnector;
+import org.r0bb3n.maven.util.SilentLog;
+
+/**
+ * Test cases for {@link IssueReport}
+ */
+public class IssueReportTest {
+
+  private static final String ISSUES_PATH = "/api/issues/search";
+
+  @Rule
+  public WireMockRule wireMockRule = new WireMockRule(0);
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private SonarConnector connector;
+  private Path file;
+
+  @Before
+  public void setUp() throws Exception {
+    connector = new SonarConnector(new SilentLog(), new URL("http://localhost:"
+        + wireMockRule.port()), "project", null, null, HttpSettings.defaults());
+    file = temporaryFolder.getRoot().toPath().resolve("out/issues.jsonl");
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    connector.close();
+  }
+
+  /**
+   * All pages are written in order, one issue per line
+   */
+  @Test
+  public void jsonLines() throws Exception {
+    stubIssues(null, 7, 3);
+
+    long count = IssueReport.builder().log(new SilentLog()).connector(connector).file(file)
+        .pageSize(3).prefetch(2).build().write("project", "feature", null);
+
+    assertEquals(7, count);
+    List<String> lines = Files.readAllLines(file);
+    assertEquals(7, lines.size());
+    for (int i = 0; i < lines.size(); i++) {
+      assertEquals("I" + (i + 1), new ObjectMapper().readTree(lines.get(i)).get("key").asText());
+    }
+    verify(getRequestedFor(urlPathEqualTo(ISSUES_PATH))
+        .withQueryParam("componentKeys", equalTo("project"))
+        .withQueryParam("branch", equalTo("feature"))
+        .withQueryParam("resolved", equalTo("false"))
+        .withQueryParam("inNewCodePeriod", equalTo("true"))
+        .withQueryParam("p", equalTo("3")).withQueryParam("ps", equalTo("3")));
+  }
+
+  /**
+   * Issues are mapped to SARIF results
+   */
+  @Test
+  public void sarif() throws Exception {
+    stubIssues(null, 2, 500);
+
+    long count = IssueReport.builder().log(new SilentLog()).connector(connector).file(file)
+        .format(IssueReport.Format.SARIF).build().write("project", null, "42");
+
+    assertEquals(2, count);
+    JsonNode sarif = new ObjectMapper().readTree(file.toFile());
+    assertEquals("2.1.0", sarif.get("version").asText());
+    JsonNode results = sarif.get("runs").get(0).get("results");
+    assertEquals(2, results.size());
+    JsonNode result = results.get(0);
+    assertEquals("java:S1", result.get("ruleId").asText());
+    assertEquals("warning", result.get("level").asText());
+    assertEquals("message 1", result.get("message").get("text").asText());
+    JsonNode location = result.get("locations").get(0).get("physicalLocation");
+    assertEquals("src/File1.java", location.get("artifactLocation").get("uri").asText());
+    assertEquals(1, location.get("region").get("startLine").asInt());
+    assertEquals(5, location.get("region").get("startColumn").asInt());
+    assertEquals("I1", result.get("properties").get("key").asText());
+    verify(getRequestedFor(urlPathEqualTo(ISSUES_PATH))
+        .withQueryParam("pullRequest", equalTo("42")));
+  }
+
+  /**
+   * Result sets exceeding the result window are requested by severity
+   */
+  @Test
+  public void partitionBySeverity() throws Exception {
+    stubIssues(null, 6, 2);
+    for (String severity : new String[]{"INFO", "MINOR", "CRITICAL"}) {
+      stubIssues(severity, 0, 2);
+    }
+    stubIssues("MAJOR", 4, 2);
+    stubIssues("BLOCKER", 2, 2);
+
+    long count = IssueReport.builder().log(new SilentLog()).connector(connector).file(file)
+        .pageSize(2).maxResults(4).build().write("project", null, null);
+
+    assertEquals(6, count);
+    assertEquals(6, Files.readAllLines(file).size());
+    verify(0, getRequestedFor(urlPathEqualTo(ISSUES_PATH)).withQueryParam("severities", absent())
+        .withQueryParam("ps", equalTo("2")));
+  }
+
+  /**
+   * Errors fail the report, the target file is not touched
+   */
+  @Test
+  public void serverError() throws Exception {
+    stubIssues(null, 4, 2);
+    stubFor(issuesRequest(null).withQueryParam("p", equalTo("2"))
+        .willReturn(aResponse().withStatus(500)));
+
+    IssueReport report = IssueReport.builder().log(new SilentLog()).connector(connector)
+        .file(file).pageSize(2).build();
+    IOException e = assertThrows(IOException.class, () -> report.write("project", null, null));
+
+    assertThat(e.getMessage(), containsString("500"));
+    assertEquals(false, Files.exists(file));
+  }
+
+  /**
+   * Stub the probe and all pages of issues, optionally for one severity
+   */
+  private static void stubIssues(String severity, int total, int pageSize) {
+    stubFor(issuesRequest(severity).withQueryParam("ps", equalTo("1"))
+        .willReturn(aResponse().withBody(page(total, 1, 1))));
+    for (int p = 1; p <= Math.max(1, (total + pageSize - 1) / pageSize); p++) {
+      stubFor(issuesRequest(severity).withQueryParam("p", equalTo(String.valueOf(p)))
+          .withQueryParam("ps", equalTo(String.valueOf(pageSize)))
+          .willReturn(aResponse().withBody(page(total, p, pageSize))));
+    }
+  }
+
+  private static MappingBuilder issuesRequest(String severity) {
+    return get(urlPathEqualTo(ISSUES_PATH)).withQueryParam("severities",
+        severity == null ? absent() : equalTo(severity));
+  }
+
+  private static String page(int total, int p, int pageSize) {
+    String issues = IntStream.rangeClosed((p - 1) * pageSize + 1, Math.min(total, p * pageSize))
+        .mapToObj(IssueReportTest::issue).collect(Collectors.joining(","));
+    return String.format("{\"total\":%d,\"p\":%d,\"ps\":%d,\"paging\":{\"pageIndex\":%d,"
+            + "\"pageSize\":%d,\"total\":%d},\"issues\":[%s],\"components\":[]}", total, p,
+        pageSize, p, pageSize, total, issues);
+  }
+
+  private static String issue(int i) {
+    return String.format("{\"key\":\"I%d\",\"rule\":\"java:S%d\",\"severity\":\"MAJOR\","
+        + "\"component\":\"project:src/File%d.java\",\"line\":%d,\"textRange\":{\"startLine\":%d,"
+        + "\"endLine\":%d,\"startOffset\":4,\"endOffset\":9},\"message\":\"message %d\","
+        + "\"type\":\"CODE_SMELL\"}", i, i, i, i, i, i, i);
+  }
+
+}
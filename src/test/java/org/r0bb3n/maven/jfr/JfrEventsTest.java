@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.jfr;
+
+import static org.junit.Assert.assertEquals;
+
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.github.tomakehurst.wiremock.junit.WireMockClassRule;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.extern.log4j.Log4j2;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.r0bb3n.maven.SonarConnector;
+import org.r0bb3n.maven.util.LogFacade;
+
+/**
+ * Test cases for the JFR events emitted by {@link SonarConnector}
+ */
+@Log4j2
+public class JfrEventsTest {
+
+  // reuse the mappings of the connector test
+  @ClassRule
+  public static WireMockClassRule wireMockClassRule = new WireMockClassRule(
+      WireMockConfiguration.options().dynamicPort()
+          .usingFilesUnderDirectory("src/test/resources/wiremock/SonarConnectorTest"));
+
+  @Rule
+  public WireMockClassRule wireMockRule = wireMockClassRule;
+
+  @Rule
+  public TemporaryFolder tmp = new TemporaryFolder();
+
+  @Test
+  public void recordHttpExchangeAndParse() throws Exception {
+    Path dump = tmp.getRoot().toPath().resolve("test.jfr");
+    try (Recording recording = new Recording();
+        SonarConnector connector = new SonarConnector(new LogFacade(log),
+            new URL(wireMockRule.baseUrl()), null, null, null)) {
+      recording.enable(HttpExchangeEvent.class).withoutThreshold();
+      recording.enable(JsonParseEvent.class).withoutThreshold();
+      recording.start();
+      connector.retrieveTask("AXe74ZzR1IiFGsn-Op8X");
+      recording.stop();
+      recording.dump(dump);
+    }
+
+    List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+    List<RecordedEvent> exchanges = events.stream()
+        .filter(e -> e.getEventType().getName().equals("org.r0bb3n.sonar.HttpExchange"))
+        .collect(Collectors.toList());
+    assertEquals(1, exchanges.size());
+    assertEquals("api/ce/task", exchanges.get(0).getString("endpoint"));
+    assertEquals(200, exchanges.get(0).getInt("statusCode"));
+
+    List<RecordedEvent> parses = events.stream()
+        .filter(e -> e.getEventType().getName().equals("org.r0bb3n.sonar.JsonParse"))
+        .collect(Collectors.toList());
+    assertEquals(1, parses.size());
+    assertEquals("TaskContainer", parses.get(0).getString("targetType"));
+  }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.json;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+import org.r0bb3n.maven.SonarConnector;
+import org.r0bb3n.maven.model.Activity;
+import org.r0bb3n.maven.model.ComponentMeasures;
+import org.r0bb3n.maven.model.Condition;
+import org.r0bb3n.maven.model.MeasuresContainer;
+import org.r0bb3n.maven.model.ProjectStatus;
+import org.r0bb3n.maven.model.ProjectStatusContainer;
+import org.r0bb3n.maven.model.Task;
+import org.r0bb3n.maven.model.TaskContainer;
+import org.r0bb3n.maven.util.StandInSonarServer;
+
+/**
+ * Test cases for {@link BuiltinResponseParser}, results are compared with
+ * {@link JacksonResponseParser}
+ */
+public class BuiltinResponseParserTest {
+
+  private final ResponseParser builtin = ResponseParser.of(ResponseParser.Type.BUILTIN);
+  private final ResponseParser jackson = ResponseParser.of(ResponseParser.Type.JACKSON);
+
+  @Test
+  public void sameResultAsJackson() throws Exception {
+    assertSameResult(resource("task-response-valid.json"), TaskContainer.class);
+    assertSameResult(resource("project_status-response-valid.json"),
+        ProjectStatusContainer.class);
+    assertSameResult(resource("measures_component-response-valid.json"),
+        ComponentMeasures.class);
+    assertSameResult(StandInSonarServer.taskJson("AXtask", "AXanalysis", "IN_PROGRESS"),
+        TaskContainer.class);
+    assertSameResult(StandInSonarServer.projectStatusJson("OK", 50),
+        ProjectStatusContainer.class);
+    assertSameResult("{\"task\":{\"analysisId\":null,\"status\":\"PENDING\","
+        + "\"executionTimeMs\":null}}", TaskContainer.class);
+    assertSameResult("{\"projectStatus\":{\"status\":\"NONE\",\"ignoredConditions\":true,"
+        + "\"conditions\":null}}", ProjectStatusContainer.class);
+    assertSameResult("{\"task\":null}", TaskContainer.class);
+    assertSameResult("{}", ProjectStatusContainer.class);
+    assertSameResult("{\"paging\":{\"pageIndex\":1,\"pageSize\":100,\"total\":1},\"tasks\":["
+        + StandInSonarServer.taskJson("AXtask", "AXanalysis", "SUCCESS").substring(8)
+        .replaceFirst("}$", "") + "]}", Activity.class);
+    assertSameResult("{\"measures\":[{\"metric\":\"coverage\",\"component\":\"p1\","
+        + "\"value\":\"85.0\",\"bestValue\":false}]}", MeasuresContainer.class);
+  }
+
+  @Test
+  public void readTask() throws Exception {
+    Task task = builtin.readValue(resource("task-response-valid.json"), TaskContainer.class)
+        .getTask();
+    assertEquals("zpBWPVtIZerEQqdqnHdA", task.getAnalysisId());
+    assertEquals(Task.Status.SUCCESS, task.getStatus());
+    assertEquals(Long.valueOf(1352), task.getExecutionTimeMs());
+    assertEquals("component.group.id:component-id", task.getComponentKey());
+  }
+
+  @Test
+  public void readConditionDetails() throws Exception {
+    Condition condition = builtin.readValue(resource("project_status-response-valid.json"),
+        ProjectStatusContainer.class).getProjectStatus().getConditions().get(0);
+    assertEquals("LT", condition.getComparator());
+    assertEquals(Integer.valueOf(1), condition.getPeriodIndex());
+    assertEquals("85", condition.getErrorThreshold());
+    assertEquals("82.50562381034781", condition.getActualValue());
+  }
+
+  @Test
+  public void unknownEnumValue() {
+    IOException e = assertThrows(IOException.class, () -> builtin.readValue(
+        "{\"projectStatus\":{\"status\":\"MAYBE\"}}", ProjectStatusContainer.class));
+    assertThat(e.getMessage(), containsString("Unknown value 'MAYBE'"));
+  }
+
+  @Test
+  public void malformedOrUnsupported() {
+    assertThrows(IOException.class,
+        () -> builtin.readValue("{\"task\":{\"status\":\"SUCCESS\"}", TaskContainer.class));
+    assertThrows(IOException.class, () -> builtin.readValue("", TaskContainer.class));
+    assertThrows(IllegalArgumentException.class, () -> builtin.readValue("{}", Task.class));
+  }
+
+  @Test
+  public void readBoolean() throws Exception {
+    assertTrue(builtin.readBoolean("{\"other\":{\"valid\":false},\"valid\":true}", "valid"));
+    assertFalse(builtin.readBoolean("{\"valid\":false}", "valid"));
+    assertFalse(builtin.readBoolean("{}", "valid"));
+  }
+
+  @Test
+  public void nullProjectStatus() throws Exception {
+    ProjectStatus status = builtin.readValue("{\"projectStatus\":null}",
+        ProjectStatusContainer.class).getProjectStatus();
+    assertNull(status);
+  }
+
+  private <T> void assertSameResult(String json, Class<T> type) throws IOException {
+    assertEquals(json, jackson.readValue(json, type), builtin.readValue(json, type));
+  }
+
+  private static String resource(String name) throws IOException {
+    try (InputStream in = SonarConnector.class.getResourceAsStream(name)) {
+      return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+
+}
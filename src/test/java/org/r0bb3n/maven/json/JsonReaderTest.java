@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.json;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.time.Duration;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link JsonReader}
+ */
+public class JsonReaderTest {
+
+  /**
+   * Parsing time grows linearly with the size of the document
+   */
+  @Test
+  public void largeDocument() throws Exception {
+    int count = 200_000;
+    StringBuilder json = new StringBuilder("[\"esc\\\"aped\"");
+    for (int i = 0; i < count; i++) {
+      json.append(",\"value-").append(i).append('"');
+    }
+    json.append(']');
+    // about 3 MB, took minutes with a quadratic scan
+    JsonReader reader = new JsonReader(json.toString());
+
+    long start = System.nanoTime();
+    reader.beginArray();
+    assertEquals("esc\"aped", reader.nextString());
+    int read = 0;
+    String last = null;
+    while (reader.hasNext()) {
+      last = reader.nextString();
+      read++;
+    }
+    reader.endArray();
+    Duration duration = Duration.ofNanos(System.nanoTime() - start);
+
+    assertEquals(count, read);
+    assertEquals("value-" + (count - 1), last);
+    assertThat(duration, lessThan(Duration.ofSeconds(5)));
+  }
+
+  @Test
+  public void readAllTokens() throws Exception {
+    JsonReader reader = new JsonReader(
+        " {\"s\" : \"v\", \"n\":-12, \"b\":true, \"f\":false, \"z\":null, \"a\":[1, \"x\"]}\n");
+    reader.beginObject();
+    assertEquals("s", reader.nextName());
+    assertEquals("v", reader.nextString());
+    assertEquals("n", reader.nextName());
+    assertEquals(-12, reader.nextLong());
+    assertEquals("b", reader.nextName());
+    assertTrue(reader.nextBoolean());
+    assertEquals("f", reader.nextName());
+    assertFalse(reader.nextBoolean());
+    assertEquals("z", reader.nextName());
+    assertNull(reader.nextStringOrNull());
+    assertEquals("a", reader.nextName());
+    reader.beginArray();
+    assertEquals("1", reader.nextString());
+    assertEquals("x", reader.nextString());
+    assertFalse(reader.hasNext());
+    reader.endArray();
+    assertFalse(reader.hasNext());
+    reader.endObject();
+    assertEquals(JsonReader.Token.END_DOCUMENT, reader.peek());
+  }
+
+  @Test
+  public void unescapeStrings() throws Exception {
+    JsonReader reader = new JsonReader("[\"a\\\"b\\\\c\\/d\\n\\u00e4\", \"\", \"\\\\\"]");
+    reader.beginArray();
+    assertEquals("a\"b\\c/d\nä", reader.nextString());
+    assertEquals("", reader.nextString());
+    assertEquals("\\", reader.nextString());
+    reader.endArray();
+  }
+
+  @Test
+  public void skipNestedValues() throws Exception {
+    JsonReader reader = new JsonReader(
+        "{\"skip\":{\"a\":[{\"b\":[]},{}],\"c\":1.5e3,\"d\":\"}]\"},\"keep\":\"yes\"}");
+    reader.beginObject();
+    assertEquals("skip", reader.nextName());
+    reader.skipValue();
+    assertEquals("keep", reader.nextName());
+    assertEquals("yes", reader.nextString());
+    reader.endObject();
+    assertEquals(JsonReader.Token.END_DOCUMENT, reader.peek());
+  }
+
+  @Test
+  public void malformed() {
+    assertMalformed("", "unexpected end");
+    assertMalformed("{\"a\" 1}", "':' expected");
+    assertMalformed("{\"a\":1 \"b\":2}", "',' or '}' expected");
+    assertMalformed("[1,]", "value expected");
+    assertMalformed("{\"a\":\"open}", "unterminated string");
+    assertMalformed("{\"a\":tru}", "'true' expected");
+    assertMalformed("{} {}", "end of document expected");
+  }
+
+  @Test
+  public void wrongToken() throws Exception {
+    JsonReader reader = new JsonReader("{\"a\":\"text\"}");
+    reader.beginObject();
+    reader.nextName();
+    IOException e = assertThrows(IOException.class, reader::nextLong);
+    assertThat(e.getMessage(), containsString("NUMBER expected but was STRING"));
+  }
+
+  private static void assertMalformed(String json, String message) {
+    IOException e = assertThrows(json, IOException.class, () -> {
+      JsonReader reader = new JsonReader(json);
+      reader.skipValue();
+      reader.peek();
+    });
+    assertThat(json, e.getMessage(), containsString(message));
+  }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.load;
+
+import java.time.Duration;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Configuration of a load test run, see {@link LoadDriver}
+ */
+@Value
+@Builder(toBuilder = true)
+public class LoadConfig {
+
+  /**
+   * What a single job executes
+   */
+  public enum Mode {
+    /**
+     * poll the task and fetch the project status with an own
+     * {@link org.r0bb3n.maven.SonarConnector}
+     */
+    CONNECTOR,
+    /**
+     * execute goal {@code check} (integrated mode)
+     */
+    MOJO
+  }
+
+  /**
+   * total number of gate checks
+   */
+  @Builder.Default
+  int jobs = 100;
+
+  /**
+   * number of gate checks running at the same time
+   */
+  @Builder.Default
+  int concurrency = 20;
+
+  @Builder.Default
+  Mode mode = Mode.CONNECTOR;
+
+  /**
+   * HTTP transport of the connectors
+   */
+  @Builder.Default
+  String transport = "jdk";
+
+  /**
+   * wait between two task polls (mode {@link Mode#MOJO} only supports full seconds)
+   */
+  @Builder.Default
+  Duration pollInterval = Duration.ofSeconds(1);
+
+  /**
+   * maximum number of task polls per job
+   */
+  @Builder.Default
+  int pollAttempts = 30;
+
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.load;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.r0bb3n.maven.HttpSettings;
+import org.r0bb3n.maven.ReportTask;
+import org.r0bb3n.maven.SonarConnector;
+import org.r0bb3n.maven.SonarQualityGateMojo;
+import org.r0bb3n.maven.model.Task;
+import org.r0bb3n.maven.util.LatencyDistribution;
+import org.r0bb3n.maven.util.MojoConfigurator;
+import org.r0bb3n.maven.util.SilentLog;
+import org.r0bb3n.maven.util.StandInSonarServer;
+
+/**
+ * Load test driver: runs many gate checks concurrently against a {@link StandInSonarServer} and
+ * reports throughput, time to verdict percentiles, requests, connections, heap and threads.
+ *
+ * <p>Can be started from the command line with {@code key=value} arguments, e.g.:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *   -Dexec.mainClass=org.r0bb3n.maven.load.LoadDriver \
+ *   -Dexec.args="jobs=2000 concurrency=500 latency=lognormal:30ms,0.6 processingTime=uniform:1s-5s"
+ * </pre>
+ */
+@RequiredArgsConstructor
+public class LoadDriver {
+
+  private final StandInSonarServer server;
+
+  /**
+   * Start a stand-in server, run the load test and print the report
+   *
+   * @param args {@code key=value} pairs: jobs, concurrency, mode (CONNECTOR|MOJO), transport,
+   *             pollInterval, pollAttempts, latency, errorRate, queueTime, processingTime,
+   *             conditions, serverThreads
+   * @throws Exception unexpected errors
+   */
+  public static void main(String[] args) throws Exception {
+    Map<String, String> params = new HashMap<>();
+    for (String arg : args) {
+      String[] kv = arg.split("=", 2);
+      params.put(kv[0], kv.length > 1 ? kv[1] : "");
+    }
+    LoadConfig.LoadConfigBuilder config = LoadConfig.builder();
+    if (params.containsKey("jobs")) {
+      config.jobs(Integer.parseInt(params.get("jobs")));
+    }
+    if (params.containsKey("concurrency")) {
+      config.concurrency(Integer.parseInt(params.get("concurrency")));
+    }
+    if (params.containsKey("mode")) {
+      config.mode(LoadConfig.Mode.valueOf(params.get("mode").toUpperCase()));
+    }
+    if (params.containsKey("transport")) {
+      config.transport(params.get("transport"));
+    }
+    if (params.containsKey("pollInterval")) {
+      config.pollInterval(LatencyDistribution.parseDuration(params.get("pollInterval")));
+    }
+    if (params.containsKey("pollAttempts")) {
+      config.pollAttempts(Integer.parseInt(params.get("pollAttempts")));
+    }
+    int conditions = Integer.parseInt(params.getOrDefault("conditions", "10"));
+    int serverThreads = Integer.parseInt(params.getOrDefault("serverThreads", "16"));
+    try (StandInSonarServer server = new StandInSonarServer(conditions, serverThreads)) {
+      server.setLatency(LatencyDistribution.parse(params.getOrDefault("latency", "fixed:0ms")));
+      server.setErrorRate(Double.parseDouble(params.getOrDefault("errorRate", "0")));
+      server.setTaskLifetime(
+          LatencyDistribution.parse(params.getOrDefault("queueTime", "fixed:0ms")),
+          LatencyDistribution.parse(params.getOrDefault("processingTime", "fixed:0ms")));
+      System.out.print(new LoadDriver(server).run(config.build()));
+    }
+  }
+
+  /**
+   * Run the load test
+   *
+   * @param config configuration
+   * @return report
+   * @throws InterruptedException interrupted while waiting for the jobs
+   */
+  public LoadReport run(LoadConfig config) throws InterruptedException {
+    MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    threads.resetPeakThreadCount();
+    AtomicLong peakHeap = new AtomicLong();
+    ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+    sampler.scheduleAtFixedRate(
+        () -> peakHeap.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max),
+        0, 20, TimeUnit.MILLISECONDS);
+    long requestsBefore = server.getRequests();
+    long errorsBefore = server.getErrors();
+
+    ExecutorService pool = Executors.newFixedThreadPool(config.getConcurrency());
+    long start = System.nanoTime();
+    List<Future<Duration>> futures = new ArrayList<>();
+    for (int i = 0; i < config.getJobs(); i++) {
+      String taskId = "AXtask-" + i;
+      futures.add(pool.submit(() -> runJob(config, taskId)));
+    }
+    List<Duration> timesToVerdict = new ArrayList<>();
+    int failed = 0;
+    for (Future<Duration> future : futures) {
+      try {
+        timesToVerdict.add(future.get());
+      } catch (ExecutionException e) {
+        failed++;
+      }
+    }
+    Duration wallTime = Duration.ofNanos(System.nanoTime() - start);
+    pool.shutdown();
+    sampler.shutdownNow();
+    timesToVerdict.sort(Comparator.naturalOrder());
+
+    return LoadReport.builder().config(config).succeeded(timesToVerdict.size()).failed(failed)
+        .wallTime(wallTime).timesToVerdict(Collections.unmodifiableList(timesToVerdict))
+        .serverRequests(server.getRequests() - requestsBefore)
+        .serverErrors(server.getErrors() - errorsBefore)
+        .clientConnections(server.getClientConnections())
+        .peakHeapBytes(peakHeap.get()).peakThreads(threads.getPeakThreadCount()).build();
+  }
+
+  /**
+   * Run one gate check
+   *
+   * @param config configuration
+   * @param taskId compute engine task id of this job
+   * @return time to verdict
+   * @throws Exception check failed
+   */
+  private Duration runJob(LoadConfig config, String taskId) throws Exception {
+    server.submitTask(taskId);
+    long start = System.nanoTime();
+    if (config.getMode() == LoadConfig.Mode.MOJO) {
+      runMojo(config, taskId);
+    } else {
+      runConnector(config, taskId);
+    }
+    return Duration.ofNanos(System.nanoTime() - start);
+  }
+
+  private void runConnector(LoadConfig config, String taskId) throws Exception {
+    try (SonarConnector connector = new SonarConnector(new SilentLog(), server.getUrl(), "load",
+        null, null, HttpSettings.builder().transport(config.getTransport()).build())) {
+      int attemptsLeft = config.getPollAttempts();
+      Task task = connector.retrieveTask(taskId);
+      while (task.getStatus().isOngoing()) {
+        if (--attemptsLeft <= 0) {
+          throw new IOException("task still ongoing: " + taskId);
+        }
+        Thread.sleep(config.getPollInterval().toMillis());
+        task = connector.retrieveTask(taskId);
+      }
+      if (task.getStatus() != Task.Status.SUCCESS) {
+        throw new IOException("unsuitable task status: " + task.getStatus());
+      }
+      connector.retrieveProjectStatusByAnalysisId(task.getAnalysisId());
+    }
+  }
+
+  private void runMojo(LoadConfig config, String taskId) throws Exception {
+    Path buildDir = Files.createTempDirectory("sonar-quality-gate-load");
+    try {
+      Path reportTask = ReportTask.resolve(buildDir.toString());
+      Files.createDirectories(reportTask.getParent());
+      Files.writeString(reportTask, ReportTask.KEY_CE_TASK_ID + "=" + taskId);
+      SonarQualityGateMojo mojo = new SonarQualityGateMojo();
+      mojo.setLog(new SilentLog());
+      MojoConfigurator.configure(mojo).applyDefaults().setSonarHostUrl(server.getUrl())
+          .setSonarProjectKey("load").setFailOnMiss(false)
+          .setHttpTransport(config.getTransport())
+          .setCheckTaskAttempts(config.getPollAttempts())
+          .setCheckTaskIntervalS((int) Math.max(1, config.getPollInterval().toSeconds()))
+          .setProjectBuildDirectory(buildDir.toString());
+      mojo.execute();
+    } finally {
+      try (Stream<Path> files = Files.walk(buildDir)) {
+        files.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+      }
+    }
+  }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.load;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import lombok.extern.log4j.Log4j2;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.r0bb3n.maven.util.LatencyDistribution;
+import org.r0bb3n.maven.util.StandInSonarServer;
+
+/**
+ * Smoke test of the load harness (small numbers, the real runs are started via
+ * {@link LoadDriver#main(String[])})
+ */
+@Log4j2
+public class LoadDriverTest {
+
+  private StandInSonarServer server;
+
+  @Before
+  public void setUp() throws Exception {
+    server = new StandInSonarServer(10, 4);
+    server.setLatency(LatencyDistribution.parse("lognormal:2ms,0.5"));
+  }
+
+  @After
+  public void tearDown() {
+    server.close();
+  }
+
+  @Test
+  public void connectorJobsWithTaskLifetime() throws Exception {
+    server.setTaskLifetime(LatencyDistribution.fixed(Duration.ofMillis(50)),
+        LatencyDistribution.uniform(Duration.ofMillis(50), Duration.ofMillis(100)));
+
+    LoadReport report = new LoadDriver(server).run(LoadConfig.builder().jobs(40).concurrency(10)
+        .pollInterval(Duration.ofMillis(40)).build());
+    log.info("load report:\n{}", report);
+
+    assertEquals(40, report.getSucceeded());
+    assertEquals(0, report.getFailed());
+    assertTrue("time to verdict below task lifetime",
+        report.percentile(0).compareTo(Duration.ofMillis(100)) >= 0);
+    // at least one task request + one project status request per job, plus polls
+    assertTrue(report.getServerRequests() > 80);
+    assertTrue(report.getClientConnections() >= 1);
+  }
+
+  @Test
+  public void mojoJobs() throws Exception {
+    LoadReport report = new LoadDriver(server).run(LoadConfig.builder().jobs(10).concurrency(5)
+        .mode(LoadConfig.Mode.MOJO).build());
+
+    assertEquals(10, report.getSucceeded());
+    assertEquals(20, report.getServerRequests());
+  }
+
+  @Test
+  public void serverErrorsFailJobs() throws Exception {
+    server.setErrorRate(1);
+
+    LoadReport report = new LoadDriver(server).run(LoadConfig.builder().jobs(10).concurrency(5)
+        .build());
+
+    assertEquals(0, report.getSucceeded());
+    assertEquals(10, report.getFailed());
+    assertEquals(10, report.getServerErrors());
+  }
+
+}
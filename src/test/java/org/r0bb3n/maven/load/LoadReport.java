@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.load;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Result of a load test run, see {@link LoadDriver}
+ */
+@Value
+@Builder
+public class LoadReport {
+
+  LoadConfig config;
+  int succeeded;
+  int failed;
+  Duration wallTime;
+
+  /**
+   * time to verdict of all succeeded jobs, sorted ascending
+   */
+  List<Duration> timesToVerdict;
+
+  long serverRequests;
+  long serverErrors;
+  int clientConnections;
+  long peakHeapBytes;
+  int peakThreads;
+
+  /**
+   * Get the number of finished jobs per second
+   *
+   * @return throughput
+   */
+  public double getThroughput() {
+    return (succeeded + failed) / Math.max(wallTime.toNanos() / 1e9, 1e-9);
+  }
+
+  /**
+   * Get a percentile of the time to verdict (nearest rank)
+   *
+   * @param percentile value between 0 and 100
+   * @return duration or {@link Duration#ZERO}, if no job succeeded
+   */
+  public Duration percentile(double percentile) {
+    if (timesToVerdict.isEmpty()) {
+      return Duration.ZERO;
+    }
+    int rank = (int) Math.ceil(percentile / 100 * timesToVerdict.size());
+    return timesToVerdict.get(Math.min(Math.max(rank, 1), timesToVerdict.size()) - 1);
+  }
+
+  @Override
+  public String toString() {
+    return String.format(Locale.ROOT, "%-22s %s%n", "mode", config.getMode())
+        + String.format(Locale.ROOT, "%-22s %s%n", "transport", config.getTransport())
+        + String.format(Locale.ROOT, "%-22s %d (concurrency %d)%n", "jobs", config.getJobs(),
+        config.getConcurrency())
+        + String.format(Locale.ROOT, "%-22s %d / %d%n", "succeeded / failed", succeeded, failed)
+        + String.format(Locale.ROOT, "%-22s %.1f s%n", "wall time", wallTime.toMillis() / 1e3)
+        + String.format(Locale.ROOT, "%-22s %.1f jobs/s%n", "throughput", getThroughput())
+        + String.format(Locale.ROOT, "%-22s p50 %d ms, p90 %d ms, p99 %d ms, max %d ms%n",
+        "time to verdict", percentile(50).toMillis(), percentile(90).toMillis(),
+        percentile(99).toMillis(), percentile(100).toMillis())
+        + String.format(Locale.ROOT, "%-22s %d (errors %d)%n", "server requests",
+        serverRequests, serverErrors)
+        + String.format(Locale.ROOT, "%-22s %d%n", "client connections", clientConnections)
+        + String.format(Locale.ROOT, "%-22s %d MiB%n", "peak heap used", peakHeapBytes >> 20)
+        + String.format(Locale.ROOT, "%-22s %d%n", "peak threads", peakThreads);
+  }
+
+}
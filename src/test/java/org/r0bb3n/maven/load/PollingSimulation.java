@@ -0,0 +1,292 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.load;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.r0bb3n.maven.HttpSettings;
+import org.r0bb3n.maven.PollingStrategy;
+import org.r0bb3n.maven.SonarConnector;
+import org.r0bb3n.maven.model.Task;
+import org.r0bb3n.maven.util.LatencyDistribution;
+import org.r0bb3n.maven.util.SilentLog;
+import org.r0bb3n.maven.util.StandInSonarServer;
+
+/**
+ * Time to verdict simulation of {@link PollingStrategy polling strategies}: replays compute
+ * engine task timelines (queue and processing time) against a {@link StandInSonarServer} and
+ * polls each task with the strategy under test. All durations are divided by a time scale, so
+ * an hour of CI traffic replays in minutes; reported values are scaled back.
+ *
+ * <p>Can be started from the command line with {@code key=value} arguments, e.g.:
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *   -Dexec.mainClass=org.r0bb3n.maven.load.PollingSimulation \
+ *   -Dexec.args="timelines=src/test/resources/load/ce-task-timelines.csv scale=20"
+ * </pre>
+ */
+@RequiredArgsConstructor
+public class PollingSimulation {
+
+  private final StandInSonarServer server;
+
+  /**
+   * time is running this many times faster than in reality
+   */
+  private final double scale;
+
+  /**
+   * Start a stand-in server, simulate the default strategies and print a markdown table
+   *
+   * @param args {@code key=value} pairs: timelines (csv file), scale, latency, repeat
+   * @throws Exception unexpected errors
+   */
+  public static void main(String[] args) throws Exception {
+    Map<String, String> params = new HashMap<>();
+    for (String arg : args) {
+      String[] kv = arg.split("=", 2);
+      params.put(kv[0], kv.length > 1 ? kv[1] : "");
+    }
+    List<Timeline> timelines;
+    try (Reader reader = Files.newBufferedReader(Path.of(
+        params.getOrDefault("timelines", "src/test/resources/load/ce-task-timelines.csv")))) {
+      timelines = readTimelines(reader);
+    }
+    List<Timeline> repeated = new ArrayList<>();
+    for (int i = Integer.parseInt(params.getOrDefault("repeat", "1")); i > 0; i--) {
+      repeated.addAll(timelines);
+    }
+    try (StandInSonarServer server = new StandInSonarServer(10, 16)) {
+      server.setLatency(LatencyDistribution.parse(params.getOrDefault("latency", "fixed:0ms")));
+      PollingSimulation simulation =
+          new PollingSimulation(server, Double.parseDouble(params.getOrDefault("scale", "20")));
+      List<Result> results = new ArrayList<>();
+      for (Scenario scenario : defaultScenarios()) {
+        results.add(simulation.run(scenario, repeated));
+      }
+      System.out.print(toMarkdown(results));
+    }
+  }
+
+  /**
+   * Get the strategies compared by default: the plugin default (fixed 10 s), shorter fixed
+   * intervals and two backoff variants
+   *
+   * @return scenarios
+   */
+  public static List<Scenario> defaultScenarios() {
+    return List.of(
+        new Scenario("fixed 10s", PollingStrategy.fixed(Duration.ofSeconds(10))),
+        new Scenario("fixed 5s", PollingStrategy.fixed(Duration.ofSeconds(5))),
+        new Scenario("fixed 1s", PollingStrategy.fixed(Duration.ofSeconds(1))),
+        new Scenario("backoff 1s x2 max 30s",
+            PollingStrategy.backoff(Duration.ofSeconds(1), 2, Duration.ofSeconds(30))),
+        new Scenario("backoff 2s x1.5 max 20s",
+            PollingStrategy.backoff(Duration.ofSeconds(2), 1.5, Duration.ofSeconds(20))));
+  }
+
+  /**
+   * Read timelines from csv with columns {@code queueMs,processingMs}, a header line and lines
+   * starting with {@code #} are skipped
+   *
+   * @param reader csv source
+   * @return timelines
+   * @throws IOException read error
+   */
+  public static List<Timeline> readTimelines(Reader reader) throws IOException {
+    List<Timeline> timelines = new ArrayList<>();
+    BufferedReader lines = new BufferedReader(reader);
+    String line;
+    while ((line = lines.readLine()) != null) {
+      line = line.trim();
+      if (line.isEmpty() || line.startsWith("#") || !Character.isDigit(line.charAt(0))) {
+        continue;
+      }
+      String[] columns = line.split(",");
+      timelines.add(new Timeline(Duration.ofMillis(Long.parseLong(columns[0].trim())),
+          Duration.ofMillis(Long.parseLong(columns[1].trim()))));
+    }
+    return timelines;
+  }
+
+  /**
+   * Replay all timelines concurrently, each one polled with the strategy of the scenario
+   *
+   * @param scenario strategy under test
+   * @param timelines tasks to replay
+   * @return result (scaled back to real time)
+   * @throws InterruptedException interrupted while waiting for the tasks
+   * @throws IOException a task could not be polled
+   */
+  public Result run(Scenario scenario, List<Timeline> timelines)
+      throws InterruptedException, IOException {
+    ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, timelines.size()));
+    try (SonarConnector connector = new SonarConnector(new SilentLog(), server.getUrl(),
+        "simulation", null, null, HttpSettings.defaults())) {
+      // warm up client and connection, otherwise the first polls are distorted by startup time
+      connector.retrieveTask("warm-up");
+      List<Future<Sample>> futures = new ArrayList<>();
+      for (int i = 0; i < timelines.size(); i++) {
+        String taskId = scenario.getName().replace(' ', '-') + "-" + i;
+        Timeline timeline = timelines.get(i);
+        futures.add(pool.submit(() -> poll(connector, scenario.getStrategy(), taskId, timeline)));
+      }
+      List<Sample> samples = new ArrayList<>();
+      for (Future<Sample> future : futures) {
+        try {
+          samples.add(future.get());
+        } catch (ExecutionException e) {
+          throw new IOException("simulated check failed", e.getCause());
+        }
+      }
+      return Result.of(scenario.getName(), samples);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  private Sample poll(SonarConnector connector, PollingStrategy strategy, String taskId,
+      Timeline timeline) throws Exception {
+    server.submitTask(taskId, scaleDown(timeline.getQueue()),
+        scaleDown(timeline.getProcessing()));
+    long start = System.nanoTime();
+    int requests = 1;
+    Task task = connector.retrieveTask(taskId);
+    while (task.getStatus().isOngoing()) {
+      Thread.sleep(scaleDown(strategy.nextDelay(requests)).toMillis());
+      requests++;
+      task = connector.retrieveTask(taskId);
+    }
+    Duration timeToVerdict = Duration.ofNanos((long) ((System.nanoTime() - start) * scale));
+    return new Sample(requests, timeToVerdict,
+        timeToVerdict.minus(timeline.getQueue()).minus(timeline.getProcessing()));
+  }
+
+  private Duration scaleDown(Duration duration) {
+    return Duration.ofNanos((long) (duration.toNanos() / scale));
+  }
+
+  /**
+   * Render results as markdown table
+   *
+   * @param results simulation results
+   * @return table
+   */
+  public static String toMarkdown(List<Result> results) {
+    StringBuilder table = new StringBuilder(String.format(Locale.ROOT,
+        "| %-24s | %8s | %8s | %9s | %9s | %10s |%n", "strategy", "req mean", "req p95",
+        "ttv p50", "ttv p95", "overshoot"));
+    table.append("|").append("-".repeat(26)).append("|").append("-".repeat(10)).append("|")
+        .append("-".repeat(10)).append("|").append("-".repeat(11)).append("|")
+        .append("-".repeat(11)).append("|").append("-".repeat(12)).append("|")
+        .append(System.lineSeparator());
+    for (Result result : results) {
+      table.append(String.format(Locale.ROOT,
+          "| %-24s | %8.1f | %8d | %7.1f s | %7.1f s | %8.1f s |%n", result.getName(),
+          result.getRequestsMean(), result.getRequestsP95(),
+          result.getTimeToVerdictP50().toMillis() / 1e3,
+          result.getTimeToVerdictP95().toMillis() / 1e3,
+          result.getOvershootMean().toMillis() / 1e3));
+    }
+    return table.toString();
+  }
+
+  /**
+   * Queue and processing time of one compute engine task
+   */
+  @Value
+  public static class Timeline {
+    Duration queue;
+    Duration processing;
+  }
+
+  /**
+   * Named strategy under test
+   */
+  @Value
+  public static class Scenario {
+    String name;
+    PollingStrategy strategy;
+  }
+
+  @Value
+  private static class Sample {
+    int requests;
+    Duration timeToVerdict;
+    Duration overshoot;
+  }
+
+  /**
+   * Aggregated result of one scenario
+   */
+  @Value
+  public static class Result {
+    String name;
+    double requestsMean;
+    int requestsP95;
+    Duration timeToVerdictP50;
+    Duration timeToVerdictP95;
+
+    /**
+     * mean time between task completion and verdict
+     */
+    Duration overshootMean;
+
+    private static Result of(String name, List<Sample> samples) {
+      List<Integer> requests = new ArrayList<>();
+      List<Duration> timesToVerdict = new ArrayList<>();
+      long overshootNanos = 0;
+      for (Sample sample : samples) {
+        requests.add(sample.getRequests());
+        timesToVerdict.add(sample.getTimeToVerdict());
+        overshootNanos += Math.max(0, sample.getOvershoot().toNanos());
+      }
+      Collections.sort(requests);
+      Collections.sort(timesToVerdict);
+      int count = Math.max(1, samples.size());
+      return new Result(name,
+          requests.stream().mapToInt(Integer::intValue).sum() / (double) count,
+          percentile(requests, 95, 0), percentile(timesToVerdict, 50, Duration.ZERO),
+          percentile(timesToVerdict, 95, Duration.ZERO), Duration.ofNanos(overshootNanos / count));
+    }
+
+    private static <T> T percentile(List<T> sorted, double percentile, T empty) {
+      if (sorted.isEmpty()) {
+        return empty;
+      }
+      int rank = (int) Math.ceil(percentile / 100 * sorted.size());
+      return sorted.get(Math.min(Math.max(rank, 1), sorted.size()) - 1);
+    }
+  }
+
+}
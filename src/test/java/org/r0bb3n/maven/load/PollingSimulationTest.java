@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.load;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.junit.Assert.assertEquals;
+
+import java.io.StringReader;
+import java.time.Duration;
+import java.util.List;
+import lombok.extern.log4j.Log4j2;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.r0bb3n.maven.PollingStrategy;
+import org.r0bb3n.maven.util.StandInSonarServer;
+
+/**
+ * Smoke test of the polling simulation (few tasks, high time scale, the real runs are started
+ * via {@link PollingSimulation#main(String[])})
+ */
+@Log4j2
+public class PollingSimulationTest {
+
+  private StandInSonarServer server;
+
+  @Before
+  public void setUp() throws Exception {
+    server = new StandInSonarServer(3, 4);
+  }
+
+  @After
+  public void tearDown() {
+    server.close();
+  }
+
+  @Test
+  public void readTimelines() throws Exception {
+    List<PollingSimulation.Timeline> timelines = PollingSimulation.readTimelines(
+        new StringReader("# comment\nqueueMs,processingMs\n100,2000\n\n0, 500\n"));
+
+    assertEquals(List.of(
+        new PollingSimulation.Timeline(Duration.ofMillis(100), Duration.ofMillis(2000)),
+        new PollingSimulation.Timeline(Duration.ZERO, Duration.ofMillis(500))), timelines);
+  }
+
+  @Test
+  public void compareStrategies() throws Exception {
+    List<PollingSimulation.Timeline> timelines = PollingSimulation.readTimelines(
+        new StringReader("0,6000\n1000,8000\n500,10000\n"));
+    PollingSimulation simulation = new PollingSimulation(server, 20);
+
+    PollingSimulation.Result fixed = simulation.run(new PollingSimulation.Scenario("fixed 1s",
+        PollingStrategy.fixed(Duration.ofSeconds(1))), timelines);
+    PollingSimulation.Result backoff = simulation.run(new PollingSimulation.Scenario("backoff",
+        PollingStrategy.backoff(Duration.ofSeconds(1), 2, Duration.ofSeconds(8))), timelines);
+    String table = PollingSimulation.toMarkdown(List.of(fixed, backoff));
+    log.info("simulation:\n{}", table);
+
+    assertThat(fixed.getRequestsMean(), greaterThan(1d));
+    assertThat(fixed.getRequestsMean(), greaterThan(backoff.getRequestsMean()));
+    assertThat(fixed.getTimeToVerdictP50(), greaterThanOrEqualTo(Duration.ofSeconds(6)));
+    assertThat(table, containsString("| fixed 1s "));
+    assertThat(table, containsString("| backoff "));
+  }
+
+}
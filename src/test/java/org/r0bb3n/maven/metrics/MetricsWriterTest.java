@@ -0,0 +1,123 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertEquals;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.stream.Stream;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.r0bb3n.maven.model.Task;
+
+/**
+ * Test cases for {@link MetricsWriter}
+ */
+public class MetricsWriterTest {
+
+  @Rule
+  public TemporaryFolder tmp = new TemporaryFolder();
+
+  private CheckMetrics metrics;
+
+  @Before
+  public void setUp() {
+    metrics = new CheckMetrics("my:\"project\"");
+    metrics.onExchange("api/ce/task", 200, 100, Duration.ofMillis(80));
+    metrics.onExchange("api/ce/task", 200, 120, Duration.ofMillis(300));
+    metrics.onExchange("api/qualitygates/project_status", 404, 50, Duration.ofMillis(20));
+    metrics.onVersionCacheLookup(true);
+    metrics.onConcurrencyLimit(12);
+    metrics.recordTaskPoll();
+    metrics.recordTaskPoll();
+    Task task = new Task();
+    task.setSubmittedAt("2021-02-19T20:43:42+0100");
+    task.setStartedAt("2021-02-19T20:43:45+0100");
+    task.setExecutionTimeMs(1070L);
+    metrics.recordTask(task);
+    metrics.recordVerdict("WARN", Duration.ofSeconds(12));
+  }
+
+  @Test
+  public void writePrometheus() throws Exception {
+    StringWriter writer = new StringWriter();
+    MetricsWriter.writePrometheus(metrics, writer);
+    String out = writer.toString();
+
+    String project = "project=\"my:\\\"project\\\"\"";
+    assertThat(out, containsString("sonar_quality_gate_status{" + project + ",status=\"WARN\"} 1"));
+    assertThat(out, containsString("sonar_quality_gate_status{" + project + ",status=\"OK\"} 0"));
+    assertThat(out,
+        containsString("sonar_quality_gate_time_to_verdict_seconds{" + project + "} 12"));
+    assertThat(out, containsString("sonar_quality_gate_ce_queue_seconds{" + project + "} 3"));
+    assertThat(out, containsString("sonar_quality_gate_ce_processing_seconds{" + project
+        + "} 1.07"));
+    assertThat(out, containsString("sonar_quality_gate_task_polls_total{" + project + "} 2"));
+    assertThat(out, containsString("sonar_quality_gate_http_request_duration_seconds_bucket{"
+        + project + ",endpoint=\"api/ce/task\",le=\"0.1\"} 1"));
+    assertThat(out, containsString("sonar_quality_gate_http_request_duration_seconds_bucket{"
+        + project + ",endpoint=\"api/ce/task\",le=\"0.5\"} 2"));
+    assertThat(out, containsString("sonar_quality_gate_http_errors_total{" + project
+        + ",endpoint=\"api/qualitygates/project_status\"} 1"));
+    assertThat(out, containsString("sonar_quality_gate_http_response_bytes_total{" + project
+        + ",endpoint=\"api/ce/task\"} 220"));
+    assertThat(out, containsString("sonar_quality_gate_version_cache_lookups_total{" + project
+        + ",result=\"hit\"} 1"));
+    assertThat(out, containsString("sonar_quality_gate_http_concurrency_limit{" + project
+        + "} 12"));
+  }
+
+  @Test
+  public void writeJsonFile() throws Exception {
+    Path file = tmp.getRoot().toPath().resolve("metrics/sonar.json");
+    MetricsWriter.write(metrics, file, MetricsWriter.Format.JSON);
+
+    JsonNode root = new ObjectMapper().readTree(file.toFile());
+    assertEquals("WARN", root.path("status").asText());
+    assertEquals(2, root.path("taskPolls").asLong());
+    assertEquals(2, root.path("endpoints").path("api/ce/task").path("requests").asLong());
+    assertEquals(3.0, root.path("ceQueueSeconds").asDouble(), 0.001);
+    assertEquals(12, root.path("httpConcurrencyLimit").asInt());
+    // no temporary files left
+    try (Stream<Path> files = Files.list(file.getParent())) {
+      assertEquals(1, files.count());
+    }
+  }
+
+  @Test
+  public void writeWithoutVerdict() throws Exception {
+    CheckMetrics empty = new CheckMetrics("p");
+    StringWriter writer = new StringWriter();
+    MetricsWriter.writePrometheus(empty, writer);
+
+    assertThat(writer.toString(),
+        containsString("sonar_quality_gate_status{project=\"p\",status=\"UNKNOWN\"} 1"));
+    assertThat(writer.toString(), not(containsString("time_to_verdict")));
+    assertThat(writer.toString(), not(containsString("concurrency_limit")));
+  }
+
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.r0bb3n.maven.mirror;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.absent;
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.net.URL;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.r0bb3n.maven.HttpSettings;
+import org.r0bb3n.maven.SonarConnector;
+import org.r0bb3n.maven.model.ProjectStatus;
+import org.r0bb3n.maven.util.SilentLog;
+import org.r0bb3n.maven.util.StandInSonarServer;
+
+/**
+ * Test cases for {@link MirrorSync} and lookups of {@link SonarConnector} in the mirror
+ */
+public class MirrorSyncTest {
+
+  private static final String ACTIVITY_PATH = "/api/ce/activity";
+  private static final String PROJECT_STATUS_PATH = "/api/qualitygates/project_status";
+
+  @Rule
+  public WireMockRule wireMockRule = new WireMockRule(0);
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private SonarConnector connector;
+  private Path directory;
+
+  @Before
+  public void setUp() throws Exception {
+    connector = new SonarConnector(new SilentLog(), new URL(wireMockRule.baseUrl()), "p1", null,
+        null, HttpSettings.defaults());
+    directory = temporaryFolder.getRoot().toPath().resolve("mirror");
+    stubStatus("A1", "OK");
+    stubStatus("A2", "ERROR");
+    stubStatus("A3", "OK");
+    stubStatus("A4", "ERROR");
+    stubQueue();
+  }
+
+  @After
+  public void tearDown() {
+    connector.close();
+  }
+
+  /**
+   * Full load over several pages, then an incremental sync from the watermark
+   */
+  @Test
+  public void fullAndIncrementalSync() throws Exception {
+    stubActivity(null, 1, 3, task("A1", "p1", null, null, "2021-02-19T10:00:00+0100"),
+        task("A2", "p1", "feature", null, "2021-02-19T11:00:00+0100"));
+    stubActivity(null, 2, 3, task("A3", "p2", null, "42", "2021-02-19T10:30:00+0000"));
+    StatusMirror mirror = StatusMirror.load(directory);
+    MirrorSync sync = MirrorSync.builder().log(new SilentLog()).connector(connector)
+        .mirror(mirror).pageSize(2).build();
+
+    assertEquals(3, sync.sync());
+    assertEquals("2021-02-19T10:30:00+0000", mirror.getWatermark());
+    assertEquals(ProjectStatus.Status.ERROR,
+        mirror.lookup("p1", "feature", null).orElseThrow().getStatus());
+
+    // the latest task is returned again (minSubmittedAt is inclusive), but not requested again
+    stubActivity("2021-02-19T10:30:00+0000", 1, 2,
+        task("A3", "p2", null, "42", "2021-02-19T10:30:00+0000"),
+        task("A4", "p1", null, null, "2021-02-19T12:00:00+0100"));
+    assertEquals(1, sync.sync());
+    assertEquals("A4", StatusMirror.load(directory).lookup("p1", null, null).orElseThrow()
+        .getAnalysisId());
+    verify(1, getRequestedFor(urlPathEqualTo(PROJECT_STATUS_PATH))
+        .withQueryParam("analysisId", equalTo("A3")));
+  }
+
+  /**
+   * An analysis that finishes after a later submitted one is not skipped by the next sync
+   */
+  @Test
+  public void outOfOrderFinish() throws Exception {
+    stubQueue(queuedTask("p1", "2021-02-19T10:00:00+0100"),
+        queuedTask("p3", "2021-02-19T10:45:00+0100"));
+    stubActivity(null, 1, 1, task("A2", "p2", null, null, "2021-02-19T11:00:00+0100"));
+    StatusMirror mirror = StatusMirror.load(directory);
+    MirrorSync sync = MirrorSync.builder().log(new SilentLog()).connector(connector)
+        .mirror(mirror).build();
+
+    assertEquals(1, sync.sync());
+    assertEquals("2021-02-19T10:00:00+0100", mirror.getWatermark());
+
+    stubQueue();
+    stubActivity("2021-02-19T10:00:00+0100", 1, 2,
+        task("A1", "p1", null, null, "2021-02-19T10:00:00+0100"),
+        task("A2", "p2", null, null, "2021-02-19T11:00:00+0100"));
+    assertEquals(1, sync.sync());
+    assertEquals("2021-02-19T11:00:00+0100", mirror.getWatermark());
+    assertEquals("A1", StatusMirror.load(directory).lookup("p1", null, null).orElseThrow()
+        .getAnalysisId());
+    verify(1, getRequestedFor(urlPathEqualTo(PROJECT_STATUS_PATH))
+        .withQueryParam("analysisId", equalTo("A2")));
+  }
+
+  /**
+   * The watermark is kept, if a project status cannot be retrieved
+   */
+  @Test
+  public void watermarkKeptOnError() throws Exception {
+    stubFor(get(urlPathEqualTo(PROJECT_STATUS_PATH)).withQueryParam("analysisId", equalTo("A9"))
+        .willReturn(aResponse().withStatus(500)));
+    stubActivity(null, 1, 2, task("A1", "p1", null, null, "2021-02-19T10:00:00+0100"),
+        task("A9", "p9", null, null, "2021-02-19T11:00:00+0100"));
+    StatusMirror mirror = StatusMirror.load(directory);
+
+    assertEquals(1, MirrorSync.builder().log(new SilentLog()).connector(connector)
+        .mirror(mirror).build().sync());
+    assertNull(mirror.getWatermark());
+  }
+
+  /**
+   * Fresh mirrors answer lookups without request, outdated or incomplete ones do not
+   */
+  @Test
+  public void connectorLookup() throws Exception {
+    stubActivity(null, 1, 1, task("A2", "p1", "feature", null, "2021-02-19T11:00:00+0100"));
+    StatusMirror mirror = StatusMirror.load(directory);
+    MirrorSync.builder().log(new SilentLog()).connector(connector).mirror(mirror).build()
+        .sync();
+    stubFor(get(urlPathEqualTo(PROJECT_STATUS_PATH)).withQueryParam("projectKey", equalTo("p1"))
+        .willReturn(aResponse().withBody(StandInSonarServer.projectStatusJson("OK", 1))));
+
+    connector.setStatusMirror(StatusMirror.load(directory), Duration.ofMinutes(5));
+    ProjectStatus status = connector.retrieveProjectStatus("feature", null);
+    assertEquals(ProjectStatus.Status.ERROR, status.getStatus());
+    assertEquals("metric_0", status.getConditions().get(0).getMetricKey());
+    assertEquals(ProjectStatus.Status.ERROR,
+        connector.retrieveProjectStatusAsync("p1", "feature", null).get().getStatus());
+    verify(0, getRequestedFor(urlPathEqualTo(PROJECT_STATUS_PATH))
+        .withQueryParam("projectKey", equalTo("p1")));
+
+    // not mirrored
+    assertEquals(ProjectStatus.Status.OK,
+        connector.retrieveProjectStatus("other", null).getStatus());
+    // outdated
+    connector.setStatusMirror(StatusMirror.load(directory), Duration.ZERO);
+    Thread.sleep(5);
+    assertEquals(ProjectStatus.Status.OK,
+        connector.retrieveProjectStatus("feature", null).getStatus());
+    verify(2, getRequestedFor(urlPathEqualTo(PROJECT_STATUS_PATH))
+        .withQueryParam("projectKey", equalTo("p1")));
+  }
+
+  private static void stubStatus(String analysisId, String status) {
+    stubFor(get(urlPathEqualTo(PROJECT_STATUS_PATH))
+        .withQueryParam("analysisId", equalTo(analysisId))
+        .willReturn(aResponse().withBody(StandInSonarServer.projectStatusJson(status, 1))));
+  }
+
+  private static void stubActivity(String minSubmittedAt, int page, int total, String... tasks) {
+    stubFor(get(urlPathEqualTo(ACTIVITY_PATH)).withQueryParam("type", equalTo("REPORT"))
+        .withQueryParam("status", equalTo("SUCCESS"))
+        .withQueryParam("onlyCurrents", equalTo("true"))
+        .withQueryParam("minSubmittedAt",
+            minSubmittedAt == null ? absent() : equalTo(minSubmittedAt))
+        .withQueryParam("p", equalTo(String.valueOf(page)))
+        .willReturn(aResponse().withBody(String.format(
+            "{\"paging\":{\"pageIndex\":%d,\"pageSize\":2,\"total\":%d},\"tasks\":[%s]}", page,
+            total, Stream.of(tasks).collect(Collectors.joining(","))))));
+  }
+
+  private static void stubQueue(String... tasks) {
+    stubFor(get(urlPathEqualTo(ACTIVITY_PATH)).withQueryParam("type", equalTo("REPORT"))
+        .withQueryParam("status", equalTo("PENDING,IN_PROGRESS"))
+        .willReturn(aResponse().withBody(String.format(
+            "{\"paging\":{\"pageIndex\":1,\"pageSize\":1000,\"total\":%d},\"tasks\":[%s]}",
+            tasks.length, String.join(",", tasks)))));
+  }
+
+  private static String queuedTask(String componentKey, String submittedAt) {
+    return "{\"id\":\"Q" + componentKey + "\",\"type\":\"REPORT\",\"componentKey\":\""
+        + componentKey + "\",\"status\":\"IN_PROGRESS\",\"submittedAt\":\"" + submittedAt
+        + "\"}";
+  }
+
+  private static String task(String analysisId, String componentKey, String branch,
+      String pullRequest, String submittedAt) {
+    return "{\"id\":\"T" + analysisId + "\",\"type\":\"REPORT\",\"componentKey\":\""
+        + componentKey + "\"," + (branch == null ? "" : "\"branch\":\"" + branch + "\",")
+        + (pullRequest == null ? "" : "\"pullRequest\":\"" + pullRequest + "\",")
+        + "\"analysisId\":\"" + analysisId + "\",\"status\":\"SUCCESS\",\"submittedAt\":\""
+        + submittedAt + "\"}";
+  }
+
+}
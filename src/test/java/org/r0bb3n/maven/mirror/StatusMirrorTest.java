@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.r0bb3n.maven.mirror;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.r0bb3n.maven.model.Condition;
+import org.r0bb3n.maven.model.ProjectStatus;
+
+/**
+ * Test cases for {@link StatusMirror}
+ */
+public class StatusMirrorTest {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private Path directory;
+
+  @Before
+  public void setUp() {
+    directory = temporaryFolder.getRoot().toPath().resolve("mirror");
+  }
+
+  /**
+   * Appended statuses survive a reload, the latest one per key wins
+   */
+  @Test
+  public void appendAndLoad() throws Exception {
+    StatusMirror mirror = StatusMirror.load(directory);
+    assertFalse(mirror.isFresh(Duration.ofDays(1)));
+    assertNull(mirror.getWatermark());
+
+    Instant now = Instant.now();
+    mirror.append(List.of(entry("p", null, null, "A1", ProjectStatus.Status.OK),
+        entry("p", "feature", null, "A2", ProjectStatus.Status.ERROR),
+        entry("p", null, "42", "A3", ProjectStatus.Status.OK)), "2021-02-19T20:43:42+0100", now);
+    mirror.append(List.of(entry("p", null, null, "A4", ProjectStatus.Status.ERROR)),
+        "2021-02-20T08:00:00+0100", now);
+
+    StatusMirror loaded = StatusMirror.load(directory);
+    assertEquals(3, loaded.size());
+    assertEquals("A4", loaded.lookup("p", null, null).orElseThrow().getAnalysisId());
+    assertEquals("A3", loaded.lookup("p", null, "42").orElseThrow().getAnalysisId());
+    ProjectStatus status = loaded.lookup("p", "feature", null).orElseThrow().toProjectStatus();
+    assertEquals(ProjectStatus.Status.ERROR, status.getStatus());
+    assertEquals(2, status.getConditions().size());
+    Condition failed = status.getConditions().get(0);
+    assertEquals("new_coverage", failed.getMetricKey());
+    assertEquals(ProjectStatus.Status.ERROR, failed.getStatus());
+    assertEquals("LT", failed.getComparator());
+    assertEquals("80", failed.getErrorThreshold());
+    assertEquals("42.5", failed.getActualValue());
+    assertEquals(Integer.valueOf(1), failed.getPeriodIndex());
+    assertEquals(ProjectStatus.Status.OK, status.getConditions().get(1).getStatus());
+    assertNull(status.getConditions().get(1).getPeriodIndex());
+    assertEquals("2021-02-20T08:00:00+0100", loaded.getWatermark());
+    assertEquals(now.toEpochMilli(), loaded.getSyncedAt().toEpochMilli());
+    assertTrue(loaded.isFresh(Duration.ofMinutes(1)));
+  }
+
+  /**
+   * The log is compacted into the index, once it outgrows it
+   */
+  @Test
+  public void compaction() throws Exception {
+    StatusMirror mirror = StatusMirror.load(directory);
+    for (int i = 0; i < 11; i++) {
+      List<StatusMirror.Entry> entries = new ArrayList<>();
+      for (int j = 0; j < 100; j++) {
+        entries.add(entry("p" + j, null, null, "A" + i, ProjectStatus.Status.OK));
+      }
+      mirror.append(entries, null, Instant.now());
+    }
+
+    assertFalse(Files.exists(directory.resolve(StatusMirror.LOG_FILE)));
+    mirror.append(List.of(entry("p0", null, null, "A11", ProjectStatus.Status.OK)), null,
+        Instant.now());
+    assertTrue(Files.size(mirror.logFile(1)) < 10_000);
+    StatusMirror loaded = StatusMirror.load(directory);
+    assertEquals(100, loaded.size());
+    assertEquals("A10", loaded.lookup("p99", null, null).orElseThrow().getAnalysisId());
+    assertEquals("A11", loaded.lookup("p0", null, null).orElseThrow().getAnalysisId());
+  }
+
+  /**
+   * Entries of older mirrors only contain {@code metricKey:status} of failed conditions
+   */
+  @Test
+  public void legacyConditions() throws Exception {
+    Files.createDirectories(directory);
+    Files.writeString(directory.resolve(StatusMirror.LOG_FILE),
+        "S\tp\t\t\tERROR\tA1\t2021-02-19T20:43:42+0100\tnew_coverage:ERROR\n",
+        StandardCharsets.UTF_8);
+
+    ProjectStatus status = StatusMirror.load(directory).lookup("p", null, null).orElseThrow()
+        .toProjectStatus();
+    assertEquals("new_coverage", status.getConditions().get(0).getMetricKey());
+    assertEquals(ProjectStatus.Status.ERROR, status.getConditions().get(0).getStatus());
+    assertNull(status.getConditions().get(0).getActualValue());
+  }
+
+  /**
+   * A line that is still being written by another process is ignored
+   */
+  @Test
+  public void incompleteLastLine() throws Exception {
+    StatusMirror.load(directory).append(
+        List.of(entry("p", null, null, "A1", ProjectStatus.Status.OK)), null, Instant.now());
+    Files.writeString(directory.resolve(StatusMirror.LOG_FILE), "S\tp\t\t\tERR",
+        StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+    StatusMirror loaded = StatusMirror.load(directory);
+    assertEquals("A1", loaded.lookup("p", null, null).orElseThrow().getAnalysisId());
+  }
+
+  private static StatusMirror.Entry entry(String projectKey, String branch, String pullRequest,
+      String analysisId, ProjectStatus.Status status) {
+    ProjectStatus projectStatus = new ProjectStatus();
+    projectStatus.setStatus(status);
+    projectStatus.setConditions(new ArrayList<>());
+    if (status != ProjectStatus.Status.OK) {
+      projectStatus.getConditions().add(
+          condition("new_coverage", ProjectStatus.Status.ERROR, "LT", "80", "42.5", 1));
+    }
+    projectStatus.getConditions().add(
+        condition("ncloc", ProjectStatus.Status.OK, "GT", "10:000", "1,234", null));
+    return StatusMirror.Entry.of(projectKey, branch, pullRequest, analysisId,
+        "2021-02-19T20:43:42+0100", projectStatus);
+  }
+
+  private static Condition condition(String metricKey, ProjectStatus.Status status,
+      String comparator, String errorThreshold, String actualValue, Integer periodIndex) {
+    Condition ret = new Condition();
+    ret.setMetricKey(metricKey);
+    ret.setStatus(status);
+    ret.setComparator(comparator);
+    ret.setErrorThreshold(errorThreshold);
+    ret.setActualValue(actualValue);
+    ret.setPeriodIndex(periodIndex);
+    return ret;
+  }
+
+}
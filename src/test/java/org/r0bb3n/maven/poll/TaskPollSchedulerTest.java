@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.poll;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import java.io.IOException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.r0bb3n.maven.HttpSettings;
+import org.r0bb3n.maven.PollingStrategy;
+import org.r0bb3n.maven.SonarConnector;
+import org.r0bb3n.maven.model.Task;
+import org.r0bb3n.maven.util.SilentLog;
+import org.r0bb3n.maven.util.StandInSonarServer;
+
+/**
+ * Test cases for {@link TaskPollScheduler}
+ */
+public class TaskPollSchedulerTest {
+
+  private static final String CE_TASK_PATH = "/api/ce/task";
+
+  @Rule
+  public WireMockRule wireMockRule = new WireMockRule(0);
+
+  private SonarConnector connector;
+
+  private TaskPollScheduler underTest;
+
+  @Before
+  public void setUp() throws Exception {
+    connector = new SonarConnector(new SilentLog(), new URL(wireMockRule.baseUrl()), "p1", null,
+        null, HttpSettings.defaults());
+    underTest = TaskPollScheduler.builder().log(new SilentLog()).connector(connector)
+        .tick(Duration.ofMillis(10)).pollingStrategy(PollingStrategy.fixed(Duration.ofMillis(30)))
+        .attempts(3).build();
+  }
+
+  @After
+  public void tearDown() {
+    underTest.close();
+    connector.close();
+  }
+
+  /**
+   * Ongoing tasks are polled again until they are finished
+   */
+  @Test
+  public void pollUntilFinished() throws Exception {
+    stubFor(get(urlPathEqualTo(CE_TASK_PATH)).inScenario("task").whenScenarioStateIs(STARTED)
+        .willReturn(aResponse().withBody(StandInSonarServer.taskJson("t1", null, "PENDING")))
+        .willSetStateTo("running"));
+    stubFor(get(urlPathEqualTo(CE_TASK_PATH)).inScenario("task").whenScenarioStateIs("running")
+        .willReturn(aResponse().withBody(StandInSonarServer.taskJson("t1", null, "IN_PROGRESS")))
+        .willSetStateTo("done"));
+    stubFor(get(urlPathEqualTo(CE_TASK_PATH)).inScenario("task").whenScenarioStateIs("done")
+        .willReturn(aResponse().withBody(StandInSonarServer.taskJson("t1", "a1", "SUCCESS"))));
+
+    CompletableFuture<Task> result = underTest.track("t1");
+    assertSame("tracked once", result, underTest.track("t1"));
+
+    Task task = result.get(5, TimeUnit.SECONDS);
+    assertEquals(Task.Status.SUCCESS, task.getStatus());
+    assertEquals("a1", task.getAnalysisId());
+    verify(3, getRequestedFor(urlPathEqualTo(CE_TASK_PATH)).withQueryParam("id", equalTo("t1")));
+  }
+
+  /**
+   * Many tasks are tracked by the one scheduler thread
+   */
+  @Test
+  public void manyTasks() throws Exception {
+    stubFor(get(urlPathEqualTo(CE_TASK_PATH))
+        .willReturn(aResponse().withBody(StandInSonarServer.taskJson("t", "a", "SUCCESS"))));
+
+    List<CompletableFuture<Task>> results = IntStream.range(0, 500)
+        .mapToObj(i -> underTest.track("t" + i)).collect(Collectors.toList());
+    CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).get(30, TimeUnit.SECONDS);
+
+    verify(500, getRequestedFor(urlPathEqualTo(CE_TASK_PATH)));
+    assertEquals(0, underTest.getTrackedCount());
+  }
+
+  /**
+   * Tasks that are still ongoing after all attempts fail
+   */
+  @Test
+  public void attemptsExhausted() {
+    stubFor(get(urlPathEqualTo(CE_TASK_PATH))
+        .willReturn(aResponse().withBody(StandInSonarServer.taskJson("t1", null, "PENDING"))));
+
+    ExecutionException e = assertThrows(ExecutionException.class,
+        () -> underTest.track("t1").get(5, TimeUnit.SECONDS));
+    assertThat(e.getCause(), instanceOf(IOException.class));
+    assertThat(e.getCause().getMessage(), containsString("still PENDING after 3 requests"));
+    verify(3, getRequestedFor(urlPathEqualTo(CE_TASK_PATH)));
+  }
+
+  /**
+   * Closing fails all tracked tasks
+   */
+  @Test
+  public void close() {
+    stubFor(get(urlPathEqualTo(CE_TASK_PATH))
+        .willReturn(aResponse().withBody(StandInSonarServer.taskJson("t1", null, "PENDING"))));
+
+    CompletableFuture<Task> result = underTest.track("t1");
+    underTest.close();
+
+    ExecutionException e = assertThrows(ExecutionException.class,
+        () -> result.get(5, TimeUnit.SECONDS));
+    assertThat(e.getCause(), instanceOf(IOException.class));
+    assertTrue("closed", underTest.track("t2").isCompletedExceptionally());
+  }
+
+}
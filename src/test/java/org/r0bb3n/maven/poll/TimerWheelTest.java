@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.poll;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.Assert.assertEquals;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link TimerWheel}
+ */
+public class TimerWheelTest {
+
+  private static final long TICK = Duration.ofMillis(10).toNanos();
+
+  private static final long ORIGIN = 1_000_000;
+
+  private TimerWheel<String> underTest;
+
+  @Before
+  public void setUp() {
+    underTest = new TimerWheel<>(Duration.ofNanos(TICK), 8, ORIGIN);
+  }
+
+  @Test
+  public void dueInTick() {
+    underTest.schedule("a", at(3));
+    underTest.schedule("b", at(3) - TICK / 2);
+    underTest.schedule("c", at(5));
+
+    assertThat(underTest.advance(at(2)), empty());
+    assertThat(underTest.advance(at(3)), containsInAnyOrder("a", "b"));
+    assertThat(underTest.advance(at(4)), empty());
+    assertThat(underTest.advance(at(5) + 1), contains("c"));
+    assertEquals(0, underTest.size());
+  }
+
+  @Test
+  public void severalTurns() {
+    // same bucket as tick 3, but two turns later
+    underTest.schedule("later", at(19));
+    underTest.schedule("now", at(3));
+
+    assertThat(underTest.advance(at(3)), contains("now"));
+    assertThat(underTest.advance(at(11)), empty());
+    assertThat(underTest.advance(at(18)), empty());
+    assertThat(underTest.advance(at(19)), contains("later"));
+  }
+
+  @Test
+  public void catchUpAfterPause() {
+    IntStream.range(1, 100).forEach(i -> underTest.schedule("item" + i, at(i)));
+    assertEquals(99, underTest.size());
+
+    assertThat(underTest.advance(at(1000)), containsInAnyOrder(IntStream.range(1, 100)
+        .mapToObj(i -> "item" + i).collect(Collectors.toList()).toArray(new String[0])));
+    assertEquals(0, underTest.size());
+  }
+
+  @Test
+  public void pastDeadlineOnNextTick() {
+    underTest.advance(at(5));
+    underTest.schedule("late", at(2));
+
+    assertThat(underTest.advance(at(5) + TICK / 2), empty());
+    assertThat(underTest.advance(at(6)), contains("late"));
+  }
+
+  private static long at(int tick) {
+    return ORIGIN + tick * TICK;
+  }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.trace;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+
+import java.time.Duration;
+import java.util.List;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link Tracer}
+ */
+public class TracerTest {
+
+  private static final String TRACEPARENT =
+      "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01";
+
+  @Test
+  public void useTraceContextOfCaller() {
+    Tracer tracer = new Tracer(TRACEPARENT);
+    try (Span root = tracer.startSpan("root")) {
+      try (Span child = tracer.startSpan("child")) {
+        tracer.recordSpan("call", Span.Kind.CLIENT, Duration.ofMillis(5));
+      }
+    }
+
+    List<Span> spans = tracer.getSpans();
+    assertEquals(3, spans.size());
+    Span call = spans.get(0);
+    Span child = spans.get(1);
+    Span root = spans.get(2);
+    assertEquals("0af7651916cd43dd8448eb211c80319c", root.getTraceId());
+    assertEquals("b7ad6b7169203331", root.getParentSpanId());
+    assertEquals(root.getSpanId(), child.getParentSpanId());
+    assertEquals(child.getSpanId(), call.getParentSpanId());
+    assertEquals(Span.Kind.CLIENT, call.getKind());
+    assertEquals(5_000_000L, call.getEndEpochNanos() - call.getStartEpochNanos());
+  }
+
+  @Test
+  public void startNewTraceWithoutValidContext() {
+    Tracer tracer = new Tracer("00-00000000000000000000000000000000-b7ad6b7169203331-01");
+    try (Span root = tracer.startSpan("root")) {
+      root.setAttribute("key", "value");
+    }
+
+    Span root = tracer.getSpans().get(0);
+    assertNotEquals("00000000000000000000000000000000", root.getTraceId());
+    assertEquals(32, root.getTraceId().length());
+    assertNull(root.getParentSpanId());
+    assertEquals(16, new Tracer(null).startSpan("x").getSpanId().length());
+  }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.transport;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Test cases for {@link ConcurrencyLimiter}
+ */
+public class ConcurrencyLimiterTest {
+
+  private static final Duration FAST = Duration.ofMillis(10);
+
+  private List<Integer> changes;
+
+  private ConcurrencyLimiter underTest;
+
+  @Before
+  public void setUp() {
+    changes = new ArrayList<>();
+    underTest = new ConcurrencyLimiter(4, 8, changes::add);
+  }
+
+  @Test
+  public void growsWhileHealthy() {
+    for (int i = 0; i < 100; i++) {
+      saturate();
+    }
+    assertEquals(8, underTest.getLimit());
+    assertThat(changes, contains(5, 6, 7, 8));
+  }
+
+  @Test
+  public void shrinksOnOverload() {
+    underTest.acquire();
+    underTest.release(FAST, true);
+    assertEquals(3, underTest.getLimit());
+    assertThat(changes, contains(3));
+  }
+
+  @Test
+  public void shrinksOnSlowResponses() {
+    saturate();
+    for (int i = 0; i < 3; i++) {
+      underTest.acquire();
+      underTest.release(FAST.multipliedBy(3), false);
+    }
+    assertThat(underTest.getLimit(), lessThan(4));
+  }
+
+  @Test
+  public void queuesAboveLimit() {
+    List<CompletableFuture<Void>> permits = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      permits.add(underTest.acquire());
+    }
+    assertEquals(4, underTest.getInFlight());
+    CompletableFuture<Void> queued = permits.get(4);
+    assertFalse(queued.isDone());
+
+    underTest.release(FAST, false);
+    assertTrue(queued.isDone());
+    assertEquals(4, underTest.getInFlight());
+  }
+
+  @Test
+  public void abandonQueued() {
+    for (int i = 0; i < 4; i++) {
+      underTest.acquire();
+    }
+    CompletableFuture<Void> queued = underTest.acquire();
+    underTest.abandon(queued);
+    underTest.release(null, false);
+    assertFalse(queued.isDone());
+    assertEquals(3, underTest.getInFlight());
+    assertThat(underTest.getLimit(), greaterThan(0));
+  }
+
+  @Test
+  public void invalidLimits() {
+    assertThrows(IllegalArgumentException.class, () -> new ConcurrencyLimiter(0, 8, l -> {
+    }));
+    assertThrows(IllegalArgumentException.class, () -> new ConcurrencyLimiter(4, 2, l -> {
+    }));
+  }
+
+  /**
+   * use all permits and release them fast and without error
+   */
+  private void saturate() {
+    int limit = underTest.getLimit();
+    for (int i = 0; i < limit; i++) {
+      underTest.acquire();
+    }
+    for (int i = 0; i < limit; i++) {
+      underTest.release(FAST, false);
+    }
+  }
+
+}
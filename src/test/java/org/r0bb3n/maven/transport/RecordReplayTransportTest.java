@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.transport;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.junit.WireMockRule;
+import com.github.tomakehurst.wiremock.stubbing.Scenario;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpTimeoutException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.r0bb3n.maven.HttpSettings;
+import org.r0bb3n.maven.SonarConnector;
+import org.r0bb3n.maven.model.Task;
+import org.r0bb3n.maven.util.SilentLog;
+import org.r0bb3n.maven.util.StandInSonarServer;
+
+/**
+ * Test cases for {@link RecordingHttpTransport} and {@link ReplayHttpTransport}
+ */
+public class RecordReplayTransportTest {
+
+  private static final String TASK_PATH = "/api/ce/task?id=AXtask";
+
+  @Rule
+  public WireMockRule wireMockRule = new WireMockRule(0);
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private Path recording;
+  private URL sonarHostUrl;
+
+  @Before
+  public void setUp() throws Exception {
+    sonarHostUrl = new URL("http://localhost:" + wireMockRule.port());
+    recording = temporaryFolder.getRoot().toPath().resolve("rec/sonar.ndjson");
+    stubFor(get(urlEqualTo(TASK_PATH)).inScenario("ce").whenScenarioStateIs(Scenario.STARTED)
+        .willReturn(aResponse().withFixedDelay(150).withHeader("Sonar-Version", "9.9.0.65466")
+            .withHeader("Set-Cookie", "JSESSIONID=secret")
+            .withBody(StandInSonarServer.taskJson("AXtask", "AXanalysis", "PENDING")))
+        .willSetStateTo("done"));
+    stubFor(get(urlEqualTo(TASK_PATH)).inScenario("ce").whenScenarioStateIs("done")
+        .willReturn(aResponse().withFixedDelay(150)
+            .withBody(StandInSonarServer.taskJson("AXtask", "AXanalysis", "SUCCESS"))));
+  }
+
+  /**
+   * Recorded exchanges are replayed in order with the recorded latency, without the server
+   */
+  @Test
+  public void recordAndReplay() throws Exception {
+    try (SonarConnector connector = createConnector(RecordingMode.RECORD, 1)) {
+      assertEquals(Task.Status.PENDING, connector.retrieveTask("AXtask").getStatus());
+      assertEquals(Task.Status.SUCCESS, connector.retrieveTask("AXtask").getStatus());
+    }
+    String content = Files.readString(recording);
+    assertEquals(2, content.lines().count());
+    assertThat(content, containsString("\"request\":\"" + TASK_PATH + "\""));
+    assertThat(content, not(containsString("secret")));
+    assertThat(content, not(containsString("Authorization")));
+    wireMockRule.stop();
+
+    try (SonarConnector connector = createConnector(RecordingMode.REPLAY, 1)) {
+      long start = System.nanoTime();
+      assertEquals(Task.Status.PENDING, connector.retrieveTask("AXtask").getStatus());
+      assertThat(Duration.ofNanos(System.nanoTime() - start),
+          greaterThanOrEqualTo(Duration.ofMillis(140)));
+      assertEquals(Task.Status.SUCCESS, connector.retrieveTask("AXtask").getStatus());
+      // last exchange is repeated
+      assertEquals(Task.Status.SUCCESS, connector.retrieveTask("AXtask").getStatus());
+    }
+    try (SonarConnector connector = createConnector(RecordingMode.REPLAY, 0)) {
+      long start = System.nanoTime();
+      connector.retrieveTask("AXtask");
+      connector.retrieveTask("AXtask");
+      assertThat(Duration.ofNanos(System.nanoTime() - start), lessThan(Duration.ofMillis(140)));
+    }
+  }
+
+  /**
+   * Requests not contained in the recording fail
+   */
+  @Test
+  public void replayUnknownRequest() throws Exception {
+    Files.createDirectories(recording.getParent());
+    Files.writeString(recording, "");
+    try (ReplayHttpTransport transport = new ReplayHttpTransport(recording, 1)) {
+      TransportRequest request = TransportRequest.builder()
+          .uri(URI.create("http://localhost/api/ce/task?id=other")).build();
+      IOException e = assertThrows(IOException.class, () -> transport.send(request));
+      assertThat(e.getMessage(), containsString("/api/ce/task?id=other"));
+    }
+  }
+
+  /**
+   * Scaled latency above the request timeout leads to a timeout, recorded errors are replayed
+   */
+  @Test
+  public void replayTimeoutAndError() throws Exception {
+    RecordedExchange slow = new RecordedExchange();
+    slow.setRequest("/api/ce/task?id=slow");
+    slow.setLatencyMs(5000);
+    slow.setStatusCode(200);
+    slow.setBody("{}");
+    RecordedExchange broken = new RecordedExchange();
+    broken.setRequest("/api/ce/task?id=broken");
+    broken.setError("ConnectException: Connection refused");
+    ObjectMapper mapper = new ObjectMapper();
+    Files.createDirectories(recording.getParent());
+    Files.write(recording,
+        List.of(mapper.writeValueAsString(slow), mapper.writeValueAsString(broken)));
+
+    try (ReplayHttpTransport transport = new ReplayHttpTransport(recording, 1)) {
+      TransportRequest timeout = TransportRequest.builder()
+          .uri(URI.create("http://localhost/api/ce/task?id=slow"))
+          .timeout(Duration.ofMillis(50)).build();
+      assertThrows(HttpTimeoutException.class, () -> transport.send(timeout));
+      TransportRequest error = TransportRequest.builder()
+          .uri(URI.create("http://localhost/api/ce/task?id=broken")).build();
+      ExecutionException e = assertThrows(ExecutionException.class,
+          () -> transport.sendAsync(error).get());
+      assertThat(e.getCause().getMessage(), containsString("Connection refused"));
+    }
+  }
+
+  private SonarConnector createConnector(RecordingMode mode, double latencyScale)
+      throws Exception {
+    return new SonarConnector(new SilentLog(), sonarHostUrl, "project", "token", null,
+        HttpSettings.builder().recordingMode(mode).recordingFile(recording)
+            .replayLatencyScale(latencyScale).build());
+  }
+
+}
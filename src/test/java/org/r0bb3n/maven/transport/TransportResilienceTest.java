@@ -0,0 +1,245 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.transport;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.junit.After;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.r0bb3n.maven.HttpSettings;
+import org.r0bb3n.maven.ReportTask;
+import org.r0bb3n.maven.SonarConnector;
+import org.r0bb3n.maven.SonarQualityGateMojo;
+import org.r0bb3n.maven.model.Task;
+import org.r0bb3n.maven.util.FaultProxy;
+import org.r0bb3n.maven.util.FaultProxy.Fault;
+import org.r0bb3n.maven.util.MojoConfigurator;
+import org.r0bb3n.maven.util.SilentLog;
+import org.r0bb3n.maven.util.StandInSonarServer;
+
+/**
+ * Resilience of all HTTP transports against faulty connections (injected by {@link FaultProxy}):
+ * each call has to fail or succeed within bounded time, a broken connection must never hang the
+ * build.
+ */
+@Log4j2
+@RequiredArgsConstructor
+@RunWith(Parameterized.class)
+public class TransportResilienceTest {
+
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(1);
+
+  /**
+   * upper limit for any call, way below the time a hanging test would take
+   */
+  private static final Duration HARD_LIMIT = Duration.ofSeconds(15);
+
+  /**
+   * create test data
+   */
+  @Parameterized.Parameters(name = "transport: {0}")
+  public static Iterable<Object[]> generateTestData() {
+    return Arrays.asList(new Object[]{"jdk"}, new Object[]{"apache"});
+  }
+
+  private final String transport;
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private StandInSonarServer server;
+  private FaultProxy proxy;
+  private SonarConnector connector;
+  private ExecutorService caller;
+
+  @Before
+  public void setUp() throws Exception {
+    server = new StandInSonarServer(10, 4);
+    proxy = new FaultProxy(server.getUrl());
+    connector = new SonarConnector(new SilentLog(), proxy.getUrl(), "project", null, null,
+        HttpSettings.builder().transport(transport).requestTimeout(REQUEST_TIMEOUT)
+            .connectTimeout(REQUEST_TIMEOUT).build());
+    caller = Executors.newSingleThreadExecutor();
+  }
+
+  @After
+  public void tearDown() {
+    caller.shutdownNow();
+    connector.close();
+    proxy.close();
+    server.close();
+  }
+
+  @Test
+  public void connectionResetFailsFast() throws Exception {
+    proxy.setFault(Fault.reset());
+    Outcome outcome = retrieveTask();
+    assertThat(outcome.error, instanceOf(IOException.class));
+    assertThat(outcome.duration, lessThan(REQUEST_TIMEOUT));
+  }
+
+  @Test
+  public void slowFirstByteWithinTimeoutSucceeds() throws Exception {
+    proxy.setFault(Fault.slowFirstByte(REQUEST_TIMEOUT.dividedBy(4)));
+    Outcome outcome = retrieveTask();
+    assertEquals(null, outcome.error);
+    assertThat(outcome.duration, greaterThanOrEqualTo(REQUEST_TIMEOUT.dividedBy(4)));
+  }
+
+  @Test
+  public void slowFirstByteBeyondTimeoutFails() throws Exception {
+    proxy.setFault(Fault.slowFirstByte(REQUEST_TIMEOUT.multipliedBy(5)));
+    Outcome outcome = retrieveTask();
+    assertThat(outcome.error, instanceOf(IOException.class));
+    assertThat(outcome.duration, lessThan(REQUEST_TIMEOUT.multipliedBy(3)));
+  }
+
+  @Test
+  public void stalledSocketFailsAfterTimeout() throws Exception {
+    proxy.setFault(Fault.stall());
+    Outcome outcome = retrieveTask();
+    assertThat(outcome.error, instanceOf(IOException.class));
+    assertThat(outcome.duration, greaterThanOrEqualTo(REQUEST_TIMEOUT.minusMillis(100)));
+    assertThat(outcome.duration, lessThan(REQUEST_TIMEOUT.multipliedBy(3)));
+  }
+
+  @Test
+  public void partialBodyFailsFast() throws Exception {
+    proxy.setFault(Fault.partialBody(20));
+    Outcome outcome = retrieveTask();
+    assertThat(outcome.error, instanceOf(IOException.class));
+    assertThat(outcome.duration, lessThan(REQUEST_TIMEOUT));
+  }
+
+  /**
+   * Headers and part of the body arrive, then the (half-open) connection stays silent
+   */
+  @Test
+  public void stalledBodyFailsAfterTimeout() throws Exception {
+    proxy.setFault(Fault.stalledBody(20));
+    Outcome outcome = retrieveTask();
+    assertThat(outcome.error, instanceOf(IOException.class));
+    assertThat(outcome.duration, lessThan(REQUEST_TIMEOUT.multipliedBy(3)));
+  }
+
+  @Test
+  public void bandwidthLimitSlowsDownButSucceeds() throws Exception {
+    // project status of 10 conditions is ~1.5 KiB plus headers
+    proxy.setFault(Fault.bandwidth(4096));
+    long start = System.nanoTime();
+    Future<?> call = caller.submit(() -> connector.retrieveProjectStatusByAnalysisId("AXa"));
+    call.get(HARD_LIMIT.toMillis(), TimeUnit.MILLISECONDS);
+    assertThat(Duration.ofNanos(System.nanoTime() - start),
+        greaterThanOrEqualTo(Duration.ofMillis(200)));
+  }
+
+  /**
+   * The connector recovers as soon as the connection is healthy again (a single reset is already
+   * compensated by the transports, they retry idempotent requests once on a new connection)
+   */
+  @Test
+  public void recoversAfterFaults() throws Exception {
+    proxy.setSchedule(List.of(Fault.reset(), Fault.NONE));
+    assertEquals(null, retrieveTask().error);
+    proxy.setSchedule(List.of(Fault.stall(), Fault.NONE));
+    connector.close();
+    connector = new SonarConnector(new SilentLog(), proxy.getUrl(), "project", null, null,
+        HttpSettings.builder().transport(transport).requestTimeout(REQUEST_TIMEOUT).build());
+    assertThat(retrieveTask().error, instanceOf(IOException.class));
+    Outcome outcome = retrieveTask();
+    assertEquals(null, outcome.error);
+    assertThat(outcome.duration, lessThan(REQUEST_TIMEOUT));
+  }
+
+  /**
+   * A half-open connection fails goal {@code check} within the request timeout instead of hanging
+   * the build
+   */
+  @Test
+  public void checkFailsOnHalfOpenConnection() throws Exception {
+    Path reportTask = ReportTask.resolve(temporaryFolder.getRoot().toString());
+    Files.createDirectories(reportTask.getParent());
+    Files.writeString(reportTask, ReportTask.KEY_CE_TASK_ID + "=AXtask");
+    SonarQualityGateMojo mojo = new SonarQualityGateMojo();
+    mojo.setLog(new SilentLog());
+    MojoConfigurator.configure(mojo).applyDefaults().setSonarHostUrl(proxy.getUrl())
+        .setSonarProjectKey("project").setHttpTransport(transport)
+        .setHttpRequestTimeoutS((int) REQUEST_TIMEOUT.toSeconds())
+        .setProjectBuildDirectory(temporaryFolder.getRoot().toString());
+    proxy.setFault(Fault.stalledBody(20));
+
+    long start = System.nanoTime();
+    Future<?> call = caller.submit(() -> {
+      mojo.execute();
+      return null;
+    });
+    ExecutionException e = assertThrows(ExecutionException.class,
+        () -> call.get(HARD_LIMIT.toMillis(), TimeUnit.MILLISECONDS));
+    assertThat(e.getCause(), instanceOf(MojoExecutionException.class));
+    assertThat(Duration.ofNanos(System.nanoTime() - start),
+        lessThan(REQUEST_TIMEOUT.multipliedBy(3)));
+  }
+
+  /**
+   * Run {@link SonarConnector#retrieveTask(String)}, fail the test if it does not return within
+   * {@link #HARD_LIMIT}
+   */
+  private Outcome retrieveTask() throws Exception {
+    long start = System.nanoTime();
+    Future<Task> call = caller.submit(() -> connector.retrieveTask("AXtask"));
+    Throwable error = null;
+    try {
+      call.get(HARD_LIMIT.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (ExecutionException e) {
+      error = e.getCause();
+    }
+    Outcome outcome = new Outcome(Duration.ofNanos(System.nanoTime() - start), error);
+    log.info("{}: {} after {} ms", transport, error, outcome.duration.toMillis());
+    return outcome;
+  }
+
+  @RequiredArgsConstructor
+  private static class Outcome {
+    final Duration duration;
+    final Throwable error;
+  }
+
+}
@@ -0,0 +1,303 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URL;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * TCP proxy between client and a (stand-in) server that injects faults into the connections:
+ * connection resets, slow first byte, bandwidth limits, partial bodies and stalled sockets. Which
+ * fault a connection gets is scripted by a schedule over the connection index, see
+ * {@link #setSchedule(List)}. Faults are applied to the response direction; requests are
+ * forwarded unchanged.
+ */
+public class FaultProxy implements AutoCloseable {
+
+  private static final byte[] HEADER_END = {'\r', '\n', '\r', '\n'};
+
+  private final ServerSocket serverSocket;
+  private final InetSocketAddress target;
+  private final Set<Socket> sockets = ConcurrentHashMap.newKeySet();
+  private final AtomicInteger connections = new AtomicInteger();
+  private volatile IntFunction<Fault> schedule = i -> Fault.NONE;
+
+  /**
+   * Start proxy on a free port of the loopback interface
+   *
+   * @param targetUrl url of the server to forward to
+   * @throws IOException proxy cannot be started
+   */
+  public FaultProxy(URL targetUrl) throws IOException {
+    target = new InetSocketAddress(targetUrl.getHost(), targetUrl.getPort());
+    serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+    Thread acceptor = new Thread(this::accept, "fault-proxy");
+    acceptor.setDaemon(true);
+    acceptor.start();
+  }
+
+  /**
+   * Get the url of the proxy
+   *
+   * @return url to use as {@code sonar.host.url}
+   * @throws IOException invalid url
+   */
+  public URL getUrl() throws IOException {
+    return new URL("http://" + serverSocket.getInetAddress().getHostAddress() + ":"
+        + serverSocket.getLocalPort());
+  }
+
+  /**
+   * Apply the same fault to all connections
+   *
+   * @param fault fault to inject
+   */
+  public void setFault(Fault fault) {
+    schedule = i -> fault;
+  }
+
+  /**
+   * Apply the faults in order to the following connections, the last one is repeated
+   *
+   * @param faults fault per connection
+   */
+  public void setSchedule(List<Fault> faults) {
+    int offset = connections.get();
+    schedule = i -> faults.get(Math.min(i - offset, faults.size() - 1));
+  }
+
+  /**
+   * Get the number of accepted client connections
+   *
+   * @return count
+   */
+  public int getConnections() {
+    return connections.get();
+  }
+
+  @Override
+  public void close() {
+    closeQuietly(serverSocket);
+    sockets.forEach(FaultProxy::closeQuietly);
+  }
+
+  private void accept() {
+    while (!serverSocket.isClosed()) {
+      try {
+        Socket client = serverSocket.accept();
+        Fault fault = schedule.apply(connections.getAndIncrement());
+        sockets.add(client);
+        startDaemon(() -> handle(client, fault));
+      } catch (IOException e) {
+        // closed
+      }
+    }
+  }
+
+  private void handle(Socket client, Fault fault) {
+    try (Socket server = new Socket(target.getAddress(), target.getPort())) {
+      sockets.add(server);
+      startDaemon(() -> forwardRequests(client, server, fault));
+      forwardResponses(server, client, fault);
+    } catch (IOException e) {
+      closeQuietly(client);
+    }
+  }
+
+  private void forwardRequests(Socket client, Socket server, Fault fault) {
+    try {
+      InputStream in = client.getInputStream();
+      OutputStream out = server.getOutputStream();
+      byte[] buffer = new byte[8192];
+      int read;
+      while ((read = in.read(buffer)) >= 0) {
+        if (fault.isReset()) {
+          // RST instead of FIN
+          client.setSoLinger(true, 0);
+          closeQuietly(client);
+          closeQuietly(server);
+          return;
+        }
+        out.write(buffer, 0, read);
+        out.flush();
+      }
+    } catch (IOException e) {
+      // connection closed
+    }
+    closeQuietly(server);
+  }
+
+  private void forwardResponses(Socket server, Socket client, Fault fault) throws IOException {
+    InputStream in = server.getInputStream();
+    OutputStream out = client.getOutputStream();
+    byte[] buffer = new byte[fault.getBytesPerSecond() > 0
+        ? (int) Math.max(1, Math.min(8192, fault.getBytesPerSecond() / 20)) : 8192];
+    boolean first = true;
+    int headerMatch = 0;
+    long bodyBytes = -1;
+    int read;
+    while ((read = in.read(buffer)) >= 0) {
+      if (fault.isStall()) {
+        // swallow everything, keep the client connection open
+        continue;
+      }
+      if (first && !fault.getFirstByteDelay().isZero()) {
+        sleep(fault.getFirstByteDelay().toMillis());
+      }
+      first = false;
+      int forward = read;
+      for (int i = 0; i < read && fault.getBodyBytesLimit() >= 0; i++) {
+        if (bodyBytes >= 0) {
+          if (bodyBytes++ >= fault.getBodyBytesLimit()) {
+            forward = i;
+            break;
+          }
+        } else if (buffer[i] == HEADER_END[headerMatch]) {
+          if (++headerMatch == HEADER_END.length) {
+            bodyBytes = 0;
+          }
+        } else {
+          headerMatch = buffer[i] == HEADER_END[0] ? 1 : 0;
+        }
+      }
+      out.write(buffer, 0, forward);
+      out.flush();
+      if (forward < read) {
+        if (fault.isStallAfterLimit()) {
+          // half-open: the rest of the body never arrives, the connection stays open
+          while (in.read(buffer) >= 0) {
+            // swallow
+          }
+          return;
+        }
+        closeQuietly(client);
+        return;
+      }
+      if (fault.getBytesPerSecond() > 0) {
+        sleep(read * 1000L / fault.getBytesPerSecond());
+      }
+    }
+    closeQuietly(client);
+  }
+
+  private static void startDaemon(Runnable runnable) {
+    Thread thread = new Thread(runnable, "fault-proxy-connection");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void closeQuietly(AutoCloseable closeable) {
+    try {
+      closeable.close();
+    } catch (Exception e) {
+      // ignore
+    }
+  }
+
+  /**
+   * Fault applied to one connection
+   */
+  @Value
+  @Builder(toBuilder = true)
+  public static class Fault {
+
+    /**
+     * forward everything unchanged
+     */
+    public static final Fault NONE = Fault.builder().build();
+
+    /**
+     * reset the connection as soon as the client sends a request
+     */
+    boolean reset;
+
+    /**
+     * never send any response byte, but keep the connection open
+     */
+    boolean stall;
+
+    /**
+     * delay before the first response byte
+     */
+    @Builder.Default
+    Duration firstByteDelay = Duration.ZERO;
+
+    /**
+     * maximum response throughput ({@code 0}: unlimited)
+     */
+    long bytesPerSecond;
+
+    /**
+     * number of response body bytes (after the first header block) forwarded before the
+     * connection is closed or stalled ({@code -1}: unlimited)
+     */
+    @Builder.Default
+    long bodyBytesLimit = -1;
+
+    /**
+     * keep the connection open after {@link #bodyBytesLimit} instead of closing it
+     */
+    boolean stallAfterLimit;
+
+    public static Fault reset() {
+      return Fault.builder().reset(true).build();
+    }
+
+    public static Fault stall() {
+      return Fault.builder().stall(true).build();
+    }
+
+    public static Fault slowFirstByte(Duration delay) {
+      return Fault.builder().firstByteDelay(delay).build();
+    }
+
+    public static Fault bandwidth(long bytesPerSecond) {
+      return Fault.builder().bytesPerSecond(bytesPerSecond).build();
+    }
+
+    public static Fault partialBody(long bodyBytes) {
+      return Fault.builder().bodyBytesLimit(bodyBytes).build();
+    }
+
+    public static Fault stalledBody(long bodyBytes) {
+      return Fault.builder().bodyBytesLimit(bodyBytes).stallAfterLimit(true).build();
+    }
+  }
+
+}
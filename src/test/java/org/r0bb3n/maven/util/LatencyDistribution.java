@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.util;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Distribution of durations (response latencies, queue and processing times of compute engine
+ * tasks) used by {@link StandInSonarServer}
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+  /**
+   * Draw a duration
+   *
+   * @param random source of randomness
+   * @return duration, never negative
+   */
+  Duration sample(Random random);
+
+  /**
+   * Always the same duration
+   *
+   * @param duration duration
+   * @return distribution
+   */
+  static LatencyDistribution fixed(Duration duration) {
+    return random -> duration;
+  }
+
+  /**
+   * Uniformly distributed between min and max
+   *
+   * @param min lower bound
+   * @param max upper bound
+   * @return distribution
+   */
+  static LatencyDistribution uniform(Duration min, Duration max) {
+    long range = max.toNanos() - min.toNanos();
+    return random -> min.plusNanos((long) (random.nextDouble() * range));
+  }
+
+  /**
+   * Log-normal distribution, typical for response times (long tail)
+   *
+   * @param median median duration
+   * @param sigma standard deviation of the underlying normal distribution, e.g. 0.5
+   * @return distribution
+   */
+  static LatencyDistribution logNormal(Duration median, double sigma) {
+    return random -> Duration.ofNanos(
+        (long) (median.toNanos() * Math.exp(sigma * random.nextGaussian())));
+  }
+
+  /**
+   * Parse a distribution from a short specification: {@code fixed:20ms},
+   * {@code uniform:10ms-50ms} or {@code lognormal:20ms,0.5} (units: ms, s, m)
+   *
+   * @param spec specification
+   * @return distribution
+   * @throws IllegalArgumentException invalid specification
+   */
+  static LatencyDistribution parse(String spec) {
+    String[] parts = spec.trim().split(":", 2);
+    if (parts.length != 2) {
+      throw new IllegalArgumentException("Invalid distribution: " + spec);
+    }
+    switch (parts[0].toLowerCase()) {
+      case "fixed":
+        return fixed(parseDuration(parts[1]));
+      case "uniform":
+        String[] bounds = parts[1].split("-", 2);
+        return uniform(parseDuration(bounds[0]), parseDuration(bounds[1]));
+      case "lognormal":
+        String[] args = parts[1].split(",", 2);
+        return logNormal(parseDuration(args[0]), Double.parseDouble(args[1]));
+      default:
+        throw new IllegalArgumentException("Unknown distribution: " + parts[0]);
+    }
+  }
+
+  /**
+   * Parse a duration like {@code 250ms}, {@code 3s} or {@code 2m}
+   *
+   * @param value duration with unit
+   * @return duration
+   * @throws IllegalArgumentException invalid value
+   */
+  static Duration parseDuration(String value) {
+    Matcher m = Pattern.compile("^(\\d+(?:\\.\\d+)?)(ms|s|m)$").matcher(value.trim());
+    if (!m.matches()) {
+      throw new IllegalArgumentException("Invalid duration: " + value);
+    }
+    double amount = Double.parseDouble(m.group(1));
+    long factorMs = "ms".equals(m.group(2)) ? 1 : "s".equals(m.group(2)) ? 1_000 : 60_000;
+    return Duration.ofNanos((long) (amount * factorMs * 1_000_000));
+  }
+
+}
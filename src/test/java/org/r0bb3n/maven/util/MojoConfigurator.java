@@ -16,12 +16,28 @@
 
 package org.r0bb3n.maven.util;
 
+import java.io.File;
 import java.lang.reflect.Field;
 import java.net.URL;
+import java.net.http.HttpClient;
+import java.util.List;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
+import org.apache.maven.execution.MavenSession;
 import org.apache.maven.plugins.annotations.Parameter;
+import org.r0bb3n.maven.AbstractSonarMojo;
+import org.r0bb3n.maven.Policy;
+import org.r0bb3n.maven.PollingStrategy;
+import org.r0bb3n.maven.SonarBatchMojo;
+import org.r0bb3n.maven.SonarHistoryMojo;
+import org.r0bb3n.maven.SonarPrepareMojo;
 import org.r0bb3n.maven.SonarQualityGateMojo;
+import org.r0bb3n.maven.SonarSyncMojo;
+import org.r0bb3n.maven.TimeBudget;
+import org.r0bb3n.maven.issues.IssueReport;
+import org.r0bb3n.maven.json.ResponseParser;
+import org.r0bb3n.maven.metrics.MetricsWriter;
+import org.r0bb3n.maven.transport.RecordingMode;
 
 /**
  * Util that provides allows configuring of a Mojo.
@@ -32,9 +48,9 @@ import org.r0bb3n.maven.SonarQualityGateMojo;
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public class MojoConfigurator {
 
-  private final SonarQualityGateMojo mojo;
+  private final AbstractSonarMojo mojo;
 
-  public static MojoConfigurator configure(SonarQualityGateMojo mojo) {
+  public static MojoConfigurator configure(AbstractSonarMojo mojo) {
     return new MojoConfigurator(mojo);
   }
 
@@ -62,6 +78,11 @@ public class MojoConfigurator {
     return this;
   }
 
+  public MojoConfigurator setSession(MavenSession session) throws Exception {
+    setField("session", session);
+    return this;
+  }
+
   public MojoConfigurator setSkip(boolean skip) throws Exception {
     setField("skip", skip);
     return this;
@@ -88,21 +109,275 @@ public class MojoConfigurator {
     return this;
   }
 
+  public MojoConfigurator setReportTaskWaitS(int reportTaskWaitS) throws Exception {
+    setField("reportTaskWaitS", reportTaskWaitS);
+    return this;
+  }
+
   public MojoConfigurator setCheckTaskIntervalS(int checkTaskIntervalS) throws Exception {
     setField("checkTaskIntervalS", checkTaskIntervalS);
     return this;
   }
 
+  public MojoConfigurator setCheckTaskStrategy(PollingStrategy.Type checkTaskStrategy)
+      throws Exception {
+    setField("checkTaskStrategy", checkTaskStrategy);
+    return this;
+  }
+
+  public MojoConfigurator setCheckTaskBackoffFactor(double checkTaskBackoffFactor)
+      throws Exception {
+    setField("checkTaskBackoffFactor", checkTaskBackoffFactor);
+    return this;
+  }
+
+  public MojoConfigurator setCheckTaskMaxIntervalS(int checkTaskMaxIntervalS) throws Exception {
+    setField("checkTaskMaxIntervalS", checkTaskMaxIntervalS);
+    return this;
+  }
+
+  public MojoConfigurator setProjectBuildDirectory(String projectBuildDirectory)
+      throws Exception {
+    setField("projectBuildDirectory", projectBuildDirectory);
+    return this;
+  }
+
+  public MojoConfigurator setValidateAuth(boolean validateAuth) throws Exception {
+    setField("validateAuth", validateAuth);
+    return this;
+  }
+
+  public MojoConfigurator setVersionCacheFile(File versionCacheFile) throws Exception {
+    setField("versionCacheFile", versionCacheFile);
+    return this;
+  }
+
+  public MojoConfigurator setVersionCacheTtlS(int versionCacheTtlS) throws Exception {
+    setField("versionCacheTtlS", versionCacheTtlS);
+    return this;
+  }
+
+  public MojoConfigurator setRecordingMode(RecordingMode recordingMode) throws Exception {
+    setField("recordingMode", recordingMode);
+    return this;
+  }
+
+  public MojoConfigurator setRecordingFile(File recordingFile) throws Exception {
+    setField("recordingFile", recordingFile);
+    return this;
+  }
+
+  public MojoConfigurator setRecordingLatencyScale(double recordingLatencyScale)
+      throws Exception {
+    setField("recordingLatencyScale", recordingLatencyScale);
+    return this;
+  }
+
+  public MojoConfigurator setResponseParser(ResponseParser.Type responseParser)
+      throws Exception {
+    setField("responseParser", responseParser);
+    return this;
+  }
+
+  public MojoConfigurator setMetricsFile(File metricsFile) throws Exception {
+    setField("metricsFile", metricsFile);
+    return this;
+  }
+
+  public MojoConfigurator setMetricsFormat(MetricsWriter.Format metricsFormat) throws Exception {
+    setField("metricsFormat", metricsFormat);
+    return this;
+  }
+
+  public MojoConfigurator setIssuesFile(File issuesFile) throws Exception {
+    setField("issuesFile", issuesFile);
+    return this;
+  }
+
+  public MojoConfigurator setIssuesFormat(IssueReport.Format issuesFormat) throws Exception {
+    setField("issuesFormat", issuesFormat);
+    return this;
+  }
+
+  public MojoConfigurator setIssuesPageSize(int issuesPageSize) throws Exception {
+    setField("issuesPageSize", issuesPageSize);
+    return this;
+  }
+
+  public MojoConfigurator setIssuesPrefetch(int issuesPrefetch) throws Exception {
+    setField("issuesPrefetch", issuesPrefetch);
+    return this;
+  }
+
+  public MojoConfigurator setMirrorDir(File mirrorDir) throws Exception {
+    setField("mirrorDir", mirrorDir);
+    return this;
+  }
+
+  public MojoConfigurator setMirrorMaxAgeS(int mirrorMaxAgeS) throws Exception {
+    setField("mirrorMaxAgeS", mirrorMaxAgeS);
+    return this;
+  }
+
+  public MojoConfigurator setSyncIntervalS(int syncIntervalS) throws Exception {
+    setField("syncIntervalS", syncIntervalS);
+    return this;
+  }
+
+  public MojoConfigurator setSyncConcurrency(int syncConcurrency) throws Exception {
+    setField("syncConcurrency", syncConcurrency);
+    return this;
+  }
+
+  public MojoConfigurator setBatchInput(File batchInput) throws Exception {
+    setField("batchInput", batchInput);
+    return this;
+  }
+
+  public MojoConfigurator setBatchOutput(File batchOutput) throws Exception {
+    setField("batchOutput", batchOutput);
+    return this;
+  }
+
+  public MojoConfigurator setBatchConcurrency(int batchConcurrency) throws Exception {
+    setField("batchConcurrency", batchConcurrency);
+    return this;
+  }
+
+  public MojoConfigurator setBatchCheckTaskIntervalS(int batchCheckTaskIntervalS)
+      throws Exception {
+    setField("batchCheckTaskIntervalS", batchCheckTaskIntervalS);
+    return this;
+  }
+
+  public MojoConfigurator setBatchCheckTaskAttempts(int batchCheckTaskAttempts) throws Exception {
+    setField("batchCheckTaskAttempts", batchCheckTaskAttempts);
+    return this;
+  }
+
+  public MojoConfigurator setTimeoutS(int timeoutS) throws Exception {
+    setField("timeoutS", timeoutS);
+    return this;
+  }
+
+  public MojoConfigurator setOnTimeout(TimeBudget.OnTimeout onTimeout) throws Exception {
+    setField("onTimeout", onTimeout);
+    return this;
+  }
+
+  public MojoConfigurator setPolicies(List<Policy> policies) throws Exception {
+    setField("policies", policies);
+    return this;
+  }
+
+  public MojoConfigurator setHistoryDir(File historyDir) throws Exception {
+    setField("historyDir", historyDir);
+    return this;
+  }
+
+  public MojoConfigurator setHistoryWindow(int historyWindow) throws Exception {
+    setField("historyWindow", historyWindow);
+    return this;
+  }
+
+  public MojoConfigurator setTrace(boolean trace) throws Exception {
+    setField("trace", trace);
+    return this;
+  }
+
+  public MojoConfigurator setTraceFile(File traceFile) throws Exception {
+    setField("traceFile", traceFile);
+    return this;
+  }
+
+  public MojoConfigurator setHttpTransport(String httpTransport) throws Exception {
+    setField("httpTransport", httpTransport);
+    return this;
+  }
+
+  public MojoConfigurator setHttpMaxConnections(int httpMaxConnections) throws Exception {
+    setField("httpMaxConnections", httpMaxConnections);
+    return this;
+  }
+
+  public MojoConfigurator setHttpMaxConnectionsPerRoute(int httpMaxConnectionsPerRoute)
+      throws Exception {
+    setField("httpMaxConnectionsPerRoute", httpMaxConnectionsPerRoute);
+    return this;
+  }
+
+  public MojoConfigurator setHttpMaxConcurrency(int httpMaxConcurrency) throws Exception {
+    setField("httpMaxConcurrency", httpMaxConcurrency);
+    return this;
+  }
+
+  public MojoConfigurator setHttpVersion(HttpClient.Version httpVersion) throws Exception {
+    setField("httpVersion", httpVersion);
+    return this;
+  }
+
+  public MojoConfigurator setHttpConnectTimeoutS(int httpConnectTimeoutS) throws Exception {
+    setField("httpConnectTimeoutS", httpConnectTimeoutS);
+    return this;
+  }
+
+  public MojoConfigurator setHttpRequestTimeoutS(int httpRequestTimeoutS) throws Exception {
+    setField("httpRequestTimeoutS", httpRequestTimeoutS);
+    return this;
+  }
+
+  public MojoConfigurator setHttpThreads(int httpThreads) throws Exception {
+    setField("httpThreads", httpThreads);
+    return this;
+  }
+
+  public MojoConfigurator setHttpKeepAliveS(int httpKeepAliveS) throws Exception {
+    setField("httpKeepAliveS", httpKeepAliveS);
+    return this;
+  }
+
   /**
    * Unfortunately the {@link Parameter} is not available during runtime, therefore this method
    * statically sets the defaults declared in the annotation (except for
-   * {@link SonarQualityGateMojo#sonarProjectKey} since it makes use of expressions)
+   * {@link AbstractSonarMojo#sonarProjectKey} since it makes use of expressions) depending on the
+   * type of the mojo
    *
    */
   public MojoConfigurator applyDefaults() throws Exception {
     setSonarHostUrl("http://localhost:9000");
-    setSkip(false).setFailOnMiss(true);
-    setCheckTaskAttempts(10).setCheckTaskIntervalS(5);
+    setSkip(false);
+    setHttpVersion(HttpClient.Version.HTTP_2).setHttpConnectTimeoutS(10)
+        .setHttpRequestTimeoutS(60).setHttpThreads(2).setHttpKeepAliveS(0);
+    setHttpTransport("jdk").setHttpMaxConnections(20).setHttpMaxConnectionsPerRoute(5)
+        .setHttpMaxConcurrency(64);
+    setVersionCacheFile(null).setVersionCacheTtlS(86400);
+    setMirrorDir(null).setMirrorMaxAgeS(0);
+    setRecordingMode(RecordingMode.OFF).setRecordingFile(null).setRecordingLatencyScale(1);
+    setResponseParser(ResponseParser.Type.JACKSON);
+    if (mojo instanceof SonarQualityGateMojo) {
+      setFailOnMiss(true);
+      setCheckTaskAttempts(10).setCheckTaskIntervalS(5).setReportTaskWaitS(0);
+      setCheckTaskStrategy(PollingStrategy.Type.FIXED).setCheckTaskBackoffFactor(2)
+          .setCheckTaskMaxIntervalS(30);
+      setMetricsFile(null).setMetricsFormat(MetricsWriter.Format.PROMETHEUS);
+      setIssuesFile(null).setIssuesFormat(IssueReport.Format.JSONL).setIssuesPageSize(500)
+          .setIssuesPrefetch(4);
+      setPolicies(null).setTimeoutS(0).setOnTimeout(TimeBudget.OnTimeout.FAIL);
+      setTrace(false).setTraceFile(null);
+    }
+    if (mojo instanceof SonarPrepareMojo) {
+      setValidateAuth(true);
+    }
+    if (mojo instanceof SonarSyncMojo) {
+      setSyncIntervalS(0).setSyncConcurrency(8);
+    }
+    if (mojo instanceof SonarBatchMojo) {
+      setBatchInput(null).setBatchOutput(null).setBatchConcurrency(16)
+          .setBatchCheckTaskIntervalS(5).setBatchCheckTaskAttempts(60);
+    }
+    if (mojo instanceof SonarHistoryMojo) {
+      setHistoryDir(null).setHistoryWindow(20);
+    }
     return this;
   }
 
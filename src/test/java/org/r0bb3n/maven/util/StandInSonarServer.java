@@ -0,0 +1,302 @@
+/*
+ * Copyright 2026 r0bb3n
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License")
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.r0bb3n.maven.util;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Minimal in-process stand-in for a SonarQube server (JDK built-in HTTP server) answering the
+ * endpoints used by {@link org.r0bb3n.maven.SonarConnector} with generated payloads. In contrast
+ * to WireMock it has next to no overhead per request, so it can be used for benchmarks and load
+ * tests. Response latency, error rate and the lifetime of compute engine tasks (queue and
+ * processing time, counted from the first request or {@link #submitTask(String)}) are
+ * configurable.
+ */
+public class StandInSonarServer implements AutoCloseable {
+
+  /**
+   * version reported by the server
+   */
+  public static final String VERSION = "9.9.0.65466";
+
+  private final HttpServer server;
+  private final ExecutorService executor;
+  private final byte[] projectStatusJson;
+  private final Random random = new Random(42);
+  private final Map<String, TaskTimeline> tasks = new ConcurrentHashMap<>();
+  private final Set<InetSocketAddress> clientConnections = ConcurrentHashMap.newKeySet();
+  private final AtomicLong requests = new AtomicLong();
+  private final AtomicLong taskRequests = new AtomicLong();
+  private final AtomicLong errors = new AtomicLong();
+  private volatile LatencyDistribution latency = LatencyDistribution.fixed(Duration.ZERO);
+  private volatile double errorRate;
+  private volatile LatencyDistribution queueTime = LatencyDistribution.fixed(Duration.ZERO);
+  private volatile LatencyDistribution processingTime =
+      LatencyDistribution.fixed(Duration.ZERO);
+
+  /**
+   * Start server on a free port of the loopback interface
+   *
+   * @param conditions number of conditions in the project status response
+   * @param threads number of threads handling requests
+   * @throws IOException server cannot be started
+   */
+  public StandInSonarServer(int conditions, int threads) throws IOException {
+    projectStatusJson = projectStatusJson("ERROR", conditions).getBytes(StandardCharsets.UTF_8);
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/api/ce/task", this::respondTask);
+    server.createContext("/api/qualitygates/project_status",
+        exchange -> respond(exchange, projectStatusJson));
+    server.createContext("/api/server/version",
+        exchange -> respond(exchange, VERSION.getBytes(StandardCharsets.UTF_8)));
+    executor = Executors.newFixedThreadPool(threads, r -> {
+      Thread t = new Thread(r, "stand-in-sonar");
+      t.setDaemon(true);
+      return t;
+    });
+    server.setExecutor(executor);
+    server.start();
+  }
+
+  /**
+   * Get the base url of the server
+   *
+   * @return url to use as {@code sonar.host.url}
+   * @throws IOException invalid url
+   */
+  public URL getUrl() throws IOException {
+    return new URL("http://" + server.getAddress().getHostString() + ":"
+        + server.getAddress().getPort());
+  }
+
+  /**
+   * Set an artificial delay before each response is sent
+   *
+   * @param latency delay
+   */
+  public void setLatency(Duration latency) {
+    setLatency(LatencyDistribution.fixed(latency));
+  }
+
+  /**
+   * Set the distribution of the delay before each response is sent
+   *
+   * @param latency distribution
+   */
+  public void setLatency(LatencyDistribution latency) {
+    this.latency = latency;
+  }
+
+  /**
+   * Set the share of requests answered with {@code 503 Service Unavailable}
+   *
+   * @param errorRate value between 0 and 1
+   */
+  public void setErrorRate(double errorRate) {
+    this.errorRate = errorRate;
+  }
+
+  /**
+   * Set the lifetime of compute engine tasks: {@code PENDING} during the queue time, then
+   * {@code IN_PROGRESS} during the processing time, {@code SUCCESS} afterwards
+   *
+   * @param queueTime distribution of the queue time
+   * @param processingTime distribution of the processing time
+   */
+  public void setTaskLifetime(LatencyDistribution queueTime,
+      LatencyDistribution processingTime) {
+    this.queueTime = queueTime;
+    this.processingTime = processingTime;
+  }
+
+  /**
+   * Submit a compute engine task now, i.e. start its lifetime
+   *
+   * @param taskId task id
+   */
+  public void submitTask(String taskId) {
+    tasks.computeIfAbsent(taskId, this::newTimeline);
+  }
+
+  /**
+   * Submit a compute engine task now with a given lifetime
+   *
+   * @param taskId task id
+   * @param queueTime time the task is {@code PENDING}
+   * @param processingTime time the task is {@code IN_PROGRESS} afterwards
+   */
+  public void submitTask(String taskId, Duration queueTime, Duration processingTime) {
+    long started = System.nanoTime() + queueTime.toNanos();
+    tasks.put(taskId, new TaskTimeline(started, started + processingTime.toNanos()));
+  }
+
+  /**
+   * Get the number of handled requests
+   *
+   * @return count
+   */
+  public long getRequests() {
+    return requests.get();
+  }
+
+  /**
+   * Get the number of handled requests of {@code api/ce/task}
+   *
+   * @return count
+   */
+  public long getTaskRequests() {
+    return taskRequests.get();
+  }
+
+  /**
+   * Get the number of requests answered with a simulated error
+   *
+   * @return count
+   */
+  public long getErrors() {
+    return errors.get();
+  }
+
+  /**
+   * Get the number of distinct client connections (remote address and port) seen so far
+   *
+   * @return count
+   */
+  public int getClientConnections() {
+    return clientConnections.size();
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+  /**
+   * Create the response of {@code api/ce/task}
+   *
+   * @param taskId task id
+   * @param analysisId analysis id
+   * @param status task status
+   * @return json
+   */
+  public static String taskJson(String taskId, String analysisId, String status) {
+    return "{\"task\":{\"id\":\"" + taskId + "\",\"type\":\"REPORT\","
+        + "\"componentId\":\"AXehzcU0_9oImxZu9ioO\","
+        + "\"componentKey\":\"io.github.r0bb3n:sonar-quality-gate-maven-plugin\","
+        + "\"componentName\":\"sonar-quality-gate-maven-plugin\",\"componentQualifier\":\"TRK\","
+        + "\"analysisId\":\"" + analysisId + "\",\"status\":\"" + status + "\","
+        + "\"submittedAt\":\"2021-02-19T20:43:42+0100\",\"submitterLogin\":\"r0bb3n\","
+        + "\"startedAt\":\"2021-02-19T20:43:42+0100\","
+        + "\"executedAt\":\"2021-02-19T20:43:43+0100\",\"executionTimeMs\":1070,"
+        + "\"logs\":false,\"hasScannerContext\":true,\"warningCount\":0,\"warnings\":[]}}";
+  }
+
+  /**
+   * Create the response of {@code api/qualitygates/project_status}
+   *
+   * @param status overall status
+   * @param conditions number of conditions, every third one fails
+   * @return json
+   */
+  public static String projectStatusJson(String status, int conditions) {
+    StringBuilder sb = new StringBuilder("{\"projectStatus\":{\"status\":\"")
+        .append(status).append("\",\"conditions\":[");
+    for (int i = 0; i < conditions; i++) {
+      boolean failed = i % 3 == 0;
+      if (i > 0) {
+        sb.append(',');
+      }
+      sb.append("{\"status\":\"").append(failed ? "ERROR" : "OK")
+          .append("\",\"metricKey\":\"metric_").append(i)
+          .append("\",\"comparator\":\"GT\",\"periodIndex\":1,\"errorThreshold\":\"")
+          .append(i).append("\",\"actualValue\":\"").append(failed ? i + 1 : i).append("\"}");
+    }
+    return sb.append("],\"periods\":[{\"index\":1,\"mode\":\"previous_version\","
+        + "\"date\":\"2021-02-18T20:43:42+0100\"}],\"ignoredConditions\":false}}").toString();
+  }
+
+  private TaskTimeline newTimeline(String taskId) {
+    long submitted = System.nanoTime();
+    long started = submitted + queueTime.sample(random).toNanos();
+    return new TaskTimeline(started, started + processingTime.sample(random).toNanos());
+  }
+
+  private void respondTask(HttpExchange exchange) throws IOException {
+    taskRequests.incrementAndGet();
+    String query = exchange.getRequestURI().getRawQuery();
+    String taskId = query != null && query.startsWith("id=") ? query.substring(3) : "AXtask";
+    TaskTimeline timeline = tasks.computeIfAbsent(taskId, this::newTimeline);
+    long now = System.nanoTime();
+    String status = now < timeline.started ? "PENDING"
+        : now < timeline.executed ? "IN_PROGRESS" : "SUCCESS";
+    respond(exchange, taskJson(taskId, "AXanalysis", status).getBytes(StandardCharsets.UTF_8));
+  }
+
+  private void respond(HttpExchange exchange, byte[] body) throws IOException {
+    requests.incrementAndGet();
+    clientConnections.add(exchange.getRemoteAddress());
+    long delay = latency.sample(random).toMillis();
+    if (delay > 0) {
+      try {
+        Thread.sleep(delay);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+    int status = 200;
+    if (errorRate > 0 && random.nextDouble() < errorRate) {
+      errors.incrementAndGet();
+      status = 503;
+      body = "{\"errors\":[{\"msg\":\"simulated error\"}]}".getBytes(StandardCharsets.UTF_8);
+    }
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.getResponseHeaders().add("Sonar-Version", VERSION);
+    exchange.sendResponseHeaders(status, body.length);
+    try (OutputStream os = exchange.getResponseBody()) {
+      os.write(body);
+    }
+  }
+
+  /**
+   * Points in time ({@link System#nanoTime()}) of a compute engine task
+   */
+  @RequiredArgsConstructor
+  private static class TaskTimeline {
+
+    final long started;
+    final long executed;
+
+  }
+
+}